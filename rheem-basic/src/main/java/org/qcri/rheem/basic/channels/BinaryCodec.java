@@ -0,0 +1,189 @@
+package org.qcri.rheem.basic.channels;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes single data quanta for the {@link FileChannel#HDFS_BINARY_DESCRIPTOR}. Each value is prefixed with a
+ * one-byte type tag. Primitive wrappers, {@link String}s, {@code byte[]}s, {@link Tuple2}s, and {@link Record}s are
+ * written field by field; all other types fall back to Java serialization.
+ */
+final class BinaryCodec {
+
+    private static final byte NULL = 0, BOOLEAN = 1, BYTE = 2, SHORT = 3, CHAR = 4, INT = 5, LONG = 6, FLOAT = 7,
+            DOUBLE = 8, STRING = 9, BYTES = 10, TUPLE2 = 11, RECORD = 12, SERIALIZED = 13;
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * Encodes a data quantum.
+     *
+     * @param value the data quantum (or one of its fields)
+     * @param out   to which the encoded {@code value} should be written
+     */
+    static void write(Object value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+
+        // NB: We compare classes rather than using instanceof, so that subclasses are not silently downcast.
+        final Class<?> cls = value.getClass();
+        if (cls == Integer.class) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (cls == Long.class) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (cls == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (cls == String.class) {
+            out.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), out);
+        } else if (cls == Tuple2.class) {
+            final Tuple2<?, ?> tuple2 = (Tuple2<?, ?>) value;
+            out.writeByte(TUPLE2);
+            write(tuple2.field0, out);
+            write(tuple2.field1, out);
+        } else if (cls == Record.class) {
+            final Record record = (Record) value;
+            out.writeByte(RECORD);
+            out.writeInt(record.size());
+            for (int i = 0; i < record.size(); i++) {
+                write(record.getField(i), out);
+            }
+        } else if (cls == Boolean.class) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (cls == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (cls == Short.class) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (cls == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (cls == Character.class) {
+            out.writeByte(CHAR);
+            out.writeChar((Character) value);
+        } else if (cls == byte[].class) {
+            out.writeByte(BYTES);
+            writeBytes((byte[]) value, out);
+        } else {
+            out.writeByte(SERIALIZED);
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(value);
+            }
+            out.writeInt(bos.size());
+            bos.writeTo(out);
+        }
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Decodes a data quantum.
+     *
+     * @param in heap {@link ByteBuffer} positioned at the type tag of the data quantum; will be advanced past it
+     * @return the decoded data quantum
+     */
+    static Object read(ByteBuffer in) throws IOException {
+        final byte tag = in.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case INT:
+                return in.getInt();
+            case LONG:
+                return in.getLong();
+            case DOUBLE:
+                return in.getDouble();
+            case STRING: {
+                final int length = in.getInt();
+                final String string = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+                return string;
+            }
+            case TUPLE2: {
+                final Object field0 = read(in);
+                return new Tuple2<>(field0, read(in));
+            }
+            case RECORD: {
+                final Object[] values = new Object[in.getInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = read(in);
+                }
+                return new Record(values);
+            }
+            case BOOLEAN:
+                return in.get() != 0;
+            case FLOAT:
+                return in.getFloat();
+            case SHORT:
+                return in.getShort();
+            case BYTE:
+                return in.get();
+            case CHAR:
+                return in.getChar();
+            case BYTES: {
+                final byte[] bytes = new byte[in.getInt()];
+                in.get(bytes);
+                return bytes;
+            }
+            case SERIALIZED: {
+                final int length = in.getInt();
+                final InputStream bytes = new ByteArrayInputStream(in.array(), in.arrayOffset() + in.position(), length);
+                in.position(in.position() + length);
+                try {
+                    return new ContextObjectInputStream(bytes).readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Could not deserialize data quantum.", e);
+                }
+            }
+            default:
+                throw new IOException(String.format("Unknown type tag %d.", tag));
+        }
+    }
+
+    /**
+     * {@link ObjectInputStream} that resolves classes via the context {@link ClassLoader}, which is where user code
+     * lives, e.g., on Spark workers.
+     */
+    private static class ContextObjectInputStream extends ObjectInputStream {
+
+        ContextObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // Try the default resolution below.
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
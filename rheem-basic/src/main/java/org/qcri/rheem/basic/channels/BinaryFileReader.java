@@ -0,0 +1,165 @@
+package org.qcri.rheem.basic.channels;
+
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.util.fs.FileSystems;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the data quanta from a single part of a {@link FileChannel#HDFS_BINARY_DESCRIPTOR} file. Closes itself
+ * once all data quanta have been read.
+ *
+ * @see BinaryFileWriter
+ */
+public class BinaryFileReader<T> implements Iterator<T>, AutoCloseable {
+
+    private DataInputStream inputStream;
+
+    private final LZ4FastDecompressor decompressor;
+
+    private byte[] storedBlock = new byte[0], rawBlock = new byte[0];
+
+    private ByteBuffer block;
+
+    private int numRemainingBlockDataQuanta = 0;
+
+    /**
+     * Finds the parts of a {@link FileChannel#HDFS_BINARY_DESCRIPTOR} file.
+     *
+     * @param path the path of the file
+     * @return the paths of the parts in their order
+     */
+    public static List<String> findParts(String path) {
+        final List<String> parts = new ArrayList<>(FileSystems.findActualInputPaths(path));
+        Collections.sort(parts);
+        return parts;
+    }
+
+    /**
+     * Opens a part for reading.
+     *
+     * @param url the URL of the part
+     * @return a new instance
+     */
+    public static <T> BinaryFileReader<T> open(String url) {
+        try {
+            return new BinaryFileReader<>(FileSystems.requireFileSystem(url).open(url));
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not open %s.", url), e);
+        }
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param inputStream provides the part; will be closed when the part is read entirely or on {@link #close()}
+     */
+    public BinaryFileReader(InputStream inputStream) throws IOException {
+        this.inputStream = new DataInputStream(new BufferedInputStream(inputStream, 1 << 16));
+        try {
+            if (this.inputStream.readInt() != BinaryFileWriter.MAGIC_NUMBER) {
+                throw new IOException("Not a binary file.");
+            }
+            final byte version = this.inputStream.readByte();
+            if (version != BinaryFileWriter.VERSION) {
+                throw new IOException(String.format("Unsupported binary file version %d.", version));
+            }
+            this.decompressor = this.inputStream.readBoolean() ? LZ4Factory.fastestInstance().fastDecompressor() : null;
+        } catch (IOException e) {
+            this.close();
+            throw e;
+        }
+        this.tryAdvance();
+    }
+
+    /**
+     * Makes sure that the next data quantum is available in the {@link #block} if there is any.
+     */
+    private void tryAdvance() {
+        if (this.numRemainingBlockDataQuanta > 0 || this.inputStream == null) return;
+        try {
+            final int numDataQuanta = this.inputStream.readInt();
+            final int rawSize = this.inputStream.readInt();
+            final int storedSize = this.inputStream.readInt();
+            if (numDataQuanta < 0) {
+                this.close();
+                return;
+            }
+
+            if (this.storedBlock.length < storedSize) this.storedBlock = new byte[storedSize];
+            this.inputStream.readFully(this.storedBlock, 0, storedSize);
+            if (storedSize == rawSize) {
+                this.block = ByteBuffer.wrap(this.storedBlock, 0, rawSize);
+            } else {
+                if (this.decompressor == null) throw new IOException("Compressed block in uncompressed binary file.");
+                if (this.rawBlock.length < rawSize) this.rawBlock = new byte[rawSize];
+                this.decompressor.decompress(this.storedBlock, 0, this.rawBlock, 0, rawSize);
+                this.block = ByteBuffer.wrap(this.rawBlock, 0, rawSize);
+            }
+            this.numRemainingBlockDataQuanta = numDataQuanta;
+        } catch (IOException | RuntimeException e) {
+            this.close();
+            throw new RheemException("Reading binary file failed.", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.numRemainingBlockDataQuanta > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+        final Object dataQuantum;
+        try {
+            dataQuantum = BinaryCodec.read(this.block);
+        } catch (IOException | RuntimeException e) {
+            this.close();
+            throw new RheemException("Decoding binary file failed.", e);
+        }
+        this.numRemainingBlockDataQuanta--;
+        this.tryAdvance();
+        return (T) dataQuantum;
+    }
+
+    /**
+     * Provides the remaining data quanta as a sequential {@link Stream}.
+     *
+     * @return the {@link Stream}; closing it closes this instance
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (this.inputStream != null) {
+            try {
+                this.inputStream.close();
+            } catch (Throwable t) {
+                LoggerFactory.getLogger(this.getClass()).error("Closing failed.", t);
+            }
+            this.inputStream = null;
+            this.numRemainingBlockDataQuanta = 0;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package org.qcri.rheem.basic.channels;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes data quanta into a single part of a {@link FileChannel#HDFS_BINARY_DESCRIPTOR} file.
+ * <p>The part starts with a header (magic number, version, compression flag) that is followed by blocks of
+ * {@link BinaryCodec}-encoded data quanta. Each block is introduced by its number of data quanta, its raw size, and
+ * its stored size; it is LZ4-compressed if compression is enabled and pays off. A block header with {@code -1}
+ * data quanta terminates the part.</p>
+ * <p>A {@link FileChannel#HDFS_BINARY_DESCRIPTOR} file is a directory of such parts as laid out by
+ * {@link #getPartPath(String, int)} and {@link #markComplete(String)} (consistent with Spark), so that the parts
+ * can be written and read in parallel.</p>
+ *
+ * @see BinaryFileReader
+ */
+public class BinaryFileWriter implements AutoCloseable {
+
+    /**
+     * Configuration key for the (uncompressed) size of blocks in bytes.
+     */
+    public static final String BLOCK_SIZE_PROPERTY_KEY = "rheem.basic.binaryfile.blocksize";
+
+    /**
+     * Configuration key for whether blocks should be LZ4-compressed.
+     */
+    public static final String COMPRESSION_PROPERTY_KEY = "rheem.basic.binaryfile.lz4";
+
+    static final int MAGIC_NUMBER = 0x52484D42; // "RHMB"
+
+    static final byte VERSION = 1;
+
+    private final OutputStream outputStream;
+
+    private final int blockSize;
+
+    private final LZ4Compressor compressor;
+
+    private final Buffer block;
+
+    private final DataOutputStream blockOutput;
+
+    private byte[] compressedBlock = new byte[0];
+
+    private int numBlockDataQuanta = 0;
+
+    private long numDataQuanta = 0L;
+
+    /**
+     * Creates a new instance that writes to the given URL.
+     *
+     * @param url           where to write the part to
+     * @param configuration provides the {@link #BLOCK_SIZE_PROPERTY_KEY} and the {@link #COMPRESSION_PROPERTY_KEY}
+     * @return the new instance
+     */
+    public static BinaryFileWriter create(String url, Configuration configuration) {
+        return create(url, getBlockSize(configuration), isCompressing(configuration));
+    }
+
+    /**
+     * Creates a new instance that writes to the given URL.
+     *
+     * @param url         where to write the part to
+     * @param blockSize   the (uncompressed) size of blocks in bytes
+     * @param isCompress  whether to LZ4-compress the blocks
+     * @return the new instance
+     */
+    public static BinaryFileWriter create(String url, int blockSize, boolean isCompress) {
+        final FileSystem fileSystem = FileSystems.requireFileSystem(url);
+        try {
+            return new BinaryFileWriter(fileSystem.create(url, true), blockSize, isCompress);
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not create %s.", url), e);
+        }
+    }
+
+    public static int getBlockSize(Configuration configuration) {
+        return (int) configuration.getLongProperty(BLOCK_SIZE_PROPERTY_KEY, 1L << 22);
+    }
+
+    public static boolean isCompressing(Configuration configuration) {
+        return configuration.getBooleanProperty(COMPRESSION_PROPERTY_KEY, true);
+    }
+
+    /**
+     * Determines the path of a part within a {@link FileChannel#HDFS_BINARY_DESCRIPTOR} directory.
+     *
+     * @param directory the path of the directory
+     * @param partIndex the index of the part
+     * @return the path of the part
+     */
+    public static String getPartPath(String directory, int partIndex) {
+        return String.format("%s/part-%05d", directory, partIndex);
+    }
+
+    /**
+     * Marks a {@link FileChannel#HDFS_BINARY_DESCRIPTOR} directory as complete once all its parts are written.
+     *
+     * @param directory the path of the directory
+     */
+    public static void markComplete(String directory) {
+        final String url = directory + "/_SUCCESS";
+        try {
+            FileSystems.requireFileSystem(url).create(url, true).close();
+        } catch (IOException e) {
+            throw new RheemException(String.format("Could not create %s.", url), e);
+        }
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param outputStream to which the part should be written; will be closed by {@link #close()}
+     * @param blockSize    the (uncompressed) size of blocks in bytes
+     * @param isCompress   whether to LZ4-compress the blocks
+     */
+    public BinaryFileWriter(OutputStream outputStream, int blockSize, boolean isCompress) throws IOException {
+        this.outputStream = outputStream;
+        this.blockSize = Math.max(1, blockSize);
+        this.compressor = isCompress ? LZ4Factory.fastestInstance().fastCompressor() : null;
+        this.block = new Buffer(Math.min(this.blockSize, 1 << 16));
+        this.blockOutput = new DataOutputStream(this.block);
+
+        final DataOutputStream header = new DataOutputStream(outputStream);
+        header.writeInt(MAGIC_NUMBER);
+        header.writeByte(VERSION);
+        header.writeBoolean(isCompress);
+    }
+
+    /**
+     * Writes a data quantum.
+     *
+     * @param dataQuantum the data quantum
+     */
+    public void write(Object dataQuantum) throws IOException {
+        BinaryCodec.write(dataQuantum, this.blockOutput);
+        this.numBlockDataQuanta++;
+        this.numDataQuanta++;
+        if (this.block.size() >= this.blockSize) {
+            this.flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (this.numBlockDataQuanta == 0) return;
+
+        final int rawSize = this.block.size();
+        byte[] storedBlock = this.block.array();
+        int storedSize = rawSize;
+        if (this.compressor != null) {
+            final int maxCompressedSize = this.compressor.maxCompressedLength(rawSize);
+            if (this.compressedBlock.length < maxCompressedSize) {
+                this.compressedBlock = new byte[maxCompressedSize];
+            }
+            final int compressedSize = this.compressor.compress(
+                    storedBlock, 0, rawSize, this.compressedBlock, 0, maxCompressedSize
+            );
+            // Keep incompressible blocks raw; the reader recognizes them by their equal sizes.
+            if (compressedSize < rawSize) {
+                storedBlock = this.compressedBlock;
+                storedSize = compressedSize;
+            }
+        }
+
+        this.writeBlockHeader(this.numBlockDataQuanta, rawSize, storedSize);
+        this.outputStream.write(storedBlock, 0, storedSize);
+        this.block.reset();
+        this.numBlockDataQuanta = 0;
+    }
+
+    private void writeBlockHeader(int numDataQuanta, int rawSize, int storedSize) throws IOException {
+        final byte[] header = new byte[12];
+        putInt(header, 0, numDataQuanta);
+        putInt(header, 4, rawSize);
+        putInt(header, 8, storedSize);
+        this.outputStream.write(header);
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * @return the number of data quanta written so far
+     */
+    public long getNumDataQuanta() {
+        return this.numDataQuanta;
+    }
+
+    /**
+     * Writes any pending data quanta, terminates the part, and closes the underlying {@link OutputStream}.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flushBlock();
+            this.writeBlockHeader(-1, 0, 0);
+        } finally {
+            this.outputStream.close();
+        }
+    }
+
+    /**
+     * {@link ByteArrayOutputStream} that exposes its buffer.
+     */
+    private static class Buffer extends ByteArrayOutputStream {
+
+        Buffer(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        byte[] array() {
+            return this.buf;
+        }
+    }
+}
@@ -26,6 +26,14 @@ public class FileChannel extends Channel {
 
     public static final FileChannel.Descriptor HDFS_OBJECT_FILE_DESCRIPTOR = new FileChannel.Descriptor("hdfs", "object-file");
 
+    /**
+     * Directory of parts with blocks of compactly encoded data quanta.
+     *
+     * @see BinaryFileWriter
+     * @see BinaryFileReader
+     */
+    public static final FileChannel.Descriptor HDFS_BINARY_DESCRIPTOR = new FileChannel.Descriptor("hdfs", "binary");
+
     public FileChannel(FileChannel.Descriptor descriptor) {
         this(descriptor, null);
     }
@@ -126,6 +134,14 @@ public class FileChannel extends Channel {
 
         private Collection<String> paths = new LinkedList<>();
 
+        /**
+         * Classes of the fields of the data quanta in the files as observed by the producer or an empty array if
+         * not known.
+         *
+         * @see TsvCodec.FieldClassCollector
+         */
+        private Class<?>[] fieldClasses = new Class<?>[0];
+
         /**
          * Creates a new instance.
          * @param producerOperatorContext
@@ -164,6 +180,14 @@ public class FileChannel extends Channel {
             return this.paths;
         }
 
+        public Class<?>[] getFieldClasses() {
+            return this.fieldClasses;
+        }
+
+        public void setFieldClasses(Class<?>[] fieldClasses) {
+            this.fieldClasses = fieldClasses;
+        }
+
         /**
          * If there is only a single element on {@link #getPaths()}, retrieves it. Otherwise, fails.
          *
@@ -0,0 +1,666 @@
+package org.qcri.rheem.basic.channels;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Translates data quanta from and to lines of separated values, e.g., TSV or CSV lines. An instance is compiled once
+ * from a {@link DataSetType} and the classes of the fields, so that {@link Parser}s and {@link Formatter}s do not
+ * need to inspect types per line.
+ * <p>Supported data quanta are {@link Tuple2}s, {@link Record}s (with or without {@link RecordType}), and single
+ * values of basic types. Fields of unknown classes are formatted via {@link String#valueOf(Object)} and parsed as
+ * {@link String}s.</p>
+ * <p>Within fields, {@code \t}, {@code \n}, {@code \r}, the backslash, and the separator are escaped with a
+ * backslash; {@code null} fields are written as {@code \N}.</p>
+ */
+public class TsvCodec<T> implements Serializable {
+
+    /**
+     * Separator of TSV files.
+     */
+    public static final char TAB = '\t';
+
+    /**
+     * Describes how the fields are assembled to data quanta.
+     */
+    private enum Shape {
+        SINGLE, TUPLE2, RECORD
+    }
+
+    private final Shape shape;
+
+    /**
+     * The {@link Field}s of the data quanta; if {@code null}, the number of fields varies and all are
+     * {@link Field#OBJECT}s.
+     */
+    private final Field[] fields;
+
+    private final char separator;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type         of the data quanta
+     * @param fieldClasses the classes of the fields of the data quanta (optional); {@code null} elements denote
+     *                     fields of unknown classes
+     * @return the new instance
+     */
+    public static <T> TsvCodec<T> create(DataSetType<T> type, Class<?>... fieldClasses) {
+        final DataUnitType<T> dataUnitType = type.getDataUnitType();
+        // NB: Groups are treated like single fields of unknown classes.
+        final Class<?> typeClass = dataUnitType.isGroup() ?
+                Object.class :
+                dataUnitType.toBasicDataUnitType().getTypeClass();
+
+        if (typeClass == Tuple2.class) {
+            return new TsvCodec<>(Shape.TUPLE2, toFields(2, fieldClasses, type), TAB);
+        } else if (typeClass == Record.class) {
+            if (fieldClasses.length > 0) {
+                return new TsvCodec<>(Shape.RECORD, toFields(fieldClasses.length, fieldClasses, type), TAB);
+            } else if (dataUnitType instanceof RecordType) {
+                final int numFields = ((RecordType) dataUnitType).getFieldNames().length;
+                return new TsvCodec<>(Shape.RECORD, toFields(numFields, fieldClasses, type), TAB);
+            }
+            return new TsvCodec<>(Shape.RECORD, null, TAB);
+        }
+        return new TsvCodec<>(Shape.SINGLE, toFields(1, fieldClasses.length == 0 ? new Class<?>[]{typeClass} : fieldClasses, type), TAB);
+    }
+
+    /**
+     * Determines the {@link DataSetType} to write to a {@link FileChannel#HDFS_TSV_DESCRIPTOR} file, so that the
+     * TSV sink can compile its codec for it.
+     *
+     * @param channel whose data quanta are written or {@code null} if none is available (e.g., when estimating costs)
+     * @return the {@link DataSetType}
+     */
+    @SuppressWarnings("unchecked")
+    public static DataSetType<Object> getDataSetType(Channel channel) {
+        return channel == null ?
+                DataSetType.createDefaultUnchecked(Tuple2.class) :
+                (DataSetType<Object>) channel.getDataSetType();
+    }
+
+    private static Field[] toFields(int numFields, Class<?>[] fieldClasses, DataSetType<?> type) {
+        if (fieldClasses.length != 0 && fieldClasses.length != numFields) {
+            throw new RheemException(String.format(
+                    "Expected %d field classes for %s, got %s.", numFields, type, Arrays.toString(fieldClasses)
+            ));
+        }
+        final Field[] fields = new Field[numFields];
+        for (int i = 0; i < numFields; i++) {
+            fields[i] = fieldClasses.length == 0 || fieldClasses[i] == null ? Field.OBJECT : Field.of(fieldClasses[i]);
+        }
+        return fields;
+    }
+
+    private TsvCodec(Shape shape, Field[] fields, char separator) {
+        this.shape = shape;
+        this.fields = fields;
+        this.separator = separator;
+    }
+
+    /**
+     * Creates a copy of this instance that uses a different separator, e.g., {@code ','} for CSV.
+     *
+     * @param separator the separator; must not be a backslash or line break
+     * @return the copy
+     */
+    public TsvCodec<T> withSeparator(char separator) {
+        if (separator == '\\' || separator == '\n' || separator == '\r') {
+            throw new IllegalArgumentException(String.format("Illegal separator: %s", separator));
+        }
+        return new TsvCodec<>(this.shape, this.fields, separator);
+    }
+
+    /**
+     * @return a new {@link Parser} for this instance; it must not be shared among threads
+     */
+    public Parser<T> createParser() {
+        return new Parser<>(this);
+    }
+
+    /**
+     * @return a new {@link Formatter} for this instance; it must not be shared among threads
+     */
+    public Formatter<T> createFormatter() {
+        return new Formatter<>(this);
+    }
+
+    /**
+     * Collects the classes of the fields of the data quanta written to a TSV file, so that a reader of the file
+     * can {@link #create(DataSetType, Class[]) create} a {@link TsvCodec} that restores them, even though the
+     * {@link DataSetType} does not tell them, e.g., for {@link Tuple2}s. A field class is taken from the first
+     * data quantum with a non-{@code null} value for that field.
+     */
+    public static class FieldClassCollector implements Serializable {
+
+        /**
+         * The collected field classes or {@code null} if no data quantum has been observed; if empty, the number
+         * of fields varies.
+         */
+        private Class<?>[] fieldClasses;
+
+        /**
+         * Whether all {@link #fieldClasses} are known, so that further data quanta need not be inspected.
+         */
+        private boolean isComplete = false;
+
+        /**
+         * Inspects a data quantum.
+         *
+         * @param dataQuantum that is written
+         */
+        public void observe(Object dataQuantum) {
+            if (dataQuantum instanceof Record) {
+                final Record record = (Record) dataQuantum;
+                // Keep checking the number of fields, as it might vary among Records.
+                if (this.isComplete && (this.fieldClasses.length == 0 || this.fieldClasses.length == record.size())) {
+                    return;
+                }
+                final Object[] values = new Object[record.size()];
+                for (int i = 0; i < values.length; i++) values[i] = record.getField(i);
+                this.observeFields(values);
+            } else if (this.isComplete || dataQuantum == null) {
+                return;
+            } else if (dataQuantum instanceof Tuple2) {
+                final Tuple2<?, ?> tuple2 = (Tuple2<?, ?>) dataQuantum;
+                this.observeFields(tuple2.field0, tuple2.field1);
+            } else {
+                this.observeFields(dataQuantum);
+            }
+        }
+
+        private void observeFields(Object... values) {
+            if (this.fieldClasses == null) {
+                this.fieldClasses = new Class<?>[values.length];
+            } else if (this.fieldClasses.length != values.length) {
+                this.fieldClasses = new Class<?>[0];
+                this.isComplete = true;
+                return;
+            }
+            boolean isComplete = true;
+            for (int i = 0; i < values.length; i++) {
+                if (this.fieldClasses[i] == null && values[i] != null) this.fieldClasses[i] = values[i].getClass();
+                isComplete &= this.fieldClasses[i] != null;
+            }
+            this.isComplete = isComplete;
+        }
+
+        /**
+         * Incorporates the field classes collected by another instance.
+         *
+         * @param that the other instance
+         */
+        public void merge(FieldClassCollector that) {
+            if (that.fieldClasses == null) return;
+            if (this.fieldClasses == null) {
+                this.fieldClasses = that.fieldClasses.clone();
+                this.isComplete = that.isComplete;
+                return;
+            }
+            if (this.fieldClasses.length != that.fieldClasses.length) {
+                this.fieldClasses = new Class<?>[0];
+                this.isComplete = true;
+                return;
+            }
+            boolean isComplete = true;
+            for (int i = 0; i < this.fieldClasses.length; i++) {
+                if (this.fieldClasses[i] == null) this.fieldClasses[i] = that.fieldClasses[i];
+                isComplete &= this.fieldClasses[i] != null;
+            }
+            this.isComplete = isComplete;
+        }
+
+        /**
+         * Provides the collected field classes.
+         *
+         * @return the field classes, which might contain {@code null}s for fields without values, or an empty array
+         * if they are not known
+         */
+        public Class<?>[] getFieldClasses() {
+            return this.fieldClasses == null ? new Class<?>[0] : this.fieldClasses.clone();
+        }
+
+    }
+
+    /**
+     * Parses lines into data quanta. Reuses its buffers across lines.
+     */
+    public static class Parser<T> {
+
+        private final TsvCodec<T> codec;
+
+        private char[] chars = new char[256];
+
+        private final StringBuilder unescapeBuffer = new StringBuilder();
+
+        private Parser(TsvCodec<T> codec) {
+            this.codec = codec;
+        }
+
+        /**
+         * Parses a line (without line break) into a data quantum.
+         *
+         * @param line the line
+         * @return the data quantum
+         */
+        @SuppressWarnings("unchecked")
+        public T parse(String line) {
+            final int length = line.length();
+            if (this.chars.length < length) {
+                this.chars = new char[Math.max(length, 2 * this.chars.length)];
+            }
+            line.getChars(0, length, this.chars, 0);
+
+            try {
+                switch (this.codec.shape) {
+                    case SINGLE:
+                        // Do not split single fields, so that unescaped separators are tolerated.
+                        return (T) this.parseField(this.codec.fields[0], 0, length);
+                    case TUPLE2: {
+                        final int end0 = this.findFieldEnd(0, length);
+                        if (end0 == length) throw new RheemException("Expected 2 fields.");
+                        final int end1 = this.findFieldEnd(end0 + 1, length);
+                        if (end1 != length) throw new RheemException("Expected 2 fields.");
+                        return (T) new Tuple2<>(
+                                this.parseField(this.codec.fields[0], 0, end0),
+                                this.parseField(this.codec.fields[1], end0 + 1, length)
+                        );
+                    }
+                    case RECORD:
+                        return (T) this.parseRecord(length);
+                    default:
+                        throw new IllegalStateException();
+                }
+            } catch (RuntimeException e) {
+                throw new RheemException(String.format("Cannot parse line \"%s\".", line), e);
+            }
+        }
+
+        private Record parseRecord(int length) {
+            final Field[] fields = this.codec.fields;
+            if (fields == null) {
+                Object[] values = new Object[8];
+                int numValues = 0, start = 0;
+                while (true) {
+                    final int end = this.findFieldEnd(start, length);
+                    if (numValues == values.length) values = Arrays.copyOf(values, 2 * numValues);
+                    values[numValues++] = this.parseField(Field.OBJECT, start, end);
+                    if (end == length) break;
+                    start = end + 1;
+                }
+                return new Record(Arrays.copyOf(values, numValues));
+            }
+
+            final Object[] values = new Object[fields.length];
+            int start = 0;
+            for (int i = 0; i < fields.length; i++) {
+                final int end = this.findFieldEnd(start, length);
+                if ((end == length) != (i == fields.length - 1)) {
+                    throw new RheemException(String.format("Expected %d fields.", fields.length));
+                }
+                values[i] = this.parseField(fields[i], start, end);
+                start = end + 1;
+            }
+            return new Record(values);
+        }
+
+        /**
+         * Finds the next unescaped separator.
+         *
+         * @return the position of the separator or {@code length} if there is none
+         */
+        private int findFieldEnd(int from, int length) {
+            final char[] chars = this.chars;
+            final char separator = this.codec.separator;
+            for (int i = from; i < length; i++) {
+                final char c = chars[i];
+                if (c == separator) return i;
+                if (c == '\\') i++;
+            }
+            return length;
+        }
+
+        private Object parseField(Field field, int from, int to) {
+            if (to - from == 2 && this.chars[from] == '\\' && this.chars[from + 1] == 'N') return null;
+            return field.parse(this, from, to);
+        }
+
+        /**
+         * Creates a {@link String} of the given range of the buffer and resolves escape sequences.
+         */
+        private String unescape(int from, int to) {
+            final char[] chars = this.chars;
+            int i = from;
+            while (i < to && chars[i] != '\\') i++;
+            if (i == to) return new String(chars, from, to - from);
+
+            final StringBuilder sb = this.unescapeBuffer;
+            sb.setLength(0);
+            sb.append(chars, from, i - from);
+            for (; i < to; i++) {
+                char c = chars[i];
+                if (c == '\\' && i + 1 < to) {
+                    c = chars[++i];
+                    if (c == 't') c = '\t';
+                    else if (c == 'n') c = '\n';
+                    else if (c == 'r') c = '\r';
+                }
+                sb.append(c);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Parses a decimal integer in the given range of the buffer.
+         */
+        private long parseLong(int from, int to, long min, long max) {
+            final char[] chars = this.chars;
+            int i = from;
+            final boolean isNegative = i < to && chars[i] == '-';
+            if (isNegative || (i < to && chars[i] == '+')) i++;
+            if (i == to) throw this.createNumberFormatException(from, to);
+            // Accumulate negatively, so that the minimum value does not overflow.
+            final long limit = isNegative ? min : -max;
+            long result = 0;
+            for (; i < to; i++) {
+                final int digit = chars[i] - '0';
+                if (digit < 0 || digit > 9 || result < (limit + digit) / 10) {
+                    throw this.createNumberFormatException(from, to);
+                }
+                result = 10 * result - digit;
+            }
+            return isNegative ? result : -result;
+        }
+
+        /**
+         * Tells whether the buffer contains the given {@link String} at the given position.
+         */
+        private boolean regionMatches(String string, int from) {
+            for (int i = 0; i < string.length(); i++) {
+                if (this.chars[from + i] != string.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        private NumberFormatException createNumberFormatException(int from, int to) {
+            return new NumberFormatException(String.format("Illegal number: \"%s\"", new String(this.chars, from, to - from)));
+        }
+
+    }
+
+    /**
+     * Formats data quanta into lines. Reuses its buffers across data quanta.
+     */
+    public static class Formatter<T> {
+
+        private final TsvCodec<T> codec;
+
+        private final StringBuilder sb = new StringBuilder();
+
+        private char[] chars = new char[256];
+
+        private Formatter(TsvCodec<T> codec) {
+            this.codec = codec;
+        }
+
+        /**
+         * Formats a data quantum into a line (without line break).
+         *
+         * @param dataQuantum the data quantum
+         * @return the line
+         */
+        public String format(T dataQuantum) {
+            return this.formatToBuffer(dataQuantum).toString();
+        }
+
+        /**
+         * Formats a data quantum into a line and writes it along with a line break.
+         *
+         * @param dataQuantum the data quantum
+         * @param writer      to write to
+         */
+        public void write(T dataQuantum, Writer writer) throws IOException {
+            final StringBuilder sb = this.formatToBuffer(dataQuantum).append('\n');
+            final int length = sb.length();
+            if (this.chars.length < length) {
+                this.chars = new char[Math.max(length, 2 * this.chars.length)];
+            }
+            sb.getChars(0, length, this.chars, 0);
+            writer.write(this.chars, 0, length);
+        }
+
+        private StringBuilder formatToBuffer(T dataQuantum) {
+            final StringBuilder sb = this.sb;
+            sb.setLength(0);
+            final Field[] fields = this.codec.fields;
+            switch (this.codec.shape) {
+                case SINGLE:
+                    this.formatField(fields[0], dataQuantum);
+                    break;
+                case TUPLE2: {
+                    final Tuple2<?, ?> tuple2 = (Tuple2<?, ?>) dataQuantum;
+                    this.formatField(fields[0], tuple2.field0);
+                    sb.append(this.codec.separator);
+                    this.formatField(fields[1], tuple2.field1);
+                    break;
+                }
+                case RECORD: {
+                    final Record record = (Record) dataQuantum;
+                    final int numFields = fields == null ? record.size() : fields.length;
+                    if (record.size() != numFields) {
+                        throw new RheemException(String.format("Expected %d fields in %s.", numFields, record));
+                    }
+                    for (int i = 0; i < numFields; i++) {
+                        if (i > 0) sb.append(this.codec.separator);
+                        this.formatField(fields == null ? Field.OBJECT : fields[i], record.getField(i));
+                    }
+                    break;
+                }
+                default:
+                    throw new IllegalStateException();
+            }
+            return sb;
+        }
+
+        private void formatField(Field field, Object value) {
+            if (value == null) {
+                this.sb.append("\\N");
+            } else {
+                field.format(this, value);
+            }
+        }
+
+        /**
+         * Appends the given value and escapes special characters.
+         */
+        private void appendEscaped(String value) {
+            final StringBuilder sb = this.sb;
+            final char separator = this.codec.separator;
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                switch (c) {
+                    case '\t':
+                        sb.append("\\t");
+                        break;
+                    case '\n':
+                        sb.append("\\n");
+                        break;
+                    case '\r':
+                        sb.append("\\r");
+                        break;
+                    case '\\':
+                        sb.append("\\\\");
+                        break;
+                    default:
+                        if (c == separator) sb.append('\\');
+                        sb.append(c);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Parses and formats a field of a certain class.
+     */
+    private enum Field {
+
+        OBJECT(Object.class, null) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                return parser.unescape(from, to);
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.appendEscaped(String.valueOf(value));
+            }
+        },
+
+        STRING(String.class, null) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                return parser.unescape(from, to);
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.appendEscaped((String) value);
+            }
+        },
+
+        INTEGER(Integer.class, int.class) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                return (int) parser.parseLong(from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.sb.append((int) (Integer) value);
+            }
+        },
+
+        LONG(Long.class, long.class) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                return parser.parseLong(from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.sb.append((long) (Long) value);
+            }
+        },
+
+        SHORT(Short.class, short.class) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                return (short) parser.parseLong(from, to, Short.MIN_VALUE, Short.MAX_VALUE);
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.sb.append((short) (Short) value);
+            }
+        },
+
+        BYTE(Byte.class, byte.class) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                return (byte) parser.parseLong(from, to, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.sb.append((byte) (Byte) value);
+            }
+        },
+
+        FLOAT(Float.class, float.class) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                return Float.parseFloat(new String(parser.chars, from, to - from));
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.sb.append((float) (Float) value);
+            }
+        },
+
+        DOUBLE(Double.class, double.class) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                return Double.parseDouble(new String(parser.chars, from, to - from));
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.sb.append((double) (Double) value);
+            }
+        },
+
+        BOOLEAN(Boolean.class, boolean.class) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                final int length = to - from;
+                if (length == 4 && parser.regionMatches("true", from)) return Boolean.TRUE;
+                if (length == 5 && parser.regionMatches("false", from)) return Boolean.FALSE;
+                return Boolean.parseBoolean(new String(parser.chars, from, length));
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.sb.append((boolean) (Boolean) value);
+            }
+        },
+
+        CHARACTER(Character.class, char.class) {
+            @Override
+            Object parse(Parser<?> parser, int from, int to) {
+                final String string = parser.unescape(from, to);
+                if (string.length() != 1) {
+                    throw new IllegalArgumentException(String.format("Illegal character: \"%s\"", string));
+                }
+                return string.charAt(0);
+            }
+
+            @Override
+            void format(Formatter<?> formatter, Object value) {
+                formatter.appendEscaped(String.valueOf(value));
+            }
+        };
+
+        private final Class<?> fieldClass, primitiveClass;
+
+        Field(Class<?> fieldClass, Class<?> primitiveClass) {
+            this.fieldClass = fieldClass;
+            this.primitiveClass = primitiveClass;
+        }
+
+        static Field of(Class<?> fieldClass) {
+            for (Field field : values()) {
+                if (field.fieldClass == fieldClass || field.primitiveClass == fieldClass) return field;
+            }
+            return OBJECT;
+        }
+
+        abstract Object parse(Parser<?> parser, int from, int to);
+
+        abstract void format(Formatter<?> formatter, Object value);
+
+    }
+
+}
@@ -76,7 +76,7 @@ public class ProjectionDescriptor<Input, Output> extends TransformationDescripto
                 javaImplementation,
                 Arrays.asList(fieldNames),
                 inputType,
-                new RecordType(fieldNames)
+                inputType.project(fieldNames)
         );
     }
 
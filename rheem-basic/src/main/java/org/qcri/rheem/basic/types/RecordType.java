@@ -17,24 +17,70 @@ public class RecordType extends BasicDataUnitType<Record> {
      */
     private String[] fieldNames;
 
+    /**
+     * Classes of the fields in the described {@link Record}s in order of appearance or {@code null} if unknown.
+     */
+    private Class<?>[] fieldTypes;
+
     /**
      * Creates a new instance.
      *
      * @param fieldNames names of fields in the described {@link Record}s in order of appearance
      */
     public RecordType(String... fieldNames) {
+        this(fieldNames, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param fieldNames names of fields in the described {@link Record}s in order of appearance
+     * @param fieldTypes classes of fields in the described {@link Record}s in order of appearance or {@code null}
+     *                   if unknown
+     */
+    public RecordType(String[] fieldNames, Class<?>[] fieldTypes) {
         super(Record.class);
+        if (fieldTypes != null && fieldTypes.length != fieldNames.length) {
+            throw new IllegalArgumentException(String.format("Got %d field types for the fields %s.",
+                    fieldTypes.length, Arrays.toString(fieldNames)));
+        }
         this.fieldNames = fieldNames;
+        this.fieldTypes = fieldTypes;
     }
 
     public String[] getFieldNames() {
         return this.fieldNames;
     }
 
+    /**
+     * @return the classes of the fields in order of appearance or {@code null} if unknown
+     */
+    public Class<?>[] getFieldTypes() {
+        return this.fieldTypes;
+    }
+
+    /**
+     * Creates a new instance that describes only some of the fields of this instance.
+     *
+     * @param fieldNames names of the retained fields in their new order of appearance
+     * @return the new instance
+     */
+    public RecordType project(String... fieldNames) {
+        if (this.fieldTypes == null) {
+            return new RecordType(fieldNames);
+        }
+        Class<?>[] projectedFieldTypes = new Class<?>[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            projectedFieldTypes[i] = this.fieldTypes[this.getIndex(fieldNames[i])];
+        }
+        return new RecordType(fieldNames, projectedFieldTypes);
+    }
+
     @Override
     public boolean isSupertypeOf(BasicDataUnitType<?> that) {
-        // A RecordType cannot have subtypes.
-        return this.equals(that);
+        // A RecordType can only have subtypes that additionally declare field types.
+        if (this.fieldTypes != null) return this.equals(that);
+        return that instanceof RecordType && Arrays.equals(this.fieldNames, ((RecordType) that).fieldNames);
     }
 
     @Override
@@ -43,7 +89,7 @@ public class RecordType extends BasicDataUnitType<Record> {
         if (o == null || getClass() != o.getClass()) return false;
         if (!super.equals(o)) return false;
         RecordType that = (RecordType) o;
-        return Arrays.equals(fieldNames, that.fieldNames);
+        return Arrays.equals(fieldNames, that.fieldNames) && Arrays.equals(fieldTypes, that.fieldTypes);
     }
 
     @Override
@@ -53,7 +99,15 @@ public class RecordType extends BasicDataUnitType<Record> {
 
     @Override
     public String toString() {
-        return "RecordType" + Arrays.toString(fieldNames);
+        if (this.fieldTypes == null) {
+            return "RecordType" + Arrays.toString(fieldNames);
+        }
+        StringBuilder sb = new StringBuilder("RecordType[");
+        for (int i = 0; i < this.fieldNames.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(this.fieldNames[i]).append(": ").append(this.fieldTypes[i].getSimpleName());
+        }
+        return sb.append(']').toString();
     }
 
     /**
@@ -0,0 +1,114 @@
+package org.qcri.rheem.basic.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.data.Tuple5;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link BinaryFileWriter} and {@link BinaryFileReader}.
+ */
+public class BinaryFileWriterTest {
+
+    private static List<Object> createDataQuanta() {
+        final List<Object> dataQuanta = new ArrayList<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            dataQuanta.add(i);
+            dataQuanta.add((long) i << 40);
+            dataQuanta.add(random.nextDouble());
+            dataQuanta.add("string-" + i + "-ä€");
+            dataQuanta.add(new Tuple2<>(i, new Tuple2<>("nested", (float) i)));
+            dataQuanta.add(new Record(i, null, "field", (short) i, (byte) i, 'c', i % 2 == 0));
+            dataQuanta.add(null);
+            final byte[] bytes = new byte[random.nextInt(100)];
+            random.nextBytes(bytes);
+            dataQuanta.add(bytes);
+            // Falls back to Java serialization.
+            dataQuanta.add(new Tuple5<>(i, "a", 1L, 2d, Arrays.asList(1, 2, 3)));
+        }
+        return dataQuanta;
+    }
+
+    private static List<Object> roundTrip(List<Object> dataQuanta, int blockSize, boolean isCompress) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (BinaryFileWriter writer = new BinaryFileWriter(bos, blockSize, isCompress)) {
+            for (Object dataQuantum : dataQuanta) {
+                writer.write(dataQuantum);
+            }
+            Assert.assertEquals(dataQuanta.size(), writer.getNumDataQuanta());
+        }
+        final List<Object> result = new ArrayList<>();
+        new BinaryFileReader<>(new ByteArrayInputStream(bos.toByteArray())).forEachRemaining(result::add);
+        return result;
+    }
+
+    private static void assertDataQuantaEqual(List<Object> expected, List<Object> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.get(i) instanceof byte[]) {
+                Assert.assertArrayEquals((byte[]) expected.get(i), (byte[]) actual.get(i));
+            } else {
+                Assert.assertEquals(expected.get(i), actual.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final List<Object> dataQuanta = createDataQuanta();
+        assertDataQuantaEqual(dataQuanta, roundTrip(dataQuanta, 1 << 20, false));
+    }
+
+    @Test
+    public void testRoundTripWithCompressionAndSmallBlocks() throws IOException {
+        final List<Object> dataQuanta = createDataQuanta();
+        assertDataQuantaEqual(dataQuanta, roundTrip(dataQuanta, 1, true));
+        assertDataQuantaEqual(dataQuanta, roundTrip(dataQuanta, 1000, true));
+    }
+
+    @Test
+    public void testEmptyPart() throws IOException {
+        Assert.assertTrue(roundTrip(new ArrayList<>(), 1000, true).isEmpty());
+    }
+
+    @Test
+    public void testMultipleParts() throws IOException {
+        final File directory = Files.createTempDirectory("rheem-basic").toFile();
+        final String path = new File(directory, "binary").toURI().toString();
+
+        // Write the parts in reverse order to check that they are read in order nevertheless.
+        for (int part = 11; part >= 0; part--) {
+            try (BinaryFileWriter writer = BinaryFileWriter.create(BinaryFileWriter.getPartPath(path, part), 1 << 10, true)) {
+                for (int i = 0; i < 100; i++) {
+                    writer.write(100 * part + i);
+                }
+            }
+        }
+        BinaryFileWriter.markComplete(path);
+
+        final List<String> parts = BinaryFileReader.findParts(path);
+        Assert.assertEquals(12, parts.size());
+        final List<Object> result = parts.stream()
+                .map(BinaryFileReader::open)
+                .flatMap(BinaryFileReader::stream)
+                .collect(Collectors.toList());
+        Assert.assertEquals(1200, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            Assert.assertEquals(i, result.get(i));
+        }
+    }
+
+}
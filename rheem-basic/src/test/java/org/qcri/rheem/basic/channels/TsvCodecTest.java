@@ -0,0 +1,131 @@
+package org.qcri.rheem.basic.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.types.DataSetType;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link TsvCodec}.
+ */
+public class TsvCodecTest {
+
+    private static <T> void assertRoundTrip(TsvCodec<T> codec, List<T> dataQuanta) {
+        final TsvCodec.Formatter<T> formatter = codec.createFormatter();
+        final TsvCodec.Parser<T> parser = codec.createParser();
+        for (T dataQuantum : dataQuanta) {
+            final String line = formatter.format(dataQuantum);
+            Assert.assertFalse(line.contains("\n"));
+            Assert.assertEquals(dataQuantum, parser.parse(line));
+        }
+    }
+
+    @Test
+    public void testTuple2() {
+        final TsvCodec<Tuple2<Integer, Float>> codec = TsvCodec.create(
+                DataSetType.createDefaultUnchecked(Tuple2.class), Integer.class, Float.class
+        );
+        Assert.assertEquals(new Tuple2<>(-42, 2.5f), codec.createParser().parse("-42\t2.5"));
+        Assert.assertEquals("-42\t2.5", codec.createFormatter().format(new Tuple2<>(-42, 2.5f)));
+        assertRoundTrip(codec, Arrays.asList(
+                new Tuple2<>(Integer.MIN_VALUE, Float.MAX_VALUE),
+                new Tuple2<>(Integer.MAX_VALUE, -0f),
+                new Tuple2<>(null, 1f)
+        ));
+    }
+
+    @Test
+    public void testRecords() {
+        final TsvCodec<Record> typedCodec = TsvCodec.create(
+                DataSetType.createDefault(Record.class),
+                long.class, String.class, Double.class, Boolean.class, Character.class, Short.class, Byte.class
+        );
+        assertRoundTrip(typedCodec, Arrays.asList(
+                new Record(Long.MIN_VALUE, "a\tb\nc\\d\re", 0.1d, true, '\t', (short) -1, (byte) 127),
+                new Record(0L, "", Double.NaN, false, 'x', Short.MIN_VALUE, Byte.MIN_VALUE),
+                new Record(null, "\\N", null, null, null, null, null)
+        ));
+
+        final TsvCodec<Record> recordTypeCodec = TsvCodec.create(DataSetType.createDefault(new RecordType("a", "b")));
+        Assert.assertEquals(new Record("1", "x\ty"), recordTypeCodec.createParser().parse("1\tx\\ty"));
+
+        final TsvCodec<Record> untypedCodec = TsvCodec.create(DataSetType.createDefault(Record.class));
+        assertRoundTrip(untypedCodec, Arrays.asList(
+                new Record("a", "b", "c"),
+                new Record(""),
+                new Record("1", "2", "3", "4", "5", "6", "7", "8", "9", "10")
+        ));
+    }
+
+    @Test
+    public void testSingleValues() throws IOException {
+        final TsvCodec<Integer> intCodec = TsvCodec.create(DataSetType.createDefault(Integer.class));
+        assertRoundTrip(intCodec, Arrays.asList(0, 1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE));
+
+        final TsvCodec<String> stringCodec = TsvCodec.create(DataSetType.createDefault(String.class));
+        assertRoundTrip(stringCodec, Arrays.asList("", "a\tb", "line\nbreak", "back\\slash"));
+
+        final StringWriter writer = new StringWriter();
+        final TsvCodec.Formatter<String> formatter = stringCodec.createFormatter();
+        formatter.write("a", writer);
+        formatter.write("b\tc", writer);
+        Assert.assertEquals("a\nb\\tc\n", writer.toString());
+    }
+
+    @Test
+    public void testCsv() {
+        final TsvCodec<Record> codec = TsvCodec.create(
+                DataSetType.createDefault(Record.class), String.class, Integer.class
+        ).withSeparator(',');
+        Assert.assertEquals("a\\,b,1", codec.createFormatter().format(new Record("a,b", 1)));
+        Assert.assertEquals(new Record("a,b", 1), codec.createParser().parse("a\\,b,1"));
+    }
+
+    @Test
+    public void testIllegalLines() {
+        final TsvCodec<Tuple2<Integer, Integer>> codec = TsvCodec.create(
+                DataSetType.createDefaultUnchecked(Tuple2.class), Integer.class, Integer.class
+        );
+        final TsvCodec.Parser<Tuple2<Integer, Integer>> parser = codec.createParser();
+        for (String line : Arrays.asList("1", "1\t2\t3", "1\t", "1\tx", "2147483648\t1", "\t1", "-\t1")) {
+            try {
+                parser.parse(line);
+                Assert.fail(String.format("Parsed \"%s\".", line));
+            } catch (RheemException e) {
+                // Expected.
+            }
+        }
+    }
+
+    @Test
+    public void testFieldClassCollector() {
+        final TsvCodec.FieldClassCollector collector1 = new TsvCodec.FieldClassCollector();
+        collector1.observe(new Tuple2<>(null, 1L));
+        Assert.assertArrayEquals(new Class<?>[]{null, Long.class}, collector1.getFieldClasses());
+
+        final TsvCodec.FieldClassCollector collector2 = new TsvCodec.FieldClassCollector();
+        collector2.observe(new Tuple2<>("a", null));
+        collector1.merge(collector2);
+        Assert.assertArrayEquals(new Class<?>[]{String.class, Long.class}, collector1.getFieldClasses());
+
+        final TsvCodec<Tuple2<String, Long>> codec = TsvCodec.create(
+                DataSetType.createDefaultUnchecked(Tuple2.class), collector1.getFieldClasses()
+        );
+        assertRoundTrip(codec, Arrays.asList(new Tuple2<>("a", 1L), new Tuple2<>(null, Long.MAX_VALUE)));
+
+        // Records with varying numbers of fields have no field classes.
+        final TsvCodec.FieldClassCollector recordCollector = new TsvCodec.FieldClassCollector();
+        recordCollector.observe(new Record(1, 2));
+        recordCollector.observe(new Record(1, 2, 3));
+        Assert.assertEquals(0, recordCollector.getFieldClasses().length);
+    }
+
+}
@@ -25,4 +25,27 @@ public class RecordTypeTest {
         Assert.assertTrue(t3.isSupertypeOf(t3));
         Assert.assertFalse(t3.isSupertypeOf(t2));
     }
+
+    @Test
+    public void testSupertypeWithFieldTypes() {
+        RecordType untyped = new RecordType("a", "b");
+        RecordType typed = new RecordType(new String[]{"a", "b"}, new Class<?>[]{Integer.class, String.class});
+        RecordType otherTyped = new RecordType(new String[]{"a", "b"}, new Class<?>[]{Long.class, String.class});
+
+        Assert.assertTrue(untyped.isSupertypeOf(typed));
+        Assert.assertFalse(typed.isSupertypeOf(untyped));
+        Assert.assertTrue(typed.isSupertypeOf(typed));
+        Assert.assertFalse(typed.isSupertypeOf(otherTyped));
+    }
+
+    @Test
+    public void testProjectionKeepsFieldTypes() {
+        RecordType typed = new RecordType(new String[]{"a", "b", "c"}, new Class<?>[]{Integer.class, String.class, Double.class});
+
+        Assert.assertEquals(
+                new RecordType(new String[]{"c", "a"}, new Class<?>[]{Double.class, Integer.class}),
+                typed.project("c", "a")
+        );
+        Assert.assertEquals(new RecordType("c", "a"), new RecordType("a", "b", "c").project("c", "a"));
+    }
 }
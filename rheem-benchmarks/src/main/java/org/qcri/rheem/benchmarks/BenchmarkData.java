@@ -0,0 +1,70 @@
+package org.qcri.rheem.benchmarks;
+
+import org.qcri.rheem.basic.data.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic, reproducible input data for the benchmarks.
+ */
+public class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates key-value pairs whose keys follow a Zipf distribution.
+     *
+     * @param numTuples the number of pairs to create
+     * @param numKeys   the number of distinct keys to draw from
+     * @param skew      the Zipf exponent; {@code 0} yields uniformly distributed keys
+     * @param seed      seeds the random number generator
+     * @return the pairs, with the keys in {@code field0} and a running number in {@code field1}
+     */
+    public static List<Tuple2<Integer, Integer>> createKeyValuePairs(int numTuples, int numKeys, double skew, long seed) {
+        final Random random = new Random(seed);
+        final double[] cdf = createZipfCdf(numKeys, skew);
+        final List<Tuple2<Integer, Integer>> pairs = new ArrayList<>(numTuples);
+        for (int i = 0; i < numTuples; i++) {
+            pairs.add(new Tuple2<>(sample(cdf, random), i));
+        }
+        return pairs;
+    }
+
+    /**
+     * Creates {@link Integer}s whose values follow a Zipf distribution.
+     *
+     * @see #createKeyValuePairs(int, int, double, long)
+     */
+    public static List<Integer> createIntegers(int numIntegers, int numValues, double skew, long seed) {
+        final Random random = new Random(seed);
+        final double[] cdf = createZipfCdf(numValues, skew);
+        final List<Integer> integers = new ArrayList<>(numIntegers);
+        for (int i = 0; i < numIntegers; i++) {
+            integers.add(sample(cdf, random));
+        }
+        return integers;
+    }
+
+    private static double[] createZipfCdf(int numKeys, double skew) {
+        final double[] cdf = new double[numKeys];
+        double sum = 0d;
+        for (int rank = 1; rank <= numKeys; rank++) {
+            sum += 1d / Math.pow(rank, skew);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < numKeys; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, Random random) {
+        final int pos = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(pos >= 0 ? pos : -pos - 1, cdf.length - 1);
+    }
+
+}
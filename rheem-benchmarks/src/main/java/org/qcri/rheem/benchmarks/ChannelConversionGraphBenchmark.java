@@ -0,0 +1,110 @@
+package org.qcri.rheem.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversionGraph;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.platform.Junction;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.Java;
+import org.qcri.rheem.java.operators.JavaMapOperator;
+import org.qcri.rheem.spark.Spark;
+import org.qcri.rheem.spark.operators.SparkMapOperator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ChannelConversionGraph#findMinimumCostJunction(org.qcri.rheem.core.plan.rheemplan.OutputSlot, List, OptimizationContext, boolean)}
+ * for a Java producer that feeds a configurable number of Java and Spark consumers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ChannelConversionGraphBenchmark {
+
+    /**
+     * Number of consumers of the producer's output. Every other consumer runs on Spark.
+     */
+    @Param({"1", "2", "4", "8"})
+    public int numConsumers;
+
+    private OptimizationContext optimizationContext;
+
+    private ChannelConversionGraph channelConversionGraph;
+
+    private ExecutionOperator producer;
+
+    private List<InputSlot<?>> consumerInputs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final RheemContext rheemContext = new RheemContext(new Configuration())
+                .with(Java.basicPlugin())
+                .with(Spark.basicPlugin());
+        final Job job = rheemContext.createJob("ChannelConversionGraphBenchmark", new RheemPlan());
+        this.optimizationContext = new DefaultOptimizationContext(job);
+        this.channelConversionGraph = this.optimizationContext.getChannelConversionGraph();
+
+        this.producer = new JavaMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i + 1, Integer.class, Integer.class)
+        );
+        this.addOperatorContext(this.producer);
+
+        this.consumerInputs = new ArrayList<>(this.numConsumers);
+        for (int i = 0; i < this.numConsumers; i++) {
+            final TransformationDescriptor<Integer, Integer> udf =
+                    new TransformationDescriptor<>(j -> j + 1, Integer.class, Integer.class);
+            final ExecutionOperator consumer = i % 2 == 0 ?
+                    new JavaMapOperator<>(DataSetType.createDefault(Integer.class), DataSetType.createDefault(Integer.class), udf) :
+                    new SparkMapOperator<>(DataSetType.createDefault(Integer.class), DataSetType.createDefault(Integer.class), udf);
+            this.producer.connectTo(0, consumer, 0);
+            this.addOperatorContext(consumer);
+            this.consumerInputs.add(consumer.getInput(0));
+        }
+    }
+
+    private void addOperatorContext(ExecutionOperator operator) {
+        final OptimizationContext.OperatorContext operatorContext = this.optimizationContext.addOneTimeOperator(operator);
+        final CardinalityEstimate cardinality = new CardinalityEstimate(100000, 1000000, 0.8d);
+        for (int i = 0; i < operator.getNumInputs(); i++) {
+            operatorContext.setInputCardinality(i, cardinality);
+        }
+        for (int i = 0; i < operator.getNumOutputs(); i++) {
+            operatorContext.setOutputCardinality(i, cardinality);
+        }
+    }
+
+    @Benchmark
+    public Junction findMinimumCostJunction() {
+        return this.channelConversionGraph.findMinimumCostJunction(
+                this.producer.getOutput(0), this.consumerInputs, this.optimizationContext, false
+        );
+    }
+
+}
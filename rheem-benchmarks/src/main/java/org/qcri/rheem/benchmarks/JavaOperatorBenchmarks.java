@@ -0,0 +1,283 @@
+package org.qcri.rheem.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.java.Java;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.operators.JavaCartesianOperator;
+import org.qcri.rheem.java.operators.JavaDistinctOperator;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.qcri.rheem.java.operators.JavaJoinOperator;
+import org.qcri.rheem.java.operators.JavaLocalCallbackSink;
+import org.qcri.rheem.java.operators.JavaRandomSampleOperator;
+import org.qcri.rheem.java.operators.JavaReduceByOperator;
+import org.qcri.rheem.java.operators.JavaSortOperator;
+import org.qcri.rheem.java.platform.JavaPlatform;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Benchmarks the {@link JavaExecutionOperator}s that dominate typical Rheem jobs in isolation, i.e., without
+ * the optimizer and the {@link org.qcri.rheem.core.platform.CrossPlatformExecutor}. Still, the operators and
+ * the consumption of their outputs are executed by a {@link JavaExecutor}, so that parallel execution uses its
+ * thread pool. The operators are evaluated on {@link Tuple2}s with {@link Integer} keys of configurable skew.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JavaOperatorBenchmarks {
+
+    /**
+     * Number of data quanta per input.
+     */
+    @Param({"10000", "1000000"})
+    public int numTuples;
+
+    /**
+     * Number of distinct keys in each input.
+     */
+    @Param({"1000"})
+    public int numKeys;
+
+    /**
+     * Zipf exponent of the key distribution; {@code 0} means uniform keys.
+     */
+    @Param({"0", "1.2"})
+    public double skew;
+
+    /**
+     * Whether to run on a parallel {@link JavaExecutor} (cf. {@code rheem.java.parallel}).
+     */
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private Configuration configuration;
+
+    private BenchmarkExecutor executor;
+
+    private OptimizationContext optimizationContext;
+
+    private List<Tuple2<Integer, Integer>> pairs0, pairs1;
+
+    private List<Integer> integers;
+
+    private JavaJoinOperator<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>, Integer> joinOperator;
+
+    private JavaReduceByOperator<Tuple2<Integer, Integer>, Integer> reduceByOperator;
+
+    private JavaSortOperator<Tuple2<Integer, Integer>, Integer> sortOperator;
+
+    private JavaDistinctOperator<Integer> distinctOperator;
+
+    private JavaCartesianOperator<Integer, Integer> cartesianOperator;
+
+    private JavaRandomSampleOperator<Integer> sampleOperator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final RheemContext rheemContext = new RheemContext(new Configuration()).with(Java.basicPlugin());
+        rheemContext.getConfiguration().setProperty("rheem.java.parallel", String.valueOf(this.parallel));
+        if (this.parallel) {
+            rheemContext.getConfiguration().setProperty(
+                    "rheem.java.cores", String.valueOf(Runtime.getRuntime().availableProcessors())
+            );
+        }
+        final Job job = rheemContext.createJob("JavaOperatorBenchmarks", new RheemPlan());
+        this.configuration = job.getConfiguration();
+        this.executor = new BenchmarkExecutor(job);
+        // Hold a reference, so that the executor survives the disposal of the channel instances.
+        this.executor.noteObtainedReference();
+        this.optimizationContext = new DefaultOptimizationContext(job);
+
+        this.pairs0 = BenchmarkData.createKeyValuePairs(this.numTuples, this.numKeys, this.skew, 42L);
+        this.pairs1 = BenchmarkData.createKeyValuePairs(this.numTuples, this.numKeys, this.skew, 23L);
+        this.integers = BenchmarkData.createIntegers(this.numTuples, this.numKeys, this.skew, 42L);
+
+        this.joinOperator = new JavaJoinOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                createKeyDescriptor(),
+                createKeyDescriptor()
+        );
+        this.reduceByOperator = new JavaReduceByOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                createKeyDescriptor(),
+                new ReduceDescriptor<>(
+                        (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                        DataUnitType.createGroupedUnchecked(Tuple2.class),
+                        DataUnitType.createBasicUnchecked(Tuple2.class)
+                )
+        );
+        this.sortOperator = new JavaSortOperator<>(
+                createKeyDescriptor(),
+                DataSetType.createDefaultUnchecked(Tuple2.class)
+        );
+        this.distinctOperator = new JavaDistinctOperator<>(DataSetType.createDefault(Integer.class));
+        this.cartesianOperator = new JavaCartesianOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class)
+        );
+        final int sampleSize = this.numTuples / 100;
+        this.sampleOperator = new JavaRandomSampleOperator<>(
+                iteration -> sampleSize,
+                DataSetType.createDefault(Integer.class),
+                iteration -> 42L
+        );
+        this.sampleOperator.setDatasetSize(this.numTuples);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.executor.noteDiscardedReference(true);
+    }
+
+    @Benchmark
+    public void join(Blackhole blackhole) {
+        // Cap the second input for skewed keys, as the join output grows quadratically with the skew.
+        final int numProbeTuples = this.skew > 0 ? Math.min(this.numTuples, 1000) : this.numTuples;
+        this.evaluate(this.joinOperator, blackhole, this.pairs0, this.pairs1.subList(0, numProbeTuples));
+    }
+
+    @Benchmark
+    public void reduceBy(Blackhole blackhole) {
+        this.evaluate(this.reduceByOperator, blackhole, this.pairs0);
+    }
+
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        this.evaluate(this.sortOperator, blackhole, this.pairs0);
+    }
+
+    @Benchmark
+    public void distinct(Blackhole blackhole) {
+        this.evaluate(this.distinctOperator, blackhole, this.integers);
+    }
+
+    @Benchmark
+    public void cartesian(Blackhole blackhole) {
+        // Keep the output size linear in the input size.
+        this.evaluate(this.cartesianOperator, blackhole, this.integers, this.integers.subList(0, 100));
+    }
+
+    @Benchmark
+    public void sample(Blackhole blackhole) {
+        this.evaluate(this.sampleOperator, blackhole, this.integers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TransformationDescriptor<Tuple2<Integer, Integer>, Integer> createKeyDescriptor() {
+        return new TransformationDescriptor<>(
+                Tuple2::getField0,
+                DataUnitType.createBasicUnchecked(Tuple2.class),
+                DataUnitType.createBasic(Integer.class)
+        );
+    }
+
+    /**
+     * Executes the given {@link JavaExecutionOperator} on the given inputs and fully consumes its output, both via
+     * the {@link #executor}.
+     */
+    @SuppressWarnings("unchecked")
+    private void evaluate(JavaExecutionOperator operator, Blackhole blackhole, Collection<?>... inputs) {
+        final List<ChannelInstance> inputInstances = new ArrayList<>(inputs.length);
+        for (int i = 0; i < inputs.length; i++) {
+            final CollectionChannel.Instance inputInstance = (CollectionChannel.Instance) CollectionChannel.DESCRIPTOR
+                    .createChannel(null, this.configuration)
+                    .createInstance(this.executor, null, -1);
+            inputInstance.accept(inputs[i]);
+            inputInstance.noteObtainedReference();
+            inputInstances.add(inputInstance);
+        }
+        final OptimizationContext.OperatorContext operatorContext = this.getOperatorContext(operator);
+        for (int i = 0; i < inputs.length; i++) {
+            operatorContext.setInputCardinality(i, new CardinalityEstimate(inputs[i].size(), inputs[i].size(), 1d));
+        }
+        operatorContext.setOutputCardinality(0, new CardinalityEstimate(this.numTuples, this.numTuples, 0.5d));
+        final ExecutionTask task = new ExecutionTask(operator);
+        task.initializeOutputChannel(0, this.configuration);
+        final List<ChannelInstance> outputInstances = this.executor.execute(task, inputInstances, operatorContext);
+        outputInstances.forEach(ChannelInstance::noteObtainedReference);
+
+        final Consumer<Serializable> callback = blackhole::consume;
+        final JavaLocalCallbackSink<Serializable> sink = new JavaLocalCallbackSink<>(
+                callback, (DataSetType<Serializable>) operator.getOutput(0).getType()
+        );
+        final ExecutionTask sinkTask = new ExecutionTask(sink);
+        this.executor.execute(sinkTask, outputInstances, this.getOperatorContext(sink));
+
+        inputInstances.forEach(instance -> instance.noteDiscardedReference(true));
+        outputInstances.forEach(instance -> instance.noteDiscardedReference(true));
+    }
+
+    private OptimizationContext.OperatorContext getOperatorContext(JavaExecutionOperator operator) {
+        final OptimizationContext.OperatorContext operatorContext = this.optimizationContext.getOperatorContext(operator);
+        return operatorContext == null ? this.optimizationContext.addOneTimeOperator(operator) : operatorContext;
+    }
+
+    /**
+     * {@link JavaExecutor} that executes single {@link ExecutionTask}s without a
+     * {@link org.qcri.rheem.core.platform.CrossPlatformExecutor}.
+     */
+    private static class BenchmarkExecutor extends JavaExecutor {
+
+        private final Configuration configuration;
+
+        private BenchmarkExecutor(Job job) {
+            super(JavaPlatform.getInstance(), job);
+            this.configuration = job.getConfiguration();
+        }
+
+        @Override
+        public Configuration getConfiguration() {
+            // There is no CrossPlatformExecutor to serve the Configuration.
+            return this.configuration;
+        }
+
+        /**
+         * Executes the given {@link ExecutionTask} eagerly.
+         *
+         * @return the output {@link ChannelInstance}s of the {@code task}
+         */
+        private List<ChannelInstance> execute(ExecutionTask task,
+                                              List<ChannelInstance> inputInstances,
+                                              OptimizationContext.OperatorContext operatorContext) {
+            return this.execute(task, inputInstances, operatorContext, true).getField0();
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package org.qcri.rheem.benchmarks;
+
+import gnu.trove.map.hash.TObjectDoubleHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.EstimationContext;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.optimizer.costs.SimpleEstimationContext;
+import org.qcri.rheem.java.Java;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the evaluation of {@link LoadProfileEstimator}s that have been created from specifications via
+ * {@link LoadProfileEstimators}, which is the innermost loop of the cost estimation. For comparison,
+ * {@link #parseAndEstimate()} also includes parsing the specification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LoadProfileEstimatorBenchmark {
+
+    /**
+     * {@link Configuration} key of the estimator specification to evaluate.
+     */
+    @Param({"rheem.java.map.load", "rheem.java.join.load.indexing", "rheem.java.reduceby.load"})
+    public String configKey;
+
+    private String specification;
+
+    private LoadProfileEstimator estimator;
+
+    private EstimationContext estimationContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Configuration configuration = new Configuration();
+        Java.basicPlugin().setProperties(configuration);
+        this.specification = configuration.getStringProperty(this.configKey);
+        this.estimator = LoadProfileEstimators.createFromSpecification(this.configKey, this.specification);
+
+        final CardinalityEstimate cardinality = new CardinalityEstimate(100000, 1000000, 0.8d);
+        final CardinalityEstimate[] inputCardinalities = new CardinalityEstimate[2];
+        inputCardinalities[0] = inputCardinalities[1] = cardinality;
+        this.estimationContext = new SimpleEstimationContext(
+                inputCardinalities, new CardinalityEstimate[]{cardinality}, new TObjectDoubleHashMap<>(), 1
+        );
+    }
+
+    @Benchmark
+    public LoadProfile estimate() {
+        return this.estimator.estimate(this.estimationContext);
+    }
+
+    @Benchmark
+    public LoadProfile parseAndEstimate() {
+        return LoadProfileEstimators.createFromSpecification(this.configKey, this.specification)
+                .estimate(this.estimationContext);
+    }
+
+}
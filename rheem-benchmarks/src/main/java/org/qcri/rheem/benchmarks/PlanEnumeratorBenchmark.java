@@ -0,0 +1,87 @@
+package org.qcri.rheem.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.optimizer.enumeration.PlanEnumeration;
+import org.qcri.rheem.core.optimizer.enumeration.PlanEnumerator;
+import org.qcri.rheem.core.plan.executionplan.ExecutionPlan;
+import org.qcri.rheem.java.Java;
+import org.qcri.rheem.spark.Spark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks the Rheem optimizer on {@link SyntheticPlans}: once only the {@link PlanEnumerator} and once the
+ * complete creation of the initial {@link ExecutionPlan}, including plan inflation and cardinality estimation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PlanEnumeratorBenchmark {
+
+    @Param({"wide", "deep"})
+    public String shape;
+
+    @Param({"4", "8"})
+    public int size;
+
+    private final List<Integer> input = Collections.unmodifiableList(
+            IntStream.range(0, 1000).boxed().collect(Collectors.toList())
+    );
+
+    private RheemContext rheemContext;
+
+    /**
+     * A {@link Job} whose {@link org.qcri.rheem.core.plan.rheemplan.RheemPlan} has been inflated and annotated
+     * with cardinalities, so that it is ready for the {@link PlanEnumerator}.
+     */
+    private Job preparedJob;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.rheemContext = new RheemContext(new Configuration())
+                .with(Java.basicPlugin())
+                .with(Spark.basicPlugin());
+        this.preparedJob = this.rheemContext.createJob(
+                "PlanEnumeratorBenchmark", SyntheticPlans.create(this.shape, this.size, this.input, new ArrayList<>())
+        );
+        this.preparedJob.buildInitialExecutionPlan();
+    }
+
+    @Benchmark
+    public PlanEnumeration enumerate() {
+        final PlanEnumerator planEnumerator = new PlanEnumerator(
+                this.preparedJob.getRheemPlan(), this.preparedJob.getOptimizationContext()
+        );
+        return planEnumerator.enumerate(true);
+    }
+
+    @Benchmark
+    public ExecutionPlan buildInitialExecutionPlan() {
+        return this.rheemContext.buildInitialExecutionPlan(
+                "PlanEnumeratorBenchmark", SyntheticPlans.create(this.shape, this.size, this.input, new ArrayList<>())
+        );
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.qcri.rheem.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qcri.rheem.basic.operators.CollectionSource;
+import org.qcri.rheem.basic.operators.LocalCallbackSink;
+import org.qcri.rheem.basic.operators.MapOperator;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.java.Java;
+import org.qcri.rheem.spark.Spark;
+import org.qcri.rheem.spark.execution.SparkContextReference;
+import org.qcri.rheem.spark.platform.SparkPlatform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a small map-reduceBy-sort job end-to-end, i.e., including optimization and execution, on a single
+ * platform. Spark runs in {@code local[*]} mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PlatformBenchmark {
+
+    @Param({"java", "spark"})
+    public String platform;
+
+    @Param({"100000", "1000000"})
+    public int numTuples;
+
+    @Param({"0", "1.2"})
+    public double skew;
+
+    private RheemContext rheemContext;
+
+    private List<Integer> input;
+
+    /**
+     * Keeps the {@link org.apache.spark.api.java.JavaSparkContext} alive across the benchmarked jobs, so that they
+     * do not measure its start-up; {@code null} if not on Spark.
+     */
+    private SparkContextReference sparkContextReference;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Configuration configuration = new Configuration();
+        switch (this.platform) {
+            case "java":
+                this.rheemContext = new RheemContext(configuration).with(Java.basicPlugin());
+                break;
+            case "spark":
+                this.rheemContext = new RheemContext(configuration).with(Spark.basicPlugin());
+                this.rheemContext.getConfiguration().setProperty("spark.master", "local[*]");
+                this.sparkContextReference = SparkPlatform.getInstance().getSparkContext(
+                        this.rheemContext.createJob("PlatformBenchmark", new RheemPlan())
+                );
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown platform: " + this.platform);
+        }
+        this.input = BenchmarkData.createIntegers(this.numTuples, 10000, this.skew, 42L);
+    }
+
+    @Benchmark
+    public List<Integer> mapReduceBySort() {
+        final List<Integer> collector = new ArrayList<>();
+
+        final CollectionSource<Integer> source = new CollectionSource<>(this.input, Integer.class);
+        final MapOperator<Integer, Integer> map = new MapOperator<>(i -> i * 31, Integer.class, Integer.class);
+        final ReduceByOperator<Integer, Integer> reduceBy = new ReduceByOperator<>(
+                i -> i % 1000, (i1, i2) -> i1 + i2, Integer.class, Integer.class
+        );
+        final SortOperator<Integer, Integer> sort = new SortOperator<>(i -> i, Integer.class, Integer.class);
+        final LocalCallbackSink<Integer> sink = LocalCallbackSink.createCollectingSink(collector, Integer.class);
+        source.connectTo(0, map, 0);
+        map.connectTo(0, reduceBy, 0);
+        reduceBy.connectTo(0, sort, 0);
+        sort.connectTo(0, sink, 0);
+
+        this.rheemContext.execute("PlatformBenchmark", new RheemPlan(sink));
+        return collector;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (this.sparkContextReference != null) {
+            // Discarding the last reference stops the JavaSparkContext.
+            this.sparkContextReference.noteDiscardedReference(true);
+            this.sparkContextReference = null;
+        }
+    }
+
+}
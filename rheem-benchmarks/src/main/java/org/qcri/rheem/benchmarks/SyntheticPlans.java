@@ -0,0 +1,86 @@
+package org.qcri.rheem.benchmarks;
+
+import org.qcri.rheem.basic.operators.CollectionSource;
+import org.qcri.rheem.basic.operators.FilterOperator;
+import org.qcri.rheem.basic.operators.LocalCallbackSink;
+import org.qcri.rheem.basic.operators.MapOperator;
+import org.qcri.rheem.basic.operators.UnionAllOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Creates synthetic {@link RheemPlan}s of configurable shape and size for optimizer benchmarks.
+ */
+public class SyntheticPlans {
+
+    private SyntheticPlans() {
+    }
+
+    /**
+     * Creates a new {@link RheemPlan}.
+     *
+     * @param shape     either {@code wide} ({@code size} mapped sources that are unioned) or {@code deep}
+     *                  (a single source followed by {@code size} alternating maps and filters)
+     * @param size      the number of branches or the pipeline length, respectively
+     * @param input     the data for each source
+     * @param collector collects the output of the plan
+     * @return the new {@link RheemPlan}
+     */
+    public static RheemPlan create(String shape, int size, Collection<Integer> input, Collection<Integer> collector) {
+        switch (shape) {
+            case "wide":
+                return createWidePlan(size, input, collector);
+            case "deep":
+                return createDeepPlan(size, input, collector);
+            default:
+                throw new IllegalArgumentException("Unknown plan shape: " + shape);
+        }
+    }
+
+    private static RheemPlan createWidePlan(int width, Collection<Integer> input, Collection<Integer> collector) {
+        final List<Operator> branches = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            final CollectionSource<Integer> source = new CollectionSource<>(input, Integer.class);
+            source.setName("source" + i);
+            final MapOperator<Integer, Integer> map = new MapOperator<>(x -> x + 1, Integer.class, Integer.class);
+            map.setName("map" + i);
+            source.connectTo(0, map, 0);
+            branches.add(map);
+        }
+
+        Operator last = branches.get(0);
+        for (int i = 1; i < width; i++) {
+            final UnionAllOperator<Integer> union = new UnionAllOperator<>(Integer.class);
+            union.setName("union" + i);
+            last.connectTo(0, union, 0);
+            branches.get(i).connectTo(0, union, 1);
+            last = union;
+        }
+
+        final LocalCallbackSink<Integer> sink = LocalCallbackSink.createCollectingSink(collector, Integer.class);
+        last.connectTo(0, sink, 0);
+        return new RheemPlan(sink);
+    }
+
+    private static RheemPlan createDeepPlan(int depth, Collection<Integer> input, Collection<Integer> collector) {
+        Operator last = new CollectionSource<>(input, Integer.class);
+        last.setName("source");
+        for (int i = 0; i < depth; i++) {
+            final Operator next = i % 2 == 0 ?
+                    new MapOperator<>(x -> x + 1, Integer.class, Integer.class) :
+                    new FilterOperator<>(x -> (x & 1) == 0, Integer.class);
+            next.setName((i % 2 == 0 ? "map" : "filter") + i);
+            last.connectTo(0, next, 0);
+            last = next;
+        }
+
+        final LocalCallbackSink<Integer> sink = LocalCallbackSink.createCollectingSink(collector, Integer.class);
+        last.connectTo(0, sink, 0);
+        return new RheemPlan(sink);
+    }
+
+}
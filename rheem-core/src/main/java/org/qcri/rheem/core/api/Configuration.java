@@ -551,6 +551,10 @@ public class Configuration {
                 Arrays.asList(System.getProperty("user.home"), ".rheem", "executions.json"),
                 File.separator
         ));
+        configuration.setProperty("rheem.core.optimizer.plancache.path", StringUtils.join(
+                Arrays.asList(System.getProperty("user.home"), ".rheem", "plan-cache"),
+                File.separator
+        ));
 
         // Supplement with a customizable layer.
         final KeyValueProvider<String, String> customizableProperties = new MapBasedKeyValueProvider<>(defaultProperties);
@@ -5,8 +5,8 @@ import de.hpi.isg.profiledb.store.model.Experiment;
 import de.hpi.isg.profiledb.store.model.TimeMeasurement;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.mapping.PlanTransformation;
-import org.qcri.rheem.core.monitor.DisabledMonitor;
-import org.qcri.rheem.core.monitor.FileMonitor;
+import org.qcri.rheem.core.monitor.JobMetrics;
+import org.qcri.rheem.core.monitor.MetricsReporter;
 import org.qcri.rheem.core.monitor.Monitor;
 import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
@@ -30,8 +30,8 @@ import org.qcri.rheem.core.util.RheemCollections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -68,9 +68,10 @@ public class Job extends OneTimeExecutable {
     private DefaultOptimizationContext optimizationContext;
 
     /**
-     * General purpose cache.
+     * General purpose cache. It is local to this instance but might be accessed by concurrent
+     * {@link ExecutionStage}s.
      */
-    private Map<String, Object> cache = new HashMap<>();
+    private final Map<String, Object> cache = new ConcurrentHashMap<>();
 
     /**
      * Executes the optimized {@link ExecutionPlan}.
@@ -112,13 +113,31 @@ public class Job extends OneTimeExecutable {
      */
     private final Set<String> udfJarPaths = new HashSet<>();
 
-    private Monitor monitor;
+    /**
+     * Export the {@link #metrics} if monitoring is enabled.
+     */
+    private final List<Monitor> monitors;
+
+    /**
+     * Collects live metrics of the execution.
+     */
+    private final JobMetrics metrics;
+
+    /**
+     * Drives the {@link #monitors} or {@code null} if none have been started.
+     */
+    private MetricsReporter metricsReporter;
 
     /**
      * Name for this instance.
      */
     private final String name;
 
+    /**
+     * Identifies this instance among all other instances, e.g., for monitoring.
+     */
+    private final String runId = UUID.randomUUID().toString();
+
     /**
      * <i>Currently not used.</i>
      */
@@ -170,10 +189,11 @@ public class Job extends OneTimeExecutable {
         this.executionRound = this.stopWatch.getOrCreateRound("Execution");
 
         // Configure job monitor.
+        this.metrics = new JobMetrics(this.runId);
         if (Monitor.isEnabled(this.configuration)) {
-            this.monitor = monitor == null ? new FileMonitor() : monitor;
+            this.monitors = monitor == null ? Monitor.createAll(this.configuration) : Collections.singletonList(monitor);
         } else {
-            this.monitor = new DisabledMonitor();
+            this.monitors = Collections.emptyList();
         }
     }
 
@@ -211,15 +231,15 @@ public class Job extends OneTimeExecutable {
         return executionPlan;
     }
 
-    // TODO: Move outside of Job class
+    /**
+     * Reports the progress of an operator. This does not block, as the {@link Monitor}s export the progress
+     * asynchronously.
+     *
+     * @param opName   identifies the operator (see {@link JobMetrics#getKey(Operator)})
+     * @param progress the progress in percent
+     */
     public void reportProgress(String opName, Integer progress) {
-        HashMap<String, Integer> partialProgress = new HashMap<>();
-        partialProgress.put(opName, progress);
-        try {
-            this.monitor.updateProgress(partialProgress);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        this.metrics.updateProgress(opName, progress);
     }
 
     @Override
@@ -249,13 +269,7 @@ public class Job extends OneTimeExecutable {
                 ));
             }
 
-            // TODO: generate run ID. For now we fix this because we can't handle multiple jobs, neither in monitoring nor execution.
-            String runId = "1";
-            try {
-                monitor.initialize(this.configuration, runId, executionPlan.toJsonList());
-            } catch (Exception e) {
-                this.logger.warn("Failed to initialize monitor: {}", e);
-            }
+            this.startMonitoring(executionPlan);
 
 
             // Take care of the execution.
@@ -290,6 +304,34 @@ public class Job extends OneTimeExecutable {
         }
     }
 
+    /**
+     * Initializes the {@link #monitors} and starts exporting the {@link #metrics} to them.
+     *
+     * @param executionPlan the initial {@link ExecutionPlan}
+     */
+    private void startMonitoring(ExecutionPlan executionPlan) {
+        if (this.monitors.isEmpty()) return;
+
+        for (ExecutionTask task : executionPlan.collectAllTasks()) {
+            this.reportProgress(JobMetrics.getKey(task.getOperator()), 0);
+        }
+        final List<Map> jsonPlan = executionPlan.toJsonList();
+        List<Monitor> initializedMonitors = new ArrayList<>(this.monitors.size());
+        for (Monitor monitor : this.monitors) {
+            try {
+                monitor.initialize(this.configuration, this.runId, jsonPlan);
+                initializedMonitors.add(monitor);
+            } catch (Exception e) {
+                this.logger.warn("Failed to initialize {}.", monitor.getClass().getSimpleName(), e);
+            }
+        }
+        this.metricsReporter = new MetricsReporter(
+                this.metrics,
+                initializedMonitors,
+                this.configuration.getLongProperty(Monitor.MONITOR_INTERVAL_PROPERTY_KEY, 1000L)
+        );
+    }
+
     /**
      * Prepares the {@link #rheemPlan}: prunes unused {@link Operator}s, isolates loops, and applies all available
      * {@link PlanTransformation}s.
@@ -362,13 +404,44 @@ public class Job extends OneTimeExecutable {
 
         this.optimizationRound.start("Create Initial Execution Plan");
 
-        // Enumerate all possible plan.
-        final PlanEnumerator planEnumerator = this.createPlanEnumerator();
+        // See if we have optimized a similar plan before.
+        PlanCache planCache = null;
+        PlanFingerprint planFingerprint = null;
+        Map<OperatorAlternative, OperatorAlternative.Alternative> cachedAlternatives = null;
+        if (this.configuration.getBooleanProperty("rheem.core.optimizer.plancache.enabled")) {
+            this.optimizationRound.start("Create Initial Execution Plan", "Look up Plan Cache");
+            planCache = this.rheemContext.getPlanCache();
+            planFingerprint = PlanFingerprint.of(this.rheemPlan, this.optimizationContext);
+            if (planFingerprint.isCacheable()) {
+                cachedAlternatives = planCache.lookup(planFingerprint);
+            } else {
+                this.logger.info("Bypassing the plan cache, as {} cannot tell apart all UDFs.", planFingerprint);
+                planCache = null;
+            }
+            this.optimizationRound.stop("Create Initial Execution Plan", "Look up Plan Cache");
+        }
 
+        // Enumerate all possible plan.
         final TimeMeasurement enumerateMeasurment = this.optimizationRound.start("Create Initial Execution Plan", "Enumerate");
-        planEnumerator.setTimeMeasurement(enumerateMeasurment);
-        final PlanEnumeration comprehensiveEnumeration = planEnumerator.enumerate(true);
-        planEnumerator.setTimeMeasurement(null);
+        PlanEnumeration comprehensiveEnumeration = null;
+        if (cachedAlternatives != null) {
+            try {
+                final PlanEnumerator planEnumerator = new PlanEnumerator(this.rheemPlan, this.optimizationContext, cachedAlternatives);
+                planEnumerator.setTimeMeasurement(enumerateMeasurment);
+                comprehensiveEnumeration = planEnumerator.enumerate(true);
+            } catch (RheemException e) {
+                this.logger.warn("Could not enumerate the cached plan for {}. Falling back to full enumeration.", planFingerprint, e);
+            }
+            if (comprehensiveEnumeration == null || comprehensiveEnumeration.getPlanImplementations().isEmpty()) {
+                comprehensiveEnumeration = null;
+                cachedAlternatives = null;
+            }
+        }
+        if (comprehensiveEnumeration == null) {
+            final PlanEnumerator planEnumerator = this.createPlanEnumerator();
+            planEnumerator.setTimeMeasurement(enumerateMeasurment);
+            comprehensiveEnumeration = planEnumerator.enumerate(true);
+        }
         this.optimizationRound.stop("Create Initial Execution Plan", "Enumerate");
 
         final Collection<PlanImplementation> executionPlans = comprehensiveEnumeration.getPlanImplementations();
@@ -385,6 +458,10 @@ public class Job extends OneTimeExecutable {
         this.costEstimates.add(planImplementation.getCostEstimate());
         this.optimizationRound.stop("Create Initial Execution Plan", "Pick Best Plan");
 
+        if (planCache != null && cachedAlternatives == null) {
+            planCache.store(planFingerprint, this.planImplementation);
+        }
+
         this.logger.info("Compiling execution plan...");
         this.optimizationRound.start("Create Initial Execution Plan", "Split Stages");
         final ExecutionTaskFlow executionTaskFlow = ExecutionTaskFlow.createFrom(this.planImplementation);
@@ -614,6 +691,7 @@ public class Job extends OneTimeExecutable {
     private void releaseResources() {
         this.rheemContext.getCardinalityRepository().sleep();
         if (this.crossPlatformExecutor != null) this.crossPlatformExecutor.shutdown();
+        if (this.metricsReporter != null) this.metricsReporter.close();
     }
 
     private void logExecution() {
@@ -831,11 +909,30 @@ public class Job extends OneTimeExecutable {
     }
 
     /**
-     * Provides a general-purpose cache. Can be used to communicate job-global information.
+     * Provides a general-purpose cache. Can be used to communicate job-global information. It does not permit
+     * {@code null} keys or values.
      *
      * @return the cache
      */
     public Map<String, Object> getCache() {
         return this.cache;
     }
+
+    /**
+     * Provides the {@link JobMetrics}, which executors should update as they go.
+     *
+     * @return the {@link JobMetrics}
+     */
+    public JobMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Provides the unique ID of this instance, which distinguishes it from concurrently executed instances.
+     *
+     * @return the run ID
+     */
+    public String getRunId() {
+        return this.runId;
+    }
 }
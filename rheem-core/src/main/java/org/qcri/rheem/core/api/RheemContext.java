@@ -4,6 +4,7 @@ import de.hpi.isg.profiledb.store.model.Experiment;
 import de.hpi.isg.profiledb.store.model.Subject;
 import org.qcri.rheem.core.monitor.Monitor;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.enumeration.PlanCache;
 import org.qcri.rheem.core.plan.executionplan.ExecutionPlan;
 import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
 import org.qcri.rheem.core.plugin.Plugin;
@@ -25,6 +26,11 @@ public class RheemContext {
      */
     private CardinalityRepository cardinalityRepository;
 
+    /**
+     * Remembers optimization decisions for recurring {@link RheemPlan}s.
+     */
+    private PlanCache planCache;
+
     private final Configuration configuration;
 
     public RheemContext() {
@@ -159,10 +165,17 @@ public class RheemContext {
         return this.configuration;
     }
 
-    public CardinalityRepository getCardinalityRepository() {
+    public synchronized CardinalityRepository getCardinalityRepository() {
         if (this.cardinalityRepository == null) {
             this.cardinalityRepository = new CardinalityRepository(this.configuration);
         }
         return this.cardinalityRepository;
     }
+
+    public synchronized PlanCache getPlanCache() {
+        if (this.planCache == null) {
+            this.planCache = new PlanCache(this.configuration);
+        }
+        return this.planCache;
+    }
 }
@@ -3,6 +3,7 @@ package org.qcri.rheem.core.api.configuration;
 import org.apache.commons.lang3.Validate;
 import org.qcri.rheem.core.api.Configuration;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,7 +12,11 @@ import java.util.Map;
  */
 public class MapBasedKeyValueProvider<Key, Value> extends KeyValueProvider<Key, Value> {
 
-    private final Map<Key, Value> storedValues = new HashMap<>();
+    /**
+     * Stores the values. As lookups might cache values, this is written concurrently, e.g., by the plan enumeration.
+     * Unlike a {@link java.util.concurrent.ConcurrentHashMap}, it admits {@code null} values.
+     */
+    private final Map<Key, Value> storedValues = Collections.synchronizedMap(new HashMap<>());
 
     private final boolean isCaching;
 
@@ -3,7 +3,6 @@ package org.qcri.rheem.core.monitor;
 import org.qcri.rheem.core.api.Configuration;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,7 +14,7 @@ public class DisabledMonitor extends Monitor {
     }
 
     @Override
-    public void updateProgress(HashMap<String, Integer> partialProgress) throws IOException {
+    public void export(JobMetrics metrics) throws IOException {
 
     }
 }
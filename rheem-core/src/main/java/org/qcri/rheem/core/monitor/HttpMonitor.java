@@ -1,24 +1,82 @@
 package org.qcri.rheem.core.monitor;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONObject;
 import org.qcri.rheem.core.api.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
- * TODO: Implement
+ * Serves the execution plan, the progress, and the metrics of a job as JSON via HTTP on the loopback interface
+ * (paths {@code /execplan}, {@code /progress}, and {@code /metrics}). The port is configured via
+ * {@value #MONITOR_HTTP_PORT_PROPERTY_KEY} ({@code 0} picks a free port). Requests are answered with the latest
+ * snapshot from the {@link MetricsReporter} and never touch the executing job.
  */
+public class HttpMonitor extends Monitor {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private HttpServer server;
+
+    private volatile String execPlanJson = "{}", progressJson = "{}", metricsJson = "{}";
 
-public class HttpMonitor extends Monitor{
     @Override
     public void initialize(Configuration config, String runId, List<Map> initialExecutionPlan) throws IOException {
+        HashMap<String, Object> jsonPlanMap = new HashMap<>();
+        jsonPlanMap.put("stages", initialExecutionPlan);
+        jsonPlanMap.put("run_id", runId);
+        this.execPlanJson = new JSONObject(jsonPlanMap).toString();
+
+        final int port = (int) config.getLongProperty(MONITOR_HTTP_PORT_PROPERTY_KEY, 0L);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.createContext("/execplan", exchange -> respond(exchange, () -> this.execPlanJson));
+        this.server.createContext("/progress", exchange -> respond(exchange, () -> this.progressJson));
+        this.server.createContext("/metrics", exchange -> respond(exchange, () -> this.metricsJson));
+        this.server.start();
+        this.logger.info("Serving metrics of run {} at http://{}:{}/metrics.",
+                runId, this.server.getAddress().getHostString(), this.getPort());
+    }
 
+    private static void respond(HttpExchange exchange, Supplier<String> jsonSupplier) throws IOException {
+        final byte[] body = jsonSupplier.get().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
     }
 
     @Override
-    public void updateProgress(HashMap<String, Integer> partialProgress) throws IOException {
+    public void export(JobMetrics metrics) throws IOException {
+        this.progressJson = metrics.progressToJson().toString();
+        this.metricsJson = metrics.toJson().toString();
+    }
+
+    /**
+     * Tells the port of the HTTP server.
+     *
+     * @return the port or {@code -1} if the server is not running
+     */
+    public int getPort() {
+        return this.server == null ? -1 : this.server.getAddress().getPort();
+    }
 
+    @Override
+    public void close() throws IOException {
+        if (this.server != null) {
+            this.server.stop(0);
+            this.server = null;
+        }
     }
 }
@@ -0,0 +1,135 @@
+package org.qcri.rheem.core.monitor;
+
+import org.qcri.rheem.core.api.Configuration;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Registers a {@link JobMetricsMXBean} for a job with the platform {@link MBeanServer} under
+ * {@code org.qcri.rheem:type=Job,runId=<run ID>}. The bean reflects the latest snapshot from the
+ * {@link MetricsReporter}.
+ */
+public class JmxMonitor extends Monitor implements JobMetricsMXBean {
+
+    private ObjectName objectName;
+
+    private String runId;
+
+    private volatile Snapshot snapshot = new Snapshot();
+
+    /**
+     * Immutable set of exported values.
+     */
+    private static class Snapshot {
+
+        private int overallProgress = 0;
+
+        private Map<String, Integer> progress = Collections.emptyMap();
+
+        private Map<String, Long> inputDataQuanta = Collections.emptyMap(), outputDataQuanta = Collections.emptyMap(),
+                wallTimeMillis = Collections.emptyMap(), cpuTimeMillis = Collections.emptyMap(),
+                spilledDataQuanta = Collections.emptyMap();
+
+        private String metricsJson = "{}";
+
+    }
+
+    @Override
+    public void initialize(Configuration config, String runId, List<Map> initialExecutionPlan) throws IOException {
+        this.runId = runId;
+        try {
+            this.objectName = ObjectName.getInstance(String.format("org.qcri.rheem:type=Job,runId=%s", ObjectName.quote(runId)));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, this.objectName);
+        } catch (JMException e) {
+            throw new IOException(String.format("Could not register MBean for run %s.", runId), e);
+        }
+    }
+
+    @Override
+    public void export(JobMetrics metrics) throws IOException {
+        final Map<String, OperatorMetrics> operatorMetrics = metrics.getOperatorMetrics();
+        final Snapshot snapshot = new Snapshot();
+        snapshot.overallProgress = metrics.getOverallProgress();
+        snapshot.progress = metrics.getProgress();
+        snapshot.inputDataQuanta = collect(operatorMetrics, OperatorMetrics::getNumInputDataQuanta);
+        snapshot.outputDataQuanta = collect(operatorMetrics, OperatorMetrics::getNumOutputDataQuanta);
+        snapshot.wallTimeMillis = collect(operatorMetrics, m -> m.getWallTimeNanos() / 1000000L);
+        snapshot.cpuTimeMillis = collect(operatorMetrics, m -> m.getCpuTimeNanos() / 1000000L);
+        snapshot.spilledDataQuanta = collect(operatorMetrics, OperatorMetrics::getNumSpilledDataQuanta);
+        snapshot.metricsJson = metrics.toJson().toString();
+        this.snapshot = snapshot;
+    }
+
+    private static Map<String, Long> collect(Map<String, OperatorMetrics> operatorMetrics,
+                                             ToLongFunction<OperatorMetrics> property) {
+        Map<String, Long> result = new HashMap<>(operatorMetrics.size());
+        operatorMetrics.forEach((key, metrics) -> result.put(key, property.applyAsLong(metrics)));
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.objectName == null) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+        } catch (JMException e) {
+            throw new IOException(String.format("Could not unregister MBean for run %s.", this.runId), e);
+        } finally {
+            this.objectName = null;
+        }
+    }
+
+    @Override
+    public String getRunId() {
+        return this.runId;
+    }
+
+    @Override
+    public int getOverallProgress() {
+        return this.snapshot.overallProgress;
+    }
+
+    @Override
+    public Map<String, Integer> getProgress() {
+        return this.snapshot.progress;
+    }
+
+    @Override
+    public Map<String, Long> getInputDataQuanta() {
+        return this.snapshot.inputDataQuanta;
+    }
+
+    @Override
+    public Map<String, Long> getOutputDataQuanta() {
+        return this.snapshot.outputDataQuanta;
+    }
+
+    @Override
+    public Map<String, Long> getWallTimeMillis() {
+        return this.snapshot.wallTimeMillis;
+    }
+
+    @Override
+    public Map<String, Long> getCpuTimeMillis() {
+        return this.snapshot.cpuTimeMillis;
+    }
+
+    @Override
+    public Map<String, Long> getSpilledDataQuanta() {
+        return this.snapshot.spilledDataQuanta;
+    }
+
+    @Override
+    public String getMetricsJson() {
+        return this.snapshot.metricsJson;
+    }
+}
@@ -0,0 +1,184 @@
+package org.qcri.rheem.core.monitor;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects live metrics of a {@link Job}: the progress and {@link OperatorMetrics} per operator, the
+ * {@link OperatorMetrics} per channel conversion, and a timeline of the executed stages. Executors update this
+ * instance without locking; {@link Monitor}s read snapshots of it asynchronously.
+ */
+public class JobMetrics {
+
+    /**
+     * Maximum number of stage executions to keep in the timeline. Older ones are dropped, e.g., in long loops.
+     */
+    private static final int MAX_TIMELINE_SIZE = 1000;
+
+    private final String runId;
+
+    private final Map<String, Integer> progress = new ConcurrentHashMap<>();
+
+    private final Map<String, OperatorMetrics> operatorMetrics = new ConcurrentHashMap<>();
+
+    private final Map<String, OperatorMetrics> conversionMetrics = new ConcurrentHashMap<>();
+
+    private final Queue<JSONObject> timeline = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger timelineSize = new AtomicInteger();
+
+    /**
+     * Counts all updates, so that {@link Monitor}s can skip exporting unchanged snapshots.
+     */
+    private final LongAdder updateCounter = new LongAdder();
+
+    public JobMetrics(String runId) {
+        this.runId = runId;
+    }
+
+    /**
+     * Provides a key for an {@link Operator}, under which its metrics are maintained.
+     *
+     * @param operator the {@link Operator}
+     * @return the key
+     */
+    public static String getKey(Operator operator) {
+        return operator.getName() == null ? operator.toString() : operator.getName();
+    }
+
+    /**
+     * Updates the progress of an operator.
+     *
+     * @param operatorKey identifies the operator
+     * @param progress    the progress in percent
+     */
+    public void updateProgress(String operatorKey, int progress) {
+        this.progress.put(operatorKey, progress);
+        this.updateCounter.increment();
+    }
+
+    /**
+     * Provides the {@link OperatorMetrics} of an operator.
+     *
+     * @param operatorKey identifies the operator
+     * @return the {@link OperatorMetrics}
+     */
+    public OperatorMetrics getOperatorMetrics(String operatorKey) {
+        return this.operatorMetrics.computeIfAbsent(operatorKey, key -> new OperatorMetrics(this.updateCounter));
+    }
+
+    /**
+     * Provides the {@link OperatorMetrics} of a channel conversion.
+     *
+     * @param conversionKey identifies the conversion, e.g., by its source and target channels
+     * @return the {@link OperatorMetrics}
+     */
+    public OperatorMetrics getConversionMetrics(String conversionKey) {
+        return this.conversionMetrics.computeIfAbsent(conversionKey, key -> new OperatorMetrics(this.updateCounter));
+    }
+
+    /**
+     * Registers the execution of a stage in the timeline.
+     *
+     * @param stage       describes the stage
+     * @param platform    the name of the executing platform
+     * @param startMillis the start time of the execution as epoch milliseconds
+     * @param endMillis   the end time of the execution as epoch milliseconds
+     */
+    public void addStageExecution(String stage, String platform, long startMillis, long endMillis) {
+        this.timeline.add(new JSONObject()
+                .put("stage", stage)
+                .put("platform", platform)
+                .put("thread", Thread.currentThread().getName())
+                .put("start", startMillis)
+                .put("end", endMillis));
+        if (this.timelineSize.incrementAndGet() > MAX_TIMELINE_SIZE && this.timeline.poll() != null) {
+            this.timelineSize.decrementAndGet();
+        }
+        this.updateCounter.increment();
+    }
+
+    public String getRunId() {
+        return this.runId;
+    }
+
+    /**
+     * Tells the number of updates to this instance so far.
+     *
+     * @return the number of updates
+     */
+    public long getNumUpdates() {
+        return this.updateCounter.sum();
+    }
+
+    /**
+     * Provides a copy of the progress per operator.
+     *
+     * @return the progress in percent by the operator keys
+     */
+    public Map<String, Integer> getProgress() {
+        return new HashMap<>(this.progress);
+    }
+
+    /**
+     * Averages the progress over all operators.
+     *
+     * @return the overall progress in percent
+     */
+    public int getOverallProgress() {
+        return average(this.getProgress());
+    }
+
+    private static int average(Map<String, Integer> progress) {
+        if (progress.isEmpty()) return 0;
+        return progress.values().stream().mapToInt(Integer::intValue).sum() / progress.size();
+    }
+
+    public Map<String, OperatorMetrics> getOperatorMetrics() {
+        return new HashMap<>(this.operatorMetrics);
+    }
+
+    public Map<String, OperatorMetrics> getConversionMetrics() {
+        return new HashMap<>(this.conversionMetrics);
+    }
+
+    /**
+     * Creates a JSON representation of the progress of this instance.
+     *
+     * @return the {@link JSONObject}
+     */
+    public JSONObject progressToJson() {
+        final Map<String, Integer> progress = this.getProgress();
+        return new JSONObject()
+                .put("overall", average(progress))
+                .put("details", progress);
+    }
+
+    /**
+     * Creates a JSON representation of the current state of this instance.
+     *
+     * @return the {@link JSONObject}
+     */
+    public JSONObject toJson() {
+        final JSONObject operators = new JSONObject();
+        this.operatorMetrics.forEach((key, metrics) -> operators.put(key, metrics.toJson()));
+        final JSONObject conversions = new JSONObject();
+        this.conversionMetrics.forEach((key, metrics) -> conversions.put(key, metrics.toJson()));
+        return this.progressToJson()
+                .put("run_id", this.runId)
+                .put("operators", operators)
+                .put("conversions", conversions)
+                .put("stages", new JSONArray(this.timeline));
+    }
+
+}
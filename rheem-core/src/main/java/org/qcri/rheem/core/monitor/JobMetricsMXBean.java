@@ -0,0 +1,33 @@
+package org.qcri.rheem.core.monitor;
+
+import java.util.Map;
+
+/**
+ * JMX view on the {@link JobMetrics} of a job as exported by a {@link JmxMonitor}. Maps are keyed by operator.
+ */
+public interface JobMetricsMXBean {
+
+    String getRunId();
+
+    int getOverallProgress();
+
+    Map<String, Integer> getProgress();
+
+    Map<String, Long> getInputDataQuanta();
+
+    Map<String, Long> getOutputDataQuanta();
+
+    Map<String, Long> getWallTimeMillis();
+
+    Map<String, Long> getCpuTimeMillis();
+
+    Map<String, Long> getSpilledDataQuanta();
+
+    /**
+     * Provides all metrics, including channel conversions and the stage timeline.
+     *
+     * @return a JSON document
+     */
+    String getMetricsJson();
+
+}
@@ -0,0 +1,84 @@
+package org.qcri.rheem.core.monitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically hands the {@link JobMetrics} of a job to {@link Monitor}s on a background daemon thread. Snapshots
+ * are only exported if the {@link JobMetrics} have changed since the last export.
+ */
+public class MetricsReporter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsReporter.class);
+
+    private final JobMetrics metrics;
+
+    private final List<Monitor> monitors;
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The {@link JobMetrics#getNumUpdates()} at the last export.
+     */
+    private long lastNumUpdates = -1;
+
+    /**
+     * Creates and starts a new instance.
+     *
+     * @param metrics        the {@link JobMetrics} to export
+     * @param monitors       the initialized {@link Monitor}s to export to
+     * @param intervalMillis the interval between two exports in milliseconds
+     */
+    public MetricsReporter(JobMetrics metrics, Collection<Monitor> monitors, long intervalMillis) {
+        this.metrics = metrics;
+        this.monitors = new ArrayList<>(monitors);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rheem-metrics-" + metrics.getRunId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::exportIfUpdated, 0, Math.max(1, intervalMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void exportIfUpdated() {
+        final long numUpdates = this.metrics.getNumUpdates();
+        if (numUpdates == this.lastNumUpdates) return;
+        this.lastNumUpdates = numUpdates;
+        for (Monitor monitor : this.monitors) {
+            try {
+                monitor.export(this.metrics);
+            } catch (Exception e) {
+                logger.warn("{} failed to export metrics.", monitor.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * Stops the periodic exports, exports the final state, and closes the {@link Monitor}s.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+        try {
+            this.scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.exportIfUpdated();
+        for (Monitor monitor : this.monitors) {
+            try {
+                monitor.close();
+            } catch (IOException e) {
+                logger.warn("Could not close {}.", monitor.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -1,28 +1,77 @@
 package org.qcri.rheem.core.monitor;
 
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Exports the {@link JobMetrics} of a job. Instances are driven by a {@link MetricsReporter} on a background thread,
+ * so that exporting never blocks the execution.
+ */
 public abstract class Monitor {
 
-    protected HashMap<String, Integer> progress = new HashMap<>();
-    protected List<Map> initialExecutionPlan;
-    protected String exPlanUrl;
-    protected String progressUrl;
-    protected String runId;
-
     public static Boolean isEnabled(Configuration config) {
         return config.getBooleanProperty(MONITOR_ENABLED_PROPERTY_KEY, false);
     }
+
+    /**
+     * Creates the instances listed in {@value #MONITOR_EXPORTERS_PROPERTY_KEY}.
+     *
+     * @param config the {@link Configuration}
+     * @return the instances
+     */
+    public static List<Monitor> createAll(Configuration config) {
+        List<Monitor> monitors = new ArrayList<>();
+        for (String exporter : config.getStringProperty(MONITOR_EXPORTERS_PROPERTY_KEY, "file").split(",")) {
+            switch (exporter.trim()) {
+                case "file":
+                    monitors.add(new FileMonitor());
+                    break;
+                case "http":
+                    monitors.add(new HttpMonitor());
+                    break;
+                case "jmx":
+                    monitors.add(new JmxMonitor());
+                    break;
+                case "":
+                    break;
+                default:
+                    throw new RheemException(String.format("Unknown monitor \"%s\".", exporter));
+            }
+        }
+        return monitors;
+    }
+
+    /**
+     * Prepares this instance for a job. Called before any {@link #export(JobMetrics)}.
+     *
+     * @param config               the {@link Configuration} of the job
+     * @param runId                identifies the job run
+     * @param initialExecutionPlan JSON-like representation of the initial execution plan
+     */
     public abstract void initialize(Configuration config, String runId, List<Map> initialExecutionPlan) throws IOException;
 
-    public abstract void updateProgress(HashMap<String, Integer> partialProgress) throws IOException;
+    /**
+     * Exports the current state of the given {@link JobMetrics}. Called from a single background thread.
+     *
+     * @param metrics the {@link JobMetrics}
+     */
+    public abstract void export(JobMetrics metrics) throws IOException;
+
+    /**
+     * Releases any resources of this instance. Called after the final {@link #export(JobMetrics)}.
+     */
+    public void close() throws IOException {
+    }
 
     public static final String DEFAULT_MONITOR_BASE_URL = "file:///var/tmp/rheem/runs";
     public static final String DEFAULT_MONITOR_BASE_URL_PROPERTY_KEY = "rheem.core.monitor.baseurl";
     public static final String MONITOR_ENABLED_PROPERTY_KEY = "rheem.core.monitor.enabled";
+    public static final String MONITOR_EXPORTERS_PROPERTY_KEY = "rheem.core.monitor.exporters";
+    public static final String MONITOR_INTERVAL_PROPERTY_KEY = "rheem.core.monitor.interval";
+    public static final String MONITOR_HTTP_PORT_PROPERTY_KEY = "rheem.core.monitor.http.port";
 }
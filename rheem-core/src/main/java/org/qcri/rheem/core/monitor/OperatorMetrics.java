@@ -0,0 +1,136 @@
+package org.qcri.rheem.core.monitor;
+
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the executions of an operator (or of a channel conversion). All counters can be updated concurrently
+ * without locking.
+ */
+public class OperatorMetrics {
+
+    private final LongAdder numExecutions = new LongAdder();
+
+    /**
+     * Counts the executions that were fused into the execution of another operator and hence are not timed.
+     */
+    private final LongAdder numFusedExecutions = new LongAdder();
+
+    private final LongAdder numInputDataQuanta = new LongAdder();
+
+    private final LongAdder numOutputDataQuanta = new LongAdder();
+
+    private final LongAdder numOutputBytes = new LongAdder();
+
+    private final LongAdder wallTimeNanos = new LongAdder();
+
+    private final LongAdder cpuTimeNanos = new LongAdder();
+
+    private final LongAdder numSpilledDataQuanta = new LongAdder();
+
+    /**
+     * Notified of every update.
+     */
+    private final LongAdder updateCounter;
+
+    OperatorMetrics(LongAdder updateCounter) {
+        this.updateCounter = updateCounter;
+    }
+
+    /**
+     * Registers an execution.
+     *
+     * @param wallTimeNanos the elapsed time of the execution in nanoseconds
+     * @param cpuTimeNanos  the CPU time of the executing thread in nanoseconds or {@code -1} if not available or not
+     *                      meaningful, e.g., because the work is done on other machines
+     */
+    public void addExecution(long wallTimeNanos, long cpuTimeNanos) {
+        this.numExecutions.increment();
+        this.wallTimeNanos.add(wallTimeNanos);
+        if (cpuTimeNanos > 0) this.cpuTimeNanos.add(cpuTimeNanos);
+        this.updateCounter.increment();
+    }
+
+    /**
+     * Registers an execution that was fused into the execution of another operator. Its time is contained in the
+     * time of that other operator and cannot be attributed, so it is not accounted here.
+     */
+    public void addFusedExecution() {
+        this.numExecutions.increment();
+        this.numFusedExecutions.increment();
+        this.updateCounter.increment();
+    }
+
+    public void addInputDataQuanta(long numDataQuanta) {
+        this.numInputDataQuanta.add(numDataQuanta);
+        this.updateCounter.increment();
+    }
+
+    /**
+     * Registers output data quanta.
+     *
+     * @param numDataQuanta the number of data quanta
+     * @param numBytes      the number of bytes of the data quanta or {@code 0} if not known
+     */
+    public void addOutputDataQuanta(long numDataQuanta, long numBytes) {
+        this.numOutputDataQuanta.add(numDataQuanta);
+        this.numOutputBytes.add(numBytes);
+        this.updateCounter.increment();
+    }
+
+    public void addSpilledDataQuanta(long numDataQuanta) {
+        this.numSpilledDataQuanta.add(numDataQuanta);
+        this.updateCounter.increment();
+    }
+
+    public long getNumExecutions() {
+        return this.numExecutions.sum();
+    }
+
+    public long getNumFusedExecutions() {
+        return this.numFusedExecutions.sum();
+    }
+
+    public long getNumInputDataQuanta() {
+        return this.numInputDataQuanta.sum();
+    }
+
+    public long getNumOutputDataQuanta() {
+        return this.numOutputDataQuanta.sum();
+    }
+
+    public long getNumOutputBytes() {
+        return this.numOutputBytes.sum();
+    }
+
+    public long getWallTimeNanos() {
+        return this.wallTimeNanos.sum();
+    }
+
+    public long getCpuTimeNanos() {
+        return this.cpuTimeNanos.sum();
+    }
+
+    public long getNumSpilledDataQuanta() {
+        return this.numSpilledDataQuanta.sum();
+    }
+
+    /**
+     * Creates a JSON representation of the current state of this instance.
+     *
+     * @return the {@link JSONObject}
+     */
+    public JSONObject toJson() {
+        return new JSONObject()
+                .put("executions", this.getNumExecutions())
+                .put("fused_executions", this.getNumFusedExecutions())
+                .put("input_quanta", this.getNumInputDataQuanta())
+                .put("output_quanta", this.getNumOutputDataQuanta())
+                .put("output_bytes", this.getNumOutputBytes())
+                .put("wall_ms", this.getWallTimeNanos() / 1000000L)
+                .put("cpu_ms", this.getCpuTimeNanos() / 1000000L)
+                .put("spilled_quanta", this.getNumSpilledDataQuanta());
+    }
+
+}
@@ -4,9 +4,9 @@ import org.qcri.rheem.core.plan.rheemplan.LoopSubplan;
 import org.qcri.rheem.core.plan.rheemplan.Operator;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -16,9 +16,10 @@ import java.util.stream.Collectors;
 public class AggregateOptimizationContext extends OptimizationContext {
 
     /**
-     * Caches aggregated {@link OptimizationContext.OperatorContext}s.
+     * Caches aggregated {@link OptimizationContext.OperatorContext}s. Concurrent, as forks of a parallel plan
+     * enumeration can share this instance.
      */
-    private final Map<Operator, OperatorContext> operatorContextCache = new HashMap<>();
+    private final Map<Operator, OperatorContext> operatorContextCache = new ConcurrentHashMap<>();
 
     /**
      * The {@link OptimizationContext}s aggregated by this instance.
@@ -503,9 +503,10 @@ public abstract class OptimizationContext {
         }
 
         /**
-         * Update the {@link LoadProfile} and {@link TimeEstimate} of this instance.
+         * Update the {@link LoadProfile} and {@link TimeEstimate} of this instance. Synchronized with the lazy
+         * estimate getters, as these can be called concurrently during a parallel plan enumeration.
          */
-        public void updateCostEstimate() {
+        public synchronized void updateCostEstimate() {
             this.updateCostEstimate(this.getOptimizationContext().getConfiguration());
         }
 
@@ -653,7 +654,7 @@ public abstract class OptimizationContext {
             return this.loadProfile;
         }
 
-        public TimeEstimate getTimeEstimate() {
+        public synchronized TimeEstimate getTimeEstimate() {
             if (this.timeEstimate == null) {
                 this.updateCostEstimate();
             }
@@ -665,7 +666,7 @@ public abstract class OptimizationContext {
          *
          * @return the cost estimate
          */
-        public ProbabilisticDoubleInterval getCostEstimate() {
+        public synchronized ProbabilisticDoubleInterval getCostEstimate() {
             if (this.costEstimate == null) {
                 this.updateCostEstimate();
             }
@@ -677,7 +678,7 @@ public abstract class OptimizationContext {
          *
          * @return the squashed cost estimate
          */
-        public double getSquashedCostEstimate() {
+        public synchronized double getSquashedCostEstimate() {
             if (this.costEstimate == null) {
                 this.updateCostEstimate();
             }
@@ -793,7 +794,7 @@ public abstract class OptimizationContext {
             return (LoopSubplan) this.loopSubplanContext.getOperator();
         }
 
-        public AggregateOptimizationContext getAggregateContext() {
+        public synchronized AggregateOptimizationContext getAggregateContext() {
             if (this.aggregateOptimizationContext == null) {
                 this.aggregateOptimizationContext = new AggregateOptimizationContext(this);
             }
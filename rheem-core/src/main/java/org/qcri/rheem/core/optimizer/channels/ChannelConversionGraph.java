@@ -542,10 +542,11 @@ public class ChannelConversionGraph {
             visitedChannelDescriptors.add(this.sourceChannelDescriptor);
 
             // Perform the traversal.
+            // NB: The settled indices are altered during the traversal, so we must not use the shared EMPTY_BITMASK.
             final Map<Bitmask, Tree> solutions = this.enumerate(
                     visitedChannelDescriptors,
                     this.sourceChannelDescriptor,
-                    Bitmask.EMPTY_BITMASK,
+                    new Bitmask(),
                     this.sourceChannelDescriptor.isSuitableForBreakpoint()
             );
 
@@ -614,8 +615,9 @@ public class ChannelConversionGraph {
                 }
 
                 // Check early stopping criteria:
-                // There are no more channels that could be settled.
-                if (newSettledIndices.cardinality() == this.destChannelDescriptorSets.size() - excludedExistingIndices.cardinality()
+                // There are no more channels that could be settled (and we settled them all in a single solution).
+                if ((channelDescriptor.isReusable() || newSettledIndices.cardinality() == 1)
+                        && newSettledIndices.cardinality() == this.destChannelDescriptorSets.size() - excludedExistingIndices.cardinality()
                         && (!this.isRequestBreakpoint || isVisitedBreakpointChannel)) {
                     return newSolutions;
                 }
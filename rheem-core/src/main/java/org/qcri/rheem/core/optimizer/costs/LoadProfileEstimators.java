@@ -14,7 +14,7 @@ import org.qcri.rheem.core.util.mathex.Context;
 import org.qcri.rheem.core.util.mathex.DefaultContext;
 import org.qcri.rheem.core.util.mathex.Expression;
 import org.qcri.rheem.core.util.mathex.ExpressionBuilder;
-import org.qcri.rheem.core.util.mathex.exceptions.EvaluationException;
+import org.qcri.rheem.core.util.mathex.exceptions.MathExException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -283,6 +283,14 @@ public class LoadProfileEstimators {
                 numOutputs,
                 additionalProperties.toArray(new String[additionalProperties.size()])
         );
+
+        // Most JUEL expressions are plain arithmetics, which we can compile. JUEL coerces to Long by truncation.
+        final CompiledExpression compiledExpression = compileJuel(juel, parameterClasses.keySet());
+        if (compiledExpression != null) {
+            return (estimationContext, inCards, outCards) ->
+                    (long) compiledExpression.evaluate(estimationContext, inCards, outCards);
+        }
+
         final JuelUtils.JuelFunction<Long> juelFunction = new JuelUtils.JuelFunction<>(juel, Long.class, parameterClasses);
         return (estimationContext, inCards, outCards) -> applyJuelFunction(juelFunction, estimationContext, inCards, outCards, additionalProperties);
     }
@@ -297,6 +305,11 @@ public class LoadProfileEstimators {
      */
     private static ToDoubleBiFunction<long[], long[]> parseResourceUsageJuel(String juel, int numInputs, int numOutputs) {
         final Map<String, Class<?>> parameterClasses = createJuelParameterClasses(numInputs, numOutputs);
+        final CompiledExpression compiledExpression = compileJuel(juel, parameterClasses.keySet());
+        if (compiledExpression != null) {
+            return (inCards, outCards) -> compiledExpression.evaluate(null, inCards, outCards);
+        }
+
         final JuelUtils.JuelFunction<Double> juelFunction = new JuelUtils.JuelFunction<>(juel, Double.class, parameterClasses);
         return (inCards, outCards) -> applyJuelFunction(juelFunction, null, inCards, outCards, Collections.emptyList());
     }
@@ -345,7 +358,32 @@ public class LoadProfileEstimators {
         for (String property : artifactProperties) {
             parameters.put(property, estimationContext.getDoubleProperty(property, 0d));
         }
-        return juelFunction.apply(parameters, true);
+        // JuelFunctions bind their arguments in a shared context.
+        synchronized (juelFunction) {
+            return juelFunction.apply(parameters, true);
+        }
+    }
+
+    /**
+     * Compiles a JUEL expression if it is a plain arithmetic expression over the given variables.
+     *
+     * @param juel      the JUEL expression
+     * @param variables the admissible variables
+     * @return the {@link CompiledExpression} or {@code null} if the JUEL expression cannot be compiled
+     */
+    private static CompiledExpression compileJuel(String juel, Collection<String> variables) {
+        final String trimmedJuel = juel.trim();
+        if (!trimmedJuel.startsWith("${") || !trimmedJuel.endsWith("}")) return null;
+        final String arithmetics = trimmedJuel.substring(2, trimmedJuel.length() - 1);
+        // Exclude everything that JUEL and MathEx would interpret differently.
+        if (arithmetics.isEmpty() || arithmetics.matches(".*[^\\w\\s.+\\-*/%(),].*")) return null;
+        try {
+            final CompiledExpression compiledExpression = new CompiledExpression(ExpressionBuilder.parse(arithmetics), 0d);
+            return variables.containsAll(compiledExpression.getVariables()) ? compiledExpression : null;
+        } catch (MathExException e) {
+            logger.debug("Could not compile JUEL expression \"{}\".", juel, e);
+            return null;
+        }
     }
 
     /**
@@ -355,11 +393,8 @@ public class LoadProfileEstimators {
      * @return the {@link SinglePointEstimationFunction}
      */
     private static SinglePointEstimationFunction compile(String expression) {
-        final Expression expr = ExpressionBuilder.parse(expression).specify(baseContext);
-        return (context, inCards, outCards) -> {
-            Context mathContext = createMathContext(context, inCards, outCards);
-            return Math.round(expr.evaluate(mathContext));
-        };
+        final CompiledExpression compiledExpression = new CompiledExpression(ExpressionBuilder.parse(expression), Double.NaN);
+        return (context, inCards, outCards) -> Math.round(compiledExpression.evaluate(context, inCards, outCards));
     }
 
     /**
@@ -369,60 +404,117 @@ public class LoadProfileEstimators {
      * @return a {@link ToLongBiFunction} wrapping the expression
      */
     private static ToDoubleBiFunction<long[], long[]> compileResourceUsage(String expression) {
-        final Expression expr = ExpressionBuilder.parse(expression).specify(baseContext);
-        return (inCards, outCards) -> {
-            Context mathContext = createMathContext(null, inCards, outCards);
-            return expr.evaluate(mathContext);
-        };
+        final CompiledExpression compiledExpression = new CompiledExpression(ExpressionBuilder.parse(expression), Double.NaN);
+        return (inCards, outCards) -> compiledExpression.evaluate(null, inCards, outCards);
     }
 
-
     /**
-     * Create a mathematical {@link Context} from the parameters.
-     *
-     * @param context             provides miscellaneous variables
-     * @param inputCardinalities  provides input {@link CardinalityEstimate}s (`in***`)
-     * @param outputCardinalities provides output {@link CardinalityEstimate}s (`out***`)
-     * @return the {@link Context}
+     * An {@link Expression} that has been compiled with a positional binding of its variables to input and output
+     * cardinalities ({@code in***}, {@code out***}) and {@link EstimationContext} properties.
      */
-    private static Context createMathContext(final EstimationContext context,
-                                             final long[] inputCardinalities,
-                                             final long[] outputCardinalities) {
-        return new Context() {
-            @Override
-            public double getVariable(String variableName) throws EvaluationException {
-                // Serve "in999" and "out999" variables directly from the cardinality arrays.
-                if (variableName.startsWith("in") && variableName.length() > 2) {
-                    int accu = 0;
-                    int i;
-                    for (i = 2; i < variableName.length(); i++) {
-                        char c = variableName.charAt(i);
-                        if (!Character.isDigit(c)) break;
-                        accu = 10 * accu + (c - '0');
-                    }
-                    if (i == variableName.length()) return inputCardinalities[accu];
-                } else if (variableName.startsWith("out") && variableName.length() > 3) {
-                    int accu = 0;
-                    int i;
-                    for (i = 3; i < variableName.length(); i++) {
-                        char c = variableName.charAt(i);
-                        if (!Character.isDigit(c)) break;
-                        accu = 10 * accu + (c - '0');
-                    }
-                    if (i == variableName.length()) return outputCardinalities[accu];
+    private static final class CompiledExpression {
+
+        /**
+         * Kinds of variables.
+         */
+        private static final byte INPUT = 0, OUTPUT = 1, PROPERTY = 2;
+
+        /**
+         * The compiled {@link Expression}.
+         */
+        private final ToDoubleFunction<double[]> function;
+
+        /**
+         * The names of the variables of the {@link #function} in their positional order.
+         */
+        private final List<String> variables;
+
+        /**
+         * The kind of each variable.
+         */
+        private final byte[] variableKinds;
+
+        /**
+         * The cardinality index for each {@link #INPUT} and {@link #OUTPUT} variable.
+         */
+        private final int[] cardinalityIndices;
+
+        /**
+         * Value for {@link #PROPERTY} variables that are not provided.
+         */
+        private final double propertyFallback;
+
+        private CompiledExpression(Expression expression, double propertyFallback) {
+            this.propertyFallback = propertyFallback;
+            final Map<String, Integer> variableIndices = new LinkedHashMap<>();
+            this.function = expression.specify(baseContext).compile(variableIndices);
+            this.variables = new ArrayList<>(variableIndices.keySet());
+            this.variableKinds = new byte[this.variables.size()];
+            this.cardinalityIndices = new int[this.variables.size()];
+            for (int i = 0; i < this.variables.size(); i++) {
+                final String variable = this.variables.get(i);
+                int cardinalityIndex;
+                if ((cardinalityIndex = parseCardinalityIndex(variable, "in")) != -1) {
+                    this.variableKinds[i] = INPUT;
+                } else if ((cardinalityIndex = parseCardinalityIndex(variable, "out")) != -1) {
+                    this.variableKinds[i] = OUTPUT;
+                } else {
+                    this.variableKinds[i] = PROPERTY;
                 }
+                this.cardinalityIndices[i] = cardinalityIndex;
+            }
+        }
 
-                // Otherwise, ask the context for the property.
-                return context.getDoubleProperty(variableName, Double.NaN);
+        /**
+         * Parses variables of the form {@code <prefix>999}.
+         *
+         * @return the parsed index or {@code -1} if the variable does not match
+         */
+        private static int parseCardinalityIndex(String variable, String prefix) {
+            if (!variable.startsWith(prefix) || variable.length() == prefix.length()) return -1;
+            int accu = 0;
+            for (int i = prefix.length(); i < variable.length(); i++) {
+                char c = variable.charAt(i);
+                if (!Character.isDigit(c)) return -1;
+                accu = 10 * accu + (c - '0');
             }
+            return accu;
+        }
 
-            @Override
-            public ToDoubleFunction<double[]> getFunction(String functionName) throws EvaluationException {
-                throw new EvaluationException("This context does not provide any functions.");
+        private List<String> getVariables() {
+            return this.variables;
+        }
+
+        /**
+         * Evaluate this instance.
+         *
+         * @param context             provides miscellaneous variables or {@code null}
+         * @param inputCardinalities  provides input cardinalities
+         * @param outputCardinalities provides output cardinalities
+         * @return the result of the evaluation
+         */
+        private double evaluate(EstimationContext context, long[] inputCardinalities, long[] outputCardinalities) {
+            double[] vars = new double[this.variableKinds.length];
+            for (int i = 0; i < vars.length; i++) {
+                switch (this.variableKinds[i]) {
+                    case INPUT:
+                        vars[i] = inputCardinalities[this.cardinalityIndices[i]];
+                        break;
+                    case OUTPUT:
+                        vars[i] = outputCardinalities[this.cardinalityIndices[i]];
+                        break;
+                    default:
+                        vars[i] = context == null ?
+                                this.propertyFallback :
+                                context.getDoubleProperty(this.variables.get(i), this.propertyFallback);
+                }
             }
-        };
+            return this.function.applyAsDouble(vars);
+        }
+
     }
 
+
     /**
      * Estimate the {@link LoadProfile} for an {@link OptimizationContext.OperatorContext} using a
      * {@link LoadProfileEstimator} for the corresponding {@link ExecutionOperator}.
@@ -1,5 +1,6 @@
 package org.qcri.rheem.core.optimizer.enumeration;
 
+import de.hpi.isg.profiledb.store.model.TimeMeasurement;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
 import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
@@ -21,11 +22,19 @@ public class LoopEnumerator extends OneTimeExecutable {
 
     private final PlanEnumerator planEnumerator;
 
+    /**
+     * Keeps track of the execution time or {@code null}.
+     */
+    private final TimeMeasurement timeMeasurement;
+
     private PlanEnumeration loopEnumeration;
 
-    public LoopEnumerator(PlanEnumerator planEnumerator, OptimizationContext.LoopContext loopContext) {
+    public LoopEnumerator(PlanEnumerator planEnumerator,
+                          OptimizationContext.LoopContext loopContext,
+                          TimeMeasurement timeMeasurement) {
         this.planEnumerator = planEnumerator;
         this.loopContext = loopContext;
+        this.timeMeasurement = timeMeasurement;
     }
 
     public PlanEnumeration enumerate() {
@@ -56,7 +65,9 @@ public class LoopEnumerator extends OneTimeExecutable {
 
         // Enumerate the loop body (for now, only a single loop body).
         final PlanEnumerator loopBodyEnumerator =
-                this.planEnumerator.forkFor(this.loopContext.getLoop().getLoopHead(), aggregateContext);
+                this.planEnumerator.forkFor(
+                        this.loopContext.getLoop().getLoopHead(), aggregateContext, this.timeMeasurement
+                );
         final PlanEnumeration loopBodyEnumeration = loopBodyEnumerator.enumerate(true);
 
         // Enumerate feedback connections.
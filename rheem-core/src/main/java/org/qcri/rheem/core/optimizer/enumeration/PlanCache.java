@@ -0,0 +1,178 @@
+package org.qcri.rheem.core.optimizer.enumeration;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.plan.rheemplan.OperatorAlternative;
+import org.qcri.rheem.core.util.LruCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers which {@link OperatorAlternative.Alternative}s have been picked for hyperplans with a certain
+ * {@link PlanFingerprint}. Entries are kept in memory and, if a directory is configured
+ * via {@code rheem.core.optimizer.plancache.path}, on disk with one JSON file per fingerprint. Changes to the
+ * {@link org.qcri.rheem.core.mapping.Mapping}s or load profile specifications change the fingerprints and thereby
+ * invalidate the affected entries.
+ */
+public class PlanCache {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    /**
+     * Maps {@link PlanFingerprint} hashes to the indices of the picked {@link OperatorAlternative.Alternative}s
+     * (or {@code -1} if none was picked). Access must be synchronized.
+     */
+    private final LruCache<String, int[]> entries;
+
+    /**
+     * Directory for the persistent entries or {@code null} if none.
+     */
+    private final File directory;
+
+    public PlanCache(Configuration configuration) {
+        this.entries = new LruCache<>((int) configuration.getLongProperty("rheem.core.optimizer.plancache.capacity"));
+        this.directory = configuration.getOptionalStringProperty("rheem.core.optimizer.plancache.path")
+                .filter(path -> !path.isEmpty())
+                .map(File::new)
+                .orElse(null);
+    }
+
+    /**
+     * Looks up the {@link OperatorAlternative.Alternative}s that have been picked for the given {@link PlanFingerprint}.
+     *
+     * @param fingerprint of the hyperplan to be enumerated
+     * @return the picked {@link OperatorAlternative.Alternative}s or {@code null} if there is no valid entry
+     */
+    public Map<OperatorAlternative, OperatorAlternative.Alternative> lookup(PlanFingerprint fingerprint) {
+        int[] pickedIndices;
+        synchronized (this.entries) {
+            pickedIndices = this.entries.get(fingerprint.getHash());
+        }
+        if (pickedIndices == null) {
+            pickedIndices = this.read(fingerprint);
+            if (pickedIndices == null) return null;
+            synchronized (this.entries) {
+                this.entries.put(fingerprint.getHash(), pickedIndices);
+            }
+        }
+
+        final List<OperatorAlternative> operatorAlternatives = fingerprint.getOperatorAlternatives();
+        if (pickedIndices.length != operatorAlternatives.size()) {
+            this.logger.warn("Discarding inconsistent plan cache entry for {}.", fingerprint);
+            return null;
+        }
+        Map<OperatorAlternative, OperatorAlternative.Alternative> pickedAlternatives = new HashMap<>(pickedIndices.length);
+        for (int i = 0; i < pickedIndices.length; i++) {
+            final List<OperatorAlternative.Alternative> alternatives = operatorAlternatives.get(i).getAlternatives();
+            if (pickedIndices[i] >= alternatives.size()) {
+                this.logger.warn("Discarding inconsistent plan cache entry for {}.", fingerprint);
+                return null;
+            }
+            if (pickedIndices[i] >= 0) {
+                pickedAlternatives.put(operatorAlternatives.get(i), alternatives.get(pickedIndices[i]));
+            }
+        }
+        this.logger.info("Found plan cache entry for {}.", fingerprint);
+        return pickedAlternatives;
+    }
+
+    /**
+     * Stores the {@link OperatorAlternative.Alternative}s picked by the given {@link PlanImplementation}.
+     *
+     * @param fingerprint        of the enumerated hyperplan
+     * @param planImplementation that has been picked for execution
+     */
+    public void store(PlanFingerprint fingerprint, PlanImplementation planImplementation) {
+        final List<OperatorAlternative> operatorAlternatives = fingerprint.getOperatorAlternatives();
+        int[] pickedIndices = new int[operatorAlternatives.size()];
+        for (int i = 0; i < pickedIndices.length; i++) {
+            final OperatorAlternative operatorAlternative = operatorAlternatives.get(i);
+            final OperatorAlternative.Alternative alternative = findChosenAlternative(planImplementation, operatorAlternative);
+            pickedIndices[i] = alternative == null ? -1 : operatorAlternative.getAlternatives().indexOf(alternative);
+        }
+
+        synchronized (this.entries) {
+            this.entries.put(fingerprint.getHash(), pickedIndices);
+        }
+        this.write(fingerprint, pickedIndices);
+    }
+
+    /**
+     * Find the {@link OperatorAlternative.Alternative} that the given {@link PlanImplementation} picked for an
+     * {@link OperatorAlternative}, thereby descending into loops. If different iterations of a loop picked
+     * different {@link OperatorAlternative.Alternative}s, the first one is returned.
+     *
+     * @return the picked {@link OperatorAlternative.Alternative} or {@code null} if none
+     */
+    private static OperatorAlternative.Alternative findChosenAlternative(PlanImplementation planImplementation,
+                                                                         OperatorAlternative operatorAlternative) {
+        OperatorAlternative.Alternative alternative = planImplementation.getChosenAlternative(operatorAlternative);
+        if (alternative != null) return alternative;
+        for (LoopImplementation loopImplementation : planImplementation.getLoopImplementations().values()) {
+            for (LoopImplementation.IterationImplementation iterationImplementation : loopImplementation.getIterationImplementations()) {
+                alternative = findChosenAlternative(iterationImplementation.getBodyImplementation(), operatorAlternative);
+                if (alternative != null) return alternative;
+            }
+        }
+        return null;
+    }
+
+    private File getFile(PlanFingerprint fingerprint) {
+        return new File(this.directory, fingerprint.getHash() + ".json");
+    }
+
+    private int[] read(PlanFingerprint fingerprint) {
+        if (this.directory == null) return null;
+        final File file = this.getFile(fingerprint);
+        if (!file.exists()) return null;
+        try {
+            final JSONObject json = new JSONObject(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+            final JSONArray jsonAlternatives = json.getJSONArray("alternatives");
+            int[] pickedIndices = new int[jsonAlternatives.length()];
+            for (int i = 0; i < pickedIndices.length; i++) {
+                pickedIndices[i] = jsonAlternatives.getInt(i);
+            }
+            return pickedIndices;
+        } catch (Exception e) {
+            this.logger.warn("Could not read plan cache entry {}.", file, e);
+            return null;
+        }
+    }
+
+    private void write(PlanFingerprint fingerprint, int[] pickedIndices) {
+        if (this.directory == null) return;
+        if (!this.directory.exists() && !this.directory.mkdirs()) {
+            this.logger.warn("Could not create plan cache directory {}.", this.directory);
+            return;
+        }
+        JSONObject json = new JSONObject();
+        json.put("fingerprint", fingerprint.getHash());
+        JSONArray jsonAlternatives = new JSONArray();
+        for (int pickedIndex : pickedIndices) {
+            jsonAlternatives.put(pickedIndex);
+        }
+        json.put("alternatives", jsonAlternatives);
+
+        // Write to a temporary file first, so that concurrent readers never see partial entries.
+        final File file = this.getFile(fingerprint);
+        try {
+            final Path tempFile = Files.createTempFile(this.directory.toPath(), fingerprint.getHash(), ".tmp");
+            Files.write(tempFile, json.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            this.logger.warn("Could not write plan cache entry {}.", file, e);
+        }
+    }
+
+}
@@ -15,7 +15,8 @@ public interface PlanEnumerationPruningStrategy {
     void configure(Configuration configuration);
 
     /**
-     * Prune down the {@link PlanEnumeration}, i.e., remove some of its {@link PlanImplementation}s.
+     * Prune down the {@link PlanEnumeration}, i.e., remove some of its {@link PlanImplementation}s. Note that this
+     * method might be invoked concurrently for different {@link PlanEnumeration}s, so it must be thread-safe.
      *
      * @param planEnumeration to be pruned
      */
@@ -15,7 +15,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -98,10 +104,24 @@ public class PlanEnumerator {
     private final OptimizationContext optimizationContext;
 
     /**
-     * Keeps track of the execution time.
+     * Keeps track of the execution time. {@link TimeMeasurement}s are not thread-safe, so concurrent enumeration
+     * tasks are passed their own {@link TimeMeasurement}s explicitly (see {@link #runConcurrently(List, TimeMeasurement)}).
      */
     private TimeMeasurement timeMeasurement;
 
+    /**
+     * Enumerates independent branches and {@link OperatorAlternative.Alternative}s concurrently or {@code null} if
+     * the enumeration should be sequential (cf. {@code rheem.core.optimizer.enumeration.parallel}). It is taken
+     * from the {@link #enumerationPools}.
+     */
+    private final ForkJoinPool enumerationPool;
+
+    /**
+     * {@link ForkJoinPool}s for the parallel enumeration shared by all instances, indexed by their number of threads.
+     * They live as long as the JVM, as their worker threads are daemons and terminate when idle.
+     */
+    private static final ConcurrentMap<Integer, ForkJoinPool> enumerationPools = new ConcurrentHashMap<>(1);
+
     /**
      * Tells whether branches should be enumerated first.
      */
@@ -119,7 +139,27 @@ public class PlanEnumerator {
                 null,
                 Collections.emptyMap(),
                 Collections.emptyMap(),
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                getEnumerationPool(optimizationContext.getConfiguration()));
+    }
+
+    /**
+     * Creates a new instance that respects the given {@link OperatorAlternative.Alternative}s.
+     *
+     * @param rheemPlan              a hyperplan that should be used for enumeration.
+     * @param presettledAlternatives {@link OperatorAlternative.Alternative}s that have been picked already, e.g., by
+     *                               a {@link PlanCache}
+     */
+    public PlanEnumerator(RheemPlan rheemPlan,
+                          OptimizationContext optimizationContext,
+                          Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives) {
+        this(rheemPlan.collectReachableTopLevelSources(),
+                optimizationContext,
+                null,
+                presettledAlternatives,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                getEnumerationPool(optimizationContext.getConfiguration()));
     }
 
     /**
@@ -138,7 +178,8 @@ public class PlanEnumerator {
                 null,
                 new HashMap<>(),
                 new HashMap<>(),
-                new HashMap<>());
+                new HashMap<>(),
+                getEnumerationPool(optimizationContext.getConfiguration()));
 
         // Register all the tasks that have been executed already.
         final Set<ExecutionTask> executedTasks = baseplan.collectAllTasks();
@@ -174,13 +215,15 @@ public class PlanEnumerator {
                            OperatorAlternative.Alternative enumeratedAlternative,
                            Map<OperatorAlternative, OperatorAlternative.Alternative> presettledAlternatives,
                            Map<ExecutionOperator, ExecutionTask> executedTasks,
-                           Map<OutputSlot<?>, Collection<Channel>> openChannels) {
+                           Map<OutputSlot<?>, Collection<Channel>> openChannels,
+                           ForkJoinPool enumerationPool) {
 
         this.optimizationContext = optimizationContext;
         this.enumeratedAlternative = enumeratedAlternative;
         this.presettledAlternatives = presettledAlternatives;
         this.executedTasks = executedTasks;
         this.openChannels = openChannels;
+        this.enumerationPool = enumerationPool;
 
 
         // Set up start Operators.
@@ -234,6 +277,42 @@ public class PlanEnumerator {
 
     }
 
+    /**
+     * Provides a shared {@link ForkJoinPool} for parallel enumeration if requested via
+     * {@code rheem.core.optimizer.enumeration.parallel}. Its size is given by
+     * {@code rheem.core.optimizer.enumeration.parallel.threads} (or the number of available processors if that
+     * value is not positive).
+     *
+     * @return the {@link ForkJoinPool} or {@code null} if the enumeration should be sequential
+     */
+    private static ForkJoinPool getEnumerationPool(Configuration configuration) {
+        if (!configuration.getBooleanProperty("rheem.core.optimizer.enumeration.parallel", false)) {
+            return null;
+        }
+        long numThreads = configuration.getLongProperty("rheem.core.optimizer.enumeration.parallel.threads", 0L);
+        if (numThreads <= 0) numThreads = Runtime.getRuntime().availableProcessors();
+        return enumerationPools.computeIfAbsent((int) numThreads, PlanEnumerator::createEnumerationPool);
+    }
+
+    /**
+     * Creates a {@link ForkJoinPool} for parallel enumeration.
+     *
+     * @param numThreads the parallelism of the {@link ForkJoinPool}
+     * @return the {@link ForkJoinPool}
+     */
+    private static ForkJoinPool createEnumerationPool(int numThreads) {
+        return new ForkJoinPool(
+                numThreads,
+                pool -> {
+                    final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("rheem-plan-enumerator-" + thread.getPoolIndex());
+                    return thread;
+                },
+                null,
+                false
+        );
+    }
+
     private void scheduleForEnumeration(Operator operator, OptimizationContext optimizationContext) {
         final EnumerationActivator enumerationActivator = new EnumerationActivator(operator, optimizationContext);
         if (enumerationActivator.canBeActivated()) {
@@ -283,30 +362,43 @@ public class PlanEnumerator {
      */
     private synchronized void run() {
         if (this.resultReference == null) {
-            while (!this.activatedEnumerations.isEmpty()) {
-                // Try to enumerate branches.
-                EnumerationActivator enumerationActivator;
-                if ((enumerationActivator = this.activatedEnumerations.poll()) != null) {
-                    if (this.isTopLevel()) {
-                        this.logger.debug("Execute {}.", enumerationActivator);
-                    }
-                    this.enumerateBranchStartingFrom(enumerationActivator);
-                }
+            this.runEnumeration();
+        }
+    }
+
+    /**
+     * Processes all activated enumerations and concatenations and constructs the result.
+     */
+    private void runEnumeration() {
+        while (!this.activatedEnumerations.isEmpty()) {
+            if (this.enumerationPool != null && this.activatedEnumerations.size() > 1) {
+                // Enumerate all currently activated branches at once.
+                this.enumerateBranchesConcurrently();
+                continue;
             }
 
-            ConcatenationActivator concatenationActivator;
-            while ((concatenationActivator = this.activatedConcatenations.poll()) != null) {
+            // Try to enumerate branches.
+            EnumerationActivator enumerationActivator;
+            if ((enumerationActivator = this.activatedEnumerations.poll()) != null) {
                 if (this.isTopLevel()) {
-                    this.logger.debug("Execute {} (open inputs: {}).",
-                            concatenationActivator,
-                            concatenationActivator.getBaseEnumeration().getRequestedInputSlots()
-                    );
+                    this.logger.debug("Execute {}.", enumerationActivator);
                 }
-                this.concatenate(concatenationActivator);
+                this.enumerateBranchStartingFrom(enumerationActivator);
             }
+        }
 
-            this.constructResultEnumeration();
+        ConcatenationActivator concatenationActivator;
+        while ((concatenationActivator = this.activatedConcatenations.poll()) != null) {
+            if (this.isTopLevel()) {
+                this.logger.debug("Execute {} (open inputs: {}).",
+                        concatenationActivator,
+                        concatenationActivator.getBaseEnumeration().getRequestedInputSlots()
+                );
+            }
+            this.concatenate(concatenationActivator);
         }
+
+        this.constructResultEnumeration();
     }
 
     /**
@@ -336,7 +428,7 @@ public class PlanEnumerator {
 
         // Go over the branch and create a PlanEnumeration for it.
         final OptimizationContext currentOptimizationCtx = enumerationActivator.getOptimizationContext();
-        PlanEnumeration branchEnumeration = this.enumerateBranch(branch, currentOptimizationCtx);
+        PlanEnumeration branchEnumeration = this.enumerateBranch(branch, currentOptimizationCtx, this.getTimeMeasurement());
         if (branchEnumeration == null) {
             return;
         }
@@ -344,6 +436,89 @@ public class PlanEnumerator {
         this.postProcess(branchEnumeration, currentOptimizationCtx);
     }
 
+    /**
+     * Enumerates the branches of all {@link #activatedEnumerations} concurrently on the {@link #enumerationPool}.
+     * The resulting {@link PlanEnumeration}s are post-processed in the order of activation, so that the outcome
+     * does not depend on the thread scheduling.
+     */
+    private void enumerateBranchesConcurrently() {
+        final List<EnumerationActivator> enumerationActivators = new ArrayList<>(this.activatedEnumerations);
+        this.activatedEnumerations.clear();
+
+        final List<Function<TimeMeasurement, PlanEnumeration>> branchEnumerationTasks = new ArrayList<>(enumerationActivators.size());
+        for (EnumerationActivator enumerationActivator : enumerationActivators) {
+            assert !enumerationActivator.wasExecuted();
+            enumerationActivator.markAsExecuted();
+            final List<Operator> branch = this.collectBranchOperatorsStartingFrom(enumerationActivator.activatableOperator);
+            if (branch == null) {
+                branchEnumerationTasks.add(taskMeasurement -> null);
+            } else {
+                if (this.isTopLevel()) {
+                    this.logger.debug("Enumerating top-level {} concurrently.", branch);
+                }
+                final OptimizationContext optimizationCtx = enumerationActivator.getOptimizationContext();
+                branchEnumerationTasks.add(taskMeasurement -> this.enumerateBranch(branch, optimizationCtx, taskMeasurement));
+            }
+        }
+
+        final List<PlanEnumeration> branchEnumerations = this.runConcurrently(branchEnumerationTasks, this.getTimeMeasurement());
+        for (int i = 0; i < enumerationActivators.size(); i++) {
+            final PlanEnumeration branchEnumeration = branchEnumerations.get(i);
+            if (branchEnumeration != null) {
+                this.postProcess(branchEnumeration, enumerationActivators.get(i).getOptimizationContext());
+            }
+        }
+    }
+
+    /**
+     * Runs the given tasks on the {@link #enumerationPool} and waits for them to complete. Each task is given its
+     * own {@link TimeMeasurement}, which is merged into the {@code timeMeasurement} once all tasks are done.
+     *
+     * @param tasks           that should be run
+     * @param timeMeasurement that should account for the {@code tasks} or {@code null}
+     * @return the results of the {@code tasks} in the same order
+     */
+    private <T> List<T> runConcurrently(List<Function<TimeMeasurement, T>> tasks, TimeMeasurement timeMeasurement) {
+        assert this.enumerationPool != null;
+        final List<ForkJoinTask<T>> forkJoinTasks = new ArrayList<>(tasks.size());
+        final List<TimeMeasurement> taskMeasurements = new ArrayList<>(tasks.size());
+        for (Function<TimeMeasurement, T> task : tasks) {
+            final TimeMeasurement taskMeasurement = timeMeasurement == null ?
+                    null :
+                    new TimeMeasurement(timeMeasurement.getId());
+            taskMeasurements.add(taskMeasurement);
+            forkJoinTasks.add(ForkJoinTask.adapt(() -> task.apply(taskMeasurement)));
+        }
+        if (ForkJoinTask.getPool() == this.enumerationPool) {
+            // We are already running in the pool, e.g., in a fork of the top-level instance.
+            ForkJoinTask.invokeAll(forkJoinTasks);
+        } else {
+            this.enumerationPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(forkJoinTasks)));
+        }
+        final List<T> results = new ArrayList<>(forkJoinTasks.size());
+        for (ForkJoinTask<T> forkJoinTask : forkJoinTasks) {
+            results.add(forkJoinTask.join());
+        }
+        if (timeMeasurement != null) {
+            taskMeasurements.forEach(taskMeasurement -> mergeRounds(taskMeasurement, timeMeasurement));
+        }
+        return results;
+    }
+
+    /**
+     * Adds the rounds of a {@link TimeMeasurement} to those of another one.
+     *
+     * @param source whose rounds should be added
+     * @param target to which the rounds should be added
+     */
+    private static void mergeRounds(TimeMeasurement source, TimeMeasurement target) {
+        for (TimeMeasurement sourceRound : source.getRounds()) {
+            final TimeMeasurement targetRound = target.getOrCreateRound(sourceRound.getId());
+            targetRound.setMillis(targetRound.getMillis() + sourceRound.getMillis());
+            mergeRounds(sourceRound, targetRound);
+        }
+    }
+
     /**
      * Determine the branch (straight of operators) that begins at the given {@link Operator}.
      *
@@ -409,21 +584,26 @@ public class PlanEnumerator {
      *
      * @param branch              {@link List} of {@link Operator}s of the branch; ordered downstream
      * @param optimizationContext in which the {@code branch} resides
+     * @param timeMeasurement     keeps track of the execution time or {@code null}
      * @return a {@link PlanEnumeration} for the given {@code branch}
      */
-    private PlanEnumeration enumerateBranch(List<Operator> branch, OptimizationContext optimizationContext) {
+    private PlanEnumeration enumerateBranch(List<Operator> branch,
+                                            OptimizationContext optimizationContext,
+                                            TimeMeasurement timeMeasurement) {
         PlanEnumeration branchEnumeration = null;
         Operator lastOperator = null;
         for (Operator operator : branch) {
             PlanEnumeration operatorEnumeration;
             if (operator.isAlternative()) {
-                operatorEnumeration = this.enumerateAlternative((OperatorAlternative) operator, optimizationContext);
+                operatorEnumeration = this.enumerateAlternative(
+                        (OperatorAlternative) operator, optimizationContext, timeMeasurement
+                );
                 if (operatorEnumeration == null || operatorEnumeration.getPlanImplementations().isEmpty()) {
                     this.logger.warn("No implementations enumerated for {}.", operator);
                     return null;
                 }
             } else if (operator.isLoopSubplan()) {
-                operatorEnumeration = this.enumerateLoop((LoopSubplan) operator, optimizationContext);
+                operatorEnumeration = this.enumerateLoop((LoopSubplan) operator, optimizationContext, timeMeasurement);
             } else {
                 assert operator.isExecutionOperator();
                 operatorEnumeration = PlanEnumeration.createSingleton((ExecutionOperator) operator, optimizationContext);
@@ -463,7 +643,7 @@ public class PlanEnumerator {
                         this.openChannels.get(output),
                         Collections.singletonMap(operator.getInput(0), operatorEnumeration),
                         optimizationContext,
-                        this.timeMeasurement);
+                        timeMeasurement);
 
                 if (branchEnumeration.getPlanImplementations().isEmpty()) {
                     if (this.isTopLevel()) {
@@ -486,22 +666,38 @@ public class PlanEnumerator {
      *
      * @param operatorAlternative {@link OperatorAlternative}s that should be enumerated
      * @param optimizationContext in which the {@code operatorAlternative} resides
+     * @param timeMeasurement     keeps track of the execution time or {@code null}
      * @return a {@link PlanEnumeration} for the given {@code operatorAlternative}
      */
-    private PlanEnumeration enumerateAlternative(OperatorAlternative operatorAlternative, OptimizationContext optimizationContext) {
+    private PlanEnumeration enumerateAlternative(OperatorAlternative operatorAlternative,
+                                                 OptimizationContext optimizationContext,
+                                                 TimeMeasurement timeMeasurement) {
         PlanEnumeration result = null;
         final List<OperatorAlternative.Alternative> alternatives =
                 this.presettledAlternatives == null || !this.presettledAlternatives.containsKey(operatorAlternative) ?
                         operatorAlternative.getAlternatives() :
                         Collections.singletonList(this.presettledAlternatives.get(operatorAlternative));
-        for (OperatorAlternative.Alternative alternative : alternatives) {
+        if (this.enumerationPool != null && alternatives.size() > 1) {
+            // Recursively enumerate all alternatives concurrently, but union them in their original order.
+            final List<Function<TimeMeasurement, PlanEnumeration>> alternativeEnumerationTasks =
+                    new ArrayList<>(alternatives.size());
+            for (OperatorAlternative.Alternative alternative : alternatives) {
+                alternativeEnumerationTasks.add(
+                        taskMeasurement -> this.enumerateEscaped(alternative, optimizationContext, taskMeasurement)
+                );
+            }
+            for (PlanEnumeration escapedEnumeration : this.runConcurrently(alternativeEnumerationTasks, timeMeasurement)) {
+                if (escapedEnumeration == null) continue;
+                if (result == null) result = escapedEnumeration;
+                else result.unionInPlace(escapedEnumeration);
+            }
+            return result;
+        }
 
+        for (OperatorAlternative.Alternative alternative : alternatives) {
             // Recursively enumerate all alternatives.
-            final PlanEnumerator alternativeEnumerator = this.forkFor(alternative, optimizationContext);
-            final PlanEnumeration alternativeEnumeration = alternativeEnumerator.enumerate(false);
-
-            if (alternativeEnumeration != null) {
-                final PlanEnumeration escapedEnumeration = alternativeEnumeration.escape(alternative);
+            final PlanEnumeration escapedEnumeration = this.enumerateEscaped(alternative, optimizationContext, timeMeasurement);
+            if (escapedEnumeration != null) {
                 if (result == null) result = escapedEnumeration;
                 else result.unionInPlace(escapedEnumeration);
             }
@@ -509,43 +705,75 @@ public class PlanEnumerator {
         return result;
     }
 
+    /**
+     * Enumerate the given {@code alternative} via a fork of this instance.
+     *
+     * @return the {@link PlanEnumeration} for the {@code alternative}, escaped from it, or {@code null} if none
+     */
+    private PlanEnumeration enumerateEscaped(OperatorAlternative.Alternative alternative,
+                                             OptimizationContext optimizationContext,
+                                             TimeMeasurement timeMeasurement) {
+        final PlanEnumerator alternativeEnumerator = this.forkFor(alternative, optimizationContext, timeMeasurement);
+        final PlanEnumeration alternativeEnumeration = alternativeEnumerator.enumerate(false);
+        return alternativeEnumeration == null ? null : alternativeEnumeration.escape(alternative);
+    }
+
     /**
      * Fork a new instance to enumerate the given {@code alternative}.
      *
      * @param alternative         an {@link OperatorAlternative.Alternative} to be enumerated recursively
-     * @param optimizationContext
+     * @param optimizationContext in which the {@code alternative} resides
+     * @param timeMeasurement     keeps track of the execution time of the fork or {@code null}
      * @return the new instance
      */
-    private PlanEnumerator forkFor(OperatorAlternative.Alternative alternative, OptimizationContext optimizationContext) {
+    private PlanEnumerator forkFor(OperatorAlternative.Alternative alternative,
+                                   OptimizationContext optimizationContext,
+                                   TimeMeasurement timeMeasurement) {
         final PlanEnumerator fork = new PlanEnumerator(Operators.collectStartOperators(alternative),
                 optimizationContext,
                 alternative,
-                this.presettledAlternatives,
-                this.executedTasks,
-                this.openChannels);
-        fork.setTimeMeasurement(this.timeMeasurement);
+                this.presettledAlternatives == null ? null : new HashMap<>(this.presettledAlternatives),
+                new HashMap<>(this.executedTasks),
+                copyOpenChannels(this.openChannels),
+                this.enumerationPool);
+        fork.setTimeMeasurement(timeMeasurement);
         return fork;
     }
 
     /**
      * Fork a new instance for the {@code optimizationContext}.
      */
-    PlanEnumerator forkFor(LoopHeadOperator loopHeadOperator, OptimizationContext optimizationContext) {
+    PlanEnumerator forkFor(LoopHeadOperator loopHeadOperator,
+                           OptimizationContext optimizationContext,
+                           TimeMeasurement timeMeasurement) {
         final PlanEnumerator fork = new PlanEnumerator(Operators.collectStartOperators(loopHeadOperator.getContainer()),
                 optimizationContext,
                 null,
-                this.presettledAlternatives,
-                this.executedTasks,
-                this.openChannels);
-        fork.setTimeMeasurement(this.timeMeasurement);
+                this.presettledAlternatives == null ? null : new HashMap<>(this.presettledAlternatives),
+                new HashMap<>(this.executedTasks),
+                copyOpenChannels(this.openChannels),
+                this.enumerationPool);
+        fork.setTimeMeasurement(timeMeasurement);
         return fork;
     }
 
+    /**
+     * Copies the {@link #openChannels} for a fork. Forks may run concurrently, so each of them gets its own copy
+     * of the mutable state.
+     */
+    private static Map<OutputSlot<?>, Collection<Channel>> copyOpenChannels(Map<OutputSlot<?>, Collection<Channel>> openChannels) {
+        Map<OutputSlot<?>, Collection<Channel>> copy = new HashMap<>(openChannels.size());
+        openChannels.forEach((output, channels) -> copy.put(output, new HashSet<>(channels)));
+        return copy;
+    }
+
     /**
      * Create a {@link PlanEnumeration} for the given {@code loop}.
      */
-    private PlanEnumeration enumerateLoop(LoopSubplan loop, OptimizationContext operatorContext) {
-        final LoopEnumerator loopEnumerator = new LoopEnumerator(this, operatorContext.getNestedLoopContext(loop));
+    private PlanEnumeration enumerateLoop(LoopSubplan loop, OptimizationContext operatorContext, TimeMeasurement timeMeasurement) {
+        final LoopEnumerator loopEnumerator = new LoopEnumerator(
+                this, operatorContext.getNestedLoopContext(loop), timeMeasurement
+        );
         return loopEnumerator.enumerate();
     }
 
@@ -558,7 +786,7 @@ public class PlanEnumerator {
                 this.openChannels.get(concatenationActivator.outputSlot),
                 concatenationActivator.getAdjacentEnumerations(),
                 concatenationActivator.getOptimizationContext(),
-                this.timeMeasurement
+                this.getTimeMeasurement()
         );
 
         if (concatenatedEnumeration.getPlanImplementations().isEmpty()) {
@@ -749,8 +977,8 @@ public class PlanEnumerator {
      * @param planEnumeration to which the pruning should be applied
      */
     private void prune(final PlanEnumeration planEnumeration) {
-        TimeMeasurement pruneMeasurement =
-                this.timeMeasurement == null ? null : this.timeMeasurement.start("Prune");
+        final TimeMeasurement timeMeasurement = this.getTimeMeasurement();
+        TimeMeasurement pruneMeasurement = timeMeasurement == null ? null : timeMeasurement.start("Prune");
 
 
         if (this.logger.isDebugEnabled()) {
@@ -1075,4 +1303,8 @@ public class PlanEnumerator {
     public void setTimeMeasurement(TimeMeasurement timeMeasurement) {
         this.timeMeasurement = timeMeasurement;
     }
+
+    private TimeMeasurement getTimeMeasurement() {
+        return this.timeMeasurement;
+    }
 }
@@ -0,0 +1,386 @@
+package org.qcri.rheem.core.optimizer.enumeration;
+
+import org.json.JSONObject;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.plan.rheemplan.CompositeOperator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.InputSlot;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.OperatorAlternative;
+import org.qcri.rheem.core.plan.rheemplan.OperatorContainer;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.platform.Platform;
+
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Structural fingerprint of a prepared {@link RheemPlan}, i.e., a hyperplan. It covers the {@link Operator}s and
+ * their wiring, UDFs, platform restrictions, the load profile specifications of all {@link ExecutionOperator}s
+ * and bucketed {@link CardinalityEstimate}s. Two hyperplans with the same fingerprint are considered interchangeable
+ * for the sake of picking {@link OperatorAlternative.Alternative}s, so that the {@link OperatorAlternative}s are
+ * provided in a canonical order. If the UDFs cannot be told apart reliably, the fingerprint is not
+ * {@link #isCacheable() cacheable}.
+ */
+public class PlanFingerprint {
+
+    /**
+     * The hexadecimal SHA-256 hash of the plan description.
+     */
+    private final String hash;
+
+    /**
+     * All {@link OperatorAlternative}s of the hyperplan in a canonical order.
+     */
+    private final List<OperatorAlternative> operatorAlternatives;
+
+    /**
+     * Whether the described hyperplan is sufficiently identified by the {@link #hash} to reuse enumeration results.
+     */
+    private final boolean isCacheable;
+
+    private PlanFingerprint(String hash, List<OperatorAlternative> operatorAlternatives, boolean isCacheable) {
+        this.hash = hash;
+        this.operatorAlternatives = operatorAlternatives;
+        this.isCacheable = isCacheable;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param rheemPlan           the prepared {@link RheemPlan}
+     * @param optimizationContext provides the {@link CardinalityEstimate}s for the {@code rheemPlan}
+     * @return the new instance
+     */
+    public static PlanFingerprint of(RheemPlan rheemPlan, OptimizationContext optimizationContext) {
+        final Configuration configuration = optimizationContext.getConfiguration();
+        final double cardinalityBucketBase = configuration.getDoubleProperty("rheem.core.optimizer.plancache.buckets");
+
+        // Describe the sinks independently first to traverse them in a canonical order.
+        List<Operator> sinks = new ArrayList<>(rheemPlan.getSinks());
+        Map<Operator, String> sinkDescriptions = new HashMap<>(sinks.size());
+        for (Operator sink : sinks) {
+            final Describer describer = new Describer(optimizationContext, cardinalityBucketBase);
+            describer.describe(sink);
+            sinkDescriptions.put(sink, describer.sb.toString());
+        }
+        sinks.sort(Comparator.comparing(sinkDescriptions::get));
+
+        final Describer describer = new Describer(optimizationContext, cardinalityBucketBase);
+        for (Operator sink : sinks) {
+            describer.describe(sink);
+            describer.sb.append(';');
+        }
+        return new PlanFingerprint(
+                sha256(describer.sb.toString()), describer.operatorAlternatives, describer.isDistinguishingUdfs
+        );
+    }
+
+    private static String sha256(String description) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(2 * digest.length);
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RheemException("Could not fingerprint plan.", e);
+        }
+    }
+
+    public String getHash() {
+        return this.hash;
+    }
+
+    public List<OperatorAlternative> getOperatorAlternatives() {
+        return this.operatorAlternatives;
+    }
+
+    /**
+     * Tells whether this instance can be used to look up and store enumeration results. This is not the case if
+     * the hyperplan contains UDFs that cannot be told apart, e.g., lambdas that are not serializable or that capture
+     * arbitrary objects.
+     *
+     * @return whether this instance is cacheable
+     */
+    public boolean isCacheable() {
+        return this.isCacheable;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]", this.getClass().getSimpleName(), this.hash);
+    }
+
+    /**
+     * Traverses a hyperplan upstream in a deterministic manner and describes everything that might influence the
+     * plan enumeration.
+     */
+    private static class Describer {
+
+        private final OptimizationContext optimizationContext;
+
+        private final Configuration configuration;
+
+        private final double cardinalityBucketBase;
+
+        private final StringBuilder sb = new StringBuilder();
+
+        /**
+         * Assigns each visited {@link Operator} an ordinal, so that shared and cyclic paths can be referenced.
+         */
+        private final Map<Operator, Integer> ordinals = new HashMap<>();
+
+        private final List<OperatorAlternative> operatorAlternatives = new ArrayList<>();
+
+        /**
+         * Whether all UDFs have been described unambiguously; see {@link #describeImplementation(Object)}.
+         */
+        private boolean isDistinguishingUdfs = true;
+
+        private Describer(OptimizationContext optimizationContext, double cardinalityBucketBase) {
+            this.optimizationContext = optimizationContext;
+            this.configuration = optimizationContext.getConfiguration();
+            this.cardinalityBucketBase = cardinalityBucketBase;
+        }
+
+        private void describe(Operator operator) {
+            final Integer ordinal = this.ordinals.get(operator);
+            if (ordinal != null) {
+                this.sb.append('@').append(ordinal);
+                return;
+            }
+            this.ordinals.put(operator, this.ordinals.size());
+            if (operator.isAlternative()) {
+                this.operatorAlternatives.add((OperatorAlternative) operator);
+            }
+
+            this.sb.append(normalize(operator.getClass())).append('{');
+            this.describeTargetPlatforms(operator);
+            this.describeCardinalities(operator);
+            this.describeUdfs(operator);
+            if (operator.isExecutionOperator()) {
+                this.describeLoadProfiles((ExecutionOperator) operator);
+            }
+            if (!operator.isElementary()) {
+                for (OperatorContainer container : ((CompositeOperator) operator).getContainers()) {
+                    this.describeContainer(operator, container);
+                }
+            }
+            this.sb.append('}');
+
+            // Continue upstream.
+            this.sb.append('(');
+            for (InputSlot<?> input : operator.getAllInputs()) {
+                final OutputSlot<?> occupant = input.getOccupant();
+                if (occupant == null) {
+                    final InputSlot<?> outerInput = operator.getOuterInputSlot(input);
+                    this.sb.append(outerInput == null ? "-" : "in" + outerInput.getIndex());
+                } else {
+                    this.describe(occupant.getOwner());
+                    this.sb.append('.').append(occupant.getIndex());
+                }
+                this.sb.append(input.isBroadcast() ? "b," : ",");
+            }
+            this.sb.append(')');
+        }
+
+        private void describeContainer(Operator compositeOperator, OperatorContainer container) {
+            this.sb.append('[');
+            if (compositeOperator.isSink()) {
+                final Operator innerSink = container.getSink();
+                if (innerSink != null) this.describe(innerSink);
+            } else {
+                for (OutputSlot<?> output : compositeOperator.getAllOutputs()) {
+                    final OutputSlot<?> innerOutput = container.traceOutput(output);
+                    if (innerOutput != null) {
+                        this.describe(innerOutput.getOwner());
+                        this.sb.append('.').append(innerOutput.getIndex());
+                    }
+                    this.sb.append(',');
+                }
+            }
+            this.sb.append(']');
+        }
+
+        private void describeTargetPlatforms(Operator operator) {
+            if (operator.getTargetPlatforms().isEmpty()) return;
+            this.sb.append("platforms=").append(operator.getTargetPlatforms().stream()
+                    .map(Platform::getConfigurationName)
+                    .sorted()
+                    .collect(Collectors.joining(",")));
+            this.sb.append(';');
+        }
+
+        private void describeCardinalities(Operator operator) {
+            final OptimizationContext.OperatorContext operatorContext = this.optimizationContext.getOperatorContext(operator);
+            if (operatorContext == null) return;
+            this.sb.append("out=");
+            for (int outputIndex = 0; outputIndex < operator.getNumOutputs(); outputIndex++) {
+                final CardinalityEstimate cardinality = operatorContext.getOutputCardinality(outputIndex);
+                if (cardinality != null) {
+                    final double bucket = Math.log1p(cardinality.getGeometricMeanEstimate()) / Math.log(this.cardinalityBucketBase);
+                    this.sb.append((long) bucket);
+                }
+                this.sb.append(',');
+            }
+            this.sb.append(';');
+        }
+
+        /**
+         * Describes the {@link FunctionDescriptor}s of an {@link Operator} by their implementations.
+         */
+        private void describeUdfs(Operator operator) {
+            for (Object fieldValue : getFieldValues(operator, FunctionDescriptor.class)) {
+                this.sb.append("udf=").append(normalize(fieldValue.getClass()));
+                for (Object implementation : getFieldValues(fieldValue, null)) {
+                    this.sb.append(',');
+                    this.describeImplementation(implementation);
+                }
+                this.sb.append(';');
+            }
+        }
+
+        /**
+         * Describes a UDF implementation by its class. All lambdas of a declaring class share the same normalized
+         * class name, so serializable lambdas are further described by their implementation method and their
+         * captured values. If a lambda cannot be described in this way, the plan is not cacheable.
+         */
+        private void describeImplementation(Object implementation) {
+            final Class<?> cls = implementation.getClass();
+            this.sb.append(normalize(cls));
+            if (!isLambda(cls)) return;
+
+            final SerializedLambda serializedLambda = getSerializedLambda(implementation);
+            if (serializedLambda == null) {
+                this.isDistinguishingUdfs = false;
+                return;
+            }
+            this.sb.append('[')
+                    .append(serializedLambda.getImplClass()).append("::")
+                    .append(serializedLambda.getImplMethodName())
+                    .append(serializedLambda.getImplMethodSignature());
+            for (int i = 0; i < serializedLambda.getCapturedArgCount(); i++) {
+                final String value = describeValue(serializedLambda.getCapturedArg(i));
+                if (value == null) {
+                    this.isDistinguishingUdfs = false;
+                    this.sb.append(",?");
+                } else {
+                    this.sb.append(',').append(value);
+                }
+            }
+            this.sb.append(']');
+        }
+
+        /**
+         * Obtains the {@link SerializedLambda} of a serializable lambda.
+         *
+         * @return the {@link SerializedLambda} or {@code null} if the lambda is not serializable
+         */
+        private static SerializedLambda getSerializedLambda(Object lambda) {
+            try {
+                final Method writeReplace = lambda.getClass().getDeclaredMethod("writeReplace");
+                writeReplace.setAccessible(true);
+                final Object replacement = writeReplace.invoke(lambda);
+                return replacement instanceof SerializedLambda ? (SerializedLambda) replacement : null;
+            } catch (ReflectiveOperationException | SecurityException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Describes a value captured by a lambda if it is a simple value.
+         *
+         * @return the description or {@code null} if the value cannot be described
+         */
+        private static String describeValue(Object value) {
+            if (value == null) {
+                return "null";
+            } else if (value instanceof String) {
+                return JSONObject.quote((String) value);
+            } else if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+                return value.getClass().getSimpleName() + ':' + value;
+            } else if (value instanceof Enum) {
+                return ((Enum<?>) value).getDeclaringClass().getName() + '.' + ((Enum<?>) value).name();
+            } else if (value instanceof Class) {
+                return normalize((Class<?>) value);
+            }
+            return null;
+        }
+
+        private void describeLoadProfiles(ExecutionOperator operator) {
+            for (String key : operator.getLoadProfileEstimatorConfigurationKeys()) {
+                this.sb.append(key).append('=')
+                        .append(this.configuration.getOptionalStringProperty(key).orElse(""))
+                        .append(';');
+            }
+        }
+
+        /**
+         * Collects the values of all non-static fields of the given object (including inherited ones) in a
+         * deterministic order.
+         *
+         * @param obj        whose fields should be inspected
+         * @param fieldClass only collect values that are instances of this class; if {@code null}, collect values of
+         *                   fields that are declared with an interface type, such as UDFs
+         * @return the non-{@code null} field values
+         */
+        private static List<Object> getFieldValues(Object obj, Class<?> fieldClass) {
+            List<Object> values = new ArrayList<>();
+            for (Class<?> cls = obj.getClass(); cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+                final Field[] declaredFields = cls.getDeclaredFields();
+                List<Field> fields = new ArrayList<>(declaredFields.length);
+                Collections.addAll(fields, declaredFields);
+                fields.sort(Comparator.comparing(Field::getName));
+                for (Field field : fields) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+                    if (fieldClass == null ? !field.getType().isInterface() : !fieldClass.isAssignableFrom(field.getType())) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        final Object value = field.get(obj);
+                        if (value != null) values.add(value);
+                    } catch (IllegalAccessException | SecurityException e) {
+                        throw new RheemException(String.format("Could not inspect %s of %s.", field, obj), e);
+                    }
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Provides a name for the given {@link Class} that is stable across JVMs. In particular, lambdas are
+         * named after their declaring class.
+         */
+        private static String normalize(Class<?> cls) {
+            final String name = cls.getName();
+            final int lambdaIndex = name.indexOf("$$Lambda$");
+            return lambdaIndex == -1 ? name : name.substring(0, lambdaIndex + 8);
+        }
+
+        private static boolean isLambda(Class<?> cls) {
+            return cls.getName().contains("$$Lambda$");
+        }
+
+    }
+
+}
@@ -5,6 +5,7 @@ import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.lineage.ChannelLineageNode;
 
+import java.util.OptionalDouble;
 import java.util.OptionalLong;
 
 /**
@@ -31,6 +32,18 @@ public interface ChannelInstance extends ExecutionResource {
      */
     void setMeasuredCardinality(long cardinality);
 
+    /**
+     * Optionally provides the measured average size of the data quanta in this instance. Just as with
+     * {@link #getMeasuredCardinality()}, such a measurement is not necessarily available. Note that this value is
+     * diagnostic only: It shows up in the logs and {@link org.qcri.rheem.core.monitor.OperatorMetrics} but the
+     * optimizer does not consider it.
+     *
+     * @return the average data quantum size in bytes if available
+     */
+    default OptionalDouble getMeasuredAverageDataQuantumSize() {
+        return OptionalDouble.empty();
+    }
+
     /**
      * Tells whether this instance should be instrumented
      */
@@ -2,6 +2,7 @@ package org.qcri.rheem.core.platform;
 
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.*;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
@@ -15,6 +16,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Supplier;
 
 /**
@@ -98,14 +101,25 @@ public class CrossPlatformExecutor implements ExecutionState {
     private final Collection<PartialExecution> partialExecutions = new LinkedList<>();
 
     /**
-     * Gathers {@link ParallelExecutionThread}s created during parallel execution.
+     * Executes {@link ExecutionStage}s concurrently if parallel task execution is enabled. Created lazily.
      */
-    private final ArrayList<Thread> parallelExecutionThreads = new ArrayList<>();
+    private ForkJoinPool stageExecutionPool;
 
     /**
-     * Keeps track of the completed {@link ParallelExecutionThread}s created during parallel execution.
+     * Counts the {@link ExecutionStage}s per {@link Platform} that are currently being executed by the
+     * {@link #stageExecutionPool}.
      */
-    private volatile int completedThreads;
+    private final Map<Platform, Integer> occupiedPlatformSlots = new HashMap<>();
+
+    /**
+     * Number of {@link ExecutionStage}s that are currently being executed by the {@link #stageExecutionPool}.
+     */
+    private int numRunningStages = 0;
+
+    /**
+     * Captures the first failure of an {@link ExecutionStage} that has been executed by the {@link #stageExecutionPool}.
+     */
+    private Throwable stageExecutionFailure;
 
     public CrossPlatformExecutor(Job job, InstrumentationStrategy instrumentationStrategy) {
         this.job = job;
@@ -224,6 +238,14 @@ public class CrossPlatformExecutor implements ExecutionState {
         stageActivator.dispose();
 
         // Dispose obsolete ChannelInstances.
+        this.disposeObsoleteChannelInstances();
+    }
+
+    /**
+     * Discards all {@link ChannelInstance}s in {@link #channelInstances} that are not referenced by anyone else
+     * but this instance.
+     */
+    private void disposeObsoleteChannelInstances() {
         final Iterator<Map.Entry<Channel, ChannelInstance>> iterator = this.channelInstances.entrySet().iterator();
         while (iterator.hasNext()) {
             final Map.Entry<Channel, ChannelInstance> channelInstanceEntry = iterator.next();
@@ -237,34 +259,143 @@ public class CrossPlatformExecutor implements ExecutionState {
         }
     }
 
+    /**
+     * Executes the activated {@link ExecutionStage}s on the {@link #stageExecutionPool}. The calling thread acts as
+     * dispatcher: It hands out activated {@link ExecutionStage}s as long as their {@link Platform} has free slots and
+     * blocks otherwise until a running {@link ExecutionStage} completes (and thereby potentially activates successor
+     * {@link ExecutionStage}s). Returns once there are neither running nor dispatchable {@link ExecutionStage}s.
+     *
+     * @param isBreakpointsDisabled whether the {@link #breakpoint} should be ignored
+     */
+    private synchronized void runParallelExecution(boolean isBreakpointsDisabled) {
+        final ForkJoinPool pool = this.getOrCreateStageExecutionPool();
+        do {
+            // Dispatch all activated stages whose platform still has a free slot.
+            final Iterator<StageActivator> iterator = this.activatedStageActivators.iterator();
+            while (this.stageExecutionFailure == null && iterator.hasNext()) {
+                final StageActivator stageActivator = iterator.next();
+                final Platform platform = stageActivator.getStage().getPlatformExecution().getPlatform();
+                if (this.occupiedPlatformSlots.getOrDefault(platform, 0) >= this.getNumPlatformSlots(platform)) {
+                    continue;
+                }
+                iterator.remove();
+
+                // Check if #breakpoint permits the execution.
+                if (!isBreakpointsDisabled && this.suspendIfBreakpointRequest(stageActivator)) {
+                    continue;
+                }
+
+                // Prepare the execution while we still have exclusive access to this instance.
+                final ExecutionStage stage = stageActivator.getStage();
+                this.instrumentationStrategy.applyTo(stage);
+                final Executor executor = this.getOrCreateExecutorFor(stage);
+                this.occupiedPlatformSlots.merge(platform, 1, Integer::sum);
+                this.numRunningStages++;
+                pool.execute(() -> this.executeInParallel(stageActivator, executor));
+            }
+
+            // Block until a running stage completes.
+            if (this.numRunningStages > 0) {
+                try {
+                    this.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RheemException("Interrupted while waiting for parallel execution stages.", e);
+                }
+            }
+        } while (this.numRunningStages > 0);
+
+        if (this.stageExecutionFailure != null) {
+            final Throwable failure = this.stageExecutionFailure;
+            this.stageExecutionFailure = null;
+            throw failure instanceof RheemException ?
+                    (RheemException) failure :
+                    new RheemException("Parallel stage execution failed.", failure);
+        }
+        this.logger.info("Parallel execution ended!");
+    }
 
     /**
-     * Run parallel threads executing activated {@link ExecutionStage}s
+     * Executes an {@link ExecutionStage} on a thread of the {@link #stageExecutionPool} and then activates its
+     * successors.
+     *
+     * @param stageActivator that should be executed
+     * @param executor       that should execute the {@link ExecutionStage}
      */
-    private void runParallelExecution(boolean isBreakpointsDisabled) {
-        int numActiveStages = this.activatedStageActivators.size();
-
-        // Create execution threads
-        for (int i = 1; i <= numActiveStages; ++i) {
-            // TODO: Better pass the stage to the thread rather than letting the thread retrieve the stage itself (to avoid concurrency issues).
-            Thread thread = new Thread(new ParallelExecutionThread(isBreakpointsDisabled, "T" + String.valueOf(i), this));
-            // Start thread execution
-            thread.start();
-            this.parallelExecutionThreads.add(thread);
+    private void executeInParallel(StageActivator stageActivator, Executor executor) {
+        final ExecutionStage stage = stageActivator.getStage();
+        Throwable failure = null;
+        try {
+            // Have the execution done without blocking other stages.
+            this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
+            long startTime = System.currentTimeMillis();
+            executor.execute(stage, stageActivator.getOptimizationContext(), this);
+            long finishTime = System.currentTimeMillis();
+            this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
+        } catch (Throwable t) {
+            failure = t;
         }
 
-        //Join all created threads
-        for (Thread t : this.parallelExecutionThreads) {
+        synchronized (this) {
             try {
-                t.join();
-            } catch (InterruptedException e) {
-                CrossPlatformExecutor.this.logger.error("Thread Interrupted!", e);
+                if (failure == null) {
+                    this.noteCompletion(stage);
+                    this.tryToActivateSuccessors(stageActivator);
+                    stageActivator.dispose();
+                    this.disposeObsoleteChannelInstances();
+                }
+            } catch (Throwable t) {
+                failure = t;
+            } finally {
+                if (failure != null) {
+                    this.logger.error("Execution of {} failed.", stage, failure);
+                    if (this.stageExecutionFailure == null) this.stageExecutionFailure = failure;
+                }
+                this.occupiedPlatformSlots.merge(stage.getPlatformExecution().getPlatform(), -1, Integer::sum);
+                this.numRunningStages--;
+                this.notifyAll();
             }
         }
+    }
+
+    /**
+     * Provide the {@link #stageExecutionPool}, thereby creating it if necessary. Its size is given by
+     * {@code rheem.core.optimizer.enumeration.parallel-tasks.threads} (or the number of available processors if
+     * that value is not positive).
+     *
+     * @return the {@link ForkJoinPool}
+     */
+    private ForkJoinPool getOrCreateStageExecutionPool() {
+        if (this.stageExecutionPool == null) {
+            long numThreads = this.getConfiguration().getLongProperty("rheem.core.optimizer.enumeration.parallel-tasks.threads", 0L);
+            if (numThreads <= 0) numThreads = Runtime.getRuntime().availableProcessors();
+            this.stageExecutionPool = new ForkJoinPool(
+                    (int) numThreads,
+                    pool -> {
+                        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                        thread.setName("rheem-stage-executor-" + thread.getPoolIndex());
+                        return thread;
+                    },
+                    null,
+                    false
+            );
+        }
+        return this.stageExecutionPool;
+    }
 
-        // Clear the list of created threads
-        parallelExecutionThreads.clear();
-        CrossPlatformExecutor.this.logger.info("Parallel execution ended!");
+    /**
+     * Determine how many {@link ExecutionStage}s may be executed concurrently on the given {@link Platform}. This is
+     * given by {@code rheem.core.optimizer.enumeration.parallel-tasks.slots.<platform>} or, as a fallback,
+     * {@code rheem.core.optimizer.enumeration.parallel-tasks.slots}.
+     *
+     * @param platform the {@link Platform}
+     * @return the number of slots
+     */
+    private int getNumPlatformSlots(Platform platform) {
+        final Configuration configuration = this.getConfiguration();
+        final String key = "rheem.core.optimizer.enumeration.parallel-tasks.slots";
+        final OptionalLong platformSlots = configuration.getOptionalLongProperty(key + "." + platform.getConfigurationName());
+        return (int) Math.max(1L, platformSlots.orElse(configuration.getLongProperty(key, 1L)));
     }
 
     /**
@@ -349,7 +480,15 @@ public class CrossPlatformExecutor implements ExecutionState {
         long finishTime = System.currentTimeMillis();
         CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
 
-        // Remember that we have executed the stage.
+        this.noteCompletion(stage);
+    }
+
+    /**
+     * Remember that the given {@link ExecutionStage} has been executed.
+     *
+     * @param stage the executed {@link ExecutionStage}
+     */
+    private void noteCompletion(ExecutionStage stage) {
         this.completedStages.add(stage);
 
         if (stage.isLoopHead()) {
@@ -477,7 +616,7 @@ public class CrossPlatformExecutor implements ExecutionState {
         return this.getChannelInstance(channel, false);
     }
 
-    public ChannelInstance getChannelInstance(Channel channel, boolean isPeekingToNextTransition) {
+    public synchronized ChannelInstance getChannelInstance(Channel channel, boolean isPeekingToNextTransition) {
         final ExecutionStageLoop loop = getExecutionStageLoop(channel);
         if (loop == null) {
             return this.channelInstances.get(channel);
@@ -506,7 +645,7 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     @Override
-    public void register(ChannelInstance channelInstance) {
+    public synchronized void register(ChannelInstance channelInstance) {
         final ExecutionStageLoop loop = getExecutionStageLoop(channelInstance.getChannel());
         if (loop == null) {
             final ChannelInstance oldChannelInstance = this.channelInstances.put(channelInstance.getChannel(), channelInstance);
@@ -526,7 +665,7 @@ public class CrossPlatformExecutor implements ExecutionState {
      *
      * @param resource that should be registered
      */
-    public void registerGlobal(ExecutionResource resource) {
+    public synchronized void registerGlobal(ExecutionResource resource) {
         if (this.globalResources.add(resource)) {
             resource.noteObtainedReference();
         } else {
@@ -535,17 +674,17 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     @Override
-    public void addCardinalityMeasurement(ChannelInstance channelInstance) {
+    public synchronized void addCardinalityMeasurement(ChannelInstance channelInstance) {
         this.cardinalityMeasurements.add(channelInstance);
     }
 
     @Override
-    public Collection<ChannelInstance> getCardinalityMeasurements() {
+    public synchronized Collection<ChannelInstance> getCardinalityMeasurements() {
         return this.cardinalityMeasurements;
     }
 
     @Override
-    public void add(PartialExecution partialExecution) {
+    public synchronized void add(PartialExecution partialExecution) {
         this.partialExecutions.add(partialExecution);
         if (this.logger.isInfoEnabled()) {
             this.logger.info(
@@ -558,7 +697,7 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     @Override
-    public Collection<PartialExecution> getPartialExecutions() {
+    public synchronized Collection<PartialExecution> getPartialExecutions() {
         return this.partialExecutions;
     }
 
@@ -581,9 +720,19 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     public void shutdown() {
+        // Stop the parallel execution threads.
+        if (this.stageExecutionPool != null) {
+            this.stageExecutionPool.shutdown();
+            this.stageExecutionPool = null;
+        }
+
         // Release global resources.
-        this.globalResources.forEach(resource -> resource.noteDiscardedReference(true));
-        this.globalResources.clear();
+        final List<ExecutionResource> releasedResources;
+        synchronized (this) {
+            releasedResources = new ArrayList<>(this.globalResources);
+            this.globalResources.clear();
+        }
+        releasedResources.forEach(resource -> resource.noteDiscardedReference(true));
     }
 
     /**
@@ -1007,139 +1156,4 @@ public class CrossPlatformExecutor implements ExecutionState {
         }
     }
 
-    /**
-     * Executes {@link ExecutionStage}s in parallel threads
-     * It continues to live as long as there is a {@link ExecutionStage} activated after first {@link ExecutionStage} execution and another running {@link ParallelExecutionThread}s,
-     * if multiple {@link ExecutionStage} are activated it will create new threads to execute new {@link ExecutionStage} in recursive manner
-     */
-
-    private class ParallelExecutionThread implements Runnable {
-
-        /**
-         * Thread identifier of {@link ParallelExecutionThread}
-         */
-        public String threadId;
-
-        /**
-         * Check if #breakpoint permits the execution of {@link ExecutionStage}
-         */
-        private boolean thread_isBreakpointDisabled;
-
-        /**
-         * {@link CrossPlatformExecutor} initiating the running thread
-         */
-        private final CrossPlatformExecutor crossPlatformExecutor;
-
-        /**
-         * Creates a new instance.
-         */
-        public ParallelExecutionThread(boolean isBreakpointsDisabled, String id, CrossPlatformExecutor cpe) {
-            this.thread_isBreakpointDisabled = isBreakpointsDisabled;
-            this.threadId = id;
-            this.crossPlatformExecutor = cpe;
-        }
-
-        /**
-         * Execution code of the thread.
-         */
-        @Override
-        public void run() {
-
-            StageActivator stageActivator;
-            this.crossPlatformExecutor.logger.info("Thread " + String.valueOf(this.threadId) + " started");
-            // Loop until there is no activated stage or only one thread running
-            do {
-                // Get the stageActivator for the stage to execute
-                synchronized (this.crossPlatformExecutor) {
-                    stageActivator = this.crossPlatformExecutor.activatedStageActivators.poll();
-                    if (stageActivator == null)
-                        break;
-                }
-                this.crossPlatformExecutor.logger.info(this.threadId + " started executing Stage: {}:", stageActivator.getStage());
-
-                // Check if #breakpoint permits the execution.
-                if (!this.thread_isBreakpointDisabled && this.crossPlatformExecutor.suspendIfBreakpointRequest(stageActivator)) {
-                    return;
-                }
-
-                // Otherwise, execute the stage.
-
-                final ExecutionStage stage = stageActivator.getStage();
-                final OptimizationContext optimizationContext = stageActivator.getOptimizationContext();
-
-                // Find parts of the stage to instrument.
-                this.crossPlatformExecutor.instrumentationStrategy.applyTo(stage);
-
-                // Obtain an Executor for the stage.
-                final Executor executor = this.crossPlatformExecutor.getOrCreateExecutorFor(stage);
-
-                // Have the execution done.
-                CrossPlatformExecutor.this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
-                long startTime = System.currentTimeMillis();
-
-                // synchronize(this.crossplateform) can be used here to avoid error when we have two stages running same operators even on the same platform but still with different executors
-                synchronized (executor) {
-                    executor.execute(stage, optimizationContext, this.crossPlatformExecutor);
-                    long finishTime = System.currentTimeMillis();
-
-                    CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
-
-                    // Remember that we have executed the stage.
-                    this.crossPlatformExecutor.completedStages.add(stage);
-                    if (stage.isLoopHead()) {
-                        this.crossPlatformExecutor.getOrCreateLoopContext(stage.getLoop()).scrapPreviousTransitionContext();
-                    }
-
-                    // Try to activate the successor stages.
-                    this.crossPlatformExecutor.tryToActivateSuccessors(stageActivator);
-                }
-                // We can now dispose the stageActivator that collected the input ChannelInstances.
-                stageActivator.dispose();
-
-                // Dispose obsolete ChannelInstances.
-                final Iterator<Map.Entry<Channel, ChannelInstance>> iterator = this.crossPlatformExecutor.channelInstances.entrySet().iterator();
-                while (iterator.hasNext()) {
-                    final Map.Entry<Channel, ChannelInstance> channelInstanceEntry = iterator.next();
-                    final ChannelInstance channelInstance = channelInstanceEntry.getValue();
-
-                    // If this is instance is the only one to still use this ChannelInstance, discard it.
-                    if (channelInstance.getNumReferences() == 1) {
-                        channelInstance.noteDiscardedReference(true);
-                        iterator.remove();
-                    }
-
-                }
-
-                this.crossPlatformExecutor.logger.info(this.threadId + " completed executing Stage : {}:", stageActivator.getStage());
-
-                // Create new threads for more than one activated stages recursively
-                if (CrossPlatformExecutor.this.activatedStageActivators.size() > 1) {
-                    // Create new threads other than the existing thread
-                    for (int i = 1; i <= CrossPlatformExecutor.this.activatedStageActivators.size() - 1; i++) {
-                        // TODO: Better use Java's ForkJoinPool to reduce thread creation overhead and control concurrency.
-                        // Create parallel stage execution thread
-                        Thread thread = new Thread(new ParallelExecutionThread(this.thread_isBreakpointDisabled, "T" + String.valueOf(i) + "@" + this.threadId, this.crossPlatformExecutor));
-                        thread.start();
-                        synchronized (this.crossPlatformExecutor) {
-                            //Add the created thread to {@link #parallelExecutionThreads}
-                            CrossPlatformExecutor.this.parallelExecutionThreads.add(thread);
-                        }
-                    }
-                }
-
-            }
-
-            // TODO: Do not busy-wait (could be solved with the ForkJoinPool as well).
-            while (CrossPlatformExecutor.this.activatedStageActivators.size() >= 1 &&
-                    CrossPlatformExecutor.this.parallelExecutionThreads.size() - CrossPlatformExecutor.this.completedThreads > 1);
-
-            // Increment a global variable of completed threads
-            // As long as the variable is volatile so there is no concern of race condition
-            CrossPlatformExecutor.this.completedThreads++;
-
-            // Notify thread ended
-            CrossPlatformExecutor.this.logger.info(this.threadId + " ended");
-        }
-    }
-
 }
@@ -4,6 +4,7 @@ import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
 import org.qcri.rheem.core.plan.executionplan.ExecutionStageLoop;
 import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.util.AbstractReferenceCountable;
@@ -33,7 +34,8 @@ public abstract class ExecutorTemplate extends AbstractReferenceCountable implem
     private final CrossPlatformExecutor crossPlatformExecutor;
 
     /**
-     * Resources being held by this instance.
+     * Resources being held by this instance. Guarded by itself, as {@link ExecutionStage}s might be executed
+     * concurrently.
      */
     private final Set<ExecutionResource> registeredResources = new HashSet<>();
 
@@ -58,15 +60,19 @@ public abstract class ExecutorTemplate extends AbstractReferenceCountable implem
 
     @Override
     public void register(ExecutionResource resource) {
-        if (!this.registeredResources.add(resource)) {
-            this.logger.warn("Registered {} twice.", resource);
+        synchronized (this.registeredResources) {
+            if (!this.registeredResources.add(resource)) {
+                this.logger.warn("Registered {} twice.", resource);
+            }
         }
     }
 
     @Override
     public void unregister(ExecutionResource resource) {
-        if (!this.registeredResources.remove(resource)) {
-            this.logger.warn("Could not unregister {}, as it was not registered.", resource);
+        synchronized (this.registeredResources) {
+            if (!this.registeredResources.remove(resource)) {
+                this.logger.warn("Could not unregister {}, as it was not registered.", resource);
+            }
         }
     }
 
@@ -107,6 +113,13 @@ public abstract class ExecutorTemplate extends AbstractReferenceCountable implem
             return;
         }
         this.crossPlatformExecutor.addCardinalityMeasurement(channelInstance);
+
+        // The data quantum sizes are diagnostic only, i.e., they are not injected into the optimizer.
+        final OptionalDouble optionalDataQuantumSize = channelInstance.getMeasuredAverageDataQuantumSize();
+        if (optionalDataQuantumSize.isPresent()) {
+            this.logger.info("Measured {} data quanta with an average size of {} bytes for {}.",
+                    optionalCardinality.getAsLong(), optionalDataQuantumSize.getAsDouble(), channelInstance.getChannel());
+        }
     }
 
     /**
@@ -164,7 +177,11 @@ public abstract class ExecutorTemplate extends AbstractReferenceCountable implem
             this.logger.warn("Disposing {} although it is still being referenced.", this);
         }
 
-        for (ExecutionResource resource : new ArrayList<>(this.registeredResources)) {
+        final List<ExecutionResource> resources;
+        synchronized (this.registeredResources) {
+            resources = new ArrayList<>(this.registeredResources);
+        }
+        for (ExecutionResource resource : resources) {
             resource.dispose();
         }
 
@@ -1,6 +1,9 @@
 package org.qcri.rheem.core.platform;
 
 import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.monitor.JobMetrics;
+import org.qcri.rheem.core.monitor.OperatorMetrics;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
@@ -8,10 +11,13 @@ import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.plan.rheemplan.InputSlot;
 import org.qcri.rheem.core.plan.rheemplan.LoopHeadOperator;
+import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.util.OneTimeExecutable;
 import org.qcri.rheem.core.util.RheemCollections;
 import org.qcri.rheem.core.util.Tuple;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.*;
 
 /**
@@ -20,19 +26,33 @@ import java.util.*;
  */
 public abstract class PushExecutorTemplate extends ExecutorTemplate {
 
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
     protected final Job job;
 
+    /**
+     * Collects the metrics of the executions or {@code null} if there is no {@link Job}.
+     */
+    private final JobMetrics metrics;
+
     public PushExecutorTemplate(Job job) {
         super(job == null ? null : job.getCrossPlatformExecutor());
         this.job = job;
+        this.metrics = job == null ? null : job.getMetrics();
     }
 
     @Override
     public void execute(ExecutionStage stage, OptimizationContext optimizationContext, ExecutionState executionState) {
         assert !this.isDisposed() : String.format("%s has been disposed.", this);
 
+        final long startMillis = System.currentTimeMillis();
         final StageExecution stageExecution = new StageExecution(stage, optimizationContext, executionState);
         stageExecution.executeStage();
+        if (this.metrics != null) {
+            this.metrics.addStageExecution(
+                    stage.toString(), this.getPlatform().getName(), startMillis, System.currentTimeMillis()
+            );
+        }
     }
 
 
@@ -66,6 +86,192 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
                                                                               OptimizationContext.OperatorContext producerOperatorContext,
                                                                               boolean isRequestEagerExecution);
 
+    /**
+     * Tells whether the CPU time of the thread that executes an {@link ExecutionTask} reflects the work of the
+     * {@link ExecutionTask}, so that it should be reported in the {@link JobMetrics}. That is not the case if the
+     * actual work is done elsewhere, e.g., on remote workers.
+     *
+     * @return whether to report the thread CPU time
+     */
+    protected boolean isReportingThreadCpuTime() {
+        return true;
+    }
+
+    /**
+     * Collects the given {@link ExecutionTask} and its successors that can be executed along with it as a single
+     * task, i.e., a chain of fusible {@link ExecutionOperator}s within the same {@link ExecutionStage} whose
+     * intermediate {@link Channel}s are neither instrumented nor consumed elsewhere.
+     *
+     * @param headTask              the {@link ExecutionTask} that is about to be executed
+     * @param inputChannelInstances the inputs of the {@code headTask}
+     * @param headOperatorContext   the {@link OptimizationContext.OperatorContext} of the {@code headTask}
+     * @return the chain starting with the {@code headTask}; fusion is only worthwhile if it has more than one element
+     * @see #isFusibleHead(ExecutionTask, List)
+     * @see #isFusibleSuccessor(ExecutionOperator)
+     * @see #isFusibleChannel(Channel)
+     */
+    protected List<ExecutionTask> collectFusibleTasks(ExecutionTask headTask,
+                                                      List<ChannelInstance> inputChannelInstances,
+                                                      OptimizationContext.OperatorContext headOperatorContext) {
+        final List<ExecutionTask> fusibleTasks = new ArrayList<>(4);
+        fusibleTasks.add(headTask);
+        if (headOperatorContext == null || !this.isFusibleHead(headTask, inputChannelInstances)) {
+            return fusibleTasks;
+        }
+
+        ExecutionTask task = headTask;
+        while (task.getNumOuputChannels() == 1) {
+            final Channel channel = task.getOutputChannel(0);
+            if (!this.isFusibleChannel(channel)
+                    || channel.isMarkedForInstrumentation()
+                    || channel.isBetweenStages()
+                    || channel.getConsumers().size() != 1) {
+                break;
+            }
+            final ExecutionTask consumer = channel.getConsumers().get(0);
+            final ExecutionOperator consumerOperator = consumer.getOperator();
+            if (consumer.getStage() != task.getStage()
+                    || !this.isFusibleSuccessor(consumerOperator)
+                    || consumerOperator.getNumInputs() != 1
+                    || headOperatorContext.getOptimizationContext().getOperatorContext(consumerOperator) == null) {
+                break;
+            }
+            fusibleTasks.add(consumer);
+            task = consumer;
+        }
+        return fusibleTasks;
+    }
+
+    /**
+     * Tells whether a chain of fused {@link ExecutionTask}s may start with the given {@link ExecutionTask}.
+     *
+     * @param task                  the {@link ExecutionTask}
+     * @param inputChannelInstances the inputs of the {@code task}
+     * @return whether the {@code task} can head a fused chain; {@code false} by default
+     */
+    protected boolean isFusibleHead(ExecutionTask task, List<ChannelInstance> inputChannelInstances) {
+        return false;
+    }
+
+    /**
+     * Tells whether the given {@link ExecutionOperator} can be fused with its single predecessor.
+     *
+     * @param operator the {@link ExecutionOperator}
+     * @return whether the {@code operator} can continue a fused chain; {@code false} by default
+     */
+    protected boolean isFusibleSuccessor(ExecutionOperator operator) {
+        return false;
+    }
+
+    /**
+     * Tells whether the given {@link Channel} can be skipped within a fused chain.
+     *
+     * @param channel the {@link Channel} between two {@link ExecutionTask}s
+     * @return whether the {@code channel} need not be materialized; {@code false} by default
+     */
+    protected boolean isFusibleChannel(Channel channel) {
+        return false;
+    }
+
+    /**
+     * Executes a chain of {@link ExecutionTask}s as a single task without intermediate {@link ChannelInstance}s.
+     * The {@code fusion} composes the actual work, while every {@link ExecutionOperator} still gets its own
+     * {@link ExecutionLineageNode}, so that costs are attributed to the original operators.
+     *
+     * @param fusibleTasks          the chain as collected by
+     *                              {@link #collectFusibleTasks(ExecutionTask, List, OptimizationContext.OperatorContext)}
+     * @param inputChannelInstances the inputs of the first {@link ExecutionTask}
+     * @param headOperatorContext   the {@link OptimizationContext.OperatorContext} of the first {@link ExecutionTask}
+     * @param fusion                composes the {@link ExecutionTask}s
+     * @return the output {@link ChannelInstance}s of the last {@link ExecutionTask}; nothing is executed eagerly
+     */
+    protected Tuple<List<ChannelInstance>, PartialExecution> executeFused(
+            List<ExecutionTask> fusibleTasks,
+            List<ChannelInstance> inputChannelInstances,
+            OptimizationContext.OperatorContext headOperatorContext,
+            TaskFusion fusion) {
+        this.logger.debug("Executing {} as a single task.", fusibleTasks);
+
+        final ChannelInstance[] headInputs = inputChannelInstances.toArray(new ChannelInstance[inputChannelInstances.size()]);
+        ExecutionTask task = null;
+        OptimizationContext.OperatorContext operatorContext = null;
+        ExecutionLineageNode lineageNode = null;
+        for (ExecutionTask nextTask : fusibleTasks) {
+            final boolean isHead = task == null;
+            task = nextTask;
+            operatorContext = isHead ?
+                    headOperatorContext :
+                    headOperatorContext.getOptimizationContext().getOperatorContext(task.getOperator());
+            // Only the first operator might have further inputs, e.g., broadcasts.
+            final ChannelInstance[] inputs = isHead ? headInputs : new ChannelInstance[1];
+
+            final String operatorKey = JobMetrics.getKey(task.getOperator());
+            this.job.reportProgress(operatorKey, 50);
+            try {
+                fusion.add(task, inputs, operatorContext, isHead);
+            } catch (Exception e) {
+                throw new RheemException(String.format("Executing %s failed.", task), e);
+            }
+            this.job.reportProgress(operatorKey, 100);
+            if (!isHead && this.metrics != null) {
+                // The StageExecution measures the whole chain for the first operator, so do not time the others.
+                this.metrics.getOperatorMetrics(operatorKey).addFusedExecution();
+            }
+
+            // Model lazy execution per operator.
+            final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
+            executionLineageNode.addAtomicExecutionFromOperatorContext();
+            if (isHead) {
+                for (ChannelInstance input : headInputs) {
+                    if (input != null) executionLineageNode.addPredecessor(input.getLineage());
+                }
+            } else {
+                executionLineageNode.addPredecessor(lineageNode);
+            }
+            lineageNode = executionLineageNode;
+        }
+
+        final ChannelInstance[] outputChannelInstances = task.getOperator().createOutputChannelInstances(
+                this, task, operatorContext, Collections.emptyList()
+        );
+        fusion.complete(outputChannelInstances[0], task, operatorContext);
+        outputChannelInstances[0].getLineage().addPredecessor(lineageNode);
+
+        return new Tuple<>(Arrays.asList(outputChannelInstances), null);
+    }
+
+    /**
+     * Composes the work of a chain of {@link ExecutionTask}s in a platform-specific manner.
+     *
+     * @see #executeFused(List, List, OptimizationContext.OperatorContext, TaskFusion)
+     */
+    protected interface TaskFusion {
+
+        /**
+         * Appends the next {@link ExecutionTask} of the chain.
+         *
+         * @param task            the {@link ExecutionTask}
+         * @param inputs          the input {@link ChannelInstance}s of the {@code task}; only available for the head
+         * @param operatorContext the {@link OptimizationContext.OperatorContext} of the {@code task}
+         * @param isHead          whether the {@code task} is the first one in the chain
+         * @throws Exception if the {@code task} could not be appended
+         */
+        void add(ExecutionTask task,
+                 ChannelInstance[] inputs,
+                 OptimizationContext.OperatorContext operatorContext,
+                 boolean isHead) throws Exception;
+
+        /**
+         * Feeds the composed work into the output of the last {@link ExecutionTask} of the chain.
+         *
+         * @param output          the output {@link ChannelInstance} of the {@code task}
+         * @param task            the last {@link ExecutionTask}
+         * @param operatorContext the {@link OptimizationContext.OperatorContext} of the {@code task}
+         */
+        void complete(ChannelInstance output, ExecutionTask task, OptimizationContext.OperatorContext operatorContext);
+
+    }
+
     /**
      * Keeps track of state that is required within the execution of a single {@link ExecutionStage}. Specifically,
      * it issues to the {@link PushExecutorTemplate}, which {@link ExecutionTask}s should be executed in which
@@ -166,7 +372,16 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
          */
         private Tuple<List<ChannelInstance>, PartialExecution> execute(TaskActivator readyActivator, ExecutionTask task) {
             final boolean isRequestEagerExecution = this.terminalTasks.contains(task);
-            return this.executor().execute(readyActivator, isRequestEagerExecution);
+            if (metrics == null) return this.executor().execute(readyActivator, isRequestEagerExecution);
+
+            final long startCpuTime = this.executor().isReportingThreadCpuTime() ? getCurrentThreadCpuTime() : -1L;
+            final long startTime = System.nanoTime();
+            final Tuple<List<ChannelInstance>, PartialExecution> result =
+                    this.executor().execute(readyActivator, isRequestEagerExecution);
+            final long wallTime = System.nanoTime() - startTime;
+            final long cpuTime = startCpuTime < 0 ? -1 : getCurrentThreadCpuTime() - startCpuTime;
+            getMetrics(task).addExecution(wallTime, cpuTime);
+            return result;
         }
 
         /**
@@ -205,6 +420,26 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
             }
         }
 
+        /**
+         * Registers the measured data quanta of a {@link ChannelInstance} with the {@link OperatorMetrics} of its
+         * producer and consumers.
+         *
+         * @param channelInstance the {@link ChannelInstance}
+         */
+        private void registerDataQuanta(ChannelInstance channelInstance) {
+            final OptionalLong cardinality = channelInstance.getMeasuredCardinality();
+            if (!cardinality.isPresent()) return;
+            final OptionalDouble dataQuantumSize = channelInstance.getMeasuredAverageDataQuantumSize();
+            final Channel channel = channelInstance.getChannel();
+            getMetrics(channel.getProducer()).addOutputDataQuanta(
+                    cardinality.getAsLong(),
+                    dataQuantumSize.isPresent() ? Math.round(cardinality.getAsLong() * dataQuantumSize.getAsDouble()) : 0L
+            );
+            for (ExecutionTask consumer : channel.getConsumers()) {
+                getMetrics(consumer).addInputDataQuanta(cardinality.getAsLong());
+            }
+        }
+
         private PushExecutorTemplate executor() {
             return PushExecutorTemplate.this;
         }
@@ -213,6 +448,7 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
          * Put new {@link ChannelInstance}s to the {@link #executionState} and release input {@link ChannelInstance}s.
          */
         private void updateExecutionState() {
+            if (metrics != null) this.allChannelInstances.forEach(this::registerDataQuanta);
             for (final ChannelInstance channelInstance : this.allChannelInstances) {
                 // Capture outbound ChannelInstances.
                 if (channelInstance.getChannel().isBetweenStages() || channelInstance.getChannel().getConsumers().stream()
@@ -227,6 +463,32 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
         }
     }
 
+    /**
+     * Provides the {@link OperatorMetrics} in the {@link #metrics} for an {@link ExecutionTask}.
+     * Channel conversions are tracked by their source and target {@link ChannelDescriptor}s.
+     *
+     * @param task the {@link ExecutionTask}
+     * @return the {@link OperatorMetrics}
+     */
+    private OperatorMetrics getMetrics(ExecutionTask task) {
+        final ExecutionOperator operator = task.getOperator();
+        if (operator.isAuxiliary() && task.getNumInputChannels() == 1 && task.getNumOuputChannels() == 1) {
+            return this.metrics.getConversionMetrics(String.format("%s -> %s",
+                    task.getInputChannel(0).getDescriptor(), task.getOutputChannel(0).getDescriptor()
+            ));
+        }
+        return this.metrics.getOperatorMetrics(JobMetrics.getKey(operator));
+    }
+
+    /**
+     * Provides the CPU time of the current thread.
+     *
+     * @return the CPU time in nanoseconds or {@code -1} if it is not available
+     */
+    private static long getCurrentThreadCpuTime() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : -1L;
+    }
+
     /**
      * Wraps an {@link ExecutionTask} and collects its input dependencies (i.e., {@link ChannelInstance}s). Then,
      * allows for execution of the {@link ExecutionTask}.
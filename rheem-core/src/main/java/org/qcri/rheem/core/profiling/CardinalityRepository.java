@@ -108,7 +108,7 @@ public class CardinalityRepository {
      * Stores the {@code cardinality} for the {@code output} together with its {@link Operator} and input
      * {@link CardinalityEstimate}s.
      */
-    public void store(OutputSlot<?> output, long cardinality, OptimizationContext.OperatorContext operatorContext) {
+    public synchronized void store(OutputSlot<?> output, long cardinality, OptimizationContext.OperatorContext operatorContext) {
         assert output.getOwner() == operatorContext.getOperator() :
                 String.format("Owner of %s is not %s.", output, operatorContext.getOperator());
         if (!operatorContext.getOutputCardinality(output.getIndex()).isExactly(cardinality)) {
@@ -123,7 +123,7 @@ public class CardinalityRepository {
      * Stores the {@code cardinality} for the {@code output} together with its {@link Operator} and input
      * {@link CardinalityEstimate}s.
      */
-    public void storeWithFileName(OutputSlot<?> output, long cardinality, OptimizationContext.OperatorContext operatorContext, String filename) {
+    public synchronized void storeWithFileName(OutputSlot<?> output, long cardinality, OptimizationContext.OperatorContext operatorContext, String filename) {
         assert output.getOwner() == operatorContext.getOperator() :
                 String.format("Owner of %s is not %s.", output, operatorContext.getOperator());
         if (!operatorContext.getOutputCardinality(output.getIndex()).isExactly(cardinality)) {
@@ -257,7 +257,7 @@ public class CardinalityRepository {
     /**
      * Allows this instance to free its system resources, as they might not be needed in the closer future.
      */
-    public void sleep() {
+    public synchronized void sleep() {
         IOUtils.closeQuietly(this.writer);
         this.writer = null;
     }
@@ -4,7 +4,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Implements a template for {@link ReferenceCountable} objects.
+ * Implements a template for {@link ReferenceCountable} objects. The reference counting is thread-safe, so that
+ * instances can be shared among concurrently running {@link org.qcri.rheem.core.api.Job}s.
  */
 public abstract class AbstractReferenceCountable implements ReferenceCountable {
 
@@ -15,23 +16,43 @@ public abstract class AbstractReferenceCountable implements ReferenceCountable {
      */
     private int numReferences = 0;
 
+    /**
+     * Marks whether the disposal of this instance has begun, so that no further references can be obtained on it.
+     */
+    private boolean isDisposing = false;
+
     /**
      * Marks whether this instance has been disposed to avoid unwanted resurrection, double disposal etc.
      *
      * @see #disposeIfUnreferenced()
      */
-    private boolean isDisposed = false;
+    private volatile boolean isDisposed = false;
 
     @Override
     public boolean disposeIfUnreferenced() {
-        if (this.getNumReferences() == 0) {
-            assert !this.isDisposed() : String.format("%s has already been disposed.", this);
-            logger.debug("Discarding {} for being unreferenced.", this);
+        synchronized (this) {
+            if (this.numReferences != 0) return false;
+            assert !this.isDisposing : String.format("%s has already been disposed.", this);
+            this.isDisposing = true;
+        }
+        this.doDisposeUnreferenced();
+        return true;
+    }
+
+    /**
+     * Dispose this instance after {@link #isDisposing} has been set. This happens outside of the monitor of this
+     * instance, as the disposal might cascade to other instances.
+     */
+    private void doDisposeUnreferenced() {
+        logger.debug("Discarding {} for being unreferenced.", this);
+        try {
             this.disposeUnreferenced();
-            this.isDisposed = true;
-            return true;
+        } finally {
+            synchronized (this) {
+                this.isDisposed = true;
+                this.notifyAll();
+            }
         }
-        return false;
     }
 
     /**
@@ -41,25 +62,56 @@ public abstract class AbstractReferenceCountable implements ReferenceCountable {
     protected abstract void disposeUnreferenced();
 
     @Override
-    public int getNumReferences() {
+    public synchronized int getNumReferences() {
         return this.numReferences;
     }
 
     @Override
-    public void noteObtainedReference() {
-        assert !this.isDisposed() : String.format("%s should not be resurrected.", this);
+    public synchronized void noteObtainedReference() {
+        assert !this.isDisposing : String.format("%s should not be resurrected.", this);
         this.numReferences++;
-        logger.trace("{} has {} (+1) references now.", this, this.getNumReferences());
+        logger.trace("{} has {} (+1) references now.", this, this.numReferences);
+    }
+
+    /**
+     * Obtain a reference on this instance unless it is being disposed or has been disposed already. In contrast to
+     * first checking {@link #isDisposed()} and then calling {@link #noteObtainedReference()}, this is atomic.
+     *
+     * @return whether a reference has been obtained
+     */
+    public synchronized boolean tryObtainReference() {
+        if (this.isDisposing) return false;
+        this.noteObtainedReference();
+        return true;
+    }
+
+    /**
+     * If the disposal of this instance has begun, wait until it is complete. This allows to replace a disposing
+     * instance only after it has released its resources.
+     */
+    public synchronized void awaitDisposal() {
+        boolean isInterrupted = false;
+        while (this.isDisposing && !this.isDisposed) {
+            try {
+                this.wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) Thread.currentThread().interrupt();
     }
 
     @Override
     public void noteDiscardedReference(boolean isDisposeIfUnreferenced) {
-        assert this.numReferences > 0 : String.format("Reference on %s discarded, although the reference counter is 0.", this);
-        this.numReferences--;
-        logger.trace("{} has {} (-1) references now.", this, this.getNumReferences());
-        if (isDisposeIfUnreferenced) {
-            this.disposeIfUnreferenced();
+        synchronized (this) {
+            assert this.numReferences > 0 : String.format("Reference on %s discarded, although the reference counter is 0.", this);
+            this.numReferences--;
+            logger.trace("{} has {} (-1) references now.", this, this.numReferences);
+            // Only the thread that discards the last reference may dispose this instance.
+            if (!isDisposeIfUnreferenced || this.numReferences != 0 || this.isDisposing) return;
+            this.isDisposing = true;
         }
+        this.doDisposeUnreferenced();
     }
 
     @Override
@@ -78,7 +78,13 @@ public class LocalFileSystem implements FileSystem {
         }
     }
 
-    private static File toFile(String fileUrl) throws URISyntaxException, MalformedURLException {
+    /**
+     * Converts a URL to a {@link File} object.
+     *
+     * @param fileUrl the URL; should use the {@code file} protocol
+     * @return the {@link File}
+     */
+    public static File toFile(String fileUrl) throws URISyntaxException, MalformedURLException {
         if (fileUrl.startsWith("file:")) {
             return new File(new URL(fileUrl).toURI());
         } else {
@@ -4,6 +4,9 @@ package org.qcri.rheem.core.util.mathex;
 import org.qcri.rheem.core.util.mathex.exceptions.EvaluationException;
 import org.qcri.rheem.core.util.mathex.model.Constant;
 
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
 /**
  * A mathematical expression that can be evaluated.
  */
@@ -36,6 +39,17 @@ public interface Expression {
 
     double evaluate(Context context) throws EvaluationException;
 
+    /**
+     * Compile this instance into a {@link ToDoubleFunction} that is served its variables positionally. Usually, this
+     * instance should be {@link #specify(Context) specified} first, so that all functions are resolved.
+     *
+     * @param variableIndices maps variable names to their positions in the {@code double[]} argument; variables
+     *                        that are not yet in there will be appended
+     * @return the compiled instance
+     * @throws EvaluationException if this instance cannot be compiled, e.g., because of unresolved functions
+     */
+    ToDoubleFunction<double[]> compile(Map<String, Integer> variableIndices) throws EvaluationException;
+
     /**
      * Turn this dynamic instance into a more static one by directly incorporating the given {@link Context}.
      *
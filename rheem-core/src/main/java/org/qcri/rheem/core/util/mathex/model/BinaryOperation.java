@@ -5,6 +5,9 @@ import org.qcri.rheem.core.util.mathex.Context;
 import org.qcri.rheem.core.util.mathex.Expression;
 import org.qcri.rheem.core.util.mathex.exceptions.EvaluationException;
 
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
 /**
  * An operation {@link Expression}.
  */
@@ -53,6 +56,28 @@ public class BinaryOperation implements Expression {
         return defaultSpecification;
     }
 
+    @Override
+    public ToDoubleFunction<double[]> compile(Map<String, Integer> variableIndices) {
+        final ToDoubleFunction<double[]> operand0 = this.operand0.compile(variableIndices);
+        final ToDoubleFunction<double[]> operand1 = this.operand1.compile(variableIndices);
+        switch (this.operator) {
+            case '+':
+                return vars -> operand0.applyAsDouble(vars) + operand1.applyAsDouble(vars);
+            case '-':
+                return vars -> operand0.applyAsDouble(vars) - operand1.applyAsDouble(vars);
+            case '*':
+                return vars -> operand0.applyAsDouble(vars) * operand1.applyAsDouble(vars);
+            case '/':
+                return vars -> operand0.applyAsDouble(vars) / operand1.applyAsDouble(vars);
+            case '%':
+                return vars -> operand0.applyAsDouble(vars) % operand1.applyAsDouble(vars);
+            case '^':
+                return vars -> Math.pow(operand0.applyAsDouble(vars), operand1.applyAsDouble(vars));
+            default:
+                throw new EvaluationException(String.format("Unknown operator: \"%s\"", this.operator));
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("(%s)%s(%s)", this.operand0, this.operator, this.operand1);
@@ -5,6 +5,7 @@ import org.qcri.rheem.core.util.mathex.Expression;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
@@ -65,6 +66,29 @@ public class CompiledFunction implements Expression {
         return specification;
     }
 
+    @Override
+    public ToDoubleFunction<double[]> compile(Map<String, Integer> variableIndices) {
+        final ToDoubleFunction<double[]> implementation = this.implementation;
+        final ToDoubleFunction<double[]>[] arguments = compileAll(this.arguments, variableIndices);
+        return vars -> {
+            double[] args = new double[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                args[i] = arguments[i].applyAsDouble(vars);
+            }
+            return implementation.applyAsDouble(args);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ToDoubleFunction<double[]>[] compileAll(List<Expression> expressions, Map<String, Integer> variableIndices) {
+        ToDoubleFunction<double[]>[] compiledExpressions = new ToDoubleFunction[expressions.size()];
+        int i = 0;
+        for (Expression expression : expressions) {
+            compiledExpressions[i++] = expression.compile(variableIndices);
+        }
+        return compiledExpressions;
+    }
+
     @Override
     public String toString() {
         return this.name + this.arguments.stream().map(Object::toString).collect(Collectors.joining(", ", "(", ")"));
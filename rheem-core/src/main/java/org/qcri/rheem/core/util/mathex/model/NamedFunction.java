@@ -5,6 +5,7 @@ import org.qcri.rheem.core.util.mathex.Expression;
 import org.qcri.rheem.core.util.mathex.exceptions.EvaluationException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
@@ -61,6 +62,11 @@ public class NamedFunction implements Expression {
         return defaultSpecification;
     }
 
+    @Override
+    public ToDoubleFunction<double[]> compile(Map<String, Integer> variableIndices) {
+        throw new EvaluationException(String.format("Cannot compile unresolved function \"%s\".", this.name));
+    }
+
     @Override
     public String toString() {
         return this.name + this.arguments.stream().map(Object::toString).collect(Collectors.joining(", ", "(", ")"));
@@ -4,6 +4,9 @@ package org.qcri.rheem.core.util.mathex.model;
 import org.qcri.rheem.core.util.mathex.Context;
 import org.qcri.rheem.core.util.mathex.Expression;
 
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
 /**
  * A variable {@link Expression}
  */
@@ -20,6 +23,12 @@ public class Variable implements Expression {
         return context.getVariable(this.name);
     }
 
+    @Override
+    public ToDoubleFunction<double[]> compile(Map<String, Integer> variableIndices) {
+        final int index = variableIndices.computeIfAbsent(this.name, name -> variableIndices.size());
+        return vars -> vars[index];
+    }
+
     @Override
     public String toString() {
         return this.name;
@@ -0,0 +1,78 @@
+package org.qcri.rheem.core.monitor;
+
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test suite for {@link FileMonitor}.
+ */
+public class FileMonitorTest {
+
+    private File directory;
+
+    private Configuration configuration;
+
+    @Before
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("rheem-file-monitor").toFile();
+        this.configuration = new Configuration();
+        this.configuration.setProperty(Monitor.DEFAULT_MONITOR_BASE_URL_PROPERTY_KEY, this.directory.toURI().toString());
+    }
+
+    @Test
+    public void testWritesExecutionPlanOnInitialization() throws IOException {
+        Map<String, Object> stage = new HashMap<>();
+        stage.put("name", "stage1");
+        List<Map> executionPlan = Collections.singletonList(stage);
+
+        new FileMonitor().initialize(this.configuration, "run1", executionPlan);
+
+        final JSONObject execPlan = this.readJson("run1/execplan.json");
+        Assert.assertEquals("run1", execPlan.getString("run_id"));
+        Assert.assertEquals("stage1", execPlan.getJSONArray("stages").getJSONObject(0).getString("name"));
+        Assert.assertFalse(new File(this.directory, "run1/progress.json").exists());
+    }
+
+    @Test
+    public void testExportRewritesProgressAndMetrics() throws IOException {
+        final FileMonitor monitor = new FileMonitor();
+        monitor.initialize(this.configuration, "run2", Collections.emptyList());
+
+        JobMetrics metrics = new JobMetrics("run2");
+        metrics.updateProgress("map", 40);
+        metrics.getOperatorMetrics("map").addOutputDataQuanta(10, 100);
+        monitor.export(metrics);
+
+        Assert.assertEquals(40, this.readJson("run2/progress.json").getInt("overall"));
+        Assert.assertEquals(10, this.readJson("run2/metrics.json")
+                .getJSONObject("operators").getJSONObject("map").getLong("output_quanta"));
+
+        // Another export should replace the files rather than append to them.
+        metrics.updateProgress("map", 100);
+        metrics.getOperatorMetrics("map").addOutputDataQuanta(5, 50);
+        monitor.export(metrics);
+
+        Assert.assertEquals(100, this.readJson("run2/progress.json").getInt("overall"));
+        Assert.assertEquals(15, this.readJson("run2/metrics.json")
+                .getJSONObject("operators").getJSONObject("map").getLong("output_quanta"));
+    }
+
+    private JSONObject readJson(String path) throws IOException {
+        return new JSONObject(new String(
+                Files.readAllBytes(new File(this.directory, path).toPath()), StandardCharsets.UTF_8
+        ));
+    }
+
+}
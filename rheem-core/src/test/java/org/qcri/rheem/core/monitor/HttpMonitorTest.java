@@ -0,0 +1,102 @@
+package org.qcri.rheem.core.monitor;
+
+import org.apache.commons.io.IOUtils;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Test suite for {@link HttpMonitor}.
+ */
+public class HttpMonitorTest {
+
+    private HttpMonitor monitor;
+
+    @Before
+    public void setUp() throws IOException {
+        this.monitor = new HttpMonitor();
+        this.monitor.initialize(new Configuration(), "http-run", Collections.emptyList());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.monitor.close();
+    }
+
+    @Test
+    public void testServesExecutionPlan() throws IOException {
+        Assert.assertTrue(this.monitor.getPort() > 0);
+
+        final HttpURLConnection connection = (HttpURLConnection) this.createUrl("/execplan").openConnection();
+        try {
+            Assert.assertEquals(200, connection.getResponseCode());
+            Assert.assertEquals("application/json; charset=utf-8", connection.getContentType());
+            try (InputStream inputStream = connection.getInputStream()) {
+                final JSONObject execPlan = new JSONObject(IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+                Assert.assertEquals("http-run", execPlan.getString("run_id"));
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @Test
+    public void testServesLatestExport() throws IOException {
+        // Nothing has been exported yet.
+        Assert.assertEquals(0, this.fetchJson("/metrics").length());
+
+        JobMetrics metrics = new JobMetrics("http-run");
+        metrics.updateProgress("map", 60);
+        metrics.getOperatorMetrics("map").addOutputDataQuanta(10, 100);
+        this.monitor.export(metrics);
+
+        Assert.assertEquals(60, this.fetchJson("/progress").getInt("overall"));
+        Assert.assertEquals(10, this.fetchJson("/metrics")
+                .getJSONObject("operators").getJSONObject("map").getLong("output_quanta"));
+
+        // Later updates should only be visible after the next export.
+        metrics.getOperatorMetrics("map").addOutputDataQuanta(5, 50);
+        Assert.assertEquals(10, this.fetchJson("/metrics")
+                .getJSONObject("operators").getJSONObject("map").getLong("output_quanta"));
+        this.monitor.export(metrics);
+        Assert.assertEquals(15, this.fetchJson("/metrics")
+                .getJSONObject("operators").getJSONObject("map").getLong("output_quanta"));
+    }
+
+    @Test
+    public void testCloseStopsServer() throws IOException {
+        final URL url = this.createUrl("/progress");
+        this.monitor.close();
+
+        Assert.assertEquals(-1, this.monitor.getPort());
+        try (InputStream ignored = url.openStream()) {
+            Assert.fail("The server should not accept requests after closing.");
+        } catch (IOException e) {
+            // Expected.
+        }
+    }
+
+    private URL createUrl(String path) throws IOException {
+        return new URL(String.format(
+                "http://%s:%d%s", InetAddress.getLoopbackAddress().getHostAddress(), this.monitor.getPort(), path
+        ));
+    }
+
+    private JSONObject fetchJson(String path) throws IOException {
+        try (InputStream inputStream = this.createUrl(path).openStream()) {
+            return new JSONObject(IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.qcri.rheem.core.monitor;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+
+/**
+ * Test suite for {@link JmxMonitor}.
+ */
+public class JmxMonitorTest {
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    private JmxMonitor monitor;
+
+    private ObjectName objectName;
+
+    @Before
+    public void setUp() throws IOException, JMException {
+        this.monitor = new JmxMonitor();
+        this.monitor.initialize(new Configuration(), "jmx:run", Collections.emptyList());
+        this.objectName = new ObjectName("org.qcri.rheem:type=Job,runId=" + ObjectName.quote("jmx:run"));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.monitor.close();
+    }
+
+    @Test
+    public void testAttributesReflectLatestExport() throws Exception {
+        Assert.assertTrue(this.mBeanServer.isRegistered(this.objectName));
+        Assert.assertEquals("jmx:run", this.mBeanServer.getAttribute(this.objectName, "RunId"));
+        Assert.assertEquals(0, this.mBeanServer.getAttribute(this.objectName, "OverallProgress"));
+
+        JobMetrics metrics = new JobMetrics("jmx:run");
+        metrics.updateProgress("map", 100);
+        metrics.updateProgress("reduce", 20);
+        metrics.getOperatorMetrics("map").addExecution(3000000L, 2000000L);
+        metrics.getOperatorMetrics("map").addOutputDataQuanta(10, 100);
+        this.monitor.export(metrics);
+
+        Assert.assertEquals(60, this.mBeanServer.getAttribute(this.objectName, "OverallProgress"));
+        // Maps are exposed as TabularData with "key" and "value" items.
+        Assert.assertEquals(20, this.getMapValue("Progress", "reduce"));
+        Assert.assertEquals(10L, this.getMapValue("OutputDataQuanta", "map"));
+        Assert.assertEquals(3L, this.getMapValue("WallTimeMillis", "map"));
+        Assert.assertEquals(2L, this.getMapValue("CpuTimeMillis", "map"));
+        final JSONObject metricsJson = new JSONObject((String) this.mBeanServer.getAttribute(this.objectName, "MetricsJson"));
+        Assert.assertEquals(1, metricsJson.getJSONObject("operators").getJSONObject("map").getLong("executions"));
+    }
+
+    @Test
+    public void testDuplicateRunIdIsRejected() {
+        try {
+            new JmxMonitor().initialize(new Configuration(), "jmx:run", Collections.emptyList());
+            Assert.fail("Registering a second MBean for the same run should fail.");
+        } catch (IOException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testCloseUnregistersMBean() throws IOException {
+        this.monitor.close();
+        Assert.assertFalse(this.mBeanServer.isRegistered(this.objectName));
+
+        // Closing again should do no harm.
+        this.monitor.close();
+    }
+
+    private Object getMapValue(String attribute, String key) throws JMException {
+        final TabularData tabularData = (TabularData) this.mBeanServer.getAttribute(this.objectName, attribute);
+        final CompositeData entry = tabularData.get(new Object[]{key});
+        Assert.assertNotNull(String.format("No entry for %s in %s.", key, attribute), entry);
+        return entry.get("value");
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.qcri.rheem.core.monitor;
+
+import org.apache.commons.io.IOUtils;
+import org.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link MetricsReporter} and the {@link Monitor}s.
+ */
+public class MetricsReporterTest {
+
+    private static JobMetrics createMetrics(String runId) {
+        JobMetrics metrics = new JobMetrics(runId);
+        metrics.updateProgress("map", 100);
+        metrics.updateProgress("reduce", 50);
+        IntStream.range(0, 1000).parallel().forEach(i -> {
+            metrics.getOperatorMetrics("map").addExecution(1000000L, -1L);
+            metrics.getOperatorMetrics("map").addOutputDataQuanta(10, 100);
+        });
+        metrics.getConversionMetrics("A -> B").addExecution(2000000L, 1000000L);
+        metrics.addStageExecution("stage1", "Java Streams", 1L, 2L);
+        return metrics;
+    }
+
+    @Test
+    public void testConcurrentUpdates() {
+        final JobMetrics metrics = createMetrics("run");
+        final OperatorMetrics mapMetrics = metrics.getOperatorMetrics("map");
+        Assert.assertEquals(1000, mapMetrics.getNumExecutions());
+        Assert.assertEquals(10000, mapMetrics.getNumOutputDataQuanta());
+        Assert.assertEquals(100000, mapMetrics.getNumOutputBytes());
+        Assert.assertEquals(0, mapMetrics.getCpuTimeNanos());
+        Assert.assertEquals(75, metrics.getOverallProgress());
+
+        final JSONObject json = metrics.toJson();
+        Assert.assertEquals(1000, json.getJSONObject("operators").getJSONObject("map").getLong("wall_ms"));
+        Assert.assertEquals(1, json.getJSONObject("conversions").getJSONObject("A -> B").getLong("cpu_ms"));
+        Assert.assertEquals("stage1", json.getJSONArray("stages").getJSONObject(0).getString("stage"));
+    }
+
+    @Test
+    public void testFileMonitor() throws Exception {
+        final File directory = Files.createTempDirectory("rheem-monitor").toFile();
+        Configuration configuration = new Configuration();
+        configuration.setProperty(Monitor.DEFAULT_MONITOR_BASE_URL_PROPERTY_KEY, directory.toURI().toString());
+        final FileMonitor monitor = new FileMonitor();
+        monitor.initialize(configuration, "run", Collections.emptyList());
+
+        new MetricsReporter(createMetrics("run"), Collections.singletonList(monitor), 60000L).close();
+
+        final JSONObject progress = new JSONObject(new String(
+                Files.readAllBytes(new File(directory, "run/progress.json").toPath()), StandardCharsets.UTF_8
+        ));
+        Assert.assertEquals(75, progress.getInt("overall"));
+        final JSONObject metrics = new JSONObject(new String(
+                Files.readAllBytes(new File(directory, "run/metrics.json").toPath()), StandardCharsets.UTF_8
+        ));
+        Assert.assertEquals(1000, metrics.getJSONObject("operators").getJSONObject("map").getLong("executions"));
+        Assert.assertTrue(new File(directory, "run/execplan.json").exists());
+    }
+
+    @Test
+    public void testHttpAndJmxMonitors() throws Exception {
+        final HttpMonitor httpMonitor = new HttpMonitor();
+        final JmxMonitor jmxMonitor = new JmxMonitor();
+        httpMonitor.initialize(new Configuration(), "http-run", Collections.emptyList());
+        jmxMonitor.initialize(new Configuration(), "jmx-run", Collections.emptyList());
+        final MetricsReporter reporter = new MetricsReporter(
+                createMetrics("jmx-run"), Arrays.asList(httpMonitor, jmxMonitor), 10L
+        );
+        try {
+            // Wait for the first export.
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName("org.qcri.rheem:type=Job,runId=\"jmx-run\"");
+            for (int i = 0; i < 100 && (Integer) mBeanServer.getAttribute(objectName, "OverallProgress") == 0; i++) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(75, mBeanServer.getAttribute(objectName, "OverallProgress"));
+
+            final URL url = new URL(String.format(
+                    "http://%s:%d/metrics", InetAddress.getLoopbackAddress().getHostAddress(), httpMonitor.getPort()
+            ));
+            try (InputStream inputStream = url.openStream()) {
+                final JSONObject metrics = new JSONObject(IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+                Assert.assertEquals(10000, metrics.getJSONObject("operators").getJSONObject("map").getLong("output_quanta"));
+            }
+        } finally {
+            reporter.close();
+        }
+        Assert.assertEquals(-1, httpMonitor.getPort());
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(
+                new ObjectName("org.qcri.rheem:type=Job,runId=\"jmx-run\"")
+        ));
+    }
+
+}
@@ -163,6 +163,39 @@ public class ChannelConversionGraphTest {
         );
     }
 
+    @Test
+    public void findConversionForNonReusableSourceWithDifferentDestinations() throws Exception {
+        ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(new Configuration());
+        channelConversionGraph.add(nonReusableToReusableChannelConversion);
+
+        ExecutionOperator sourceOperator = new DummyExecutionOperator(0, 1, false);
+        sourceOperator.getSupportedOutputChannels(0).add(DummyNonReusableChannel.DESCRIPTOR);
+
+        // Both destinations could consume the source channel directly, but it cannot be shared.
+        ExecutionOperator destOperator0 = new DummyExecutionOperator(1, 1, false);
+        destOperator0.getSupportedInputChannels(0).add(DummyNonReusableChannel.DESCRIPTOR);
+        destOperator0.getSupportedInputChannels(0).add(DummyReusableChannel.DESCRIPTOR);
+        destOperator0.getSupportedInputChannels(0).add(DummyExternalReusableChannel.DESCRIPTOR);
+
+        ExecutionOperator destOperator1 = new DummyExecutionOperator(1, 1, false);
+        destOperator1.getSupportedInputChannels(0).add(DummyNonReusableChannel.DESCRIPTOR);
+        destOperator1.getSupportedInputChannels(0).add(DummyReusableChannel.DESCRIPTOR);
+
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(job);
+        optimizationContext.addOneTimeOperator(sourceOperator).setOutputCardinality(0, new CardinalityEstimate(1000, 10000, 0.8d));
+
+        Junction junction = channelConversionGraph.findMinimumCostJunction(
+                sourceOperator.getOutput(0),
+                Arrays.asList(destOperator0.getInput(0), destOperator1.getInput(0)),
+                optimizationContext,
+                false
+        );
+
+        Assert.assertNotNull(junction);
+        Assert.assertTrue(junction.getTargetChannel(0) instanceof DummyReusableChannel);
+        Assert.assertTrue(junction.getTargetChannel(1) instanceof DummyReusableChannel);
+    }
+
     @Test
     public void updateExistingConversionWithOnlySourceChannel() throws Exception {
         ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(new Configuration());
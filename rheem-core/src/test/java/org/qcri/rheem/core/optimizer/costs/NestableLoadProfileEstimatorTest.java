@@ -12,7 +12,9 @@ import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.Platform;
 import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.JuelUtils;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -86,6 +88,31 @@ public class NestableLoadProfileEstimatorTest {
         Assert.assertEquals(143, estimate.getOverheadMillis());
     }
 
+    @Test
+    public void testJuelAndMathExRounding() {
+        final String template = "{\"type\":\"%s\",\"in\":1,\"out\":1,\"p\":1,\"cpu\":\"%s\",\"ram\":\"0\"}";
+        final SimpleEstimationContext estimationContext = new SimpleEstimationContext(
+                new CardinalityEstimate[]{new CardinalityEstimate(5, 5, 1d)},
+                new CardinalityEstimate[]{new CardinalityEstimate(5, 5, 1d)},
+                new TObjectDoubleHashMap<>(),
+                1
+        );
+
+        // JUEL coerces to Long by truncation, MathEx rounds.
+        final JuelUtils.JuelFunction<Long> juelFunction = new JuelUtils.JuelFunction<>(
+                "${in0 / 2}", Long.class, Collections.singletonMap("in0", Long.class)
+        );
+        Assert.assertEquals(2L, (long) juelFunction.apply(Collections.singletonMap("in0", 5L)));
+        final LoadProfile juelEstimate = LoadProfileEstimators.createFromSpecification(
+                null, String.format(template, "juel", "${in0 / 2}")
+        ).estimate(estimationContext);
+        Assert.assertEquals(2, juelEstimate.getCpuUsage().getLowerEstimate());
+        final LoadProfile mathExEstimate = LoadProfileEstimators.createFromSpecification(
+                null, String.format(template, "mathex", "in0 / 2")
+        ).estimate(estimationContext);
+        Assert.assertEquals(3, mathExEstimate.getCpuUsage().getLowerEstimate());
+    }
+
     @Test
     public void testFromJuelSpecificationWithImport() {
         String specification = "{" +
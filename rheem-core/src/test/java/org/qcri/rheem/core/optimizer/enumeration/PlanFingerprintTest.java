@@ -0,0 +1,112 @@
+package org.qcri.rheem.core.optimizer.enumeration;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.plan.rheemplan.test.TestSink;
+import org.qcri.rheem.core.plan.rheemplan.test.TestSource;
+import org.qcri.rheem.core.test.MockFactory;
+import org.qcri.rheem.core.types.DataSetType;
+
+import java.util.function.Function;
+
+/**
+ * Test suite for {@link PlanFingerprint}.
+ */
+public class PlanFingerprintTest {
+
+    private OptimizationContext optimizationContext;
+
+    @Before
+    public void setUp() {
+        this.optimizationContext = MockFactory.createJob(new Configuration()).getOptimizationContext();
+    }
+
+    @Test
+    public void testSamePlansHaveSameFingerprint() {
+        final PlanFingerprint fingerprint1 = this.fingerprint(createPlan(createIncrement(1)));
+        final PlanFingerprint fingerprint2 = this.fingerprint(createPlan(createIncrement(1)));
+
+        Assert.assertTrue(fingerprint1.isCacheable());
+        Assert.assertTrue(fingerprint2.isCacheable());
+        Assert.assertEquals(fingerprint1.getHash(), fingerprint2.getHash());
+    }
+
+    @Test
+    public void testDifferentLambdasHaveDifferentFingerprints() {
+        final PlanFingerprint fingerprint1 = this.fingerprint(createPlan(i -> i + 1));
+        final PlanFingerprint fingerprint2 = this.fingerprint(createPlan(i -> i * 2));
+
+        Assert.assertTrue(fingerprint1.isCacheable());
+        Assert.assertTrue(fingerprint2.isCacheable());
+        Assert.assertNotEquals(fingerprint1.getHash(), fingerprint2.getHash());
+    }
+
+    @Test
+    public void testDifferentMethodReferencesHaveDifferentFingerprints() {
+        final PlanFingerprint fingerprint1 = this.fingerprint(createPlan(Math::abs));
+        final PlanFingerprint fingerprint2 = this.fingerprint(createPlan(Integer::reverse));
+
+        Assert.assertNotEquals(fingerprint1.getHash(), fingerprint2.getHash());
+    }
+
+    @Test
+    public void testDifferentCapturedValuesHaveDifferentFingerprints() {
+        final PlanFingerprint fingerprint1 = this.fingerprint(createPlan(createIncrement(1)));
+        final PlanFingerprint fingerprint2 = this.fingerprint(createPlan(createIncrement(2)));
+
+        Assert.assertTrue(fingerprint1.isCacheable());
+        Assert.assertTrue(fingerprint2.isCacheable());
+        Assert.assertNotEquals(fingerprint1.getHash(), fingerprint2.getHash());
+    }
+
+    @Test
+    public void testLambdaWithCapturedObjectIsNotCacheable() {
+        final Function<Integer, Integer> function = i -> i + 1;
+        final PlanFingerprint fingerprint = this.fingerprint(createPlan(function::apply));
+
+        Assert.assertFalse(fingerprint.isCacheable());
+    }
+
+    private PlanFingerprint fingerprint(RheemPlan rheemPlan) {
+        return PlanFingerprint.of(rheemPlan, this.optimizationContext);
+    }
+
+    private static FunctionDescriptor.SerializableFunction<Integer, Integer> createIncrement(int increment) {
+        return i -> i + increment;
+    }
+
+    private static RheemPlan createPlan(FunctionDescriptor.SerializableFunction<Integer, Integer> udf) {
+        return createPlan(new TransformationDescriptor<>(udf, Integer.class, Integer.class));
+    }
+
+    private static RheemPlan createPlan(TransformationDescriptor<Integer, Integer> descriptor) {
+        TestSource<Integer> source = new TestSource<>(DataSetType.createDefault(Integer.class));
+        UdfOperator udfOperator = new UdfOperator(descriptor);
+        TestSink<Integer> sink = new TestSink<>(DataSetType.createDefault(Integer.class));
+        source.connectTo(0, udfOperator, 0);
+        udfOperator.connectTo(0, sink, 0);
+        return new RheemPlan(sink);
+    }
+
+    /**
+     * Operator with a UDF.
+     */
+    private static class UdfOperator extends UnaryToUnaryOperator<Integer, Integer> {
+
+        private final TransformationDescriptor<Integer, Integer> udf;
+
+        private UdfOperator(TransformationDescriptor<Integer, Integer> udf) {
+            super(DataSetType.createDefault(Integer.class), DataSetType.createDefault(Integer.class), false);
+            this.udf = udf;
+        }
+
+    }
+
+}
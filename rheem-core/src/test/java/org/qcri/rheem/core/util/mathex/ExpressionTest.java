@@ -9,6 +9,9 @@ import org.qcri.rheem.core.util.mathex.model.NamedFunction;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Test suite for the {@link Expression} subclasses.
@@ -89,4 +92,28 @@ public class ExpressionTest {
         }
     }
 
+    @Test
+    public void testCompilation() {
+        final Expression expression = ExpressionBuilder.parse("-(2 * a + b % 3) / ln(c) ^ 2 + max(a, b, 7) - 1.5")
+                .specify(Context.baseContext);
+        final Map<String, Integer> variableIndices = new LinkedHashMap<>();
+        final ToDoubleFunction<double[]> compiledExpression = expression.compile(variableIndices);
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), Arrays.asList(variableIndices.keySet().toArray()));
+
+        DefaultContext ctx = new DefaultContext();
+        ctx.setVariable("a", 5.1);
+        ctx.setVariable("b", 11);
+        ctx.setVariable("c", 42);
+        Assert.assertEquals(
+                expression.evaluate(ctx),
+                compiledExpression.applyAsDouble(new double[]{5.1, 11, 42}),
+                0d
+        );
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testCompilationFailsOnUnresolvedFunction() {
+        ExpressionBuilder.parse("myFunction(23)").specify(Context.baseContext).compile(new LinkedHashMap<>());
+    }
+
 }
@@ -1,5 +1,6 @@
 package org.qcri.rheem.iejoin.operators;
 
+import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
@@ -8,24 +9,19 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
-import org.qcri.rheem.iejoin.data.Data;
-import org.qcri.rheem.iejoin.operators.java_helpers.BitSetJoin;
-import org.qcri.rheem.iejoin.operators.java_helpers.DataComparator;
-import org.qcri.rheem.iejoin.operators.java_helpers.extractData;
+import org.qcri.rheem.iejoin.operators.java_helpers.PrimitiveIEJoin;
 import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
-import scala.Tuple2;
 
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
- * Java implementation of the {@link IEJoinOperator}.
+ * Java implementation of the {@link IEJoinOperator}. In parallel mode, it joins bands of the pivot order concurrently.
  */
 public class JavaIEJoinOperator<Type0 extends Comparable<Type0>, Type1 extends Comparable<Type1>, Input>
         extends IEJoinOperator<Type0, Type1, Input>
@@ -48,69 +44,38 @@ public class JavaIEJoinOperator<Type0 extends Comparable<Type0>, Type1 extends C
             OptimizationContext.OperatorContext operatorContext) {
         StreamChannel.Instance outputChannel = (StreamChannel.Instance) outputs[0];
 
-        Stream<Input> stream0;
-        Stream<Input> stream1;
-        if (inputs[0] instanceof CollectionChannel.Instance) {
-            final Collection<Input> collection = ((CollectionChannel.Instance) inputs[0]).provideCollection();
-            stream0 = collection.stream();
-            stream1 = ((JavaChannelInstance) inputs[1]).provideStream();
-        } else if (inputs[1] instanceof CollectionChannel.Instance) {
-            stream0 = ((JavaChannelInstance) inputs[0]).provideStream();
-            final Collection<Input> collection = ((CollectionChannel.Instance) inputs[1]).provideCollection();
-            stream1 = collection.stream();
-        } else {
-            // Fallback: Materialize one side.
-            final Collection<Input> collection = ((JavaChannelInstance) inputs[0]).<Input>provideStream().collect(Collectors.toList());
-            stream0 = collection.stream();
-            stream1 = ((JavaChannelInstance) inputs[1]).provideStream();
-        }
+        final List<Input> input0 = materialize(inputs[0]);
+        final List<Input> input1 = materialize(inputs[1]);
 
         final Function<Input, Type0> get0Pivot_ = javaExecutor.getCompiler().compile(this.get0Pivot);
         final Function<Input, Type0> get1Pivot_ = javaExecutor.getCompiler().compile(this.get1Pivot);
         final Function<Input, Type1> get0Ref_ = javaExecutor.getCompiler().compile(this.get0Ref);
         final Function<Input, Type1> get1Ref_ = javaExecutor.getCompiler().compile(this.get1Ref);
 
-        Object[] stream0R = stream0.toArray();
-        Object[] stream1R = stream1.toArray();
-
-        ArrayList<Tuple2<Data<Type0, Type1>, Input>> list0 = new ArrayList<Tuple2<Data<Type0, Type1>, Input>>();
-        ArrayList<Tuple2<Data<Type0, Type1>, Input>> list1 = new ArrayList<Tuple2<Data<Type0, Type1>, Input>>();
-
-        for (int i = 0; i < stream0R.length; i++) {
-            list0.add(new Tuple2<Data<Type0, Type1>, Input>(new extractData<Type0, Type1, Input>(get0Pivot_, get0Ref_).call((Input) stream0R[i]), (Input) stream0R[i]));
-        }
-        for (int i = 0; i < stream1R.length; i++) {
-            list1.add(new Tuple2<Data<Type0, Type1>, Input>(new extractData<Type0, Type1, Input>(get1Pivot_, get1Ref_).call((Input) stream1R[i]), (Input) stream1R[i]));
-        }
-
-        Collections.sort(list0, new DataComparator<Type0, Type1, Input>(list1ASC, list1ASCSec));
-        Collections.sort(list1, new DataComparator<Type0, Type1, Input>(list2ASC, list2ASCSec));
-
-        long partCount = list0.size();
-        long partCount2 = list1.size();
-
-        // count starting point for rdd2
-        long cnt2 = partCount + 1;
-
-        // Give unique ID for rdd1 & rdd2
-        for (int i = 0; i < partCount; i++) {
-            list0.get(i)._1().setRowID(i);
-        }
-        for (int i = 0; i < partCount2; i++) {
-            list1.get(i)._1().setRowID(i + cnt2);
-        }
+        final int numBands = javaExecutor.isParallel() ? PrimitiveIEJoin.proposeNumBands(input0.size() + input1.size()) : 1;
+        final List<Tuple2<Input, Input>> result = PrimitiveIEJoin.join(
+                input0, get0Pivot_, get0Ref_,
+                input1, get1Pivot_, get1Ref_,
+                this.cond0, this.cond1, numBands
+        );
+        outputChannel.accept(result);
 
-        ArrayList<Tuple2<Input, Input>> result = new BitSetJoin<Type0, Type1, Input>(list1ASC, list2ASC,
-                list1ASCSec, list2ASCSec, equalReverse, false, cond0).call(list0, list1);
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
 
-        ArrayList<org.qcri.rheem.basic.data.Tuple2<Input, Input>> result2 = new ArrayList<>();
-        for (Tuple2<Input, Input> t : result) {
-            result2.add(new org.qcri.rheem.basic.data.Tuple2<>(t._1(), t._2()));
+    /**
+     * Provides the data quanta of a {@link ChannelInstance} as a {@link List}.
+     *
+     * @param channelInstance the {@link ChannelInstance}
+     * @return the data quanta
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> materialize(ChannelInstance channelInstance) {
+        if (channelInstance instanceof CollectionChannel.Instance) {
+            final Collection<T> collection = ((CollectionChannel.Instance) channelInstance).provideCollection();
+            return collection instanceof List ? (List<T>) collection : new ArrayList<>(collection);
         }
-
-        outputChannel.accept(result2);
-
-        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+        return ((JavaChannelInstance) channelInstance).<T>provideStream().collect(Collectors.toList());
     }
 
     @Override
@@ -0,0 +1,254 @@
+package org.qcri.rheem.iejoin.operators.java_helpers;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.iejoin.operators.IEJoinMasterOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Inequality join on primitive arrays. The pivot and reference keys are replaced by their ranks, so that all sorting
+ * and comparing works on {@code int}s. The data quanta are then visited in pivot order: each data quantum of the
+ * first input is registered in a bit array that is ordered by the reference keys, and each data quantum of the second
+ * input is joined with all registered data quanta in the qualifying prefix of that bit array.
+ * <p>To parallelize the join, the pivot order is split into bands that are processed independently.</p>
+ */
+public class PrimitiveIEJoin {
+
+    /**
+     * Minimum number of data quanta per band to justify the setup costs of a band.
+     */
+    private static final int MIN_BAND_SIZE = 1 << 12;
+
+    /**
+     * Proposes a number of bands for the given amount of data quanta to keep all processors busy.
+     *
+     * @param numDataQuanta the number of data quanta in both inputs
+     * @return the number of bands
+     */
+    public static int proposeNumBands(int numDataQuanta) {
+        final int maxNumBands = 4 * Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(maxNumBands, numDataQuanta / MIN_BAND_SIZE));
+    }
+
+    /**
+     * Finds all pairs of data quanta {@code (x, y)} from the two inputs with
+     * {@code pivot0(x) cond0 pivot1(y)} and {@code ref0(x) cond1 ref1(y)}. For self-joins, the same {@link List} and
+     * key extractors may be passed for both inputs.
+     *
+     * @param input0    the first input
+     * @param get0Pivot extracts the pivot key from the first input
+     * @param get0Ref   extracts the reference key from the first input
+     * @param input1    the second input
+     * @param get1Pivot extracts the pivot key from the second input
+     * @param get1Ref   extracts the reference key from the second input
+     * @param cond0     the condition on the pivot keys
+     * @param cond1     the condition on the reference keys
+     * @param numBands  the number of bands to process in parallel
+     * @return the join product
+     */
+    public static <Type0 extends Comparable<Type0>, Type1 extends Comparable<Type1>, Input>
+    List<Tuple2<Input, Input>> join(List<Input> input0, Function<Input, Type0> get0Pivot, Function<Input, Type1> get0Ref,
+                                    List<Input> input1, Function<Input, Type0> get1Pivot, Function<Input, Type1> get1Ref,
+                                    IEJoinMasterOperator.JoinCondition cond0, IEJoinMasterOperator.JoinCondition cond1,
+                                    int numBands) {
+        final int size0 = input0.size(), size1 = input1.size(), size = size0 + size1;
+        if (size0 == 0 || size1 == 0) return Collections.emptyList();
+
+        // Rank the keys, such that both join conditions become "<" or "<=". Indices from size0 on refer to input1.
+        final Comparable[] pivots = new Comparable[size], refs = new Comparable[size];
+        for (int i = 0; i < size0; i++) {
+            final Input dataQuantum = input0.get(i);
+            pivots[i] = get0Pivot.apply(dataQuantum);
+            refs[i] = get0Ref.apply(dataQuantum);
+        }
+        for (int i = 0; i < size1; i++) {
+            final Input dataQuantum = input1.get(i);
+            pivots[size0 + i] = get1Pivot.apply(dataQuantum);
+            refs[size0 + i] = get1Ref.apply(dataQuantum);
+        }
+        final int[] pivotRanks = rank(pivots, isDescending(cond0));
+        final int[] refRanks = rank(refs, isDescending(cond1));
+        final boolean isStrict0 = isStrict(cond0), isStrict1 = isStrict(cond1);
+
+        // Order all data quanta by their pivot ranks. For equal ranks, the first input goes first iff it may join
+        // with the second input, i.e., if cond0 is not strict.
+        final long[] pivotOrder = new long[size];
+        for (int i = 0; i < size; i++) {
+            final int tieBreaker = (i < size0) == isStrict0 ? 1 : 0;
+            pivotOrder[i] = pack(2 * pivotRanks[i] + tieBreaker, i);
+        }
+        Arrays.sort(pivotOrder);
+
+        // Order the first input by its reference ranks to determine the bit positions.
+        final long[] refOrder0 = new long[size0];
+        for (int i = 0; i < size0; i++) {
+            refOrder0[i] = pack(refRanks[i], i);
+        }
+        Arrays.sort(refOrder0);
+        final int[] bitPositions = new int[size0], bitOwners = new int[size0], sortedRefRanks0 = new int[size0];
+        for (int bit = 0; bit < size0; bit++) {
+            final int index = unpackIndex(refOrder0[bit]);
+            bitPositions[index] = bit;
+            bitOwners[bit] = index;
+            sortedRefRanks0[bit] = unpackKey(refOrder0[bit]);
+        }
+
+        // Determine for the second input the bit prefixes of its join partners.
+        final int[] probeBounds = new int[size1];
+        for (int i = 0; i < size1; i++) {
+            probeBounds[i] = isStrict1 ?
+                    lowerBound(sortedRefRanks0, refRanks[size0 + i]) :
+                    upperBound(sortedRefRanks0, refRanks[size0 + i]);
+        }
+
+        // Join the bands.
+        final int actualNumBands = Math.max(1, Math.min(numBands, size));
+        IntStream bands = IntStream.range(0, actualNumBands);
+        if (actualNumBands > 1) bands = bands.parallel();
+        final List<List<Tuple2<Input, Input>>> bandResults = bands
+                .mapToObj(band -> joinBand(
+                        (int) ((long) size * band / actualNumBands),
+                        (int) ((long) size * (band + 1) / actualNumBands),
+                        pivotOrder, size0, bitPositions, bitOwners, probeBounds, input0, input1
+                ))
+                .collect(Collectors.toList());
+        if (bandResults.size() == 1) return bandResults.get(0);
+        final List<Tuple2<Input, Input>> result = new ArrayList<>(bandResults.stream().mapToInt(List::size).sum());
+        bandResults.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Joins the data quanta of the second input in a band of the pivot order.
+     *
+     * @param start the start index of the band in the {@code pivotOrder}
+     * @param end   the end index (exclusive) of the band in the {@code pivotOrder}
+     * @return the join product of the band
+     */
+    private static <Input> List<Tuple2<Input, Input>> joinBand(int start,
+                                                               int end,
+                                                               long[] pivotOrder,
+                                                               int size0,
+                                                               int[] bitPositions,
+                                                               int[] bitOwners,
+                                                               int[] probeBounds,
+                                                               List<Input> input0,
+                                                               List<Input> input1) {
+        // Register all data quanta of the first input that precede the band.
+        final long[] bits = new long[(size0 + 63) >>> 6];
+        for (int k = 0; k < start; k++) {
+            final int index = unpackIndex(pivotOrder[k]);
+            if (index < size0) setBit(bits, bitPositions[index]);
+        }
+
+        // Visit the band.
+        final List<Tuple2<Input, Input>> result = new ArrayList<>();
+        for (int k = start; k < end; k++) {
+            final int index = unpackIndex(pivotOrder[k]);
+            if (index < size0) {
+                setBit(bits, bitPositions[index]);
+                continue;
+            }
+            final Input probe = input1.get(index - size0);
+            final int bound = probeBounds[index - size0];
+            final int numWords = (bound + 63) >>> 6;
+            for (int w = 0; w < numWords; w++) {
+                long word = bits[w];
+                if (w == numWords - 1 && (bound & 63) != 0) word &= (1L << bound) - 1;
+                while (word != 0L) {
+                    final int bit = (w << 6) + Long.numberOfTrailingZeros(word);
+                    result.add(new Tuple2<>(input0.get(bitOwners[bit]), probe));
+                    word &= word - 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the given keys by their dense ranks.
+     *
+     * @param keys         the keys
+     * @param isDescending whether the ranks should be descending with the keys
+     * @return the ranks
+     */
+    @SuppressWarnings("unchecked")
+    private static int[] rank(Comparable[] keys, boolean isDescending) {
+        final Comparable[] distinctKeys = keys.clone();
+        Arrays.sort(distinctKeys);
+        int numDistinctKeys = 0;
+        for (Comparable key : distinctKeys) {
+            if (numDistinctKeys == 0 || distinctKeys[numDistinctKeys - 1].compareTo(key) != 0) {
+                distinctKeys[numDistinctKeys++] = key;
+            }
+        }
+        final int[] ranks = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            final int rank = Arrays.binarySearch(distinctKeys, 0, numDistinctKeys, keys[i]);
+            ranks[i] = isDescending ? numDistinctKeys - 1 - rank : rank;
+        }
+        return ranks;
+    }
+
+    private static boolean isDescending(IEJoinMasterOperator.JoinCondition condition) {
+        return condition == IEJoinMasterOperator.JoinCondition.GreaterThan
+                || condition == IEJoinMasterOperator.JoinCondition.GreaterThanEqual;
+    }
+
+    private static boolean isStrict(IEJoinMasterOperator.JoinCondition condition) {
+        return condition == IEJoinMasterOperator.JoinCondition.GreaterThan
+                || condition == IEJoinMasterOperator.JoinCondition.LessThan;
+    }
+
+    /**
+     * Finds the number of elements in a sorted array that are smaller than the given value.
+     */
+    private static int lowerBound(int[] sortedValues, int value) {
+        int low = 0, high = sortedValues.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < value) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Finds the number of elements in a sorted array that are smaller than or equal to the given value.
+     */
+    private static int upperBound(int[] sortedValues, int value) {
+        int low = 0, high = sortedValues.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (sortedValues[mid] <= value) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Packs a sort key and an index into a {@code long}, such that the {@code long}s sort by the keys.
+     */
+    private static long pack(int key, int index) {
+        return ((long) key << 32) | index;
+    }
+
+    private static int unpackKey(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int unpackIndex(long packed) {
+        return (int) packed;
+    }
+
+    private static void setBit(long[] bits, int bit) {
+        bits[bit >>> 6] |= 1L << bit;
+    }
+
+}
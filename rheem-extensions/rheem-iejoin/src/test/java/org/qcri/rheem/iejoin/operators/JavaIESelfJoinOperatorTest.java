@@ -0,0 +1,63 @@
+package org.qcri.rheem.iejoin.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaIESelfJoinOperator}.
+ */
+public class JavaIESelfJoinOperatorTest extends JavaExecutionOperatorTestBase {
+
+
+    @Test
+    public void testExecution() {
+        //Record r1 = new Record(100, 10);
+        Record r2 = new Record(200, 20);
+        Record r3 = new Record(300, 30);
+        Record r11 = new Record(250, 5);
+        // Prepare test data.
+
+        // Build the Cartesian operator.
+        JavaIESelfJoinOperator<Integer, Integer, Record> IESelfJoinOperator =
+                new JavaIESelfJoinOperator<Integer, Integer, Record>(
+                        DataSetType.createDefaultUnchecked(Record.class),
+                        //0, JoinCondition.GreaterThan, 1, JoinCondition.LessThan
+                        new TransformationDescriptor<Record, Integer>(word -> (Integer) word.getField(0),
+                                DataUnitType.<Record>createBasic(Record.class),
+                                DataUnitType.<Integer>createBasicUnchecked(Integer.class)
+                        ),
+                        IEJoinMasterOperator.JoinCondition.GreaterThan,
+                        new TransformationDescriptor<Record, Integer>(word -> (Integer) word.getField(1),
+                                DataUnitType.<Record>createBasic(Record.class),
+                                DataUnitType.<Integer>createBasicUnchecked(Integer.class)
+                        ),
+                        IEJoinMasterOperator.JoinCondition.LessThan
+                );
+
+        // Set up the ChannelInstances.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createCollectionChannelInstance(Arrays.asList(r2, r3, r11))
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+
+        // Execute.
+        evaluate(IESelfJoinOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Tuple2<Record, Record>> result = outputs[0].<Tuple2<Record, Record>>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(1, result.size());
+        Assert.assertEquals(result.get(0), new Tuple2<Record, Record>(r11, r2));
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.qcri.rheem.iejoin.operators.java_helpers;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.iejoin.operators.IEJoinMasterOperator.JoinCondition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Test suite for {@link PrimitiveIEJoin}.
+ */
+public class PrimitiveIEJoinTest {
+
+    private static final Function<int[], Integer> PIVOT = record -> record[0];
+
+    private static final Function<int[], Integer> REF = record -> record[1];
+
+    @Test
+    public void testJoinAgainstNestedLoops() {
+        final Random random = new Random(42);
+        final List<int[]> input0 = createInput(random, 150), input1 = createInput(random, 100);
+        for (JoinCondition cond0 : JoinCondition.values()) {
+            for (JoinCondition cond1 : JoinCondition.values()) {
+                final List<String> expected = joinWithNestedLoops(input0, input1, cond0, cond1);
+                for (int numBands : new int[]{1, 3, 1000}) {
+                    final List<Tuple2<int[], int[]>> result = PrimitiveIEJoin.join(
+                            input0, PIVOT, REF, input1, PIVOT, REF, cond0, cond1, numBands
+                    );
+                    Assert.assertEquals(
+                            String.format("%s/%s with %d bands", cond0, cond1, numBands),
+                            expected, toSortedStrings(result)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSelfJoinAgainstNestedLoops() {
+        final Random random = new Random(23);
+        final List<int[]> input = createInput(random, 120);
+        for (JoinCondition cond0 : JoinCondition.values()) {
+            for (JoinCondition cond1 : JoinCondition.values()) {
+                final List<String> expected = joinWithNestedLoops(input, input, cond0, cond1);
+                final List<Tuple2<int[], int[]>> result = PrimitiveIEJoin.join(
+                        input, PIVOT, REF, input, PIVOT, REF, cond0, cond1, 4
+                );
+                Assert.assertEquals(String.format("%s/%s", cond0, cond1), expected, toSortedStrings(result));
+            }
+        }
+    }
+
+    @Test
+    public void testJoinWithEmptyInput() {
+        final List<int[]> input = createInput(new Random(1), 10);
+        Assert.assertTrue(PrimitiveIEJoin.join(
+                input, PIVOT, REF, Collections.emptyList(), PIVOT, REF, JoinCondition.LessThan, JoinCondition.LessThan, 2
+        ).isEmpty());
+    }
+
+    /**
+     * Creates records {@code [pivot, ref, id]} with many duplicate keys.
+     */
+    private static List<int[]> createInput(Random random, int size) {
+        List<int[]> input = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            input.add(new int[]{random.nextInt(20), random.nextInt(20), i});
+        }
+        return input;
+    }
+
+    private static List<String> joinWithNestedLoops(List<int[]> input0, List<int[]> input1,
+                                                    JoinCondition cond0, JoinCondition cond1) {
+        List<Tuple2<int[], int[]>> result = new ArrayList<>();
+        for (int[] record0 : input0) {
+            for (int[] record1 : input1) {
+                if (test(record0[0], cond0, record1[0]) && test(record0[1], cond1, record1[1])) {
+                    result.add(new Tuple2<>(record0, record1));
+                }
+            }
+        }
+        return toSortedStrings(result);
+    }
+
+    private static boolean test(int a, JoinCondition condition, int b) {
+        switch (condition) {
+            case LessThan:
+                return a < b;
+            case LessThanEqual:
+                return a <= b;
+            case GreaterThan:
+                return a > b;
+            case GreaterThanEqual:
+                return a >= b;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private static List<String> toSortedStrings(List<Tuple2<int[], int[]>> pairs) {
+        List<String> strings = new ArrayList<>(pairs.size());
+        for (Tuple2<int[], int[]> pair : pairs) {
+            strings.add(pair.getField0()[2] + "-" + pair.getField1()[2]);
+        }
+        strings.sort(Comparator.naturalOrder());
+        return strings;
+    }
+
+}
@@ -45,7 +45,7 @@ public class GraphChiPlatform extends Platform {
         configuration.load(ReflectionUtils.loadResource(DEFAULT_CONFIG_FILE));
     }
 
-    public static GraphChiPlatform getInstance() {
+    public static synchronized GraphChiPlatform getInstance() {
         if (instance == null) {
             instance = new GraphChiPlatform();
         }
@@ -1,7 +1,8 @@
 package org.qcri.rheem.java.channels;
 
 import org.qcri.rheem.basic.channels.FileChannel;
-import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.channels.TsvCodec;
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
 import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
 import org.qcri.rheem.core.types.DataSetType;
@@ -24,22 +25,49 @@ public class ChannelConversions {
 
     // We could add a COLLECTION_TO_STREAM conversion, but it would probably never be used.
 
+    public static final ChannelConversion STREAM_TO_COLUMNAR = new DefaultChannelConversion(
+            StreamChannel.DESCRIPTOR,
+            ColumnarRecordChannel.DESCRIPTOR,
+            () -> new JavaColumnarizeOperator(DataSetType.createDefault(Record.class))
+    );
+
+    public static final ChannelConversion COLLECTION_TO_COLUMNAR = new DefaultChannelConversion(
+            CollectionChannel.DESCRIPTOR,
+            ColumnarRecordChannel.DESCRIPTOR,
+            () -> new JavaColumnarizeOperator(DataSetType.createDefault(Record.class))
+    );
+
+    public static final ChannelConversion COLUMNAR_TO_STREAM = new DefaultChannelConversion(
+            ColumnarRecordChannel.DESCRIPTOR,
+            StreamChannel.DESCRIPTOR,
+            () -> new JavaDecolumnarizeOperator(DataSetType.createDefault(Record.class), StreamChannel.DESCRIPTOR)
+    );
+
+    public static final ChannelConversion COLUMNAR_TO_COLLECTION = new DefaultChannelConversion(
+            ColumnarRecordChannel.DESCRIPTOR,
+            CollectionChannel.DESCRIPTOR,
+            () -> new JavaDecolumnarizeOperator(DataSetType.createDefault(Record.class), CollectionChannel.DESCRIPTOR)
+    );
+
     public static final ChannelConversion STREAM_TO_HDFS_TSV = new DefaultChannelConversion(
             StreamChannel.DESCRIPTOR,
             FileChannel.HDFS_TSV_DESCRIPTOR,
-            () -> new JavaTsvFileSink<>(DataSetType.createDefaultUnchecked(Tuple2.class))
+            (channel, configuration) -> new JavaTsvFileSink<>(TsvCodec.getDataSetType(channel)),
+            "via JavaTsvFileSink"
     );
 
     public static final ChannelConversion COLLECTION_TO_HDFS_TSV = new DefaultChannelConversion(
             CollectionChannel.DESCRIPTOR,
             FileChannel.HDFS_TSV_DESCRIPTOR,
-            () -> new JavaTsvFileSink<>(DataSetType.createDefaultUnchecked(Tuple2.class))
+            (channel, configuration) -> new JavaTsvFileSink<>(TsvCodec.getDataSetType(channel)),
+            "via JavaTsvFileSink"
     );
 
     public static final ChannelConversion HDFS_TSV_TO_STREAM = new DefaultChannelConversion(
             FileChannel.HDFS_TSV_DESCRIPTOR,
             StreamChannel.DESCRIPTOR,
-            () -> new JavaTsvFileSource<>(DataSetType.createDefault(Tuple2.class))
+            (channel, configuration) -> new JavaTsvFileSource<>(null, TsvCodec.getDataSetType(channel)),
+            "via JavaTsvFileSource"
     );
 
     public static final ChannelConversion STREAM_TO_HDFS_OBJECT_FILE = new DefaultChannelConversion(
@@ -60,11 +88,36 @@ public class ChannelConversions {
             () -> new JavaObjectFileSource<>(DataSetType.createDefault(Void.class))
     );
 
+    public static final ChannelConversion STREAM_TO_HDFS_BINARY = new DefaultChannelConversion(
+            StreamChannel.DESCRIPTOR,
+            FileChannel.HDFS_BINARY_DESCRIPTOR,
+            () -> new JavaBinaryFileSink<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion COLLECTION_TO_HDFS_BINARY = new DefaultChannelConversion(
+            CollectionChannel.DESCRIPTOR,
+            FileChannel.HDFS_BINARY_DESCRIPTOR,
+            () -> new JavaBinaryFileSink<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion HDFS_BINARY_TO_STREAM = new DefaultChannelConversion(
+            FileChannel.HDFS_BINARY_DESCRIPTOR,
+            StreamChannel.DESCRIPTOR,
+            () -> new JavaBinaryFileSource<>(DataSetType.createDefault(Void.class))
+    );
+
     public static Collection<ChannelConversion> ALL = Arrays.asList(
             STREAM_TO_COLLECTION,
+            STREAM_TO_COLUMNAR,
+            COLLECTION_TO_COLUMNAR,
+            COLUMNAR_TO_STREAM,
+            COLUMNAR_TO_COLLECTION,
             STREAM_TO_HDFS_OBJECT_FILE,
             COLLECTION_TO_HDFS_OBJECT_FILE,
             HDFS_OBJECT_FILE_TO_STREAM,
+            STREAM_TO_HDFS_BINARY,
+            COLLECTION_TO_HDFS_BINARY,
+            HDFS_BINARY_TO_STREAM,
 //            HDFS_TSV_TO_STREAM,
             STREAM_TO_HDFS_TSV,
             COLLECTION_TO_HDFS_TSV
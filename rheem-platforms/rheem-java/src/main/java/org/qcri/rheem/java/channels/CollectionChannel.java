@@ -6,6 +6,7 @@ import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.platform.AbstractChannelInstance;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
@@ -46,8 +47,14 @@ public class CollectionChannel extends Channel {
 
         private Collection<?> collection;
 
+        /**
+         * Whether the {@link #collection} should be streamed in parallel.
+         */
+        private final boolean isParallel;
+
         public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
             super(executor, producerOperatorContext, producerOutputIndex);
+            this.isParallel = JavaExecutor.isParallel(executor);
         }
 
         public void accept(Collection<?> collection) {
@@ -63,7 +70,7 @@ public class CollectionChannel extends Channel {
         @Override
         @SuppressWarnings("unchecked")
         public <T> Stream<T> provideStream() {
-            return (Stream<T>) this.collection.stream();
+            return (Stream<T>) (this.isParallel ? this.collection.parallelStream() : this.collection.stream());
         }
 
         @Override
@@ -0,0 +1,107 @@
+package org.qcri.rheem.java.channels;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.AbstractChannelInstance;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.operators.JavaExecutionOperator;
+
+import java.util.stream.Stream;
+
+/**
+ * {@link Channel} between two {@link JavaExecutionOperator}s that holds {@link Record}s in {@link RecordColumns}.
+ */
+public class ColumnarRecordChannel extends Channel {
+
+    public static final ChannelDescriptor DESCRIPTOR = new ChannelDescriptor(ColumnarRecordChannel.class, true, true);
+
+    public ColumnarRecordChannel(ChannelDescriptor channelDescriptor, OutputSlot<?> outputSlot) {
+        super(channelDescriptor, outputSlot);
+        assert channelDescriptor == DESCRIPTOR;
+    }
+
+    private ColumnarRecordChannel(ColumnarRecordChannel parent) {
+        super(parent);
+    }
+
+    /**
+     * Tells whether data quanta of the given {@link DataSetType} can be held in a {@link ColumnarRecordChannel}.
+     *
+     * @param type the {@link DataSetType}
+     * @return whether the type describes plain {@link Record}s
+     */
+    public static boolean isApplicable(DataSetType<?> type) {
+        return type.getDataUnitType().isPlain() && type.getDataUnitType().getTypeClass() == Record.class;
+    }
+
+    @Override
+    public ColumnarRecordChannel copy() {
+        return new ColumnarRecordChannel(this);
+    }
+
+    @Override
+    public Instance createInstance(Executor executor,
+                                   OptimizationContext.OperatorContext producerOperatorContext,
+                                   int producerOutputIndex) {
+        return new Instance(executor, producerOperatorContext, producerOutputIndex);
+    }
+
+    /**
+     * {@link JavaChannelInstance} implementation for the {@link ColumnarRecordChannel}.
+     */
+    public class Instance extends AbstractChannelInstance implements JavaChannelInstance {
+
+        private RecordColumns columns;
+
+        /**
+         * Whether the {@link #columns} should be streamed in parallel.
+         */
+        private final boolean isParallel;
+
+        public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
+            super(executor, producerOperatorContext, producerOutputIndex);
+            this.isParallel = JavaExecutor.isParallel(executor);
+        }
+
+        /**
+         * Provides the {@link RecordColumns} for this instance, which takes over their reference, i.e., it will
+         * {@link RecordColumns#release()} them when it is disposed.
+         *
+         * @param columns the {@link RecordColumns}
+         */
+        public void accept(RecordColumns columns) {
+            this.columns = columns;
+            this.setMeasuredCardinality(this.columns.size());
+        }
+
+        public RecordColumns provideColumns() {
+            return this.columns;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<T> provideStream() {
+            return (Stream<T>) (this.isParallel ? this.columns.parallelStream() : this.columns.stream());
+        }
+
+        @Override
+        public Channel getChannel() {
+            return ColumnarRecordChannel.this;
+        }
+
+        @Override
+        protected void doDispose() {
+            logger.debug("Free {}.", this);
+            if (this.columns != null) {
+                this.columns.release();
+                this.columns = null;
+            }
+        }
+
+    }
+}
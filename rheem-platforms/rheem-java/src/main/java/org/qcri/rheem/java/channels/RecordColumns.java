@@ -0,0 +1,683 @@
+package org.qcri.rheem.java.channels;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.api.exception.RheemException;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stores {@link Record}s column by column. {@link Integer}, {@link Long}, {@link Double}, and {@link String} fields
+ * are kept in off-heap buffers, so that large and long-lived data sets do not burden the garbage collector. Fields
+ * of any other type are kept on the heap.
+ * <p>Instances are immutable and can be used as a {@link List} of {@link Record}s, which are materialized upon
+ * access. Alternatively, fields can be read directly via {@link #getField(int, int)} and its primitive variants.</p>
+ * <p>The off-heap buffers are reference-counted: They are freed as soon as the last holder {@link #release()}s them,
+ * which also invalidates all {@link #project(int...) projections}. Otherwise, they are left to the garbage
+ * collector.</p>
+ */
+public class RecordColumns extends AbstractList<Record> implements RandomAccess {
+
+    private final Column[] columns;
+
+    private final int numRecords;
+
+    /**
+     * Counts the holders of the {@link #columns}, which this instance shares with its projections.
+     */
+    private final AtomicInteger numReferences;
+
+    private RecordColumns(Column[] columns, int numRecords) {
+        this(columns, numRecords, new AtomicInteger(1));
+    }
+
+    private RecordColumns(Column[] columns, int numRecords, AtomicInteger numReferences) {
+        this.columns = columns;
+        this.numRecords = numRecords;
+        this.numReferences = numReferences;
+    }
+
+    /**
+     * Stores the given {@link Record}s column by column. All {@link Record}s need to have the same number of fields.
+     * The caller holds the only reference to the new instance.
+     *
+     * @param records the {@link Record}s
+     * @return the new instance
+     */
+    public static RecordColumns build(Iterator<Record> records) {
+        List<ColumnBuilder> builders = null;
+        int numRecords = 0;
+        while (records.hasNext()) {
+            final Record record = records.next();
+            if (builders == null) {
+                builders = new ArrayList<>(record.size());
+                for (int i = 0; i < record.size(); i++) builders.add(new ColumnBuilder());
+            } else if (record.size() != builders.size()) {
+                throw new RheemException(String.format("Expected %d fields, but found %s.", builders.size(), record));
+            }
+            for (int i = 0; i < builders.size(); i++) {
+                builders.get(i).add(record.getField(i));
+            }
+            numRecords++;
+        }
+        if (builders == null) return new RecordColumns(new Column[0], 0);
+        final Column[] columns = new Column[builders.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = builders.get(i).build();
+        }
+        return new RecordColumns(columns, numRecords);
+    }
+
+    @Override
+    public Record get(int index) {
+        if (index < 0 || index >= this.numRecords) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds [0, %d).", index, this.numRecords));
+        }
+        this.ensureNotReleased();
+        final Object[] values = new Object[this.columns.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.columns[i].get(index);
+        }
+        return new Record(values);
+    }
+
+    @Override
+    public int size() {
+        return this.numRecords;
+    }
+
+    /**
+     * Provides the number of fields of the stored {@link Record}s.
+     *
+     * @return the number of fields
+     */
+    public int getNumFields() {
+        return this.columns.length;
+    }
+
+    /**
+     * Retrieve a single field.
+     *
+     * @param index      the index of the {@link Record}
+     * @param fieldIndex the index of the field
+     * @return the field value
+     */
+    public Object getField(int index, int fieldIndex) {
+        this.ensureNotReleased();
+        return this.columns[fieldIndex].get(index);
+    }
+
+    /**
+     * Tells whether a field is {@code null}.
+     *
+     * @param index      the index of the {@link Record}
+     * @param fieldIndex the index of the field
+     * @return whether the field is {@code null}
+     */
+    public boolean isNull(int index, int fieldIndex) {
+        this.ensureNotReleased();
+        return this.columns[fieldIndex].nulls.get(index);
+    }
+
+    /**
+     * Retrieve a field as a {@code long} without boxing if it is stored off-heap.
+     *
+     * @param index      the index of the {@link Record}
+     * @param fieldIndex the index of the field
+     * @return the {@code long} value of the field
+     */
+    public long getLong(int index, int fieldIndex) {
+        this.ensureNotReleased();
+        final Column column = this.columns[fieldIndex];
+        if (column instanceof LongColumn) return ((LongColumn) column).getLong(index);
+        if (column instanceof IntColumn) return ((IntColumn) column).getInt(index);
+        return ((Number) column.get(index)).longValue();
+    }
+
+    /**
+     * Retrieve a field as a {@code double} without boxing if it is stored off-heap.
+     *
+     * @param index      the index of the {@link Record}
+     * @param fieldIndex the index of the field
+     * @return the {@code double} value of the field
+     */
+    public double getDouble(int index, int fieldIndex) {
+        this.ensureNotReleased();
+        final Column column = this.columns[fieldIndex];
+        if (column instanceof DoubleColumn) return ((DoubleColumn) column).getDouble(index);
+        if (column instanceof LongColumn) return ((LongColumn) column).getLong(index);
+        if (column instanceof IntColumn) return ((IntColumn) column).getInt(index);
+        return ((Number) column.get(index)).doubleValue();
+    }
+
+    /**
+     * Hashes the given fields of a {@link Record} without materializing them if they are stored off-heap. Note that
+     * the hash is only consistent with {@link #equalFields(int, int, int...)} and not with {@link Record#hashCode()}.
+     *
+     * @param index        the index of the {@link Record}
+     * @param fieldIndices the indices of the fields
+     * @return the hash
+     */
+    public int hashFields(int index, int... fieldIndices) {
+        this.ensureNotReleased();
+        int hash = 1;
+        for (int fieldIndex : fieldIndices) {
+            final Column column = this.columns[fieldIndex];
+            hash = 31 * hash + (column.nulls.get(index) ? 0 : column.hashValue(index));
+        }
+        return hash;
+    }
+
+    /**
+     * Tells whether two {@link Record}s have equal values in the given fields without materializing them if they
+     * are stored off-heap.
+     *
+     * @param index1       the index of the first {@link Record}
+     * @param index2       the index of the second {@link Record}
+     * @param fieldIndices the indices of the fields
+     * @return whether the fields are equal
+     */
+    public boolean equalFields(int index1, int index2, int... fieldIndices) {
+        this.ensureNotReleased();
+        for (int fieldIndex : fieldIndices) {
+            final Column column = this.columns[fieldIndex];
+            final boolean isNull1 = column.nulls.get(index1), isNull2 = column.nulls.get(index2);
+            if (isNull1 || isNull2) {
+                if (isNull1 != isNull2) return false;
+            } else if (!column.equalValues(index1, index2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a view on this instance that contains only the given fields. No data is copied.
+     *
+     * @param fieldIndices the indices of the fields to retain
+     * @return the projected view
+     */
+    public RecordColumns project(int... fieldIndices) {
+        final Column[] projectedColumns = new Column[fieldIndices.length];
+        for (int i = 0; i < fieldIndices.length; i++) {
+            projectedColumns[i] = this.columns[fieldIndices[i]];
+        }
+        return new RecordColumns(projectedColumns, this.numRecords, this.numReferences);
+    }
+
+    /**
+     * Registers another holder of the off-heap buffers, who needs to {@link #release()} them eventually.
+     *
+     * @return this instance
+     */
+    public RecordColumns retain() {
+        this.ensureNotReleased();
+        this.numReferences.incrementAndGet();
+        return this;
+    }
+
+    /**
+     * Discards a reference to the off-heap buffers. When no references are left, the buffers are freed right away
+     * and this instance and its projections cannot be accessed anymore.
+     */
+    public void release() {
+        final int numReferences = this.numReferences.decrementAndGet();
+        if (numReferences == 0) {
+            for (Column column : this.columns) {
+                column.free();
+            }
+        } else if (numReferences < 0) {
+            throw new IllegalStateException("Released columns too often.");
+        }
+    }
+
+    /**
+     * Tells whether the off-heap buffers of this instance have been freed.
+     *
+     * @return whether this instance has been released by all its holders
+     */
+    public boolean isReleased() {
+        return this.numReferences.get() <= 0;
+    }
+
+    private void ensureNotReleased() {
+        if (this.isReleased()) {
+            throw new IllegalStateException("Cannot access columns after they have been released.");
+        }
+    }
+
+    /**
+     * Provides the number of bytes that this instance occupies outside of the heap.
+     *
+     * @return the number of off-heap bytes
+     */
+    public long getOffHeapBytes() {
+        long bytes = 0L;
+        for (Column column : this.columns) {
+            bytes += column.getOffHeapBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Allocates an off-heap buffer that retains the contents of the given one.
+     *
+     * @param buffer       the current buffer or {@code null}
+     * @param usedBytes    the number of bytes in use in the {@code buffer}
+     * @param requiredSize the minimum size of the new buffer
+     * @return the given buffer if it is large enough or else a new buffer
+     */
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int usedBytes, long requiredSize) {
+        if (buffer != null && buffer.capacity() >= requiredSize) return buffer;
+        if (requiredSize > Integer.MAX_VALUE) {
+            throw new RheemException("Column exceeds the maximum size of an off-heap buffer.");
+        }
+        final long currentCapacity = buffer == null ? 0 : buffer.capacity();
+        final int newCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(Math.max(1024, 2 * currentCapacity), requiredSize));
+        final ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity);
+        if (buffer != null) {
+            final ByteBuffer source = buffer.duplicate();
+            source.position(0).limit(usedBytes);
+            newBuffer.put(source);
+            free(buffer);
+        }
+        return newBuffer;
+    }
+
+    /**
+     * Frees an off-heap buffer right away rather than when it is garbage-collected. The buffer must not be
+     * accessed afterwards.
+     *
+     * @param buffer the buffer or {@code null}
+     */
+    private static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) return;
+        try {
+            // Direct buffers expose a sun.misc.Cleaner that deallocates their memory.
+            final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not supported by this JVM: Leave the buffer to the garbage collector.
+        }
+    }
+
+    /**
+     * Stores the values of a single field.
+     */
+    private abstract static class Column {
+
+        /**
+         * Marks the {@code null} values.
+         */
+        protected final BitSet nulls;
+
+        protected Column(BitSet nulls) {
+            this.nulls = nulls;
+        }
+
+        /**
+         * Retrieve a value.
+         *
+         * @param index the index of the value
+         * @return the value
+         */
+        abstract Object get(int index);
+
+        /**
+         * Hash a non-{@code null} value.
+         *
+         * @param index the index of the value
+         * @return the hash
+         */
+        int hashValue(int index) {
+            return this.get(index).hashCode();
+        }
+
+        /**
+         * Compare two non-{@code null} values.
+         *
+         * @param index1 the index of the first value
+         * @param index2 the index of the second value
+         * @return whether the values are equal
+         */
+        boolean equalValues(int index1, int index2) {
+            return this.get(index1).equals(this.get(index2));
+        }
+
+        long getOffHeapBytes() {
+            return 0L;
+        }
+
+        /**
+         * Frees the off-heap buffers of this instance, if any.
+         */
+        void free() {
+        }
+    }
+
+    /**
+     * Stores {@link Long} values off-heap.
+     */
+    private static class LongColumn extends Column {
+
+        private final ByteBuffer data;
+
+        private LongColumn(ByteBuffer data, BitSet nulls) {
+            super(nulls);
+            this.data = data;
+        }
+
+        long getLong(int index) {
+            return this.data.getLong(index << 3);
+        }
+
+        @Override
+        Object get(int index) {
+            return this.nulls.get(index) ? null : this.getLong(index);
+        }
+
+        @Override
+        int hashValue(int index) {
+            return Long.hashCode(this.getLong(index));
+        }
+
+        @Override
+        boolean equalValues(int index1, int index2) {
+            return this.getLong(index1) == this.getLong(index2);
+        }
+
+        @Override
+        long getOffHeapBytes() {
+            return this.data.capacity();
+        }
+
+        @Override
+        void free() {
+            RecordColumns.free(this.data);
+        }
+    }
+
+    /**
+     * Stores {@link Integer} values off-heap.
+     */
+    private static class IntColumn extends Column {
+
+        private final ByteBuffer data;
+
+        private IntColumn(ByteBuffer data, BitSet nulls) {
+            super(nulls);
+            this.data = data;
+        }
+
+        int getInt(int index) {
+            return this.data.getInt(index << 2);
+        }
+
+        @Override
+        Object get(int index) {
+            return this.nulls.get(index) ? null : this.getInt(index);
+        }
+
+        @Override
+        int hashValue(int index) {
+            return this.getInt(index);
+        }
+
+        @Override
+        boolean equalValues(int index1, int index2) {
+            return this.getInt(index1) == this.getInt(index2);
+        }
+
+        @Override
+        long getOffHeapBytes() {
+            return this.data.capacity();
+        }
+
+        @Override
+        void free() {
+            RecordColumns.free(this.data);
+        }
+    }
+
+    /**
+     * Stores {@link Double} values off-heap.
+     */
+    private static class DoubleColumn extends Column {
+
+        private final ByteBuffer data;
+
+        private DoubleColumn(ByteBuffer data, BitSet nulls) {
+            super(nulls);
+            this.data = data;
+        }
+
+        double getDouble(int index) {
+            return this.data.getDouble(index << 3);
+        }
+
+        @Override
+        Object get(int index) {
+            return this.nulls.get(index) ? null : this.getDouble(index);
+        }
+
+        @Override
+        int hashValue(int index) {
+            return Double.hashCode(this.getDouble(index));
+        }
+
+        @Override
+        boolean equalValues(int index1, int index2) {
+            // Mimic Double#equals.
+            return Double.doubleToLongBits(this.getDouble(index1)) == Double.doubleToLongBits(this.getDouble(index2));
+        }
+
+        @Override
+        long getOffHeapBytes() {
+            return this.data.capacity();
+        }
+
+        @Override
+        void free() {
+            RecordColumns.free(this.data);
+        }
+    }
+
+    /**
+     * Stores {@link String} values off-heap as UTF-8 bytes.
+     */
+    private static class StringColumn extends Column {
+
+        private final ByteBuffer bytes;
+
+        /**
+         * The value with index {@code i} starts at the byte offset stored at {@code offsets[i]} and ends before the
+         * one stored at {@code offsets[i + 1]}.
+         */
+        private final ByteBuffer offsets;
+
+        private StringColumn(ByteBuffer bytes, ByteBuffer offsets, BitSet nulls) {
+            super(nulls);
+            this.bytes = bytes;
+            this.offsets = offsets;
+        }
+
+        @Override
+        Object get(int index) {
+            if (this.nulls.get(index)) return null;
+            final int start = this.offsets.getInt(index << 2), end = this.offsets.getInt((index + 1) << 2);
+            final byte[] utf8 = new byte[end - start];
+            for (int i = 0; i < utf8.length; i++) {
+                utf8[i] = this.bytes.get(start + i);
+            }
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        int hashValue(int index) {
+            final int start = this.offsets.getInt(index << 2), end = this.offsets.getInt((index + 1) << 2);
+            int hash = 1;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + this.bytes.get(i);
+            }
+            return hash;
+        }
+
+        @Override
+        boolean equalValues(int index1, int index2) {
+            // Equal strings have equal UTF-8 encodings.
+            final int start1 = this.offsets.getInt(index1 << 2), end1 = this.offsets.getInt((index1 + 1) << 2);
+            final int start2 = this.offsets.getInt(index2 << 2), end2 = this.offsets.getInt((index2 + 1) << 2);
+            if (end1 - start1 != end2 - start2) return false;
+            for (int i = 0; i < end1 - start1; i++) {
+                if (this.bytes.get(start1 + i) != this.bytes.get(start2 + i)) return false;
+            }
+            return true;
+        }
+
+        @Override
+        long getOffHeapBytes() {
+            return this.bytes.capacity() + this.offsets.capacity();
+        }
+
+        @Override
+        void free() {
+            RecordColumns.free(this.bytes);
+            RecordColumns.free(this.offsets);
+        }
+    }
+
+    /**
+     * Stores arbitrary values on the heap.
+     */
+    private static class ObjectColumn extends Column {
+
+        private final Object[] values;
+
+        private ObjectColumn(Object[] values, BitSet nulls) {
+            super(nulls);
+            this.values = values;
+        }
+
+        @Override
+        Object get(int index) {
+            return this.values[index];
+        }
+    }
+
+    /**
+     * Builds a {@link Column}. The type of the {@link Column} is determined by the first non-{@code null} value. If
+     * later values do not match that type, the {@link Column} falls back to storing its values on the heap.
+     */
+    private static class ColumnBuilder {
+
+        /**
+         * The type of values accepted by the off-heap buffers or {@code null} if not determined yet.
+         */
+        private Class<?> valueClass;
+
+        private ByteBuffer data, offsets;
+
+        private int usedDataBytes = 0;
+
+        /**
+         * Fallback storage for values of arbitrary types or {@code null} if not in use.
+         */
+        private List<Object> objects;
+
+        private final BitSet nulls = new BitSet();
+
+        private int size = 0;
+
+        void add(Object value) {
+            if (value == null) {
+                this.nulls.set(this.size);
+            } else if (this.objects == null) {
+                if (this.valueClass == null) this.determineValueClass(value);
+                if (this.valueClass != value.getClass()) this.switchToObjects();
+            }
+
+            if (this.objects != null) {
+                this.objects.add(value);
+            } else if (this.valueClass == String.class) {
+                final byte[] utf8 = value == null ? new byte[0] : ((String) value).getBytes(StandardCharsets.UTF_8);
+                if (this.offsets == null) {
+                    this.offsets = ensureCapacity(null, 0, 4);
+                    this.offsets.putInt(0, 0);
+                }
+                this.data = ensureCapacity(this.data, this.usedDataBytes, (long) this.usedDataBytes + utf8.length);
+                for (int i = 0; i < utf8.length; i++) {
+                    this.data.put(this.usedDataBytes + i, utf8[i]);
+                }
+                this.usedDataBytes += utf8.length;
+                this.offsets = ensureCapacity(this.offsets, (this.size + 1) << 2, (long) (this.size + 2) << 2);
+                this.offsets.putInt((this.size + 1) << 2, this.usedDataBytes);
+            } else if (this.valueClass == Integer.class) {
+                this.data = ensureCapacity(this.data, this.usedDataBytes, this.usedDataBytes + 4L);
+                this.data.putInt(this.usedDataBytes, value == null ? 0 : (Integer) value);
+                this.usedDataBytes += 4;
+            } else if (this.valueClass == Long.class) {
+                this.data = ensureCapacity(this.data, this.usedDataBytes, this.usedDataBytes + 8L);
+                this.data.putLong(this.usedDataBytes, value == null ? 0L : (Long) value);
+                this.usedDataBytes += 8;
+            } else if (this.valueClass == Double.class) {
+                this.data = ensureCapacity(this.data, this.usedDataBytes, this.usedDataBytes + 8L);
+                this.data.putDouble(this.usedDataBytes, value == null ? 0d : (Double) value);
+                this.usedDataBytes += 8;
+            } else {
+                // Only nulls so far: defer the decision on the column type.
+                assert value == null && this.valueClass == null;
+            }
+            this.size++;
+        }
+
+        private void determineValueClass(Object value) {
+            final Class<?> cls = value.getClass();
+            if (cls != Integer.class && cls != Long.class && cls != Double.class && cls != String.class) {
+                this.switchToObjects();
+                return;
+            }
+            this.valueClass = cls;
+            // Account for leading nulls.
+            final int numNulls = this.size;
+            this.size = 0;
+            for (int i = 0; i < numNulls; i++) {
+                this.add(null);
+            }
+        }
+
+        private void switchToObjects() {
+            final Column column = this.size == 0 || this.valueClass == null ? null : this.build();
+            this.objects = new ArrayList<>(Math.max(16, 2 * this.size));
+            for (int i = 0; i < this.size; i++) {
+                this.objects.add(column == null ? null : column.get(i));
+            }
+            this.valueClass = null;
+            free(this.data);
+            free(this.offsets);
+            this.data = this.offsets = null;
+            this.usedDataBytes = 0;
+        }
+
+        Column build() {
+            if (this.objects != null) return new ObjectColumn(this.objects.toArray(), this.nulls);
+            if (this.valueClass == null) return new ObjectColumn(new Object[this.size], this.nulls);
+            if (this.valueClass == String.class) return new StringColumn(this.data == null ? ensureCapacity(null, 0, 0) : this.data, this.offsets, this.nulls);
+            if (this.valueClass == Integer.class) return new IntColumn(this.data, this.nulls);
+            if (this.valueClass == Long.class) return new LongColumn(this.data, this.nulls);
+            return new DoubleColumn(this.data, this.nulls);
+        }
+    }
+
+}
@@ -7,9 +7,11 @@ import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.platform.AbstractChannelInstance;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.Executor;
+import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
+import java.util.OptionalDouble;
 import java.util.OptionalLong;
 import java.util.stream.Stream;
 
@@ -94,30 +96,42 @@ public class StreamChannel extends Channel {
 
         private Stream<?> stream;
 
-        // In principle, we could use Stream#onClose() to make sure that we really counted the cardinality (so as to
-        // detect, when the cardinality is 0 because the #stream has not been fully executed for whatever reason).
-        // However, this would require to call Stream#close() on all methods.
-        private long cardinality = 0;
+        /**
+         * Measures the {@link #stream} if this instance is marked for instrumentation; {@code null} otherwise.
+         */
+        private StreamInstrumentation instrumentation;
+
+        /**
+         * Whether the {@link #stream} should be executed in parallel.
+         */
+        private final boolean isParallel;
+
+        /**
+         * Interval in which the sizes of data quanta should be measured when instrumenting (or {@code 0} for none).
+         */
+        private final int sizeSamplingInterval;
 
         public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
             super(executor, producerOperatorContext, producerOutputIndex);
+            this.isParallel = JavaExecutor.isParallel(executor);
+            this.sizeSamplingInterval = executor instanceof JavaExecutor ?
+                    ((JavaExecutor) executor).getSizeSamplingInterval() :
+                    0;
         }
 
 
         public <T> void accept(Stream<T> stream) {
             assert this.stream == null;
-            this.stream = stream;
+            this.stream = this.isParallel ? stream.parallel() : stream;
             if (this.isMarkedForInstrumentation()) {
-                this.stream = this.stream.filter(dataQuantum -> {
-                    this.cardinality += 1;
-                    return true;
-                });
+                this.instrumentation = new StreamInstrumentation(this.sizeSamplingInterval);
+                this.stream = this.instrumentation.instrument(this.stream);
             }
         }
 
         public void accept(Collection<?> collection) {
             assert this.stream == null;
-            this.stream = collection.stream();
+            this.stream = this.isParallel ? collection.parallelStream() : collection.stream();
             this.setMeasuredCardinality(collection.size());
         }
 
@@ -134,7 +148,17 @@ public class StreamChannel extends Channel {
 
         @Override
         public OptionalLong getMeasuredCardinality() {
-            return this.cardinality == 0 ? super.getMeasuredCardinality() : OptionalLong.of(this.cardinality);
+            if (this.instrumentation != null && this.instrumentation.isExhausted()) {
+                return this.instrumentation.getCardinality();
+            }
+            return super.getMeasuredCardinality();
+        }
+
+        @Override
+        public OptionalDouble getMeasuredAverageDataQuantumSize() {
+            return this.instrumentation == null ?
+                    OptionalDouble.empty() :
+                    this.instrumentation.getAverageDataQuantumSize();
         }
 
         @Override
@@ -0,0 +1,217 @@
+package org.qcri.rheem.java.channels;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Instruments a {@link Stream} to count the data quanta passing through it and, optionally, to sample their
+ * serialized sizes. The instrumentation is thread-safe and can thus also be applied to parallel {@link Stream}s.
+ * <p>Data quanta are only reported once the instrumented {@link Stream} has been consumed entirely. This way, an empty
+ * {@link Stream} can be told apart from one that has not (or only partially) been executed.</p>
+ */
+public class StreamInstrumentation {
+
+    /**
+     * Sums up the data quanta counted by all fully consumed {@link InstrumentedSpliterator}s.
+     */
+    private final LongAdder cardinality = new LongAdder();
+
+    /**
+     * Counts the {@link InstrumentedSpliterator}s that have not been consumed entirely yet.
+     */
+    private final AtomicInteger numOpenSpliterators = new AtomicInteger(0);
+
+    /**
+     * Whether the instrumented {@link Stream} has been consumed entirely.
+     */
+    private volatile boolean isExhausted = false;
+
+    /**
+     * Measure the serialized size of every n-th data quantum or {@code 0} to measure no sizes at all.
+     */
+    private final int sizeSamplingInterval;
+
+    /**
+     * Sums up the serialized sizes of the sampled data quanta.
+     */
+    private final LongAdder sampledBytes = new LongAdder();
+
+    /**
+     * Counts the sampled data quanta.
+     */
+    private final LongAdder numSampledDataQuanta = new LongAdder();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sizeSamplingInterval measure the serialized size of every n-th data quantum or {@code 0} to measure
+     *                             no sizes at all
+     */
+    public StreamInstrumentation(int sizeSamplingInterval) {
+        this.sizeSamplingInterval = sizeSamplingInterval;
+    }
+
+    /**
+     * Instrument the given {@link Stream}. This method should be called at most once per instance.
+     *
+     * @param stream that should be instrumented
+     * @return the instrumented {@link Stream}
+     */
+    public <T> Stream<T> instrument(Stream<T> stream) {
+        return StreamSupport.stream(new InstrumentedSpliterator<>(stream.spliterator()), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    /**
+     * Tells whether the instrumented {@link Stream} has been consumed entirely.
+     *
+     * @return whether the instrumented {@link Stream} has been consumed entirely
+     */
+    public boolean isExhausted() {
+        return this.isExhausted;
+    }
+
+    /**
+     * Provides the number of data quanta that passed through the instrumented {@link Stream}.
+     *
+     * @return the number of data quanta or an empty {@link OptionalLong} if the {@link Stream} has not been
+     * consumed entirely
+     */
+    public OptionalLong getCardinality() {
+        return this.isExhausted ? OptionalLong.of(this.cardinality.sum()) : OptionalLong.empty();
+    }
+
+    /**
+     * Provides the average serialized size of the sampled data quanta.
+     *
+     * @return the average size in bytes or an empty {@link OptionalDouble} if no data quanta were sampled
+     */
+    public OptionalDouble getAverageDataQuantumSize() {
+        final long numSamples = this.numSampledDataQuanta.sum();
+        return numSamples == 0 ?
+                OptionalDouble.empty() :
+                OptionalDouble.of(this.sampledBytes.sum() / (double) numSamples);
+    }
+
+    /**
+     * Measures the serialized size of the given data quantum if possible.
+     *
+     * @param dataQuantum that should be measured
+     */
+    private void sampleSize(Object dataQuantum) {
+        if (!(dataQuantum instanceof Serializable)) return;
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(dataQuantum);
+        } catch (IOException e) {
+            LoggerFactory.getLogger(this.getClass()).debug("Could not measure the size of {}.", dataQuantum, e);
+            return;
+        }
+        this.sampledBytes.add(bos.size());
+        this.numSampledDataQuanta.increment();
+    }
+
+    /**
+     * Wraps a {@link Spliterator} and counts the data quanta it provides. The count is only published once the
+     * wrapped {@link Spliterator} is exhausted. Splits are instrumented as well.
+     */
+    private class InstrumentedSpliterator<T> implements Spliterator<T> {
+
+        private final Spliterator<T> source;
+
+        /**
+         * Observes and forwards data quanta to the current {@link #downstream}.
+         */
+        private final Consumer<T> observer = this::observe;
+
+        private Consumer<? super T> downstream;
+
+        /**
+         * Counts the data quanta provided by this instance. Only accessed by a single thread at a time.
+         */
+        private long count = 0;
+
+        private boolean isExhausted = false;
+
+        private InstrumentedSpliterator(Spliterator<T> source) {
+            this.source = source;
+            StreamInstrumentation.this.numOpenSpliterators.incrementAndGet();
+        }
+
+        private void observe(T dataQuantum) {
+            this.count++;
+            if (StreamInstrumentation.this.sizeSamplingInterval > 0
+                    && this.count % StreamInstrumentation.this.sizeSamplingInterval == 0) {
+                StreamInstrumentation.this.sampleSize(dataQuantum);
+            }
+            this.downstream.accept(dataQuantum);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            this.downstream = action;
+            if (this.source.tryAdvance(this.observer)) return true;
+            this.noteExhaustion();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            this.downstream = action;
+            this.source.forEachRemaining(this.observer);
+            this.noteExhaustion();
+        }
+
+        /**
+         * Publishes the {@link #count} of this instance once it is exhausted.
+         */
+        private void noteExhaustion() {
+            if (this.isExhausted) return;
+            this.isExhausted = true;
+            StreamInstrumentation.this.cardinality.add(this.count);
+            if (StreamInstrumentation.this.numOpenSpliterators.decrementAndGet() == 0) {
+                StreamInstrumentation.this.isExhausted = true;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<T> split = this.source.trySplit();
+            return split == null ? null : new InstrumentedSpliterator<>(split);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return this.source.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return this.source.getComparator();
+        }
+    }
+
+}
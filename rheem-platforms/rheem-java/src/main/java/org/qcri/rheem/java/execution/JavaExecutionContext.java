@@ -6,6 +6,7 @@ import org.qcri.rheem.core.plan.rheemplan.InputSlot;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.java.platform.JavaPlatform;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.ColumnarRecordChannel;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
@@ -33,6 +34,9 @@ public class JavaExecutionContext implements ExecutionContext {
         for (int i = 0; i < this.operator.getNumInputs(); i++) {
             final InputSlot<?> input = this.operator.getInput(i);
             if (input.isBroadcast() && input.getName().equals(name)) {
+                if (this.inputs[i] instanceof ColumnarRecordChannel.Instance) {
+                    return (Collection<T>) ((ColumnarRecordChannel.Instance) this.inputs[i]).provideColumns();
+                }
                 final CollectionChannel.Instance broadcastChannelInstance = (CollectionChannel.Instance) this.inputs[i];
                 return (Collection<T>) broadcastChannelInstance.provideCollection();
             }
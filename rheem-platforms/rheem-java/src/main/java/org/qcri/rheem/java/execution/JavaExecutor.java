@@ -3,7 +3,9 @@ package org.qcri.rheem.java.execution;
 import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.function.ExtendedFunction;
+import org.qcri.rheem.core.monitor.JobMetrics;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelInstance;
@@ -13,13 +15,21 @@ import org.qcri.rheem.core.platform.PushExecutorTemplate;
 import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.util.Formats;
 import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.java.channels.ColumnarRecordChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.compiler.FunctionCompiler;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
+import org.qcri.rheem.java.operators.JavaNarrowOperator;
 import org.qcri.rheem.java.platform.JavaPlatform;
+import org.qcri.rheem.java.util.ExternalMemory;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
 
 /**
  * {@link Executor} implementation for the {@link JavaPlatform}.
@@ -30,10 +40,43 @@ public class JavaExecutor extends PushExecutorTemplate {
 
     private final FunctionCompiler compiler;
 
+    /**
+     * Executes the {@link java.util.stream.Stream} pipelines of this instance in parallel mode or {@code null} if
+     * the pipelines should be executed sequentially. Parallel mode is requested via {@code rheem.java.parallel}.
+     */
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Measure the size of every n-th data quantum in instrumented {@link java.util.stream.Stream}s or {@code 0} to
+     * measure no sizes. Configured via {@code rheem.java.instrumentation.size-sampling}.
+     */
+    private final int sizeSamplingInterval;
+
+    /**
+     * Lets memory-hungry {@link JavaExecutionOperator}s spill to disk or {@code null} if no memory budget is
+     * configured via {@code rheem.java.memory.budget}.
+     */
+    private final ExternalMemory externalMemory;
+
+    /**
+     * Whether chains of {@link JavaNarrowOperator}s should be executed as a single task. Configured via
+     * {@code rheem.java.fusion}.
+     */
+    private final boolean isFusion;
+
     public JavaExecutor(JavaPlatform javaPlatform, Job job) {
         super(job);
         this.platform = javaPlatform;
         this.compiler = new FunctionCompiler(job.getConfiguration());
+        if (job.getConfiguration().getBooleanProperty("rheem.java.parallel", false)) {
+            int numCores = (int) job.getConfiguration().getLongProperty("rheem.java.cores");
+            this.forkJoinPool = new ForkJoinPool(Math.max(1, numCores));
+        } else {
+            this.forkJoinPool = null;
+        }
+        this.sizeSamplingInterval = (int) job.getConfiguration().getLongProperty("rheem.java.instrumentation.size-sampling", 0L);
+        this.externalMemory = ExternalMemory.createFrom(job.getConfiguration());
+        this.isFusion = job.getConfiguration().getBooleanProperty("rheem.java.fusion", true);
     }
 
     @Override
@@ -48,6 +91,13 @@ public class JavaExecutor extends PushExecutorTemplate {
             OptimizationContext.OperatorContext producerOperatorContext,
             boolean isRequestEagerExecution
     ) {
+        if (this.isFusion) {
+            final List<ExecutionTask> fusibleTasks = this.collectFusibleTasks(task, inputChannelInstances, producerOperatorContext);
+            if (fusibleTasks.size() > 1) {
+                return this.executeFused(fusibleTasks, inputChannelInstances, producerOperatorContext, new StreamFusion());
+            }
+        }
+
         // Provide the ChannelInstances for the output of the task.
         final ChannelInstance[] outputChannelInstances = task.getOperator().createOutputChannelInstances(
                 this, task, producerOperatorContext, inputChannelInstances
@@ -56,18 +106,28 @@ public class JavaExecutor extends PushExecutorTemplate {
         // Execute.
         final Collection<ExecutionLineageNode> executionLineageNodes;
         final Collection<ChannelInstance> producedChannelInstances;
-        // TODO: Use proper progress estimator.
-        this.job.reportProgress(task.getOperator().getName(), 50);
+        final String operatorKey = JobMetrics.getKey(task.getOperator());
+        this.job.reportProgress(operatorKey, 50);
+        final long startNumSpilledDataQuanta = this.externalMemory == null ? 0L : this.externalMemory.getNumSpilledDataQuanta();
         long startTime = System.currentTimeMillis();
         try {
-            final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> results =
-                    cast(task.getOperator()).evaluate(
-                            toArray(inputChannelInstances),
-                            outputChannelInstances,
-                            this,
-                            producerOperatorContext
-                    );
-            //Thread.sleep(1000);
+            final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> results;
+            if (this.isParallel()) {
+                // Parallel streams run their terminal operations in the ForkJoinPool of the calling thread.
+                results = this.forkJoinPool.invoke(ForkJoinTask.adapt(() -> cast(task.getOperator()).evaluate(
+                        toArray(inputChannelInstances),
+                        outputChannelInstances,
+                        this,
+                        producerOperatorContext
+                )));
+            } else {
+                results = cast(task.getOperator()).evaluate(
+                        toArray(inputChannelInstances),
+                        outputChannelInstances,
+                        this,
+                        producerOperatorContext
+                );
+            }
             executionLineageNodes = results.getField0();
             producedChannelInstances = results.getField1();
         } catch (Exception e) {
@@ -76,7 +136,14 @@ public class JavaExecutor extends PushExecutorTemplate {
         long endTime = System.currentTimeMillis();
         long executionDuration = endTime - startTime;
 
-        this.job.reportProgress(task.getOperator().getName(), 100);
+        this.job.reportProgress(operatorKey, 100);
+        if (this.externalMemory != null && this.job.getMetrics() != null) {
+            // Attribute all spills during the execution to the task, even though there might be concurrent tasks.
+            final long numSpilledDataQuanta = this.externalMemory.getNumSpilledDataQuanta() - startNumSpilledDataQuanta;
+            if (numSpilledDataQuanta > 0) {
+                this.job.getMetrics().getOperatorMetrics(operatorKey).addSpilledDataQuanta(numSpilledDataQuanta);
+            }
+        }
 
         // Check how much we executed.
         PartialExecution partialExecution = this.createPartialExecution(executionLineageNodes, executionDuration);
@@ -97,6 +164,49 @@ public class JavaExecutor extends PushExecutorTemplate {
     }
 
 
+    @Override
+    protected boolean isFusibleHead(ExecutionTask task, List<ChannelInstance> inputChannelInstances) {
+        // Columnar inputs are better served by the operator itself (cf. projections in JavaMapOperator).
+        return task.getOperator() instanceof JavaNarrowOperator
+                && !(inputChannelInstances.get(0) instanceof ColumnarRecordChannel.Instance);
+    }
+
+    @Override
+    protected boolean isFusibleSuccessor(ExecutionOperator operator) {
+        return operator instanceof JavaNarrowOperator;
+    }
+
+    @Override
+    protected boolean isFusibleChannel(Channel channel) {
+        return channel instanceof StreamChannel;
+    }
+
+    /**
+     * Composes the {@link Stream} transformations of a chain of {@link JavaNarrowOperator}s into a single pipeline,
+     * so that only the output of the last {@link JavaNarrowOperator} is materialized.
+     */
+    private class StreamFusion implements TaskFusion {
+
+        private Stream<?> stream;
+
+        @Override
+        public void add(ExecutionTask task,
+                        ChannelInstance[] inputs,
+                        OptimizationContext.OperatorContext operatorContext,
+                        boolean isHead) {
+            if (isHead) this.stream = ((JavaChannelInstance) inputs[0]).provideStream();
+            this.stream = ((JavaNarrowOperator) task.getOperator()).transform(
+                    this.stream, inputs, JavaExecutor.this, operatorContext
+            );
+        }
+
+        @Override
+        public void complete(ChannelInstance output, ExecutionTask task, OptimizationContext.OperatorContext operatorContext) {
+            ((StreamChannel.Instance) output).accept(this.stream);
+        }
+
+    }
+
     private static JavaExecutionOperator cast(ExecutionOperator executionOperator) {
         return (JavaExecutionOperator) executionOperator;
     }
@@ -128,4 +238,50 @@ public class JavaExecutor extends PushExecutorTemplate {
     public FunctionCompiler getCompiler() {
         return this.compiler;
     }
+
+    /**
+     * Tells whether this instance executes {@link java.util.stream.Stream} pipelines in parallel. If so, the
+     * {@link JavaExecutionOperator}s need to employ thread-safe data structures.
+     *
+     * @return whether this instance is in parallel mode
+     */
+    public boolean isParallel() {
+        return this.forkJoinPool != null;
+    }
+
+    /**
+     * Tells whether the given {@link Executor} is a {@link JavaExecutor} in parallel mode.
+     *
+     * @param executor the {@link Executor}
+     * @return whether the {@code executor} is in parallel mode
+     * @see #isParallel()
+     */
+    public static boolean isParallel(Executor executor) {
+        return executor instanceof JavaExecutor && ((JavaExecutor) executor).isParallel();
+    }
+
+    public int getSizeSamplingInterval() {
+        return this.sizeSamplingInterval;
+    }
+
+    /**
+     * Provides the {@link ExternalMemory} that {@link JavaExecutionOperator}s should use to stay within the
+     * configured memory budget.
+     *
+     * @return the {@link ExternalMemory} or {@code null} if no memory budget is configured
+     */
+    public ExternalMemory getExternalMemory() {
+        return this.externalMemory;
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (this.externalMemory != null) {
+            this.externalMemory.dispose();
+        }
+        if (this.forkJoinPool != null) {
+            this.forkJoinPool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.basic.channels.BinaryFileWriter;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnarySink;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.platform.JavaPlatform;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * {@link Operator} for the {@link JavaPlatform} that writes a {@link FileChannel#HDFS_BINARY_DESCRIPTOR} file.
+ * Collections are split into multiple parts that are written in parallel if the {@link JavaExecutor} is parallel.
+ *
+ * @see JavaBinaryFileSource
+ */
+public class JavaBinaryFileSink<T> extends UnarySink<T> implements JavaExecutionOperator {
+
+    /**
+     * Minimum number of data quanta per part.
+     */
+    private static final int MIN_PART_SIZE = 1 << 14;
+
+    private final String targetPath;
+
+    public JavaBinaryFileSink(DataSetType<T> type) {
+        this(null, type);
+    }
+
+    public JavaBinaryFileSink(String targetPath, DataSetType<T> type) {
+        super(type);
+        this.targetPath = targetPath;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+
+        final Configuration configuration = javaExecutor.getCompiler().getConfiguration();
+        FileChannel.Instance output = (FileChannel.Instance) outputs[0];
+        final String path = output.addGivenOrTempPath(this.targetPath, configuration);
+        final int blockSize = BinaryFileWriter.getBlockSize(configuration);
+        final boolean isCompress = BinaryFileWriter.isCompressing(configuration);
+
+        try {
+            if (inputs[0] instanceof CollectionChannel.Instance && javaExecutor.isParallel()) {
+                final Collection<?> collection = ((CollectionChannel.Instance) inputs[0]).provideCollection();
+                final List<?> list = collection instanceof List ? (List<?>) collection : new ArrayList<>(collection);
+                final int numParts = Math.max(1, Math.min(
+                        Runtime.getRuntime().availableProcessors(), list.size() / MIN_PART_SIZE
+                ));
+                // Write contiguous ranges, so that the parts retain the order of the collection.
+                IntStream.range(0, numParts).parallel().forEach(part -> this.writePart(
+                        list.subList(
+                                (int) ((long) list.size() * part / numParts),
+                                (int) ((long) list.size() * (part + 1) / numParts)
+                        ),
+                        BinaryFileWriter.getPartPath(path, part), blockSize, isCompress
+                ));
+            } else {
+                try (BinaryFileWriter writer = BinaryFileWriter.create(BinaryFileWriter.getPartPath(path, 0), blockSize, isCompress)) {
+                    ((JavaChannelInstance) inputs[0]).provideStream().forEachOrdered(dataQuantum -> {
+                        try {
+                            writer.write(dataQuantum);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            }
+            BinaryFileWriter.markComplete(path);
+            LoggerFactory.getLogger(this.getClass()).info("Writing dataset to {}.", path);
+        } catch (IOException | UncheckedIOException e) {
+            throw new RheemException("Could not write binary file.", e);
+        }
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    private void writePart(List<?> dataQuanta, String partPath, int blockSize, boolean isCompress) {
+        try (BinaryFileWriter writer = BinaryFileWriter.create(partPath, blockSize, isCompress)) {
+            for (Object dataQuantum : dataQuanta) {
+                writer.write(dataQuantum);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "rheem.java.binaryfilesink.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaBinaryFileSink<>(this.targetPath, this.getType());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(FileChannel.HDFS_BINARY_DESCRIPTOR);
+    }
+
+}
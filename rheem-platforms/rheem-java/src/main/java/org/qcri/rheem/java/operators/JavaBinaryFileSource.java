@@ -0,0 +1,95 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.basic.channels.BinaryFileReader;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnarySource;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.platform.JavaPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link Operator} for the {@link JavaPlatform} that reads a {@link FileChannel#HDFS_BINARY_DESCRIPTOR} file. The
+ * parts of the file are read in parallel if the {@link JavaExecutor} is parallel.
+ *
+ * @see JavaBinaryFileSink
+ */
+public class JavaBinaryFileSource<T> extends UnarySource<T> implements JavaExecutionOperator {
+
+    private final String sourcePath;
+
+    public JavaBinaryFileSource(DataSetType<T> type) {
+        this(null, type);
+    }
+
+    public JavaBinaryFileSource(String sourcePath, DataSetType<T> type) {
+        super(type);
+        this.sourcePath = sourcePath;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert outputs.length == this.getNumOutputs();
+
+        final String path;
+        if (this.sourcePath == null) {
+            final FileChannel.Instance input = (FileChannel.Instance) inputs[0];
+            path = input.getSinglePath();
+        } else {
+            assert inputs.length == 0;
+            path = this.sourcePath;
+        }
+
+        // Open the parts right away: the file channel might be disposed before the Stream is consumed.
+        final List<BinaryFileReader<T>> readers = BinaryFileReader.findParts(path).stream()
+                .map(BinaryFileReader::<T>open)
+                .collect(Collectors.toList());
+        // NB: The StreamChannel parallelizes the Stream if requested, which then distributes the parts.
+        final Stream<T> stream = readers.stream()
+                .flatMap(BinaryFileReader::stream)
+                .onClose(() -> readers.forEach(BinaryFileReader::close));
+        ((StreamChannel.Instance) outputs[0]).accept(stream);
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "rheem.java.binaryfilesource.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaBinaryFileSource<>(this.sourcePath, this.getType());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(FileChannel.HDFS_BINARY_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
@@ -18,6 +18,7 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.KeyedRowTable;
 
 import java.util.*;
 import java.util.function.Function;
@@ -61,47 +62,42 @@ public class JavaCoGroupOperator<InputType0, InputType1, KeyType>
         final Function<InputType0, KeyType> keyExtractor0 = javaExecutor.getCompiler().compile(this.keyDescriptor0);
         final Function<InputType1, KeyType> keyExtractor1 = javaExecutor.getCompiler().compile(this.keyDescriptor1);
 
+        // Integral keys can only be stored as primitives if both key functions agree on them.
+        final Class<KeyType> keyClass0 = this.keyDescriptor0.getOutputType().getTypeClass();
+        final Class<KeyType> keyClass1 = this.keyDescriptor1.getOutputType().getTypeClass();
+        final Class<?> keyClass = keyClass0 == keyClass1 ? keyClass0 : Object.class;
+
         // Group input 0.
         final CardinalityEstimate cardinalityEstimate0 = operatorContext.getInputCardinality(0);
         int expectedNumElements0 = (int) cardinalityEstimate0.getGeometricMeanEstimate();
-        Map<KeyType, Collection<InputType0>> groups0 = new HashMap<>(expectedNumElements0);
-        ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().forEach(dataQuantum0 ->
-                groups0.compute(keyExtractor0.apply(dataQuantum0),
-                        (key, value) -> {
-                            value = value == null ? new LinkedList<>() : value;
-                            value.add(dataQuantum0);
-                            return value;
-                        }
-                )
+        final KeyedRowTable<KeyType, InputType0> groups0 = KeyedRowTable.build(
+                ((JavaChannelInstance) inputs[0]).<InputType0>provideStream(), keyClass, keyExtractor0, expectedNumElements0
         );
 
         // Group input 1.
         final CardinalityEstimate cardinalityEstimate1 = operatorContext.getInputCardinality(1);
         int expectedNumElements1 = (int) cardinalityEstimate1.getGeometricMeanEstimate();
-        Map<KeyType, Collection<InputType1>> groups1 = new HashMap<>(expectedNumElements1);
-        ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().forEach(dataQuantum1 ->
-                groups1.compute(keyExtractor1.apply(dataQuantum1),
-                        (key, value) -> {
-                            value = value == null ? new LinkedList<>() : value;
-                            value.add(dataQuantum1);
-                            return value;
-                        }
-                )
+        final KeyedRowTable<KeyType, InputType1> groups1 = KeyedRowTable.build(
+                ((JavaChannelInstance) inputs[1]).<InputType1>provideStream(), keyClass, keyExtractor1, expectedNumElements1
         );
 
         // Create the co-groups.
         Collection<Tuple2<Iterable<InputType0>, Iterable<InputType1>>> coGroups =
                 new ArrayList<>(expectedNumElements0 + expectedNumElements1);
-        for (Map.Entry<KeyType, Collection<InputType0>> entry : groups0.entrySet()) {
-            Collection<InputType0> group0 = entry.getValue();
-            Collection<InputType1> group1 = groups1.remove(entry.getKey());
+        final boolean[] isMatched1 = new boolean[groups1.getNumSlots()];
+        for (int slot0 = 0; slot0 < groups0.getNumSlots(); slot0++) {
+            if (!groups0.isOccupied(slot0)) continue;
+            final int slot1 = groups1.findMatchingSlot(groups0, slot0);
+            if (slot1 != -1) isMatched1[slot1] = true;
             coGroups.add(new Tuple2<>(
-                    group0,
-                    group1 == null ? Collections.emptyList() : group1
+                    groups0.getGroupAt(slot0),
+                    slot1 == -1 ? Collections.emptyList() : groups1.getGroupAt(slot1)
             ));
         }
-        for (Collection<InputType1> group1 : groups1.values()) {
-            coGroups.add(new Tuple2<>(Collections.emptyList(), group1));
+        for (int slot1 = 0; slot1 < groups1.getNumSlots(); slot1++) {
+            if (groups1.isOccupied(slot1) && !isMatched1[slot1]) {
+                coGroups.add(new Tuple2<>(Collections.emptyList(), groups1.getGroupAt(slot1)));
+            }
         }
         ((CollectionChannel.Instance) outputs[0]).accept(coGroups);
 
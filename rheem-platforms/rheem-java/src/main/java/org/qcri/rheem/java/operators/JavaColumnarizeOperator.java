@@ -0,0 +1,85 @@
+package org.qcri.rheem.java.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.ColumnarRecordChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.RecordColumns;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.execution.JavaExecutor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Converts a {@link StreamChannel} or {@link CollectionChannel} of {@link Record}s into a
+ * {@link ColumnarRecordChannel}. This conversion is only available if {@code rheem.java.columnar} is enabled.
+ */
+public class JavaColumnarizeOperator extends UnaryToUnaryOperator<Record, Record> implements JavaExecutionOperator {
+
+    public JavaColumnarizeOperator(DataSetType<Record> type) {
+        super(type, type, false);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        final ColumnarRecordChannel.Instance output = (ColumnarRecordChannel.Instance) outputs[0];
+
+        // The columns are built sequentially, so we do not need to keep up the parallelism of the input.
+        output.accept(RecordColumns.build(input.<Record>provideStream().iterator()));
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public boolean isFiltered(OptimizationContext.OperatorContext operatorContext) {
+        final Configuration configuration = operatorContext.getOptimizationContext().getConfiguration();
+        return !configuration.getBooleanProperty("rheem.java.columnar", false)
+                || JavaExecutionOperator.super.isFiltered(operatorContext);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Arrays.asList(StreamChannel.DESCRIPTOR, CollectionChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(ColumnarRecordChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, 0, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
+                inputCards -> inputCards[0]));
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "rheem.java.columnarize.load";
+    }
+
+}
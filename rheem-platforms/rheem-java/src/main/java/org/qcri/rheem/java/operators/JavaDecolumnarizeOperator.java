@@ -0,0 +1,95 @@
+package org.qcri.rheem.java.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.ColumnarRecordChannel;
+import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.java.execution.JavaExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Converts a {@link ColumnarRecordChannel} into a {@link StreamChannel} or {@link CollectionChannel}. In either case,
+ * the {@link Record}s are only materialized when they are consumed.
+ */
+public class JavaDecolumnarizeOperator extends UnaryToUnaryOperator<Record, Record> implements JavaExecutionOperator {
+
+    /**
+     * The {@link ChannelDescriptor} of the output {@link ChannelInstance}.
+     */
+    private final ChannelDescriptor outputChannelDescriptor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type                    type of the {@link Record}s
+     * @param outputChannelDescriptor either {@link StreamChannel#DESCRIPTOR} or {@link CollectionChannel#DESCRIPTOR}
+     */
+    public JavaDecolumnarizeOperator(DataSetType<Record> type, ChannelDescriptor outputChannelDescriptor) {
+        super(type, type, false);
+        Validate.isTrue(outputChannelDescriptor == StreamChannel.DESCRIPTOR
+                || outputChannelDescriptor == CollectionChannel.DESCRIPTOR);
+        this.outputChannelDescriptor = outputChannelDescriptor;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        final ColumnarRecordChannel.Instance input = (ColumnarRecordChannel.Instance) inputs[0];
+
+        if (outputs[0] instanceof CollectionChannel.Instance) {
+            // The CollectionChannel might outlive the input, but it does not release its contents. So, we retain the
+            // columns and leave them to the garbage collector.
+            ((CollectionChannel.Instance) outputs[0]).accept(input.provideColumns().retain());
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+        } else if (outputs[0] instanceof StreamChannel.Instance) {
+            ((StreamChannel.Instance) outputs[0]).accept(input.provideStream());
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        }
+        throw new RheemException(String.format("Cannot decolumnarize %s to %s.", input, outputs[0]));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(ColumnarRecordChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(this.outputChannelDescriptor);
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, 0, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
+                inputCards -> inputCards[0]));
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "rheem.java.decolumnarize.load";
+    }
+
+}
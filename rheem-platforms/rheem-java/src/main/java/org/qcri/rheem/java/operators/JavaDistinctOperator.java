@@ -1,7 +1,9 @@
 package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.operators.DistinctOperator;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
@@ -12,11 +14,14 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.ExternalMemory;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link DistinctOperator}.
@@ -53,7 +58,11 @@ public class JavaDistinctOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream().distinct());
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final ExternalMemory externalMemory = javaExecutor.getExternalMemory();
+        ((StreamChannel.Instance) outputs[0]).accept(externalMemory == null ?
+                inputStream.distinct() :
+                externalMemory.distinct(inputStream));
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
@@ -63,6 +72,14 @@ public class JavaDistinctOperator<Type>
         return "rheem.java.distinct.load";
     }
 
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        ExternalMemory.nestSpillEstimator(optEstimator, configuration);
+        return optEstimator;
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new JavaDistinctOperator<>(this.getInputType());
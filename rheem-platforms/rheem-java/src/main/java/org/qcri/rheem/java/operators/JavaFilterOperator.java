@@ -13,19 +13,21 @@ import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.ColumnarRecordChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link FilterOperator}.
  */
 public class JavaFilterOperator<Type>
         extends FilterOperator<Type>
-        implements JavaExecutionOperator {
+        implements JavaNarrowOperator {
 
 
     /**
@@ -60,13 +62,24 @@ public class JavaFilterOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        final Predicate<Type> filterFunction = javaExecutor.getCompiler().compile(this.predicateDescriptor);
-        JavaExecutor.openFunction(this, filterFunction, inputs, operatorContext);
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().filter(filterFunction));
+        ((StreamChannel.Instance) outputs[0]).accept(this.transform(
+                ((JavaChannelInstance) inputs[0]).provideStream(), inputs, javaExecutor, operatorContext
+        ));
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<Type> transform(Stream<?> inputStream,
+                                  ChannelInstance[] inputs,
+                                  JavaExecutor javaExecutor,
+                                  OptimizationContext.OperatorContext operatorContext) {
+        final Predicate<Type> filterFunction = javaExecutor.getCompiler().compile(this.predicateDescriptor);
+        JavaExecutor.openFunction(this, filterFunction, inputs, operatorContext);
+        return ((Stream<Type>) inputStream).filter(filterFunction);
+    }
+
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "rheem.java.filter.load";
@@ -75,7 +88,7 @@ public class JavaFilterOperator<Type>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+                JavaNarrowOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.predicateDescriptor, configuration);
         return optEstimator;
     }
@@ -88,8 +101,15 @@ public class JavaFilterOperator<Type>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        final boolean isColumnar = ColumnarRecordChannel.isApplicable(this.getInput(index).getType());
+        if (this.getInput(index).isBroadcast()) {
+            return isColumnar ?
+                    Arrays.asList(CollectionChannel.DESCRIPTOR, ColumnarRecordChannel.DESCRIPTOR) :
+                    Collections.singletonList(CollectionChannel.DESCRIPTOR);
+        }
+        return isColumnar ?
+                Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, ColumnarRecordChannel.DESCRIPTOR) :
+                Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
     }
 
     @Override
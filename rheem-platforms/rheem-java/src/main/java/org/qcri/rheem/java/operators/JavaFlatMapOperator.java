@@ -19,6 +19,7 @@ import org.qcri.rheem.java.execution.JavaExecutor;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -26,7 +27,7 @@ import java.util.stream.StreamSupport;
  */
 public class JavaFlatMapOperator<InputType, OutputType>
         extends FlatMapOperator<InputType, OutputType>
-        implements JavaExecutionOperator {
+        implements JavaNarrowOperator {
 
     /**
      * Creates a new instance.
@@ -56,22 +57,31 @@ public class JavaFlatMapOperator<InputType, OutputType>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
+        ((StreamChannel.Instance) outputs[0]).accept(this.transform(
+                ((JavaChannelInstance) inputs[0]).provideStream(), inputs, javaExecutor, operatorContext
+        ));
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<OutputType> transform(Stream<?> inputStream,
+                                        ChannelInstance[] inputs,
+                                        JavaExecutor javaExecutor,
+                                        OptimizationContext.OperatorContext operatorContext) {
         final Function<InputType, Iterable<OutputType>> flatmapFunction =
                 javaExecutor.getCompiler().compile(this.functionDescriptor);
         JavaExecutor.openFunction(this, flatmapFunction, inputs, operatorContext);
 
-        ((StreamChannel.Instance) outputs[0]).accept(
-                ((JavaChannelInstance) inputs[0]).<InputType>provideStream().flatMap(dataQuantum ->
-                        StreamSupport.stream(
-                                Spliterators.spliteratorUnknownSize(
-                                        flatmapFunction.apply(dataQuantum).iterator(),
-                                        Spliterator.ORDERED),
-                                false
-                        )
+        return ((Stream<InputType>) inputStream).flatMap(dataQuantum ->
+                StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(
+                                flatmapFunction.apply(dataQuantum).iterator(),
+                                Spliterator.ORDERED),
+                        false
                 )
         );
-
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
     @Override
@@ -88,7 +98,7 @@ public class JavaFlatMapOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+                JavaNarrowOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.functionDescriptor, configuration);
         return optEstimator;
     }
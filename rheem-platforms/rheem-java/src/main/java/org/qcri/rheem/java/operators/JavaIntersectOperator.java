@@ -16,6 +16,7 @@ import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -78,12 +79,12 @@ public class JavaIntersectOperator<Type>
         final Set<Type> probingTable;
         if (isMaterialize0) {
             candidateStream = ((JavaChannelInstance) inputs[0]).provideStream();
-            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[1]).provideStream());
+            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[1]).provideStream(), javaExecutor.isParallel());
             indexingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
             probingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
         } else {
             candidateStream = ((JavaChannelInstance) inputs[1]).provideStream();
-            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[0]).provideStream());
+            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[0]).provideStream(), javaExecutor.isParallel());
             indexingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
             probingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
         }
@@ -99,11 +100,14 @@ public class JavaIntersectOperator<Type>
     /**
      * Creates a new probing table. The can be altered then.
      *
-     * @param stream for that the probing table should be created
+     * @param stream     for that the probing table should be created
+     * @param isParallel whether the probing table will be accessed concurrently
      * @return the probing table
      */
-    private Set<Type> createProbingTable(Stream<Type> stream) {
-        return stream.collect(Collectors.toSet());
+    private Set<Type> createProbingTable(Stream<Type> stream, boolean isParallel) {
+        return isParallel ?
+                stream.collect(Collectors.toCollection(ConcurrentHashMap::newKeySet)) :
+                stream.collect(Collectors.toSet());
     }
 
     @Override
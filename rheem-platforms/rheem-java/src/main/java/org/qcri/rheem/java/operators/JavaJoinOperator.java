@@ -18,6 +18,7 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.KeyedRowTable;
 
 import java.util.*;
 import java.util.function.Function;
@@ -78,6 +79,11 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
         Collection<ExecutionLineageNode> executionLineageNodes = new LinkedList<>();
         Collection<ChannelInstance> producedChannelInstances = new LinkedList<>();
 
+        // Integral keys can only be stored as primitives if both key functions agree on them.
+        final Class<KeyType> keyClass0 = this.keyDescriptor0.getOutputType().getTypeClass();
+        final Class<KeyType> keyClass1 = this.keyDescriptor1.getOutputType().getTypeClass();
+        final Class<?> keyClass = keyClass0 == keyClass1 ? keyClass0 : Object.class;
+
         boolean isMaterialize0 = cardinalityEstimate0 != null &&
                 cardinalityEstimate1 != null &&
                 cardinalityEstimate0.getGeometricMeanEstimate() <= cardinalityEstimate1.getGeometricMeanEstimate();
@@ -85,18 +91,14 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
         if (isMaterialize0) {
             final int expectedNumElements =
                     (int) cardinalityEstimate0.getGeometricMeanEstimate();
-            Map<KeyType, Collection<InputType0>> probeTable = new HashMap<>(expectedNumElements);
-            ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().forEach(dataQuantum0 ->
-                    probeTable.compute(keyExtractor0.apply(dataQuantum0),
-                            (key, value) -> {
-                                value = value == null ? new LinkedList<>() : value;
-                                value.add(dataQuantum0);
-                                return value;
-                            }
-                    )
+            final KeyedRowTable<KeyType, InputType0> probeTable = KeyedRowTable.build(
+                    ((JavaChannelInstance) inputs[0]).<InputType0>provideStream(),
+                    keyClass,
+                    keyExtractor0,
+                    expectedNumElements
             );
             joinStream = ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().flatMap(dataQuantum1 ->
-                    probeTable.getOrDefault(keyExtractor1.apply(dataQuantum1), Collections.emptyList()).stream()
+                    probeTable.getGroup(keyExtractor1.apply(dataQuantum1)).stream()
                             .map(dataQuantum0 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
             indexingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
             indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
@@ -105,18 +107,14 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
             final int expectedNumElements = cardinalityEstimate1 == null ?
                     1000 :
                     (int) cardinalityEstimate1.getGeometricMeanEstimate();
-            Map<KeyType, Collection<InputType1>> probeTable = new HashMap<>(expectedNumElements);
-            ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().forEach(dataQuantum1 ->
-                    probeTable.compute(keyExtractor1.apply(dataQuantum1),
-                            (key, value) -> {
-                                value = value == null ? new LinkedList<>() : value;
-                                value.add(dataQuantum1);
-                                return value;
-                            }
-                    )
+            final KeyedRowTable<KeyType, InputType1> probeTable = KeyedRowTable.build(
+                    ((JavaChannelInstance) inputs[1]).<InputType1>provideStream(),
+                    keyClass,
+                    keyExtractor1,
+                    expectedNumElements
             );
             joinStream = ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().flatMap(dataQuantum0 ->
-                    probeTable.getOrDefault(keyExtractor0.apply(dataQuantum0), Collections.emptyList()).stream()
+                    probeTable.getGroup(keyExtractor0.apply(dataQuantum0)).stream()
                             .map(dataQuantum1 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
             indexingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
             indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
@@ -1,6 +1,9 @@
 package org.qcri.rheem.java.operators;
 
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
 import org.qcri.rheem.basic.operators.MapOperator;
+import org.qcri.rheem.basic.types.RecordType;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
@@ -13,19 +16,21 @@ import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.ColumnarRecordChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link org.qcri.rheem.basic.operators.MapOperator}.
  */
 public class JavaMapOperator<InputType, OutputType>
         extends MapOperator<InputType, OutputType>
-        implements JavaExecutionOperator {
+        implements JavaNarrowOperator {
 
     /**
      * Creates a new instance.
@@ -56,11 +61,42 @@ public class JavaMapOperator<InputType, OutputType>
         final JavaChannelInstance input = (JavaChannelInstance) inputs[0];
         final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
+        // Projections of columnar Records need to touch only the projected columns.
+        final int[] projectedFieldIndices = this.getProjectedFieldIndices();
+        if (input instanceof ColumnarRecordChannel.Instance && projectedFieldIndices != null) {
+            output.accept(((ColumnarRecordChannel.Instance) input).provideColumns().project(projectedFieldIndices).stream());
+            return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        }
+
+        output.accept(this.transform(input.provideStream(), inputs, javaExecutor, operatorContext));
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<OutputType> transform(Stream<?> inputStream,
+                                        ChannelInstance[] inputs,
+                                        JavaExecutor javaExecutor,
+                                        OptimizationContext.OperatorContext operatorContext) {
         final Function<InputType, OutputType> function = javaExecutor.getCompiler().compile(this.functionDescriptor);
         JavaExecutor.openFunction(this, function, inputs, operatorContext);
-        output.accept(input.<InputType>provideStream().map(function));
+        return ((Stream<InputType>) inputStream).map(function);
+    }
 
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    /**
+     * Determine the fields that are retained if this instance projects {@link Record}s.
+     *
+     * @return the indices of the projected fields or {@code null} if this instance is not a {@link Record} projection
+     */
+    private int[] getProjectedFieldIndices() {
+        if (!(this.functionDescriptor instanceof ProjectionDescriptor)
+                || !(this.functionDescriptor.getInputType() instanceof RecordType)) {
+            return null;
+        }
+        final RecordType recordType = (RecordType) this.functionDescriptor.getInputType();
+        final List<String> fieldNames = ((ProjectionDescriptor<?, ?>) this.functionDescriptor).getFieldNames();
+        return fieldNames.stream().mapToInt(recordType::getIndex).toArray();
     }
 
     @Override
@@ -77,7 +113,7 @@ public class JavaMapOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+                JavaNarrowOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.functionDescriptor, configuration);
         return optEstimator;
     }
@@ -85,8 +121,15 @@ public class JavaMapOperator<InputType, OutputType>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        final boolean isColumnar = ColumnarRecordChannel.isApplicable(this.getInput(index).getType());
+        if (this.getInput(index).isBroadcast()) {
+            return isColumnar ?
+                    Arrays.asList(CollectionChannel.DESCRIPTOR, ColumnarRecordChannel.DESCRIPTOR) :
+                    Collections.singletonList(CollectionChannel.DESCRIPTOR);
+        }
+        return isColumnar ?
+                Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, ColumnarRecordChannel.DESCRIPTOR) :
+                Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
     }
 
     @Override
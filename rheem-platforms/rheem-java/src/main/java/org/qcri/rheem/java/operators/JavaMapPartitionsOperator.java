@@ -20,6 +20,7 @@ import org.qcri.rheem.java.execution.JavaExecutor;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -27,7 +28,7 @@ import java.util.stream.StreamSupport;
  */
 public class JavaMapPartitionsOperator<InputType, OutputType>
         extends MapPartitionsOperator<InputType, OutputType>
-        implements JavaExecutionOperator {
+        implements JavaNarrowOperator {
 
     /**
      * Creates a new instance.
@@ -55,20 +56,31 @@ public class JavaMapPartitionsOperator<InputType, OutputType>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
+        ((StreamChannel.Instance) outputs[0]).accept(this.transform(
+                ((JavaChannelInstance) inputs[0]).provideStream(), inputs, javaExecutor, operatorContext
+        ));
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<OutputType> transform(Stream<?> inputStream,
+                                        ChannelInstance[] inputs,
+                                        JavaExecutor javaExecutor,
+                                        OptimizationContext.OperatorContext operatorContext) {
         final Function<Iterable<InputType>, Iterable<OutputType>> function =
                 javaExecutor.getCompiler().compile(this.functionDescriptor);
         JavaExecutor.openFunction(this, function, inputs, operatorContext);
         final Iterable<OutputType> outputDataQuanta =
-                function.apply(Iterators.wrapWithIterable(((JavaChannelInstance) inputs[0]).<InputType>provideStream().iterator()));
+                function.apply(Iterators.wrapWithIterable(((Stream<InputType>) inputStream).iterator()));
 
-        ((StreamChannel.Instance) outputs[0]).accept(StreamSupport.stream(
+        return StreamSupport.stream(
                 Spliterators.spliteratorUnknownSize(
                         outputDataQuanta.iterator(),
                         Spliterator.ORDERED),
                 false
-        ));
-
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        );
     }
 
     @Override
@@ -85,7 +97,7 @@ public class JavaMapPartitionsOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+                JavaNarrowOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.functionDescriptor, configuration);
         return optEstimator;
     }
@@ -16,10 +16,12 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.ExternalMemory;
 
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link MaterializedGroupByOperator}.
@@ -54,12 +56,28 @@ public class JavaMaterializedGroupByOperator<Type, KeyType>
         assert outputs.length == this.getNumOutputs();
 
         final Function<Type, KeyType> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
-        final Map<KeyType, List<Type>> collocation = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
-                Collectors.groupingBy(
-                        keyExtractor,
-                        Collectors.toList())); // Not sure if this is thread-safe... Will we use #parallelStream()?
-
-        ((CollectionChannel.Instance) outputs[0]).accept(collocation.values());
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final ExternalMemory externalMemory = javaExecutor.getExternalMemory();
+        final Collection<List<Type>> collocation;
+        if (externalMemory != null) {
+            final Stream<List<Type>> groups = externalMemory.groupBy(inputStream, keyExtractor);
+            if (outputs[0] instanceof StreamChannel.Instance) {
+                // Hand over the groups lazily, so that only one spilled partition is held in main memory at a time.
+                ((StreamChannel.Instance) outputs[0]).accept(groups);
+                return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+            }
+            collocation = groups.collect(Collectors.toList());
+        } else if (javaExecutor.isParallel()) {
+            collocation = inputStream.collect(Collectors.groupingByConcurrent(keyExtractor)).values();
+        } else {
+            collocation = inputStream.collect(Collectors.groupingBy(keyExtractor)).values();
+        }
+
+        if (outputs[0] instanceof StreamChannel.Instance) {
+            ((StreamChannel.Instance) outputs[0]).accept(collocation);
+        } else {
+            ((CollectionChannel.Instance) outputs[0]).accept(collocation);
+        }
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
@@ -74,6 +92,7 @@ public class JavaMaterializedGroupByOperator<Type, KeyType>
         final Optional<LoadProfileEstimator> optEstimator =
                 JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor, configuration);
+        ExternalMemory.nestSpillEstimator(optEstimator, configuration);
         return optEstimator;
     }
 
@@ -91,7 +110,7 @@ public class JavaMaterializedGroupByOperator<Type, KeyType>
     @Override
     public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
         assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
-        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
     }
 
 }
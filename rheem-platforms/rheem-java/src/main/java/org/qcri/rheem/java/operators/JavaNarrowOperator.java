@@ -0,0 +1,31 @@
+package org.qcri.rheem.java.operators;
+
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.java.execution.JavaExecutor;
+
+import java.util.stream.Stream;
+
+/**
+ * {@link JavaExecutionOperator} that lazily transforms the {@link Stream} of its single main input into the
+ * {@link Stream} of its single output, e.g., a map or a filter. Chains of such operators can be fused into a single
+ * task by the {@link JavaExecutor}.
+ */
+public interface JavaNarrowOperator extends JavaExecutionOperator {
+
+    /**
+     * Prepares the UDF of this instance and applies it lazily to the given {@link Stream}.
+     *
+     * @param inputStream     the data quanta of the main input
+     * @param inputs          {@link ChannelInstance}s that satisfy the inputs of this operator; provide the broadcasts,
+     *                        but the main input might be {@code null}
+     * @param javaExecutor    that executes this instance
+     * @param operatorContext optimization information for this instance
+     * @return the output {@link Stream}
+     */
+    Stream<?> transform(Stream<?> inputStream,
+                        ChannelInstance[] inputs,
+                        JavaExecutor javaExecutor,
+                        OptimizationContext.OperatorContext operatorContext);
+
+}
@@ -84,7 +84,7 @@ public class JavaObjectFileSink<T> extends UnarySink<T> implements JavaExecution
                     throw new UncheckedIOException("Writing or serialization failed.", e);
                 }
             });
-            ((JavaChannelInstance) inputs[0]).provideStream().forEach(streamChunker::push);
+            ((JavaChannelInstance) inputs[0]).provideStream().forEachOrdered(streamChunker::push);
             streamChunker.fire();
             LoggerFactory.getLogger(this.getClass()).info("Writing dataset to {}.", path);
         } catch (IOException | UncheckedIOException e) {
@@ -22,7 +22,6 @@ import org.qcri.rheem.java.execution.JavaExecutor;
 import java.util.*;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongUnaryOperator;
-import java.util.function.Predicate;
 
 /**
  * Java implementation of the {@link JavaRandomSampleOperator}. This sampling method is with replacement (i.e., duplicates may appear in the sample).
@@ -83,24 +82,20 @@ public class JavaRandomSampleOperator<Type>
             }
             Arrays.sort(sampleIndices);
 
-            ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().filter(new Predicate<Type>() {
-                        int streamIndex = 0;
-                        int sampleIndex = 0;
-
-                @Override
-                        public boolean test(Type element) {
-                            if (sampleIndex == sampleIndices.length) //we already picked all our samples
-                                return false;
-                            if (streamIndex == sampleIndices[sampleIndex]) {
-                                sampleIndex++;
-                                streamIndex++;
-                                return true;
-                            }
-                            streamIndex++;
-                            return false;
-                        }
-                    })
-            );
+            // Pick the sample eagerly: The picking is stateful and thus requires a sequential pass, but any consumer
+            // of a lazy output Stream might turn the whole pipeline parallel (cf. rheem.java.parallel).
+            final List<Type> sample = new ArrayList<>(sampleSize);
+            final Iterator<Type> iterator = ((JavaChannelInstance) inputs[0]).<Type>provideStream().sequential().iterator();
+            for (int streamIndex = 0, sampleIndex = 0; sampleIndex < sampleIndices.length && iterator.hasNext(); streamIndex++) {
+                final Type element = iterator.next();
+                if (streamIndex == sampleIndices[sampleIndex]) {
+                    sample.add(element);
+                    sampleIndex++;
+                }
+            }
+            ((StreamChannel.Instance) outputs[0]).accept(sample);
+
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
         }
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
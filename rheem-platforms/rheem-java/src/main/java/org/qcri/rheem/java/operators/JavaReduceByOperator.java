@@ -1,6 +1,9 @@
 package org.qcri.rheem.java.operators;
 
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
 import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.basic.types.RecordType;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.ReduceDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
@@ -14,9 +17,12 @@ import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.ColumnarRecordChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.RecordColumns;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.ExternalMemory;
 
 import java.util.*;
 import java.util.function.BiConsumer;
@@ -25,6 +31,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link ReduceByOperator}.
@@ -56,6 +63,7 @@ public class JavaReduceByOperator<Type, KeyType>
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
             ChannelInstance[] inputs,
             ChannelInstance[] outputs,
@@ -68,14 +76,115 @@ public class JavaReduceByOperator<Type, KeyType>
         final BinaryOperator<Type> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
         JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
 
-        final Map<KeyType, Type> reductionResult = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
-                Collectors.groupingBy(keyExtractor, new ReducingCollector<>(reduceFunction))
-        );
-        ((CollectionChannel.Instance) outputs[0]).accept(reductionResult.values());
+        final ExternalMemory externalMemory = javaExecutor.getExternalMemory();
+        final int[] keyFieldIndices = this.getKeyFieldIndices();
+        final Collection<Type> reductionResult;
+        if (externalMemory != null) {
+            final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+            reductionResult = externalMemory.reduceBy(inputStream, keyExtractor, reduceFunction);
+        } else if (javaExecutor.isParallel()) {
+            final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+            reductionResult = inputStream
+                    .collect(Collectors.groupingByConcurrent(keyExtractor, new ReducingCollector<>(reduceFunction)))
+                    .values();
+        } else if (inputs[0] instanceof ColumnarRecordChannel.Instance && keyFieldIndices != null) {
+            final RecordColumns columns = ((ColumnarRecordChannel.Instance) inputs[0]).provideColumns();
+            reductionResult = (Collection<Type>) reduceColumns(columns, keyFieldIndices, (BinaryOperator<Record>) reduceFunction);
+        } else {
+            final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+            reductionResult = inputStream
+                    .collect(Collectors.groupingBy(keyExtractor, new ReducingCollector<>(reduceFunction)))
+                    .values();
+        }
+        ((CollectionChannel.Instance) outputs[0]).accept(reductionResult);
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Reduces {@link RecordColumns} by key fields. The keys are hashed and compared directly on the columns, and the
+     * rows are passed to the {@code reduceFunction} in a single, reused {@link Record}. Hence, only one {@link Record}
+     * per key is materialized. Should the {@code reduceFunction} return the reused {@link Record}, it is copied.
+     *
+     * @param columns         the {@link Record}s to reduce
+     * @param keyFieldIndices the indices of the key fields
+     * @param reduceFunction  reduces two {@link Record}s with the same key
+     * @return the reduced {@link Record}s
+     */
+    private static List<Record> reduceColumns(RecordColumns columns,
+                                              int[] keyFieldIndices,
+                                              BinaryOperator<Record> reduceFunction) {
+        final List<Record> reductions = new ArrayList<>();
+        // Open addressing hash table: Each slot holds 1 + the index of a reduction or 0 if it is empty.
+        int[] slots = new int[64];
+        // For each reduction, the row that first had its key and the hash of that key.
+        int[] keyRows = new int[32], keyHashes = new int[32];
+
+        final Object[] rowValues = new Object[columns.getNumFields()];
+        final Record row = new Record(rowValues);
+        for (int i = 0; i < columns.size(); i++) {
+            final int hash = mix(columns.hashFields(i, keyFieldIndices));
+            int slot = hash & (slots.length - 1), reductionIndex;
+            while ((reductionIndex = slots[slot] - 1) >= 0
+                    && (keyHashes[reductionIndex] != hash || !columns.equalFields(i, keyRows[reductionIndex], keyFieldIndices))) {
+                slot = (slot + 1) & (slots.length - 1);
+            }
+
+            if (reductionIndex < 0) {
+                // New key: Materialize the row as the initial reduction.
+                reductionIndex = reductions.size();
+                reductions.add(columns.get(i));
+                if (reductionIndex == keyRows.length) {
+                    keyRows = Arrays.copyOf(keyRows, 2 * keyRows.length);
+                    keyHashes = Arrays.copyOf(keyHashes, 2 * keyHashes.length);
+                }
+                keyRows[reductionIndex] = i;
+                keyHashes[reductionIndex] = hash;
+                slots[slot] = reductionIndex + 1;
+                if (2 * reductions.size() > slots.length) {
+                    // Keep the load factor at most 0.5.
+                    slots = new int[2 * slots.length];
+                    for (int j = 0; j < reductions.size(); j++) {
+                        int newSlot = keyHashes[j] & (slots.length - 1);
+                        while (slots[newSlot] != 0) newSlot = (newSlot + 1) & (slots.length - 1);
+                        slots[newSlot] = j + 1;
+                    }
+                }
+            } else {
+                for (int fieldIndex = 0; fieldIndex < rowValues.length; fieldIndex++) {
+                    rowValues[fieldIndex] = columns.getField(i, fieldIndex);
+                }
+                final Record reduction = reduceFunction.apply(reductions.get(reductionIndex), row);
+                reductions.set(reductionIndex, reduction == row ? row.copy() : reduction);
+            }
+        }
+        return reductions;
+    }
+
+    /**
+     * Spreads the bits of a hash code, so that it can be used with power-of-two hash tables.
+     */
+    private static int mix(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Determine the key fields if this instance groups {@link Record}s by a projection.
+     *
+     * @return the indices of the key fields or {@code null} if the key is not a {@link Record} projection
+     */
+    private int[] getKeyFieldIndices() {
+        if (!(this.keyDescriptor instanceof ProjectionDescriptor)
+                || !(this.keyDescriptor.getInputType() instanceof RecordType)
+                || this.keyDescriptor.getOutputType().getTypeClass() != Record.class) {
+            return null;
+        }
+        final RecordType recordType = (RecordType) this.keyDescriptor.getInputType();
+        final List<String> fieldNames = ((ProjectionDescriptor<?, ?>) this.keyDescriptor).getFieldNames();
+        return fieldNames.stream().mapToInt(recordType::getIndex).toArray();
+    }
+
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "rheem.java.reduceby.load";
@@ -87,6 +196,7 @@ public class JavaReduceByOperator<Type, KeyType>
                 JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor, configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.reduceDescriptor, configuration);
+        ExternalMemory.nestSpillEstimator(optEstimator, configuration);
         return optEstimator;
     }
 
@@ -99,7 +209,9 @@ public class JavaReduceByOperator<Type, KeyType>
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
         if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
-        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+        return ColumnarRecordChannel.isApplicable(this.getInput(index).getType()) ?
+                Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, ColumnarRecordChannel.DESCRIPTOR) :
+                Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
     }
 
     @Override
@@ -142,7 +254,7 @@ public class JavaReduceByOperator<Type, KeyType>
                 if (list1.isEmpty()) {
                     return list2;
                 } else if (list2.isEmpty()) {
-                    return list2;
+                    return list1;
                 } else {
                     list1.set(0, this.reduceFunction.apply(list1.get(0), list2.get(0)));
                     return list1;
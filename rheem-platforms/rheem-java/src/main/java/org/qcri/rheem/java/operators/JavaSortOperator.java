@@ -1,8 +1,10 @@
 package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
@@ -13,9 +15,11 @@ import org.qcri.rheem.java.channels.CollectionChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.ExternalMemory;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link SortOperator}.
@@ -53,9 +57,13 @@ public class JavaSortOperator<Type, Key>
         assert outputs.length == this.getNumOutputs();
 
         final Function<Type, Key> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
+        final Comparator<Type> comparator = (e1, e2) -> ((Comparable) keyExtractor.apply(e1)).compareTo(keyExtractor.apply(e2));
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream()
-                .sorted((e1, e2) -> ((Comparable)keyExtractor.apply(e1)).compareTo(keyExtractor.apply(e2))));
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final ExternalMemory externalMemory = javaExecutor.getExternalMemory();
+        ((StreamChannel.Instance) outputs[0]).accept(externalMemory == null ?
+                inputStream.sorted(comparator) :
+                externalMemory.sort(inputStream, comparator));
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
@@ -65,6 +73,14 @@ public class JavaSortOperator<Type, Key>
         return "rheem.java.sort.load";
     }
 
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        ExternalMemory.nestSpillEstimator(optEstimator, configuration);
+        return optEstimator;
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new JavaSortOperator<>(this.getKeyDescriptor(), this.getInputType());
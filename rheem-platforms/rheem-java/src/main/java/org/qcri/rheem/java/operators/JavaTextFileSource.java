@@ -10,13 +10,17 @@ import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.core.util.fs.FileSystem;
 import org.qcri.rheem.core.util.fs.FileSystems;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
+import org.qcri.rheem.java.util.MappedLineSpliterator;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,6 +36,10 @@ public class JavaTextFileSource extends TextFileSource implements JavaExecutionO
         super(inputUrl);
     }
 
+    public JavaTextFileSource(String inputUrl, String encoding) {
+        super(inputUrl, encoding);
+    }
+
     /**
      * Copies an instance (exclusive of broadcasts).
      *
@@ -56,10 +64,17 @@ public class JavaTextFileSource extends TextFileSource implements JavaExecutionO
         );
 
         try {
-            final InputStream inputStream = fs.open(url);
-            Stream<String> lines = new BufferedReader(new InputStreamReader(inputStream)).lines();
+            final Charset charset = Charset.forName(this.getEncoding());
+            final Stream<String> lines;
+            if (fs instanceof LocalFileSystem && MappedLineSpliterator.isSupported(charset)) {
+                // Memory-map local files, so that the StreamChannel can read them in parallel.
+                lines = MappedLineSpliterator.lines(LocalFileSystem.toFile(url).toPath(), charset);
+            } else {
+                final InputStream inputStream = fs.open(url);
+                lines = new BufferedReader(new InputStreamReader(inputStream, charset)).lines();
+            }
             ((StreamChannel.Instance) outputs[0]).accept(lines);
-        } catch (IOException e) {
+        } catch (IOException | URISyntaxException e) {
             throw new RheemException(String.format("Reading %s failed.", url), e);
         }
 
@@ -84,7 +99,7 @@ public class JavaTextFileSource extends TextFileSource implements JavaExecutionO
 
     @Override
     public JavaTextFileSource copy() {
-        return new JavaTextFileSource(this.getInputUrl());
+        return new JavaTextFileSource(this.getInputUrl(), this.getEncoding());
     }
 
     @Override
@@ -1,7 +1,7 @@
 package org.qcri.rheem.java.operators;
 
 import org.qcri.rheem.basic.channels.FileChannel;
-import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.channels.TsvCodec;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
@@ -30,24 +30,37 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * {@link Operator} for the {@link JavaPlatform} that creates a TSV file.
- * Only applicable to tuples with standard datatypes.
+ * {@link Operator} for the {@link JavaPlatform} that creates a TSV file via a {@link TsvCodec}.
  *
- * @see JavaObjectFileSource
+ * @see JavaTsvFileSource
  */
-public class JavaTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> implements JavaExecutionOperator {
+public class JavaTsvFileSink<T> extends UnarySink<T> implements JavaExecutionOperator {
 
     private final String targetPath;
 
+    /**
+     * Classes of the fields of the data quanta; might be empty.
+     */
+    private final Class<?>[] fieldClasses;
+
+    private final TsvCodec<T> codec;
+
     public JavaTsvFileSink(DataSetType<T> type) {
         this(null, type);
     }
 
-    public JavaTsvFileSink(String targetPath, DataSetType<T> type) {
+    /**
+     * Creates a new instance.
+     *
+     * @param targetPath   the file to write or {@code null} if a temporary file should be used
+     * @param type         of the data quanta
+     * @param fieldClasses classes of the fields of the data quanta; see {@link TsvCodec#create(DataSetType, Class[])}
+     */
+    public JavaTsvFileSink(String targetPath, DataSetType<T> type, Class<?>... fieldClasses) {
         super(type);
-        assert type.equals(DataSetType.createDefault(Tuple2.class)) :
-                String.format("Illegal type for %s: %s", this, type);
         this.targetPath = targetPath;
+        this.fieldClasses = fieldClasses;
+        this.codec = TsvCodec.create(type, fieldClasses);
     }
 
     @Override
@@ -70,17 +83,14 @@ public class JavaTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> implem
                         fileSystem.create(path), "UTF-8"
                 )
         )) {
+            final TsvCodec.Formatter<T> formatter = this.codec.createFormatter();
+            final TsvCodec.FieldClassCollector fieldClassCollector = new TsvCodec.FieldClassCollector();
             try {
-                ((JavaChannelInstance) inputs[0]).provideStream().forEach(
+                ((JavaChannelInstance) inputs[0]).<T>provideStream().forEachOrdered(
                         dataQuantum -> {
                             try {
-                                // TODO: Once there are more tuple types, make this generic.
-                                @SuppressWarnings("unchecked")
-                                Tuple2<Object, Object> tuple2 = (Tuple2<Object, Object>) dataQuantum;
-                                writer.append(String.valueOf(tuple2.field0))
-                                        .append('\t')
-                                        .append(String.valueOf(tuple2.field1))
-                                        .append('\n');
+                                formatter.write(dataQuantum, writer);
+                                fieldClassCollector.observe(dataQuantum);
                             } catch (IOException e) {
                                 throw new UncheckedIOException(e);
                             }
@@ -89,6 +99,8 @@ public class JavaTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> implem
             } catch (UncheckedIOException e) {
                 throw e.getCause();
             }
+            // Tell readers of the output the field classes, which the DataSetType might not specify.
+            output.setFieldClasses(this.fieldClasses.length > 0 ? this.fieldClasses : fieldClassCollector.getFieldClasses());
         } catch (IOException e) {
             throw new RheemException(String.format("%s failed on writing to %s.", this, this.targetPath), e);
         }
@@ -103,7 +115,7 @@ public class JavaTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> implem
 
     @Override
     protected ExecutionOperator createCopy() {
-        return new JavaTsvFileSink<>(this.targetPath, this.getType());
+        return new JavaTsvFileSink<>(this.targetPath, this.getType(), this.fieldClasses);
     }
 
     @Override
@@ -2,7 +2,7 @@ package org.qcri.rheem.java.operators;
 
 import org.apache.commons.io.IOUtils;
 import org.qcri.rheem.basic.channels.FileChannel;
-import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.channels.TsvCodec;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
@@ -16,35 +16,66 @@ import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.core.util.fs.FileSystem;
 import org.qcri.rheem.core.util.fs.FileSystems;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.platform.JavaPlatform;
+import org.qcri.rheem.java.util.MappedLineSpliterator;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
-import java.util.*;
-import java.util.function.Function;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
- * {@link Operator} for the {@link JavaPlatform} that creates a sequence file. Consistent with Spark's object files.
+ * {@link Operator} for the {@link JavaPlatform} that reads a TSV file via a {@link TsvCodec}.
  *
- * @see JavaObjectFileSink
+ * @see JavaTsvFileSink
  */
 public class JavaTsvFileSource<T> extends UnarySource<T> implements JavaExecutionOperator {
 
     private final String sourcePath;
 
+    /**
+     * Classes of the fields of the data quanta; might be empty.
+     */
+    private final Class<?>[] fieldClasses;
+
+    private final TsvCodec<T> codec;
+
     public JavaTsvFileSource(String sourcePath, DataSetType type) {
-        super(type);
-        this.sourcePath = sourcePath;
+        this(sourcePath, type, new Class<?>[0]);
     }
 
+    /**
+     * Creates a new instance that reads {@link Tuple2}s of {@link Integer}s and {@link Float}s.
+     */
     public JavaTsvFileSource(DataSetType<Tuple2> type) {
-        this(null, type);
+        this(null, (DataSetType) type, Integer.class, Float.class);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sourcePath   the file to read or {@code null} if it is provided via a {@link FileChannel}
+     * @param type         of the data quanta
+     * @param fieldClasses classes of the fields of the data quanta; see {@link TsvCodec#create(DataSetType, Class[])}
+     */
+    public JavaTsvFileSource(String sourcePath, DataSetType<T> type, Class<?>... fieldClasses) {
+        super(type);
+        this.sourcePath = sourcePath;
+        this.fieldClasses = fieldClasses;
+        this.codec = TsvCodec.create(type, fieldClasses);
     }
 
     @Override
@@ -56,49 +87,28 @@ public class JavaTsvFileSource<T> extends UnarySource<T> implements JavaExecutio
         assert outputs.length == this.getNumOutputs();
 
         final String path;
+        TsvCodec<T> codec = this.codec;
         if (this.sourcePath == null) {
             final FileChannel.Instance input = (FileChannel.Instance) inputs[0];
             path = input.getSinglePath();
+            if (this.fieldClasses.length == 0 && input.getFieldClasses().length > 0) {
+                codec = TsvCodec.create(this.getType(), input.getFieldClasses());
+            }
         } else {
             assert inputs.length == 0;
             path = this.sourcePath;
         }
         final String actualInputPath = FileSystems.findActualSingleInputPath(path);
-        Stream<T> stream = this.createStream(actualInputPath);
+        Stream<T> stream = this.createStream(actualInputPath, codec);
         ((StreamChannel.Instance) outputs[0]).accept(stream);
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
-    private Stream<T> createStream(String path) {
-        Function<String, T> parser = this::lineParse;
-
-        return this.streamLines(path).map(parser);
-    }
-
-    private T lineParse(String line) {
-        // TODO rewrite in less verbose way.
-        Class typeClass = this.getType().getDataUnitType().getTypeClass();
-        int tabPos = line.indexOf('\t');
-        if (tabPos == -1) {
-            if (typeClass == Integer.class) {
-                return (T) Integer.valueOf(line);
-            } else if (typeClass == Float.class) {
-                return (T) Float.valueOf(line);
-            } else if (typeClass == String.class) {
-                return (T) String.valueOf(line);
-            } else throw new RheemException(String.format("Cannot parse TSV file line %s", line));
-        } else if (typeClass == Record.class) {
-            // TODO: Fix Record parsing.
-            return (T) new Record();
-        } else if (typeClass == Tuple2.class) {
-            // TODO: Fix Tuple2 parsing
-            return (T) new Tuple2(
-                    Integer.valueOf(line.substring(0, tabPos)),
-                    Float.valueOf(line.substring(tabPos + 1)));
-        } else
-            throw new RheemException(String.format("Cannot parse TSV file line %s", line));
-
+    private Stream<T> createStream(String path, TsvCodec<T> codec) {
+        // Parsers reuse their buffers, so each thread needs its own one in case the Stream is parallel.
+        final ThreadLocal<TsvCodec.Parser<T>> parsers = ThreadLocal.withInitial(codec::createParser);
+        return this.streamLines(path).map(line -> parsers.get().parse(line));
     }
 
     /**
@@ -112,19 +122,23 @@ public class JavaTsvFileSource<T> extends UnarySource<T> implements JavaExecutio
                 () -> new IllegalStateException(String.format("No file system found for %s", path))
         );
         try {
+            if (fileSystem instanceof LocalFileSystem) {
+                // Memory-map local files, so that the StreamChannel can read them in parallel.
+                return MappedLineSpliterator.lines(LocalFileSystem.toFile(path).toPath(), StandardCharsets.UTF_8);
+            }
             Iterator<String> lineIterator = this.createLineIterator(fileSystem, path);
             return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lineIterator, 0), false);
-        } catch (IOException e) {
+        } catch (IOException | URISyntaxException e) {
             throw new RheemException(String.format("%s failed to read %s.", this, path), e);
         }
-
     }
 
     /**
      * Creates an {@link Iterator} over the lines of a given {@code path} (that resides in the given {@code fileSystem}).
+     * As {@link StreamChannel}s do not close their {@link Stream}s, the file is closed as soon as its end is reached.
      */
     private Iterator<String> createLineIterator(FileSystem fileSystem, String path) throws IOException {
-        final BufferedReader reader = new BufferedReader(new InputStreamReader(fileSystem.open(path), "UTF-8"));
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(fileSystem.open(path), StandardCharsets.UTF_8));
         return new Iterator<String>() {
 
             String next;
@@ -153,7 +167,7 @@ public class JavaTsvFileSource<T> extends UnarySource<T> implements JavaExecutio
 
             @Override
             public String next() {
-                assert this.hasNext();
+                if (!this.hasNext()) throw new NoSuchElementException();
                 final String returnValue = this.next;
                 this.advance();
                 return returnValue;
@@ -168,7 +182,7 @@ public class JavaTsvFileSource<T> extends UnarySource<T> implements JavaExecutio
 
     @Override
     protected ExecutionOperator createCopy() {
-        return new JavaTsvFileSource<>(this.sourcePath, this.getType());
+        return new JavaTsvFileSource<>(this.sourcePath, this.getType(), this.fieldClasses);
     }
 
     @Override
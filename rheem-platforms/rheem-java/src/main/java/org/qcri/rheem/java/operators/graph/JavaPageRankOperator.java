@@ -1,10 +1,5 @@
 package org.qcri.rheem.java.operators.graph;
 
-import gnu.trove.iterator.TLongFloatIterator;
-import gnu.trove.map.TLongFloatMap;
-import gnu.trove.map.TLongIntMap;
-import gnu.trove.map.hash.TLongFloatHashMap;
-import gnu.trove.map.hash.TLongIntHashMap;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.operators.PageRankOperator;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
@@ -13,17 +8,27 @@ import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
-
-import java.util.*;
+import org.qcri.rheem.java.util.graph.CsrGraph;
+import org.qcri.rheem.java.util.graph.VertexCentricEngine;
+import org.qcri.rheem.java.util.graph.VertexProgram;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
- * Java implementation of the {@link PageRankOperator}.
+ * Java implementation of the {@link PageRankOperator}. It loads the edges into a {@link CsrGraph} and runs PageRank
+ * on it with the {@link VertexCentricEngine}.
  */
 public class JavaPageRankOperator extends PageRankOperator implements JavaExecutionOperator {
 
@@ -41,12 +46,26 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
             ChannelInstance[] outputs,
             JavaExecutor javaExecutor,
             OptimizationContext.OperatorContext operatorContext) {
-        CollectionChannel.Instance input = (CollectionChannel.Instance) inputs[0];
+        JavaChannelInstance input = (JavaChannelInstance) inputs[0];
         StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
-        final Collection<Tuple2<Long, Long>> edges = input.provideCollection();
-        final TLongFloatMap pageRanks = this.pageRank(edges);
-        final Stream<Tuple2<Long, Float>> pageRankStream = this.stream(pageRanks);
+        // Stream the edges, so that they need not be materialized on the heap if they are to be memory-mapped.
+        final long mmapThreshold = javaExecutor.getConfiguration().getLongProperty("rheem.java.graph.mmap-edges", 0L);
+        final File mappingDirectory = mmapThreshold > 0 ? LocalFileSystem.findTempDir() : null;
+        final CsrGraph graph;
+        try (Stream<Tuple2<Long, Long>> edges = input.provideStream()) {
+            graph = CsrGraph.fromEdges(edges.iterator(), mmapThreshold, mappingDirectory);
+        }
+        final double[] pageRanks;
+        try {
+            pageRanks = new VertexCentricEngine(javaExecutor.isParallel())
+                    .run(graph, new PageRankProgram(this.dampingFactor), this.getNumIterations());
+        } finally {
+            // Only the vertex IDs are needed hereafter, so the edges (and any file backing them) can be released.
+            graph.close();
+        }
+        final Stream<Tuple2<Long, Float>> pageRankStream = IntStream.range(0, graph.getNumVertices())
+                .mapToObj(vertex -> new Tuple2<>(graph.getVertexId(vertex), (float) pageRanks[vertex]));
 
         output.accept(pageRankStream);
 
@@ -54,72 +73,33 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
     }
 
     /**
-     * Execute the PageRank algorithm.
-     *
-     * @param edgeDataSet edges of a graph
-     * @return the page ranks
+     * {@link VertexProgram} for PageRank: Each vertex distributes its rank evenly over its out-edges.
      */
-    private TLongFloatMap pageRank(Collection<Tuple2<Long, Long>> edgeDataSet) {
-        // Get the degress of all vertices and make sure we collect *all* vertices.
-        TLongIntMap degrees = new TLongIntHashMap();
-        for (Tuple2<Long, Long> edge : edgeDataSet) {
-            degrees.adjustOrPutValue(edge.field0, 1, 1);
-            degrees.adjustOrPutValue(edge.field0, 0, 0);
+    private static class PageRankProgram implements VertexProgram {
+
+        private final double dampingFactor;
+
+        private PageRankProgram(double dampingFactor) {
+            this.dampingFactor = dampingFactor;
         }
-        int numVertices = degrees.size();
-        float initialRank = 1f / numVertices;
-        float dampingRank = (1 - this.dampingFactor) / numVertices;
-
-        // Initialize the rank map.
-        TLongFloatMap initialRanks = new TLongFloatHashMap();
-        degrees.forEachKey(k -> {
-            initialRanks.putIfAbsent(k, initialRank);
-            return true;
-        });
-
-        TLongFloatMap currentRanks = initialRanks;
-        for (int iteration = 0; iteration < this.getNumIterations(); iteration++) {
-            // Add the damping first.
-            TLongFloatMap newRanks = new TLongFloatHashMap(currentRanks.size());
-            degrees.forEachKey(k -> {
-                newRanks.putIfAbsent(k, dampingRank);
-                return true;
-            });
-
-            // Now add the other ranks.
-            for (Tuple2<Long, Long> edge : edgeDataSet) {
-                final long sourceVertex = edge.field0;
-                final long targetVertex = edge.field1;
-                final int degree = degrees.get(sourceVertex);
-                final float currentRank = currentRanks.get(sourceVertex);
-                final float partialRank = this.dampingFactor * currentRank / degree;
-                newRanks.adjustOrPutValue(targetVertex, partialRank, partialRank);
-            }
-
-            currentRanks = newRanks;
+
+        @Override
+        public double initialValue(CsrGraph graph, int vertex) {
+            return 1d / graph.getNumVertices();
         }
 
-        return currentRanks;
-    }
+        @Override
+        public double scatter(CsrGraph graph, int vertex, double rank) {
+            final int outDegree = graph.getOutDegree(vertex);
+            return outDegree == 0 ? 0d : rank / outDegree;
+        }
 
-    private Stream<Tuple2<Long, Float>> stream(TLongFloatMap map) {
-        final TLongFloatIterator tLongFloatIterator = map.iterator();
-        Iterator<Tuple2<Long, Float>> iterator = new Iterator<Tuple2<Long, Float>>() {
-            @Override
-            public boolean hasNext() {
-                return tLongFloatIterator.hasNext();
-            }
-
-            @Override
-            public Tuple2<Long, Float> next() {
-                tLongFloatIterator.advance();
-                return new Tuple2<>(tLongFloatIterator.key(), tLongFloatIterator.value());
-            }
-        };
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false);
+        @Override
+        public double apply(CsrGraph graph, int vertex, double messages, double rank) {
+            return (1 - this.dampingFactor) / graph.getNumVertices() + this.dampingFactor * messages;
+        }
     }
 
-
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "rheem.java.pagerank.load";
@@ -128,7 +108,7 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index == 0;
-        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
     }
 
     @Override
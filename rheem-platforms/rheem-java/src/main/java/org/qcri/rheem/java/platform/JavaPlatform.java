@@ -22,7 +22,7 @@ public class JavaPlatform extends Platform {
 
     private static JavaPlatform instance = null;
 
-    public static JavaPlatform getInstance() {
+    public static synchronized JavaPlatform getInstance() {
         if (instance == null) {
             instance = new JavaPlatform();
         }
@@ -46,7 +46,10 @@ public class JavaPlatform extends Platform {
     @Override
     public LoadProfileToTimeConverter createLoadProfileToTimeConverter(Configuration configuration) {
         int cpuMhz = (int) configuration.getLongProperty("rheem.java.cpu.mhz");
-        int numCores = (int) configuration.getLongProperty("rheem.java.cores");
+        // Only in parallel mode, the JavaExecutor can make use of more than one core.
+        int numCores = configuration.getBooleanProperty("rheem.java.parallel", false) ?
+                (int) Math.max(1, configuration.getLongProperty("rheem.java.cores")) :
+                1;
         double hdfsMsPerMb = configuration.getDoubleProperty("rheem.java.hdfs.ms-per-mb");
         double stretch = configuration.getDoubleProperty("rheem.java.stretch");
         return LoadProfileToTimeConverter.createTopLevelStretching(
@@ -0,0 +1,454 @@
+package org.qcri.rheem.java.util;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.costs.DefaultLoadEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Memory-budgeted implementations of blocking operations for the Java platform. As long as the data fits into the
+ * budget, the operations run entirely in main memory. Otherwise, they evict data quanta to {@link SpillFile}s:
+ * Hash-based operations (reduce, group, distinct) partition the data quanta by their keys and then process one
+ * partition at a time, while sorting writes sorted runs and merges them. {@link #dispose()} deletes any remaining
+ * {@link SpillFile}s.
+ * <p>The budget is configured via {@code rheem.java.memory.budget} and counts data quanta, because their actual
+ * sizes cannot be measured efficiently. Note that input {@link Stream}s are consumed sequentially.</p>
+ */
+public class ExternalMemory {
+
+    /**
+     * Maximum number of times that hash-based operations re-partition a partition that still exceeds the budget.
+     * Beyond that, e.g., for a single hot key, the partition is processed in main memory anyway.
+     */
+    private static final int MAX_PARTITIONING_DEPTH = 3;
+
+    /**
+     * Maximum number of data quanta that an operation may hold in main memory.
+     */
+    private final long budget;
+
+    /**
+     * URL of the directory that holds the {@link SpillFile}s.
+     */
+    private final String spillDirectory;
+
+    /**
+     * Number of {@link SpillFile}s over which hash-based operations partition their data quanta.
+     */
+    private final int numPartitions;
+
+    /**
+     * Maximum number of sorted runs that are read at once when merging them.
+     */
+    private final int maxFanIn;
+
+    /**
+     * Counts all data quanta written to {@link SpillFile}s.
+     */
+    private final LongAdder numSpilledDataQuanta = new LongAdder();
+
+    /**
+     * Keeps track of the {@link SpillFile}s of this instance, so that they can be deleted on {@link #dispose()}.
+     */
+    private final Collection<SpillFile<?>> spillFiles = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param budget         maximum number of data quanta that an operation may hold in main memory
+     * @param spillDirectory URL of the directory that should hold the {@link SpillFile}s
+     * @param numPartitions  number of partitions for hash-based operations
+     * @param maxFanIn       maximum number of sorted runs to merge at once
+     */
+    public ExternalMemory(long budget, String spillDirectory, int numPartitions, int maxFanIn) {
+        this.budget = budget;
+        this.spillDirectory = spillDirectory.endsWith("/") ?
+                spillDirectory.substring(0, spillDirectory.length() - 1) :
+                spillDirectory;
+        this.numPartitions = numPartitions;
+        this.maxFanIn = maxFanIn;
+    }
+
+    /**
+     * Creates a new instance according to the given {@link Configuration}.
+     *
+     * @param configuration provides {@code rheem.java.memory.*} properties
+     * @return the new instance or {@code null} if no memory budget is configured
+     */
+    public static ExternalMemory createFrom(Configuration configuration) {
+        final long budget = configuration.getLongProperty("rheem.java.memory.budget", 0L);
+        if (budget <= 0) return null;
+        final String spillDirectory = configuration.getOptionalStringProperty("rheem.java.memory.spill.dir")
+                .orElseGet(() -> LocalFileSystem.toURL(new File(LocalFileSystem.findTempDir(), "rheem-spill")));
+        final int numPartitions = (int) configuration.getLongProperty("rheem.java.memory.spill.partitions", 16L);
+        final int maxFanIn = (int) configuration.getLongProperty("rheem.java.memory.spill.max-fan-in", 64L);
+        return new ExternalMemory(budget, spillDirectory, Math.max(2, numPartitions), Math.max(2, maxFanIn));
+    }
+
+    /**
+     * Nests a {@link LoadProfileEstimator} for spilling data quanta into the given estimator if a memory budget is
+     * configured. It accounts for serializing, writing, and reading back all input data quanta as soon as they exceed
+     * the budget.
+     *
+     * @param mainEstimatorOpt the estimator of a memory-budgeted operator
+     * @param configuration    provides the memory budget and the {@code rheem.java.memory.spill.*} cost parameters
+     */
+    public static void nestSpillEstimator(Optional<LoadProfileEstimator> mainEstimatorOpt, Configuration configuration) {
+        final LoadProfileEstimator mainEstimator = mainEstimatorOpt.orElse(null);
+        if (!(mainEstimator instanceof NestableLoadProfileEstimator)) return;
+        final long budget = configuration.getLongProperty("rheem.java.memory.budget", 0L);
+        if (budget <= 0) return;
+
+        final long cyclesPerDataQuantum = configuration.getLongProperty("rheem.java.memory.spill.cycles-per-quantum");
+        final long bytesPerDataQuantum = configuration.getLongProperty("rheem.java.memory.spill.bytes-per-quantum");
+        mainEstimator.nest(new NestableLoadProfileEstimator(
+                new DefaultLoadEstimator(1, 1, 0.9d, (in, out) -> in[0] > budget ? 2 * cyclesPerDataQuantum * in[0] : 0L),
+                new DefaultLoadEstimator(1, 1, 0.9d, (in, out) -> 0L),
+                new DefaultLoadEstimator(1, 1, 0.9d, (in, out) -> in[0] > budget ? 2 * bytesPerDataQuantum * in[0] : 0L),
+                null
+        ));
+    }
+
+    /**
+     * Reduces the data quanta per key. Partial reduction results are spilled once there are more keys than the
+     * budget allows.
+     *
+     * @param stream         provides the data quanta
+     * @param keyExtractor   extracts the keys
+     * @param reduceFunction reduces two data quanta with the same key
+     * @return the reduced data quanta
+     */
+    public <T, K> Collection<T> reduceBy(Stream<T> stream, Function<T, K> keyExtractor, BinaryOperator<T> reduceFunction) {
+        return this.reduceBy(stream.iterator(), keyExtractor, reduceFunction, 0);
+    }
+
+    private <T, K> Collection<T> reduceBy(Iterator<T> iterator,
+                                          Function<T, K> keyExtractor,
+                                          BinaryOperator<T> reduceFunction,
+                                          int depth) {
+        final Map<K, T> partialResults = new HashMap<>();
+        List<SpillFile<T>> partitions = null;
+        while (iterator.hasNext()) {
+            final T dataQuantum = iterator.next();
+            partialResults.merge(keyExtractor.apply(dataQuantum), dataQuantum, reduceFunction);
+            if (partialResults.size() >= this.budget && depth < MAX_PARTITIONING_DEPTH) {
+                if (partitions == null) partitions = this.createPartitions();
+                this.spill(partialResults.values(), keyExtractor, partitions, depth);
+                partialResults.clear();
+            }
+        }
+        if (partitions == null) return partialResults.values();
+
+        this.spill(partialResults.values(), keyExtractor, partitions, depth);
+        partialResults.clear();
+        Collection<T> result = new ArrayList<>();
+        for (SpillFile<T> partition : partitions) {
+            // Partitions with too many keys are re-partitioned in turn.
+            result.addAll(this.reduceBy(partition.read(), keyExtractor, reduceFunction, depth + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Groups the data quanta by their keys. Data quanta are spilled once there are more of them than the budget
+     * allows. The input is consumed only when the result {@link Stream} is, and then only the groups of a single
+     * partition are held in main memory at a time.
+     *
+     * @param stream       provides the data quanta
+     * @param keyExtractor extracts the keys
+     * @return the groups
+     */
+    public <T, K> Stream<List<T>> groupBy(Stream<T> stream, Function<T, K> keyExtractor) {
+        return lazily(() -> this.groupBy(stream.iterator(), keyExtractor, 0));
+    }
+
+    private <T, K> Stream<List<T>> groupBy(Iterator<T> iterator, Function<T, K> keyExtractor, int depth) {
+        final List<T> buffer = new ArrayList<>();
+        List<SpillFile<T>> partitions = null;
+        while (iterator.hasNext()) {
+            buffer.add(iterator.next());
+            if (buffer.size() >= this.budget && depth < MAX_PARTITIONING_DEPTH) {
+                if (partitions == null) partitions = this.createPartitions();
+                this.spill(buffer, keyExtractor, partitions, depth);
+                buffer.clear();
+            }
+        }
+        if (partitions == null) return buffer.stream().collect(Collectors.groupingBy(keyExtractor)).values().stream();
+
+        this.spill(buffer, keyExtractor, partitions, depth);
+        buffer.clear();
+        final List<SpillFile<T>> finalPartitions = partitions;
+        return finalPartitions.stream()
+                .flatMap(partition -> this.groupBy(partition.read(), keyExtractor, depth + 1))
+                .onClose(() -> finalPartitions.forEach(SpillFile::delete));
+    }
+
+    /**
+     * Removes duplicate data quanta. Distinct data quanta are spilled once there are more of them than the budget
+     * allows. The input is consumed only when the result {@link Stream} is.
+     *
+     * @param stream provides the data quanta
+     * @return the distinct data quanta
+     */
+    public <T> Stream<T> distinct(Stream<T> stream) {
+        return lazily(() -> this.distinct(stream.iterator(), 0));
+    }
+
+    private <T> Stream<T> distinct(Iterator<T> iterator, int depth) {
+        final Set<T> distinctDataQuanta = new LinkedHashSet<>();
+        List<SpillFile<T>> partitions = null;
+        while (iterator.hasNext()) {
+            distinctDataQuanta.add(iterator.next());
+            if (distinctDataQuanta.size() >= this.budget && depth < MAX_PARTITIONING_DEPTH) {
+                if (partitions == null) partitions = this.createPartitions();
+                this.spill(distinctDataQuanta, Function.identity(), partitions, depth);
+                distinctDataQuanta.clear();
+            }
+        }
+        if (partitions == null) return distinctDataQuanta.stream();
+
+        this.spill(distinctDataQuanta, Function.identity(), partitions, depth);
+        distinctDataQuanta.clear();
+        final List<SpillFile<T>> finalPartitions = partitions;
+        return finalPartitions.stream()
+                .flatMap(partition -> this.distinct(partition.read(), depth + 1))
+                .onClose(() -> finalPartitions.forEach(SpillFile::delete));
+    }
+
+    /**
+     * Sorts the data quanta. Whenever the budget is exhausted, the buffered data quanta are sorted and spilled as a
+     * run. Eventually, all runs are merged &ndash; in several passes if there are more than {@link #maxFanIn} of
+     * them. The input is consumed only when the result {@link Stream} is.
+     *
+     * @param stream     provides the data quanta
+     * @param comparator defines the sort order
+     * @return the sorted data quanta
+     */
+    public <T> Stream<T> sort(Stream<T> stream, Comparator<? super T> comparator) {
+        return lazily(() -> this.sortEagerly(stream, comparator));
+    }
+
+    private <T> Stream<T> sortEagerly(Stream<T> stream, Comparator<? super T> comparator) {
+        final List<T> buffer = new ArrayList<>();
+        List<SpillFile<T>> runs = new ArrayList<>();
+        for (Iterator<T> iterator = stream.iterator(); iterator.hasNext(); ) {
+            buffer.add(iterator.next());
+            if (buffer.size() >= this.budget) {
+                buffer.sort(comparator);
+                runs.add(this.spillRun(buffer.iterator()));
+                buffer.clear();
+            }
+        }
+        buffer.sort(comparator);
+        if (runs.isEmpty()) return buffer.stream();
+
+        // Merge adjacent runs until we can read all of them (and the in-memory run) at once. Merging only adjacent
+        // runs keeps the sort stable.
+        while (runs.size() >= this.maxFanIn) {
+            final List<SpillFile<T>> mergedRuns = new ArrayList<>();
+            for (int start = 0; start < runs.size(); start += this.maxFanIn) {
+                final List<SpillFile<T>> mergees = runs.subList(start, Math.min(start + this.maxFanIn, runs.size()));
+                mergedRuns.add(mergees.size() == 1 ?
+                        mergees.get(0) :
+                        this.spillRun(new MergingIterator<>(read(mergees), comparator)));
+            }
+            runs = mergedRuns;
+        }
+
+        // The last run can stay in memory.
+        final List<Iterator<T>> iterators = read(runs);
+        iterators.add(buffer.iterator());
+        final List<SpillFile<T>> finalRuns = runs;
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new MergingIterator<>(iterators, comparator), Spliterator.ORDERED),
+                false
+        ).onClose(() -> finalRuns.forEach(SpillFile::delete));
+    }
+
+    /**
+     * Tells how many data quanta this instance has spilled so far.
+     *
+     * @return the number of spilled data quanta
+     */
+    public long getNumSpilledDataQuanta() {
+        return this.numSpilledDataQuanta.sum();
+    }
+
+    /**
+     * Deletes all {@link SpillFile}s of this instance that are still around, e.g., because the consumer of a
+     * result {@link Stream} stopped early.
+     */
+    public void dispose() {
+        this.spillFiles.forEach(SpillFile::delete);
+        this.spillFiles.clear();
+    }
+
+    /**
+     * Defers the creation of a {@link Stream} until it is consumed. Closing the returned {@link Stream} also closes
+     * the deferred one.
+     *
+     * @param streamSupplier creates the deferred {@link Stream}
+     * @return the deferring {@link Stream}
+     */
+    private static <T> Stream<T> lazily(Supplier<Stream<T>> streamSupplier) {
+        final AtomicReference<Stream<T>> streamReference = new AtomicReference<>();
+        return StreamSupport.stream(
+                () -> {
+                    final Stream<T> stream = streamSupplier.get();
+                    streamReference.set(stream);
+                    return stream.spliterator();
+                },
+                Spliterator.ORDERED,
+                false
+        ).onClose(() -> {
+            final Stream<T> stream = streamReference.get();
+            if (stream != null) stream.close();
+        });
+    }
+
+    /**
+     * Creates {@link #numPartitions} new {@link SpillFile}s.
+     *
+     * @return the {@link SpillFile}s
+     */
+    private <T> List<SpillFile<T>> createPartitions() {
+        List<SpillFile<T>> partitions = new ArrayList<>(this.numPartitions);
+        for (int i = 0; i < this.numPartitions; i++) {
+            partitions.add(this.createSpillFile());
+        }
+        return partitions;
+    }
+
+    private <T> SpillFile<T> createSpillFile() {
+        final SpillFile<T> spillFile = new SpillFile<>(String.format("%s/%s.spill", this.spillDirectory, UUID.randomUUID()));
+        this.spillFiles.removeIf(SpillFile::isDeleted);
+        this.spillFiles.add(spillFile);
+        return spillFile;
+    }
+
+    /**
+     * Writes data quanta to the partition that corresponds to their keys.
+     *
+     * @param dataQuanta   that should be spilled
+     * @param keyExtractor extracts the keys
+     * @param partitions   the {@link SpillFile}s of the partitions
+     * @param depth        the number of times that the data quanta have been partitioned before
+     */
+    private <T, K> void spill(Collection<T> dataQuanta,
+                              Function<? super T, K> keyExtractor,
+                              List<SpillFile<T>> partitions,
+                              int depth) {
+        for (T dataQuantum : dataQuanta) {
+            // Salt the hash with the depth, so that re-partitioning a partition actually splits it.
+            int hash = Objects.hashCode(keyExtractor.apply(dataQuantum)) ^ (depth * 0x9E3779B9);
+            hash = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+            hash = (hash ^ (hash >>> 13)) * 0xC2B2AE35;
+            partitions.get(Math.floorMod(hash ^ (hash >>> 16), partitions.size())).write(dataQuantum);
+        }
+        this.numSpilledDataQuanta.add(dataQuanta.size());
+    }
+
+    /**
+     * Writes sorted data quanta to a new {@link SpillFile}.
+     *
+     * @param dataQuanta the sorted data quanta
+     * @return the {@link SpillFile}
+     */
+    private <T> SpillFile<T> spillRun(Iterator<T> dataQuanta) {
+        final SpillFile<T> run = this.createSpillFile();
+        dataQuanta.forEachRemaining(run::write);
+        this.numSpilledDataQuanta.add(run.getNumDataQuanta());
+        return run;
+    }
+
+    private static <T> List<Iterator<T>> read(List<SpillFile<T>> spillFiles) {
+        final List<Iterator<T>> iterators = new ArrayList<>(spillFiles.size() + 1);
+        for (SpillFile<T> spillFile : spillFiles) {
+            iterators.add(spillFile.read());
+        }
+        return iterators;
+    }
+
+    /**
+     * Merges sorted {@link Iterator}s. Among equal data quanta, those from earlier {@link Iterator}s come first.
+     */
+    private static class MergingIterator<T> implements Iterator<T> {
+
+        private final PriorityQueue<Run<T>> queue;
+
+        private MergingIterator(List<Iterator<T>> runs, Comparator<? super T> comparator) {
+            Comparator<Run<T>> runComparator = (run1, run2) -> {
+                int result = comparator.compare(run1.head, run2.head);
+                return result != 0 ? result : Integer.compare(run1.index, run2.index);
+            };
+            this.queue = new PriorityQueue<>(runs.size(), runComparator);
+            for (int i = 0; i < runs.size(); i++) {
+                if (runs.get(i).hasNext()) this.queue.add(new Run<>(i, runs.get(i)));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            final Run<T> run = this.queue.poll();
+            if (run == null) throw new NoSuchElementException();
+            final T next = run.head;
+            if (run.iterator.hasNext()) {
+                run.head = run.iterator.next();
+                this.queue.add(run);
+            }
+            return next;
+        }
+
+        /**
+         * A sorted {@link Iterator} along with its current data quantum.
+         */
+        private static class Run<T> {
+
+            private final int index;
+
+            private final Iterator<T> iterator;
+
+            private T head;
+
+            private Run(int index, Iterator<T> iterator) {
+                this.index = index;
+                this.iterator = iterator;
+                this.head = iterator.next();
+            }
+        }
+    }
+
+}
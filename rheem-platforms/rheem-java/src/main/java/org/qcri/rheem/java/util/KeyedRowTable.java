@@ -0,0 +1,517 @@
+package org.qcri.rheem.java.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Hash-based multimap from keys to rows (i.e., data quanta) that is tailored to hash joins and groupings. In contrast
+ * to a {@link java.util.HashMap} of {@link java.util.LinkedList}s, it does not allocate any objects per row: The keys
+ * reside in an open-addressing table (as primitive {@code long}s for integral keys) and the rows are kept in a single
+ * array, in which all rows with the same key are stored contiguously.
+ * <p>Instances are populated via {@link #add(Object)} and must then be {@link #seal()}ed before they can be probed.
+ * They are not thread-safe, but partial instances can be merged via {@link #addAll(KeyedRowTable)}, which makes them
+ * usable with parallel {@link Stream}s (see {@link #build(Stream, Class, Function, int)}).</p>
+ */
+public abstract class KeyedRowTable<K, T> {
+
+    /**
+     * Minimum number of key slots (excluding the slot for the {@code null} key).
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Fraction of the key slots that may be occupied before the table is grown.
+     */
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    /**
+     * Extracts the keys from the rows.
+     */
+    private final Function<T, K> keyExtractor;
+
+    /**
+     * Number of key slots; always a power of two. The slot with the index {@link #capacity} is reserved for the
+     * {@code null} key.
+     */
+    protected int capacity;
+
+    /**
+     * Number of rows per key slot; {@code 0} marks empty slots.
+     */
+    protected int[] counts;
+
+    /**
+     * Number of distinct non-{@code null} keys.
+     */
+    private int numKeys = 0;
+
+    /**
+     * Contains all rows: in insertion order before sealing and grouped by their key slots afterwards.
+     */
+    private Object[] rows;
+
+    private int numRows = 0;
+
+    /**
+     * Key slots of the {@link #rows} in insertion order or {@code null} once this instance is sealed.
+     */
+    private int[] rowSlots;
+
+    /**
+     * The rows of key slot {@code i} are located at {@code rows[offsets[i]]} to {@code rows[offsets[i + 1] - 1]}.
+     * Only available once this instance is sealed.
+     */
+    private int[] offsets;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyExtractor    extracts the keys from the rows
+     * @param expectedNumRows the expected number of rows to avoid rehashing
+     */
+    protected KeyedRowTable(Function<T, K> keyExtractor, int expectedNumRows) {
+        this.keyExtractor = keyExtractor;
+        this.capacity = MIN_CAPACITY;
+        while (this.capacity * MAX_LOAD_FACTOR < expectedNumRows && this.capacity < (1 << 30)) {
+            this.capacity <<= 1;
+        }
+        this.counts = new int[this.capacity + 1];
+        this.allocateKeys(this.capacity);
+        this.rows = new Object[Math.max(expectedNumRows, MIN_CAPACITY)];
+        this.rowSlots = new int[this.rows.length];
+    }
+
+    /**
+     * Creates a new instance that is specialized for the given key type: Integral keys are stored as primitive
+     * {@code long}s, while all other keys (including {@link String}s) are stored as is.
+     *
+     * @param keyClass        the {@link Class} of the keys, usually the output type of the key function
+     * @param keyExtractor    extracts the keys from the rows
+     * @param expectedNumRows the expected number of rows to avoid rehashing
+     * @return the new instance
+     */
+    public static <K, T> KeyedRowTable<K, T> create(Class<?> keyClass, Function<T, K> keyExtractor, int expectedNumRows) {
+        final ToLongFunction<K> longConverter = getLongConverter(keyClass);
+        return longConverter != null ?
+                new LongKeyed<>(keyExtractor, longConverter, expectedNumRows) :
+                new ObjectKeyed<>(keyExtractor, expectedNumRows);
+    }
+
+    /**
+     * Creates a sealed instance from the given {@link Stream}, which may also be parallel.
+     *
+     * @param stream          provides the rows
+     * @param keyClass        the {@link Class} of the keys, usually the output type of the key function
+     * @param keyExtractor    extracts the keys from the rows
+     * @param expectedNumRows the expected number of rows to avoid rehashing
+     * @return the new instance
+     * @see #create(Class, Function, int)
+     */
+    public static <K, T> KeyedRowTable<K, T> build(Stream<T> stream,
+                                                   Class<?> keyClass,
+                                                   Function<T, K> keyExtractor,
+                                                   int expectedNumRows) {
+        final KeyedRowTable<K, T> table = stream.collect(
+                () -> create(keyClass, keyExtractor, stream.isParallel() ? MIN_CAPACITY : expectedNumRows),
+                KeyedRowTable::add,
+                KeyedRowTable::addAll
+        );
+        table.seal();
+        return table;
+    }
+
+    /**
+     * Provides a function to convert keys of the given {@link Class} into {@code long}s without loss.
+     *
+     * @param keyClass the {@link Class} of the keys
+     * @return the converter or {@code null} if the keys cannot be represented as {@code long}s
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> ToLongFunction<K> getLongConverter(Class<?> keyClass) {
+        if (keyClass == Long.class || keyClass == long.class
+                || keyClass == Integer.class || keyClass == int.class
+                || keyClass == Short.class || keyClass == short.class
+                || keyClass == Byte.class || keyClass == byte.class) {
+            return key -> ((Number) key).longValue();
+        } else if (keyClass == Character.class || keyClass == char.class) {
+            return key -> (Character) key;
+        }
+        return null;
+    }
+
+    /**
+     * Adds a row to this instance.
+     *
+     * @param row that should be added
+     */
+    public void add(T row) {
+        assert !this.isSealed();
+        final K key = this.keyExtractor.apply(row);
+        final int slot;
+        if (key == null) {
+            slot = this.capacity;
+        } else {
+            if (this.numKeys >= this.capacity * MAX_LOAD_FACTOR) this.grow();
+            slot = this.findOrInsertSlot(key);
+            if (this.counts[slot] == 0) this.numKeys++;
+        }
+        this.counts[slot]++;
+
+        if (this.numRows == this.rows.length) {
+            final int newLength = this.rows.length + (this.rows.length >> 1);
+            this.rows = Arrays.copyOf(this.rows, newLength);
+            this.rowSlots = Arrays.copyOf(this.rowSlots, newLength);
+        }
+        this.rows[this.numRows] = row;
+        this.rowSlots[this.numRows] = slot;
+        this.numRows++;
+    }
+
+    /**
+     * Adds all rows of the given (unsealed) instance to this instance.
+     *
+     * @param that whose rows should be added
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(KeyedRowTable<K, T> that) {
+        assert !that.isSealed();
+        for (int i = 0; i < that.numRows; i++) {
+            this.add((T) that.rows[i]);
+        }
+    }
+
+    /**
+     * Doubles the number of key slots and reassigns the rows to the new slots.
+     */
+    private void grow() {
+        final int newCapacity = this.capacity << 1;
+        final int[] slotMapping = this.rehash(newCapacity);
+        final int[] newCounts = new int[newCapacity + 1];
+        for (int slot = 0; slot < this.capacity; slot++) {
+            if (this.counts[slot] > 0) newCounts[slotMapping[slot]] = this.counts[slot];
+        }
+        newCounts[newCapacity] = this.counts[this.capacity];
+        for (int i = 0; i < this.numRows; i++) {
+            final int slot = this.rowSlots[i];
+            this.rowSlots[i] = slot == this.capacity ? newCapacity : slotMapping[slot];
+        }
+        this.counts = newCounts;
+        this.capacity = newCapacity;
+    }
+
+    /**
+     * Groups the rows by their keys. Afterwards, no more rows can be added but this instance can be probed.
+     */
+    public void seal() {
+        assert !this.isSealed();
+        this.offsets = new int[this.capacity + 2];
+        for (int slot = 0; slot <= this.capacity; slot++) {
+            this.offsets[slot + 1] = this.offsets[slot] + this.counts[slot];
+        }
+        final int[] cursors = Arrays.copyOf(this.offsets, this.capacity + 1);
+        final Object[] groupedRows = new Object[this.numRows];
+        for (int i = 0; i < this.numRows; i++) {
+            groupedRows[cursors[this.rowSlots[i]]++] = this.rows[i];
+        }
+        this.rows = groupedRows;
+        this.rowSlots = null;
+    }
+
+    /**
+     * Tells whether this instance has been {@link #seal()}ed.
+     *
+     * @return whether this instance is sealed
+     */
+    public boolean isSealed() {
+        return this.offsets != null;
+    }
+
+    /**
+     * Provides all rows with the given key. This instance must be {@link #seal()}ed.
+     *
+     * @param key whose rows are requested
+     * @return the rows in insertion order (possibly empty)
+     */
+    public List<T> getGroup(K key) {
+        final int slot = key == null ? this.capacity : this.findSlot(key);
+        return slot == -1 ? Collections.emptyList() : this.getGroupAt(slot);
+    }
+
+    /**
+     * Provides all rows in the given key slot. This instance must be {@link #seal()}ed.
+     *
+     * @param slot the index of the key slot
+     * @return the rows in insertion order (possibly empty)
+     */
+    public List<T> getGroupAt(int slot) {
+        assert this.isSealed();
+        final int from = this.offsets[slot], to = this.offsets[slot + 1];
+        return from == to ? Collections.emptyList() : new RowGroup(from, to);
+    }
+
+    /**
+     * Provides the number of key slots including the slot for the {@code null} key. Key slots can be iterated via
+     * {@link #isOccupied(int)} and {@link #getGroupAt(int)}.
+     *
+     * @return the number of key slots
+     */
+    public int getNumSlots() {
+        return this.capacity + 1;
+    }
+
+    /**
+     * Tells whether there are any rows in the given key slot.
+     *
+     * @param slot the index of the key slot
+     * @return whether the slot is occupied
+     */
+    public boolean isOccupied(int slot) {
+        return this.counts[slot] > 0;
+    }
+
+    /**
+     * Finds the key slot in this instance that has the same key as the given key slot in a compatible instance, i.e.,
+     * one that has been created for the same key {@link Class}.
+     *
+     * @param that     the other instance
+     * @param thatSlot the index of the (occupied) key slot in {@code that}
+     * @return the index of the key slot in this instance or {@code -1} if there is no such key slot
+     */
+    public int findMatchingSlot(KeyedRowTable<K, ?> that, int thatSlot) {
+        assert this.getClass() == that.getClass();
+        if (thatSlot == that.capacity) {
+            return this.isOccupied(this.capacity) ? this.capacity : -1;
+        }
+        return this.findSlotOf(that, thatSlot);
+    }
+
+    /**
+     * Provides the number of rows in this instance.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return this.numRows;
+    }
+
+    /**
+     * Spreads the bits of a hash code so that they can be used for the slot index.
+     *
+     * @param hash the hash code
+     * @return the index of the preferred key slot
+     */
+    protected int toSlot(long hash) {
+        hash *= 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (this.capacity - 1);
+    }
+
+    /**
+     * Allocate the key storage for the given number of key slots.
+     *
+     * @param capacity the number of key slots
+     */
+    protected abstract void allocateKeys(int capacity);
+
+    /**
+     * Finds the occupied key slot for the given key.
+     *
+     * @param key a non-{@code null} key
+     * @return the index of the key slot or {@code -1} if there is no such slot
+     */
+    protected abstract int findSlot(K key);
+
+    /**
+     * Finds the key slot for the given key or claims a new one. The latter will be marked as occupied only once
+     * a row is added to it.
+     *
+     * @param key a non-{@code null} key
+     * @return the index of the key slot
+     */
+    protected abstract int findOrInsertSlot(K key);
+
+    /**
+     * Reallocates the key storage with the given number of key slots and moves all keys.
+     *
+     * @param newCapacity the new number of key slots
+     * @return maps the indices of the occupied old key slots to those of the new key slots
+     */
+    protected abstract int[] rehash(int newCapacity);
+
+    /**
+     * Finds the occupied key slot for the key in the given key slot of a compatible instance.
+     *
+     * @param that     a compatible instance
+     * @param thatSlot the index of the (non-{@code null}) key slot in {@code that}
+     * @return the index of the key slot or {@code -1} if there is no such slot
+     */
+    protected abstract int findSlotOf(KeyedRowTable<K, ?> that, int thatSlot);
+
+    /**
+     * Read-only view on the contiguous rows of a key slot.
+     */
+    private class RowGroup extends AbstractList<T> implements RandomAccess {
+
+        private final int from, to;
+
+        private RowGroup(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= this.size()) {
+                throw new IndexOutOfBoundsException(String.format("Index %d out of bounds [0, %d).", index, this.size()));
+            }
+            return (T) KeyedRowTable.this.rows[this.from + index];
+        }
+
+        @Override
+        public int size() {
+            return this.to - this.from;
+        }
+    }
+
+    /**
+     * Stores integral keys as primitive {@code long}s.
+     */
+    private static class LongKeyed<K, T> extends KeyedRowTable<K, T> {
+
+        private final ToLongFunction<K> converter;
+
+        private long[] keys;
+
+        private LongKeyed(Function<T, K> keyExtractor, ToLongFunction<K> converter, int expectedNumRows) {
+            super(keyExtractor, expectedNumRows);
+            this.converter = converter;
+        }
+
+        @Override
+        protected void allocateKeys(int capacity) {
+            this.keys = new long[capacity];
+        }
+
+        @Override
+        protected int findSlot(K key) {
+            return this.findSlot(this.converter.applyAsLong(key));
+        }
+
+        private int findSlot(long key) {
+            final int mask = this.capacity - 1;
+            for (int slot = this.toSlot(key); ; slot = (slot + 1) & mask) {
+                if (this.counts[slot] == 0) return -1;
+                if (this.keys[slot] == key) return slot;
+            }
+        }
+
+        @Override
+        protected int findOrInsertSlot(K key) {
+            final long longKey = this.converter.applyAsLong(key);
+            final int mask = this.capacity - 1;
+            for (int slot = this.toSlot(longKey); ; slot = (slot + 1) & mask) {
+                if (this.counts[slot] == 0) {
+                    this.keys[slot] = longKey;
+                    return slot;
+                }
+                if (this.keys[slot] == longKey) return slot;
+            }
+        }
+
+        @Override
+        protected int[] rehash(int newCapacity) {
+            final long[] oldKeys = this.keys;
+            final int oldCapacity = this.capacity;
+            final int[] slotMapping = new int[oldCapacity];
+            final boolean[] isOccupied = new boolean[newCapacity];
+            this.keys = new long[newCapacity];
+            this.capacity = newCapacity;
+            final int mask = newCapacity - 1;
+            for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+                if (this.counts[oldSlot] == 0) continue;
+                int slot = this.toSlot(oldKeys[oldSlot]);
+                while (isOccupied[slot]) slot = (slot + 1) & mask;
+                isOccupied[slot] = true;
+                this.keys[slot] = oldKeys[oldSlot];
+                slotMapping[oldSlot] = slot;
+            }
+            this.capacity = oldCapacity;
+            return slotMapping;
+        }
+
+        @Override
+        protected int findSlotOf(KeyedRowTable<K, ?> that, int thatSlot) {
+            return this.findSlot(((LongKeyed<K, ?>) that).keys[thatSlot]);
+        }
+    }
+
+    /**
+     * Stores arbitrary keys as is and compares them via {@link Object#equals(Object)}.
+     */
+    private static class ObjectKeyed<K, T> extends KeyedRowTable<K, T> {
+
+        private Object[] keys;
+
+        private ObjectKeyed(Function<T, K> keyExtractor, int expectedNumRows) {
+            super(keyExtractor, expectedNumRows);
+        }
+
+        @Override
+        protected void allocateKeys(int capacity) {
+            this.keys = new Object[capacity];
+        }
+
+        @Override
+        protected int findSlot(K key) {
+            final int mask = this.capacity - 1;
+            for (int slot = this.toSlot(key.hashCode()); ; slot = (slot + 1) & mask) {
+                if (this.counts[slot] == 0) return -1;
+                if (key.equals(this.keys[slot])) return slot;
+            }
+        }
+
+        @Override
+        protected int findOrInsertSlot(K key) {
+            final int mask = this.capacity - 1;
+            for (int slot = this.toSlot(key.hashCode()); ; slot = (slot + 1) & mask) {
+                if (this.counts[slot] == 0) {
+                    this.keys[slot] = key;
+                    return slot;
+                }
+                if (key.equals(this.keys[slot])) return slot;
+            }
+        }
+
+        @Override
+        protected int[] rehash(int newCapacity) {
+            final Object[] oldKeys = this.keys;
+            final int oldCapacity = this.capacity;
+            final int[] slotMapping = new int[oldCapacity];
+            this.keys = new Object[newCapacity];
+            this.capacity = newCapacity;
+            final int mask = newCapacity - 1;
+            for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+                if (this.counts[oldSlot] == 0) continue;
+                int slot = this.toSlot(oldKeys[oldSlot].hashCode());
+                while (this.keys[slot] != null) slot = (slot + 1) & mask;
+                this.keys[slot] = oldKeys[oldSlot];
+                slotMapping[oldSlot] = slot;
+            }
+            this.capacity = oldCapacity;
+            return slotMapping;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected int findSlotOf(KeyedRowTable<K, ?> that, int thatSlot) {
+            return this.findSlot((K) ((ObjectKeyed<K, ?>) that).keys[thatSlot]);
+        }
+    }
+
+}
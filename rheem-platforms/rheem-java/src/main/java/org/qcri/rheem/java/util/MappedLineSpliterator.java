@@ -0,0 +1,252 @@
+package org.qcri.rheem.java.util;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Spliterator} over the lines of a local file that memory-maps the file in windows, copies the mapped bytes
+ * in bulk, and decodes ASCII lines without a {@link java.nio.charset.CharsetDecoder}. It splits the file into byte
+ * ranges that start at line boundaries, so that the lines can be read in parallel.
+ * <p>Lines are terminated by {@code \n} or {@code \r\n}. Only charsets that encode {@code \n} and {@code \r} as
+ * single bytes that do not occur otherwise are supported (see {@link #isSupported(Charset)}).</p>
+ */
+public class MappedLineSpliterator implements Spliterator<String> {
+
+    /**
+     * Byte ranges smaller than twice this size are not split any further.
+     */
+    private static final long MIN_SPLIT_SIZE = 1 << 20;
+
+    /**
+     * Size of the mapped windows in bytes.
+     */
+    private static final int WINDOW_SIZE = 1 << 26;
+
+    /**
+     * Initial size of the {@link #buffer}.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel fileChannel;
+
+    private final Charset charset;
+
+    private final boolean isLatin1;
+
+    /**
+     * The end of the byte range of this instance.
+     */
+    private final long end;
+
+    /**
+     * Currently mapped part of the byte range; starts at {@link #windowStart}.
+     */
+    private MappedByteBuffer window;
+
+    private long windowStart;
+
+    /**
+     * Bytes copied from the {@link #window}. {@code buffer[0]} is at {@link #bufferStart} in the file; the unread
+     * bytes are between {@link #bufferPosition} (at a line start) and {@link #bufferLimit}.
+     */
+    private byte[] buffer;
+
+    private long bufferStart;
+
+    private int bufferPosition, bufferLimit;
+
+    private char[] chars;
+
+    /**
+     * Provides the lines of a local file as a {@link Stream} backed by a new instance.
+     *
+     * @param path    the file
+     * @param charset the {@link Charset} of the file; must be {@link #isSupported(Charset) supported}
+     * @return the sequential {@link Stream}; closing it releases the file
+     */
+    public static Stream<String> lines(Path path, Charset charset) throws IOException {
+        final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final MappedLineSpliterator spliterator = new MappedLineSpliterator(fileChannel, 0, fileChannel.size(), charset);
+            return StreamSupport.stream(spliterator, false).onClose(() -> {
+                try {
+                    fileChannel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Tells whether lines of files in the given {@link Charset} can be read by this class.
+     */
+    public static boolean isSupported(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.US_ASCII)
+                || charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    private MappedLineSpliterator(FileChannel fileChannel, long start, long end, Charset charset) {
+        this.fileChannel = fileChannel;
+        this.bufferStart = start;
+        this.end = end;
+        this.charset = charset;
+        this.isLatin1 = charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    private long getPosition() {
+        return this.bufferStart + this.bufferPosition;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        try {
+            while (true) {
+                for (int i = this.bufferPosition; i < this.bufferLimit; i++) {
+                    if (this.buffer[i] == '\n') {
+                        action.accept(this.decode(this.bufferPosition, i));
+                        this.bufferPosition = i + 1;
+                        return true;
+                    }
+                }
+                if (this.bufferStart + this.bufferLimit >= this.end) {
+                    // The last line is not terminated.
+                    if (this.bufferPosition >= this.bufferLimit) return false;
+                    action.accept(this.decode(this.bufferPosition, this.bufferLimit));
+                    this.bufferPosition = this.bufferLimit;
+                    return true;
+                }
+                this.fillBuffer();
+            }
+        } catch (IOException e) {
+            throw new RheemException("Reading lines failed.", e);
+        }
+    }
+
+    /**
+     * Moves the unread bytes to the beginning of the {@link #buffer} (growing it if needed) and appends bytes from
+     * the mapped {@link #window}.
+     */
+    private void fillBuffer() throws IOException {
+        if (this.buffer == null) {
+            this.buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(1, this.end - this.bufferStart))];
+        } else if (this.bufferPosition > 0) {
+            System.arraycopy(this.buffer, this.bufferPosition, this.buffer, 0, this.bufferLimit - this.bufferPosition);
+            this.bufferStart += this.bufferPosition;
+            this.bufferLimit -= this.bufferPosition;
+            this.bufferPosition = 0;
+        } else if (this.bufferLimit == this.buffer.length) {
+            // The current line does not fit into the buffer.
+            if (this.buffer.length == Integer.MAX_VALUE - 8) {
+                throw new IOException(String.format("Line at byte %d is too long.", this.bufferStart));
+            }
+            this.buffer = Arrays.copyOf(this.buffer, (int) Math.min(Integer.MAX_VALUE - 8, 2L * this.buffer.length));
+        }
+
+        final long fillStart = this.bufferStart + this.bufferLimit;
+        if (this.window == null || fillStart < this.windowStart || fillStart >= this.windowStart + this.window.limit()) {
+            this.windowStart = fillStart;
+            this.window = this.fileChannel.map(
+                    FileChannel.MapMode.READ_ONLY, fillStart, Math.min(WINDOW_SIZE, this.end - fillStart)
+            );
+        }
+        final int windowOffset = (int) (fillStart - this.windowStart);
+        final int numBytes = Math.min(this.buffer.length - this.bufferLimit, this.window.limit() - windowOffset);
+        final ByteBuffer source = this.window.duplicate();
+        source.position(windowOffset);
+        source.get(this.buffer, this.bufferLimit, numBytes);
+        this.bufferLimit += numBytes;
+    }
+
+    /**
+     * Decodes the buffered bytes from {@code from} (inclusive) to {@code to} (exclusive) excluding a trailing
+     * {@code \r}.
+     */
+    private String decode(int from, int to) {
+        if (to > from && this.buffer[to - 1] == '\r') to--;
+        final int length = to - from;
+        if (length == 0) return "";
+
+        // Decode ASCII (and Latin-1) bytes by hand and leave the rest to the Charset.
+        if (this.chars == null || this.chars.length < length) {
+            this.chars = new char[Math.max(length, 256)];
+        }
+        for (int i = 0; i < length; i++) {
+            final byte b = this.buffer[from + i];
+            if (b < 0 && !this.isLatin1) return new String(this.buffer, from, length, this.charset);
+            this.chars[i] = (char) (b & 0xFF);
+        }
+        return new String(this.chars, 0, length);
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        // Only split as long as nothing is buffered.
+        if (this.bufferPosition < this.bufferLimit) return null;
+        final long position = this.getPosition();
+        final long remaining = this.end - position;
+        if (remaining < 2 * MIN_SPLIT_SIZE) return null;
+        try {
+            final long splitPoint = this.findLineStart(position + remaining / 2);
+            if (splitPoint >= this.end) return null;
+            final MappedLineSpliterator prefix = new MappedLineSpliterator(
+                    this.fileChannel, position, splitPoint, this.charset
+            );
+            this.bufferStart = splitPoint;
+            this.bufferPosition = this.bufferLimit = 0;
+            return prefix;
+        } catch (IOException e) {
+            throw new RheemException("Splitting lines failed.", e);
+        }
+    }
+
+    /**
+     * Finds the first line start at or after the given position.
+     *
+     * @return the line start or the {@link #end} if there is none
+     */
+    private long findLineStart(long from) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        long offset = from - 1;
+        while (offset < this.end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), this.end - offset));
+            final int numReadBytes = this.fileChannel.read(buffer, offset);
+            if (numReadBytes <= 0) break;
+            for (int i = 0; i < numReadBytes; i++) {
+                if (buffer.get(i) == '\n') return offset + i + 1;
+            }
+            offset += numReadBytes;
+        }
+        return this.end;
+    }
+
+    @Override
+    public long estimateSize() {
+        // NB: We do not know the number of lines, but the number of bytes is an upper bound.
+        return this.end - this.getPosition();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+}
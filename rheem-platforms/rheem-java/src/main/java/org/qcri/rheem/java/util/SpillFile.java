@@ -0,0 +1,189 @@
+package org.qcri.rheem.java.util;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.util.fs.FileSystem;
+import org.qcri.rheem.core.util.fs.FileSystems;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Temporary file that holds data quanta evicted from main memory. Data quanta are written via Java serialization
+ * and can be read back exactly once in the order they were written. The file is deleted once it has been read.
+ */
+public class SpillFile<T> {
+
+    /**
+     * Reset the {@link ObjectOutputStream} after so many data quanta, so that it does not keep references to all of
+     * them.
+     */
+    private static final int RESET_INTERVAL = 1024;
+
+    private final String url;
+
+    private final FileSystem fileSystem;
+
+    private ObjectOutputStream outputStream;
+
+    private ObjectInputStream inputStream;
+
+    private long numDataQuanta = 0;
+
+    private boolean isDeleted = false;
+
+    /**
+     * Creates a new instance. The file is only created when the first data quantum is written.
+     *
+     * @param url the URL of the file
+     */
+    public SpillFile(String url) {
+        this.url = url;
+        this.fileSystem = FileSystems.requireFileSystem(url);
+    }
+
+    /**
+     * Appends a data quantum to this instance.
+     *
+     * @param dataQuantum that should be written
+     */
+    public void write(T dataQuantum) {
+        try {
+            if (this.outputStream == null) {
+                this.outputStream = new ObjectOutputStream(new BufferedOutputStream(this.fileSystem.create(this.url, true)));
+            }
+            this.outputStream.writeObject(dataQuantum);
+            if (++this.numDataQuanta % RESET_INTERVAL == 0) {
+                this.outputStream.reset();
+            }
+        } catch (IOException e) {
+            this.delete();
+            throw new RheemException(String.format("Could not spill %s to %s.", dataQuantum, this.url), e);
+        }
+    }
+
+    /**
+     * Provides the number of data quanta written to this instance.
+     *
+     * @return the number of data quanta
+     */
+    public long getNumDataQuanta() {
+        return this.numDataQuanta;
+    }
+
+    /**
+     * Reads back the data quanta of this instance. Afterwards, the file is deleted.
+     *
+     * @return an {@link Iterator} over the data quanta
+     */
+    public Iterator<T> read() {
+        this.finishWriting();
+        if (this.numDataQuanta == 0) {
+            return Collections.emptyIterator();
+        }
+        final ObjectInputStream inputStream;
+        try {
+            inputStream = this.inputStream = new ObjectInputStream(new BufferedInputStream(this.fileSystem.open(this.url)));
+        } catch (IOException e) {
+            this.delete();
+            throw new RheemException(String.format("Could not read back spill file %s.", this.url), e);
+        }
+        return new Iterator<T>() {
+
+            private long numRemainingDataQuanta = SpillFile.this.numDataQuanta;
+
+            @Override
+            public boolean hasNext() {
+                return this.numRemainingDataQuanta > 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                try {
+                    final T dataQuantum = (T) inputStream.readObject();
+                    if (--this.numRemainingDataQuanta == 0) {
+                        SpillFile.this.delete();
+                    }
+                    return dataQuantum;
+                } catch (IOException | ClassNotFoundException e) {
+                    SpillFile.this.delete();
+                    throw new RheemException(String.format("Could not read back spill file %s.", SpillFile.this.url), e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Reads back the data quanta of this instance. Afterwards, the file is deleted.
+     *
+     * @return a {@link Stream} of the data quanta
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(this.read(), this.numDataQuanta, Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Closes the file for writing.
+     */
+    private void finishWriting() {
+        if (this.outputStream == null) return;
+        try {
+            this.outputStream.close();
+        } catch (IOException e) {
+            this.delete();
+            throw new RheemException(String.format("Could not close spill file %s.", this.url), e);
+        } finally {
+            this.outputStream = null;
+        }
+    }
+
+    /**
+     * Deletes the file of this instance if it exists. Any reader of this instance must not be used anymore.
+     * Deleting an instance several times is fine.
+     */
+    public synchronized void delete() {
+        if (this.isDeleted) return;
+        this.isDeleted = true;
+        try {
+            if (this.outputStream != null) {
+                this.outputStream.close();
+                this.outputStream = null;
+            }
+            if (this.inputStream != null) {
+                this.inputStream.close();
+                this.inputStream = null;
+            }
+            if (this.numDataQuanta > 0) {
+                this.fileSystem.delete(this.url, false);
+            }
+        } catch (IOException e) {
+            LoggerFactory.getLogger(this.getClass()).warn("Could not delete spill file {}.", this.url, e);
+        }
+    }
+
+    /**
+     * Tells whether {@link #delete()} has been called on this instance.
+     *
+     * @return whether this instance is deleted
+     */
+    public synchronized boolean isDeleted() {
+        return this.isDeleted;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]", this.getClass().getSimpleName(), this.url);
+    }
+}
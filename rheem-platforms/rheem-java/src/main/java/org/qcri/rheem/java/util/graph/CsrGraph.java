@@ -0,0 +1,226 @@
+package org.qcri.rheem.java.util.graph;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.api.exception.RheemException;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Directed graph in compressed sparse row (CSR) format. The vertices are identified by dense indices
+ * {@code 0, 1, ..., n-1} in the order of their original {@code long} IDs. For each vertex, the graph stores its
+ * out-degree and its in-neighbors, so that vertex-centric computations can gather along the in-edges without any
+ * synchronization.
+ * <p>The in-neighbors are the only part that grows with the number of edges. When building an instance from many
+ * edges, both the incoming edges and the in-neighbors are streamed into memory-mapped files, so that only the data
+ * per vertex needs to fit into the heap.</p>
+ */
+public class CsrGraph implements AutoCloseable {
+
+    /**
+     * Maps vertex indices to the original vertex IDs in ascending order.
+     */
+    private final long[] vertexIds;
+
+    /**
+     * Maps vertex indices to the number of their out-edges.
+     */
+    private final int[] outDegrees;
+
+    /**
+     * The in-neighbors of the vertex with index {@code i} are located at
+     * {@code inNeighbors[inOffsets[i]..inOffsets[i + 1]]}.
+     */
+    final int[] inOffsets;
+
+    /**
+     * The vertex indices of the in-neighbors of all vertices.
+     */
+    final IntArray inNeighbors;
+
+    /**
+     * Maximum number of vertex IDs that are sorted at once when building an instance.
+     */
+    private static final int VERTEX_ID_CHUNK_SIZE = 1 << 20;
+
+    private CsrGraph(long[] vertexIds, int[] outDegrees, int[] inOffsets, IntArray inNeighbors) {
+        this.vertexIds = vertexIds;
+        this.outDegrees = outDegrees;
+        this.inOffsets = inOffsets;
+        this.inNeighbors = inNeighbors;
+    }
+
+    /**
+     * Creates a new instance on the heap.
+     *
+     * @param edges the edges as {@code (source vertex ID, target vertex ID)} pairs
+     * @return the new instance
+     * @see #fromEdges(Iterator, long, File)
+     */
+    public static CsrGraph fromEdges(Collection<Tuple2<Long, Long>> edges) {
+        return fromEdges(edges.iterator(), Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param edges            the edges as {@code (source vertex ID, target vertex ID)} pairs
+     * @param mappingDirectory if not {@code null}, the edges are kept in memory-mapped files in this directory
+     * @return the new instance
+     * @see #fromEdges(Iterator, long, File)
+     */
+    public static CsrGraph fromEdges(Collection<Tuple2<Long, Long>> edges, File mappingDirectory) {
+        return fromEdges(edges.iterator(), 0L, mappingDirectory);
+    }
+
+    /**
+     * Creates a new instance. The graph comprises all vertices that appear in the {@code edges}. If there are more
+     * than {@code mmapThreshold} edges, they are streamed into memory-mapped files, so that only the data per vertex
+     * is kept on the heap.
+     *
+     * @param edges            the edges as {@code (source vertex ID, target vertex ID)} pairs; consumed only once
+     * @param mmapThreshold    the maximum number of edges to keep on the heap
+     * @param mappingDirectory directory for the memory-mapped files or {@code null} to keep all edges on the heap
+     * @return the new instance
+     */
+    public static CsrGraph fromEdges(Iterator<Tuple2<Long, Long>> edges, long mmapThreshold, File mappingDirectory) {
+        try (EdgeList edgeList = EdgeList.collect(edges, mmapThreshold, mappingDirectory)) {
+            if (edgeList.size() > Integer.MAX_VALUE) {
+                throw new RheemException(String.format("Cannot handle %d edges.", edgeList.size()));
+            }
+            final int numEdges = (int) edgeList.size();
+
+            // Collect the vertex IDs chunk-wise, so that the temporary data does not grow with the number of edges.
+            final long[] chunk = new long[(int) Math.min(2L * numEdges, VERTEX_ID_CHUNK_SIZE)];
+            long[] vertexIds = new long[0];
+            int chunkSize = 0;
+            for (long edge = 0; edge < numEdges; edge++) {
+                if (chunkSize + 2 > chunk.length) {
+                    vertexIds = mergeDistinct(vertexIds, sortDistinct(chunk, chunkSize));
+                    chunkSize = 0;
+                }
+                chunk[chunkSize++] = edgeList.getSourceId(edge);
+                chunk[chunkSize++] = edgeList.getTargetId(edge);
+            }
+            vertexIds = mergeDistinct(vertexIds, sortDistinct(chunk, chunkSize));
+            final int numVertices = vertexIds.length;
+
+            // Count the degrees.
+            final int[] outDegrees = new int[numVertices];
+            final int[] inOffsets = new int[numVertices + 1];
+            for (long edge = 0; edge < numEdges; edge++) {
+                outDegrees[Arrays.binarySearch(vertexIds, edgeList.getSourceId(edge))]++;
+                inOffsets[Arrays.binarySearch(vertexIds, edgeList.getTargetId(edge)) + 1]++;
+            }
+            for (int vertex = 0; vertex < numVertices; vertex++) {
+                inOffsets[vertex + 1] += inOffsets[vertex];
+            }
+
+            // Place the in-neighbors.
+            final IntArray inNeighbors = edgeList.isMapped() ?
+                    IntArray.memoryMapped(numEdges, mappingDirectory) :
+                    IntArray.onHeap(numEdges);
+            final int[] cursors = Arrays.copyOf(inOffsets, numVertices);
+            for (long edge = 0; edge < numEdges; edge++) {
+                final int target = Arrays.binarySearch(vertexIds, edgeList.getTargetId(edge));
+                inNeighbors.set(cursors[target]++, Arrays.binarySearch(vertexIds, edgeList.getSourceId(edge)));
+            }
+
+            return new CsrGraph(vertexIds, outDegrees, inOffsets, inNeighbors);
+        }
+    }
+
+    /**
+     * Sorts a prefix of the given values and removes duplicates.
+     *
+     * @param values the values; will be altered
+     * @param length the length of the prefix
+     * @return the distinct values
+     */
+    private static long[] sortDistinct(long[] values, int length) {
+        Arrays.sort(values, 0, length);
+        int numDistinctValues = 0;
+        for (int i = 0; i < length; i++) {
+            final long value = values[i];
+            if (numDistinctValues == 0 || values[numDistinctValues - 1] != value) {
+                values[numDistinctValues++] = value;
+            }
+        }
+        return Arrays.copyOf(values, numDistinctValues);
+    }
+
+    /**
+     * Merges two sorted arrays of distinct values into a sorted array of distinct values.
+     */
+    private static long[] mergeDistinct(long[] values0, long[] values1) {
+        final long[] result = new long[values0.length + values1.length];
+        int i0 = 0, i1 = 0, size = 0;
+        while (i0 < values0.length && i1 < values1.length) {
+            final long value0 = values0[i0], value1 = values1[i1];
+            if (value0 <= value1) i0++;
+            if (value1 <= value0) i1++;
+            result[size++] = Math.min(value0, value1);
+        }
+        while (i0 < values0.length) result[size++] = values0[i0++];
+        while (i1 < values1.length) result[size++] = values1[i1++];
+        return Arrays.copyOf(result, size);
+    }
+
+    public int getNumVertices() {
+        return this.vertexIds.length;
+    }
+
+    public int getNumEdges() {
+        return this.inOffsets[this.vertexIds.length];
+    }
+
+    /**
+     * Provides the original ID of a vertex.
+     *
+     * @param vertex the vertex index
+     * @return the vertex ID
+     */
+    public long getVertexId(int vertex) {
+        return this.vertexIds[vertex];
+    }
+
+    /**
+     * Provides the index of a vertex.
+     *
+     * @param vertexId the original vertex ID
+     * @return the vertex index or a negative value if there is no such vertex
+     */
+    public int getVertex(long vertexId) {
+        return Arrays.binarySearch(this.vertexIds, vertexId);
+    }
+
+    public int getOutDegree(int vertex) {
+        return this.outDegrees[vertex];
+    }
+
+    public int getInDegree(int vertex) {
+        return this.inOffsets[vertex + 1] - this.inOffsets[vertex];
+    }
+
+    /**
+     * Provides an in-neighbor of a vertex.
+     *
+     * @param vertex the vertex index
+     * @param i      the number of the in-neighbor; must be less than the in-degree of the {@code vertex}
+     * @return the vertex index of the in-neighbor
+     */
+    public int getInNeighbor(int vertex, int i) {
+        return this.inNeighbors.get(this.inOffsets[vertex] + i);
+    }
+
+    /**
+     * Releases the in-neighbors, including any file that backs them. The vertices remain accessible.
+     */
+    @Override
+    public void close() {
+        this.inNeighbors.close();
+    }
+
+}
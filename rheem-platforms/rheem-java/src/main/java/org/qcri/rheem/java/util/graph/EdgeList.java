@@ -0,0 +1,201 @@
+package org.qcri.rheem.java.util.graph;
+
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.api.exception.RheemException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Buffers the edges of a graph as pairs of {@code long} vertex IDs, so that a {@link CsrGraph} can be built from
+ * them in several passes. Once the number of edges exceeds a threshold, they are spilled to a temporary file that
+ * is then memory-mapped; hence, the edges need not fit into the heap.
+ */
+abstract class EdgeList implements AutoCloseable {
+
+    /**
+     * Collects the given edges.
+     *
+     * @param edges            the edges as {@code (source vertex ID, target vertex ID)} pairs
+     * @param mmapThreshold    maximum number of edges to keep on the heap
+     * @param mappingDirectory directory for the temporary file or {@code null} if the edges must stay on the heap
+     * @return the new instance
+     */
+    static EdgeList collect(Iterator<Tuple2<Long, Long>> edges, long mmapThreshold, File mappingDirectory) {
+        final HeapEdgeList heapEdgeList = new HeapEdgeList();
+        while (edges.hasNext()) {
+            if (mappingDirectory != null && heapEdgeList.size() >= mmapThreshold) {
+                return MappedEdgeList.spill(heapEdgeList, edges, mappingDirectory);
+            }
+            final Tuple2<Long, Long> edge = edges.next();
+            heapEdgeList.add(edge.field0, edge.field1);
+        }
+        return heapEdgeList;
+    }
+
+    abstract long size();
+
+    abstract long getSourceId(long index);
+
+    abstract long getTargetId(long index);
+
+    /**
+     * Tells whether this instance resides in a memory-mapped file.
+     */
+    abstract boolean isMapped();
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * {@link EdgeList} on the heap.
+     */
+    private static class HeapEdgeList extends EdgeList {
+
+        private long[] sourceIds = new long[16], targetIds = new long[16];
+
+        private int size = 0;
+
+        private void add(long sourceId, long targetId) {
+            if (this.size == this.sourceIds.length) {
+                if (this.size == Integer.MAX_VALUE - 8) {
+                    throw new RheemException("Too many edges to keep them on the heap.");
+                }
+                final int newCapacity = (int) Math.min(2L * this.size, Integer.MAX_VALUE - 8);
+                this.sourceIds = Arrays.copyOf(this.sourceIds, newCapacity);
+                this.targetIds = Arrays.copyOf(this.targetIds, newCapacity);
+            }
+            this.sourceIds[this.size] = sourceId;
+            this.targetIds[this.size] = targetId;
+            this.size++;
+        }
+
+        @Override
+        long size() {
+            return this.size;
+        }
+
+        @Override
+        long getSourceId(long index) {
+            return this.sourceIds[(int) index];
+        }
+
+        @Override
+        long getTargetId(long index) {
+            return this.targetIds[(int) index];
+        }
+
+        @Override
+        boolean isMapped() {
+            return false;
+        }
+    }
+
+    /**
+     * {@link EdgeList} in a memory-mapped file that stores the source and target IDs of each edge next to each other.
+     * As a single mapping is limited to 2 GiB, the file is mapped in segments.
+     */
+    private static class MappedEdgeList extends EdgeList {
+
+        /**
+         * Number of {@code long}s per segment as a power of two.
+         */
+        private static final int SEGMENT_BITS = 27;
+
+        private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+        private final File file;
+
+        private final long size;
+
+        private final LongBuffer[] segments;
+
+        /**
+         * Writes the edges of the given {@link HeapEdgeList} and the remaining {@code edges} to a new instance.
+         */
+        private static MappedEdgeList spill(HeapEdgeList heapEdgeList, Iterator<Tuple2<Long, Long>> edges, File directory) {
+            File file = null;
+            try {
+                file = File.createTempFile("rheem-graph", ".bin", directory);
+                file.deleteOnExit();
+                long size = 0;
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16))) {
+                    for (int i = 0; i < heapEdgeList.size; i++) {
+                        out.writeLong(heapEdgeList.sourceIds[i]);
+                        out.writeLong(heapEdgeList.targetIds[i]);
+                    }
+                    size = heapEdgeList.size;
+                    // Allow the heap buffer to be garbage-collected.
+                    heapEdgeList.sourceIds = heapEdgeList.targetIds = null;
+                    while (edges.hasNext()) {
+                        final Tuple2<Long, Long> edge = edges.next();
+                        out.writeLong(edge.field0);
+                        out.writeLong(edge.field1);
+                        size++;
+                    }
+                }
+                return new MappedEdgeList(file, size);
+            } catch (IOException e) {
+                if (file != null && !file.delete()) file.deleteOnExit();
+                throw new RheemException(String.format("Could not spill edges to a file in %s.", directory), e);
+            }
+        }
+
+        private MappedEdgeList(File file, long size) throws IOException {
+            this.file = file;
+            this.size = size;
+            final long numLongs = 2 * size;
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(this.file, "r");
+                 FileChannel channel = randomAccessFile.getChannel()) {
+                this.segments = new LongBuffer[(int) ((numLongs + SEGMENT_MASK) >>> SEGMENT_BITS)];
+                for (int i = 0; i < this.segments.length; i++) {
+                    final long offset = (long) i << SEGMENT_BITS;
+                    final long segmentSize = Math.min(numLongs - offset, 1L << SEGMENT_BITS);
+                    this.segments[i] = channel
+                            .map(FileChannel.MapMode.READ_ONLY, offset * Long.BYTES, segmentSize * Long.BYTES)
+                            .asLongBuffer();
+                }
+            }
+        }
+
+        private long get(long index) {
+            return this.segments[(int) (index >>> SEGMENT_BITS)].get((int) (index & SEGMENT_MASK));
+        }
+
+        @Override
+        long size() {
+            return this.size;
+        }
+
+        @Override
+        long getSourceId(long index) {
+            return this.get(2 * index);
+        }
+
+        @Override
+        long getTargetId(long index) {
+            return this.get(2 * index + 1);
+        }
+
+        @Override
+        boolean isMapped() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // The mappings are released only by the garbage collector, but the file can go already.
+            if (!this.file.delete()) this.file.deleteOnExit();
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package org.qcri.rheem.java.util.graph;
+
+import org.qcri.rheem.core.api.exception.RheemException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Fixed-size array of {@code int}s that resides either on the heap or in a memory-mapped file.
+ */
+abstract class IntArray implements AutoCloseable {
+
+    /**
+     * Creates a new instance on the heap.
+     *
+     * @param size the number of {@code int}s
+     * @return the new instance
+     */
+    static IntArray onHeap(int size) {
+        return new HeapIntArray(size);
+    }
+
+    /**
+     * Creates a new instance in a memory-mapped temporary file, so that the operating system rather than the
+     * garbage collector decides which parts reside in main memory.
+     *
+     * @param size      the number of {@code int}s
+     * @param directory the directory for the temporary file
+     * @return the new instance
+     */
+    static IntArray memoryMapped(long size, File directory) {
+        return new MappedIntArray(size, directory);
+    }
+
+    abstract int get(long index);
+
+    abstract void set(long index, int value);
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * {@link IntArray} on the heap.
+     */
+    private static class HeapIntArray extends IntArray {
+
+        private final int[] values;
+
+        private HeapIntArray(int size) {
+            this.values = new int[size];
+        }
+
+        @Override
+        int get(long index) {
+            return this.values[(int) index];
+        }
+
+        @Override
+        void set(long index, int value) {
+            this.values[(int) index] = value;
+        }
+    }
+
+    /**
+     * {@link IntArray} in a memory-mapped file. As a single mapping is limited to 2 GiB, the file is mapped in
+     * segments.
+     */
+    private static class MappedIntArray extends IntArray {
+
+        /**
+         * Number of {@code int}s per segment as a power of two.
+         */
+        private static final int SEGMENT_BITS = 28;
+
+        private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+        private final File file;
+
+        private final IntBuffer[] segments;
+
+        private MappedIntArray(long size, File directory) {
+            try {
+                this.file = File.createTempFile("rheem-graph", ".bin", directory);
+                this.file.deleteOnExit();
+                try (RandomAccessFile randomAccessFile = new RandomAccessFile(this.file, "rw");
+                     FileChannel channel = randomAccessFile.getChannel()) {
+                    this.segments = new IntBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_BITS)];
+                    for (int i = 0; i < this.segments.length; i++) {
+                        final long offset = (long) i << SEGMENT_BITS;
+                        final long segmentSize = Math.min(size - offset, 1L << SEGMENT_BITS);
+                        this.segments[i] = channel
+                                .map(FileChannel.MapMode.READ_WRITE, offset * Integer.BYTES, segmentSize * Integer.BYTES)
+                                .asIntBuffer();
+                    }
+                }
+            } catch (IOException e) {
+                throw new RheemException(String.format("Could not map %d ints to a file in %s.", size, directory), e);
+            }
+        }
+
+        @Override
+        int get(long index) {
+            return this.segments[(int) (index >>> SEGMENT_BITS)].get((int) (index & SEGMENT_MASK));
+        }
+
+        @Override
+        void set(long index, int value) {
+            this.segments[(int) (index >>> SEGMENT_BITS)].put((int) (index & SEGMENT_MASK), value);
+        }
+
+        @Override
+        public void close() {
+            // The mappings are released only by the garbage collector, but the file can go already.
+            if (!this.file.delete()) this.file.deleteOnExit();
+        }
+    }
+
+}
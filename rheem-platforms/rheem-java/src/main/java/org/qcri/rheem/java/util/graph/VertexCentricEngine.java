@@ -0,0 +1,113 @@
+package org.qcri.rheem.java.util.graph;
+
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Executes {@link VertexProgram}s on {@link CsrGraph}s. The vertices are split into chunks of about equal work, which
+ * are processed in parallel within each scatter and gather phase.
+ */
+public class VertexCentricEngine {
+
+    /**
+     * Minimum number of vertices and edges per chunk to justify the scheduling costs of a chunk.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    /**
+     * Whether to process the chunks in parallel.
+     */
+    private final boolean isParallel;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param isParallel whether to process the vertices in parallel
+     */
+    public VertexCentricEngine(boolean isParallel) {
+        this.isParallel = isParallel;
+    }
+
+    /**
+     * Runs a {@link VertexProgram}.
+     *
+     * @param graph         the {@link CsrGraph} to run on
+     * @param program       the {@link VertexProgram} to run
+     * @param numSupersteps the number of supersteps
+     * @return the final values of all vertices indexed by their vertex indices
+     */
+    public double[] run(CsrGraph graph, VertexProgram program, int numSupersteps) {
+        final int numVertices = graph.getNumVertices();
+        final int[] chunkBounds = this.createChunkBounds(graph);
+
+        double[] values = new double[numVertices], newValues = new double[numVertices];
+        final double[] messages = new double[numVertices];
+        final double[] initialValues = values;
+        this.forEachVertex(chunkBounds, vertex -> initialValues[vertex] = program.initialValue(graph, vertex));
+
+        final int[] inOffsets = graph.inOffsets;
+        final IntArray inNeighbors = graph.inNeighbors;
+        final double identity = program.identity();
+        for (int superstep = 0; superstep < numSupersteps; superstep++) {
+            // Scatter: Each vertex sends the same message along all its out-edges.
+            final double[] currentValues = values, nextValues = newValues;
+            this.forEachVertex(chunkBounds, vertex ->
+                    messages[vertex] = program.scatter(graph, vertex, currentValues[vertex])
+            );
+
+            // Gather: Each vertex pulls the messages along its in-edges.
+            this.forEachVertex(chunkBounds, vertex -> {
+                double accumulator = identity;
+                for (int i = inOffsets[vertex], end = inOffsets[vertex + 1]; i < end; i++) {
+                    accumulator = program.combine(accumulator, messages[inNeighbors.get(i)]);
+                }
+                nextValues[vertex] = program.apply(graph, vertex, accumulator, currentValues[vertex]);
+            });
+
+            values = nextValues;
+            newValues = currentValues;
+        }
+        return values;
+    }
+
+    /**
+     * Splits the vertices into chunks, such that each chunk has about the same number of vertices plus in-edges.
+     *
+     * @return the vertex index bounds of the chunks
+     */
+    private int[] createChunkBounds(CsrGraph graph) {
+        final int numVertices = graph.getNumVertices();
+        final long work = (long) numVertices + graph.getNumEdges();
+        final int maxNumChunks = this.isParallel ? 4 * Runtime.getRuntime().availableProcessors() : 1;
+        final int numChunks = (int) Math.max(1, Math.min(maxNumChunks, work / MIN_CHUNK_SIZE));
+
+        final int[] chunkBounds = new int[numChunks + 1];
+        chunkBounds[numChunks] = numVertices;
+        for (int chunk = 1; chunk < numChunks; chunk++) {
+            // Find the first vertex v with v + inOffsets[v] >= the chunk's share of the work.
+            final long threshold = work * chunk / numChunks;
+            int low = chunkBounds[chunk - 1], high = numVertices;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if ((long) mid + graph.inOffsets[mid] < threshold) low = mid + 1;
+                else high = mid;
+            }
+            chunkBounds[chunk] = low;
+        }
+        return chunkBounds;
+    }
+
+    /**
+     * Applies an action to all vertices, chunk by chunk.
+     */
+    private void forEachVertex(int[] chunkBounds, IntConsumer action) {
+        IntStream chunks = IntStream.range(0, chunkBounds.length - 1);
+        if (chunkBounds.length > 2) chunks = chunks.parallel();
+        chunks.forEach(chunk -> {
+            for (int vertex = chunkBounds[chunk], end = chunkBounds[chunk + 1]; vertex < end; vertex++) {
+                action.accept(vertex);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,61 @@
+package org.qcri.rheem.java.util.graph;
+
+/**
+ * Vertex-centric computation on a {@link CsrGraph} that is executed in supersteps by a {@link VertexCentricEngine}.
+ * In each superstep, every vertex scatters a message along its out-edges, and then every vertex combines the messages
+ * along its in-edges and applies them to its value.
+ * <p>Implementations must be thread-safe, as the vertices are processed in parallel.</p>
+ */
+public interface VertexProgram {
+
+    /**
+     * Provides the value of a vertex before the first superstep.
+     *
+     * @param graph  the {@link CsrGraph}
+     * @param vertex the vertex index
+     * @return the initial value
+     */
+    double initialValue(CsrGraph graph, int vertex);
+
+    /**
+     * Provides the message that a vertex sends along all its out-edges.
+     *
+     * @param graph  the {@link CsrGraph}
+     * @param vertex the vertex index
+     * @param value  the current value of the {@code vertex}
+     * @return the message
+     */
+    double scatter(CsrGraph graph, int vertex, double value);
+
+    /**
+     * Provides the neutral element of {@link #combine(double, double)}.
+     *
+     * @return the neutral element
+     */
+    default double identity() {
+        return 0d;
+    }
+
+    /**
+     * Combines two messages. This function must be associative and commutative.
+     *
+     * @param message0 the first message
+     * @param message1 the second message
+     * @return the combined message
+     */
+    default double combine(double message0, double message1) {
+        return message0 + message1;
+    }
+
+    /**
+     * Calculates the new value of a vertex.
+     *
+     * @param graph    the {@link CsrGraph}
+     * @param vertex   the vertex index
+     * @param messages the combination of all messages along the in-edges of the {@code vertex}
+     * @param value    the current value of the {@code vertex}
+     * @return the new value
+     */
+    double apply(CsrGraph graph, int vertex, double messages, double value);
+
+}
@@ -0,0 +1,111 @@
+package org.qcri.rheem.java.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.api.exception.RheemException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test suite for {@link RecordColumns}.
+ */
+public class RecordColumnsTest {
+
+    @Test
+    public void testRoundTrip() {
+        final List<Record> records = IntStream.range(0, 10000)
+                .mapToObj(i -> new Record(i, (long) i * 3, i / 2d, "record-ä" + i, Collections.singletonList(i)))
+                .collect(Collectors.toList());
+
+        final RecordColumns columns = RecordColumns.build(records.iterator());
+
+        Assert.assertEquals(records.size(), columns.size());
+        Assert.assertEquals(5, columns.getNumFields());
+        Assert.assertEquals(records, columns);
+        Assert.assertEquals(42L * 3, columns.getLong(42, 1));
+        Assert.assertEquals(21d, columns.getDouble(42, 2), 0d);
+        Assert.assertTrue(columns.getOffHeapBytes() > 0);
+    }
+
+    @Test
+    public void testNullsAndMixedTypes() {
+        final List<Record> records = Arrays.asList(
+                new Record(null, 1, "a"),
+                new Record(null, 2L, null),
+                new Record(1, null, "c")
+        );
+
+        final RecordColumns columns = RecordColumns.build(records.iterator());
+
+        Assert.assertEquals(records, columns);
+        Assert.assertTrue(columns.isNull(0, 0));
+        Assert.assertFalse(columns.isNull(2, 0));
+        Assert.assertTrue(columns.isNull(1, 2));
+        Assert.assertEquals(Long.class, columns.getField(1, 1).getClass());
+    }
+
+    @Test
+    public void testProject() {
+        final RecordColumns columns = RecordColumns.build(Arrays.asList(
+                new Record(1, "a", 1.5),
+                new Record(2, "b", 2.5)
+        ).iterator());
+
+        final RecordColumns projection = columns.project(2, 0);
+
+        Assert.assertEquals(Arrays.asList(new Record(1.5, 1), new Record(2.5, 2)), projection);
+    }
+
+    @Test
+    public void testHashAndEqualFields() {
+        final RecordColumns columns = RecordColumns.build(Arrays.asList(
+                new Record(1, "a", 1.5, null),
+                new Record(1, "a", 2.5, null),
+                new Record(1, "b", 1.5, "x"),
+                new Record(2, "a", 1.5, "x")
+        ).iterator());
+
+        Assert.assertTrue(columns.equalFields(0, 1, 0, 1, 3));
+        Assert.assertEquals(columns.hashFields(0, 0, 1, 3), columns.hashFields(1, 0, 1, 3));
+        Assert.assertFalse(columns.equalFields(0, 1, 2));
+        Assert.assertFalse(columns.equalFields(0, 2, 1));
+        Assert.assertFalse(columns.equalFields(0, 2, 3));
+        Assert.assertTrue(columns.equalFields(2, 3, 2, 3));
+        Assert.assertFalse(columns.equalFields(2, 3, 0));
+    }
+
+    @Test
+    public void testRelease() {
+        final RecordColumns columns = RecordColumns.build(Arrays.asList(
+                new Record(1, "a", 1.5),
+                new Record(2, "b", 2.5)
+        ).iterator());
+        final RecordColumns projection = columns.project(1);
+
+        columns.retain();
+        columns.release();
+        Assert.assertFalse(projection.isReleased());
+        Assert.assertEquals("b", projection.getField(1, 0));
+
+        columns.release();
+        Assert.assertTrue(columns.isReleased());
+        Assert.assertTrue(projection.isReleased());
+        try {
+            projection.get(0);
+            Assert.fail("Released columns should not be accessible.");
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+    }
+
+    @Test(expected = RheemException.class)
+    public void testInconsistentRecordSizes() {
+        RecordColumns.build(Arrays.asList(new Record(1, 2), new Record(1)).iterator());
+    }
+
+}
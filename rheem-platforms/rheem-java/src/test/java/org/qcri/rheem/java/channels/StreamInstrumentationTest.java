@@ -0,0 +1,70 @@
+package org.qcri.rheem.java.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link StreamInstrumentation}.
+ */
+public class StreamInstrumentationTest {
+
+    @Test
+    public void testSequentialCounting() {
+        StreamInstrumentation instrumentation = new StreamInstrumentation(0);
+        final Stream<Integer> stream = instrumentation.instrument(IntStream.range(0, 1000).boxed());
+        Assert.assertFalse(instrumentation.isExhausted());
+
+        final List<Integer> result = stream.filter(i -> i % 2 == 0).collect(Collectors.toList());
+
+        Assert.assertEquals(500, result.size());
+        Assert.assertEquals(OptionalLong.of(1000), instrumentation.getCardinality());
+        Assert.assertFalse(instrumentation.getAverageDataQuantumSize().isPresent());
+    }
+
+    @Test
+    public void testParallelCounting() {
+        StreamInstrumentation instrumentation = new StreamInstrumentation(0);
+        final List<Integer> input = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+        final long count = instrumentation.instrument(input.parallelStream()).map(i -> i + 1).count();
+
+        Assert.assertEquals(100000L, count);
+        Assert.assertEquals(OptionalLong.of(100000), instrumentation.getCardinality());
+    }
+
+    @Test
+    public void testEmptyStreamIsDistinguishedFromUnexecutedStream() {
+        StreamInstrumentation instrumentation = new StreamInstrumentation(0);
+        final Stream<Object> stream = instrumentation.instrument(Collections.emptyList().stream());
+        Assert.assertFalse(instrumentation.getCardinality().isPresent());
+
+        stream.forEach(dataQuantum -> Assert.fail());
+        Assert.assertEquals(OptionalLong.of(0), instrumentation.getCardinality());
+    }
+
+    @Test
+    public void testPartialConsumption() {
+        StreamInstrumentation instrumentation = new StreamInstrumentation(0);
+        instrumentation.instrument(IntStream.range(0, 1000).boxed()).findFirst();
+
+        Assert.assertFalse(instrumentation.getCardinality().isPresent());
+    }
+
+    @Test
+    public void testSizeSampling() {
+        StreamInstrumentation instrumentation = new StreamInstrumentation(10);
+        instrumentation.instrument(IntStream.range(0, 1000).mapToObj(i -> "data quantum " + i)).forEach(s -> {
+        });
+
+        Assert.assertEquals(OptionalLong.of(1000), instrumentation.getCardinality());
+        Assert.assertTrue(instrumentation.getAverageDataQuantumSize().isPresent());
+        Assert.assertTrue(instrumentation.getAverageDataQuantumSize().getAsDouble() > "data quantum ".length());
+    }
+
+}
@@ -2,10 +2,14 @@ package org.qcri.rheem.java.execution;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.api.RheemContext;
 import org.qcri.rheem.core.function.ExecutionContext;
+import org.qcri.rheem.core.function.FlatMapDescriptor;
 import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.function.MapPartitionsDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.monitor.OperatorMetrics;
 import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.RheemArrays;
@@ -13,12 +17,18 @@ import org.qcri.rheem.core.util.RheemCollections;
 import org.qcri.rheem.java.Java;
 import org.qcri.rheem.java.operators.JavaCollectionSource;
 import org.qcri.rheem.java.operators.JavaDoWhileOperator;
+import org.qcri.rheem.java.operators.JavaFilterOperator;
+import org.qcri.rheem.java.operators.JavaFlatMapOperator;
 import org.qcri.rheem.java.operators.JavaLocalCallbackSink;
 import org.qcri.rheem.java.operators.JavaMapOperator;
+import org.qcri.rheem.java.operators.JavaMapPartitionsOperator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Test suite for the {@link JavaExecutor}.
@@ -110,4 +120,74 @@ public class JavaExecutorTest {
         Assert.assertEquals(RheemArrays.asList(6, 7, 8), collector);
     }
 
+    @Test
+    public void testFusionOfNarrowOperators() {
+        for (boolean isFusion : new boolean[]{true, false}) {
+            JavaCollectionSource<Integer> source = new JavaCollectionSource<>(
+                    RheemArrays.asList(1, 2, 3, 4, 5, 6),
+                    DataSetType.createDefault(Integer.class)
+            );
+            source.setName("source");
+
+            JavaMapOperator<Integer, Integer> map = new JavaMapOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new TransformationDescriptor<>(v -> 10 * v, Integer.class, Integer.class)
+            );
+            map.setName("map");
+
+            JavaFilterOperator<Integer> filter = new JavaFilterOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    v -> v % 20 == 0
+            );
+            filter.setName("filter");
+
+            JavaFlatMapOperator<Integer, Integer> flatMap = new JavaFlatMapOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new FlatMapDescriptor<>(v -> Arrays.asList(v, v + 1), Integer.class, Integer.class)
+            );
+            flatMap.setName("flatMap");
+
+            JavaMapPartitionsOperator<Integer, Integer> mapPartitions = new JavaMapPartitionsOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new MapPartitionsDescriptor<>(
+                            partition -> {
+                                List<Integer> result = new ArrayList<>();
+                                partition.forEach(v -> result.add(-v));
+                                return result;
+                            },
+                            Integer.class, Integer.class
+                    )
+            );
+            mapPartitions.setName("mapPartitions");
+
+            List<Integer> collector = new ArrayList<>();
+            JavaLocalCallbackSink<Integer> sink = new JavaLocalCallbackSink<>(collector::add, DataSetType.createDefault(Integer.class));
+            sink.setName("sink");
+
+            source.connectTo(0, map, 0);
+            map.connectTo(0, filter, 0);
+            filter.connectTo(0, flatMap, 0);
+            flatMap.connectTo(0, mapPartitions, 0);
+            mapPartitions.connectTo(0, sink, 0);
+
+            final RheemContext rheemContext = new RheemContext().with(Java.basicPlugin());
+            rheemContext.getConfiguration().setProperty("rheem.java.fusion", String.valueOf(isFusion));
+            final Job job = rheemContext.createJob("fusion", new RheemPlan(sink));
+            job.execute();
+
+            Assert.assertEquals(RheemArrays.asList(-20, -21, -40, -41, -60, -61), collector);
+
+            // All operators should still be accounted for, but the fused ones are marked as such and not timed.
+            for (String operatorKey : Arrays.asList("filter", "flatMap", "mapPartitions")) {
+                final OperatorMetrics operatorMetrics = job.getMetrics().getOperatorMetrics(operatorKey);
+                Assert.assertEquals(1, operatorMetrics.getNumExecutions());
+                Assert.assertEquals(isFusion ? 1 : 0, operatorMetrics.getNumFusedExecutions());
+                if (isFusion) Assert.assertEquals(0L, operatorMetrics.getWallTimeNanos());
+            }
+        }
+    }
+
 }
@@ -0,0 +1,103 @@
+package org.qcri.rheem.java.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.operators.CollectionSource;
+import org.qcri.rheem.basic.operators.LocalCallbackSink;
+import org.qcri.rheem.basic.operators.MapOperator;
+import org.qcri.rheem.basic.operators.SampleOperator;
+import org.qcri.rheem.basic.operators.UnionAllOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.RheemContext;
+import org.qcri.rheem.core.optimizer.enumeration.PlanEnumerator;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionPlan;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.RheemArrays;
+import org.qcri.rheem.java.Java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for the {@link PlanEnumerator} running on the {@link Java} platform.
+ */
+public class JavaPlanEnumerationTest {
+
+    @Test
+    public void testParallelEnumerationIsDeterministic() {
+        final List<String> expectedTasks = this.enumerate(false);
+
+        for (int run = 0; run < 10; run++) {
+            Assert.assertEquals(expectedTasks, this.enumerate(true));
+        }
+    }
+
+    /**
+     * Builds the {@link ExecutionPlan} for a {@link RheemPlan} with several branches and {@link SampleOperator}
+     * alternatives.
+     *
+     * @param isParallel whether to enumerate in parallel
+     * @return sorted descriptions of the {@link ExecutionTask}s and their inputs
+     */
+    private List<String> enumerate(boolean isParallel) {
+        final List<Integer> collector = new ArrayList<>();
+        final DataSetType<Integer> type = DataSetType.createDefault(Integer.class);
+
+        CollectionSource<Integer> source1 = new CollectionSource<>(RheemArrays.asList(1, 2, 3), Integer.class);
+        source1.setName("source1");
+        SampleOperator<Integer> sample1 = new SampleOperator<>(2, type, SampleOperator.Methods.ANY, 42L);
+        sample1.setName("sample1");
+        source1.connectTo(0, sample1, 0);
+
+        CollectionSource<Integer> source2 = new CollectionSource<>(RheemArrays.asList(4, 5, 6), Integer.class);
+        source2.setName("source2");
+        MapOperator<Integer, Integer> map2 = new MapOperator<>(i -> i + 1, Integer.class, Integer.class);
+        map2.setName("map2");
+        source2.connectTo(0, map2, 0);
+        SampleOperator<Integer> sample2 = new SampleOperator<>(2, type, SampleOperator.Methods.ANY, 42L);
+        sample2.setName("sample2");
+        map2.connectTo(0, sample2, 0);
+
+        UnionAllOperator<Integer> union = new UnionAllOperator<>(Integer.class);
+        union.setName("union");
+        sample1.connectTo(0, union, 0);
+        sample2.connectTo(0, union, 1);
+
+        LocalCallbackSink<Integer> sink = LocalCallbackSink.createCollectingSink(collector, type);
+        sink.setName("sink");
+        union.connectTo(0, sink, 0);
+
+        Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.core.optimizer.enumeration.parallel", String.valueOf(isParallel));
+        configuration.setProperty("rheem.core.optimizer.enumeration.parallel.threads", "4");
+        RheemContext rheemContext = new RheemContext(configuration).with(Java.basicPlugin());
+        final ExecutionPlan executionPlan = rheemContext
+                .createJob("testParallelEnumerationIsDeterministic", new RheemPlan(sink))
+                .buildInitialExecutionPlan();
+
+        return executionPlan.collectAllTasks().stream()
+                .map(JavaPlanEnumerationTest::describe)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static String describe(ExecutionTask task) {
+        StringBuilder sb = new StringBuilder(describe(task.getOperator())).append(" <-");
+        for (Channel inputChannel : task.getInputChannels()) {
+            sb.append(' ').append(inputChannel.getDescriptor())
+                    .append(" from ").append(describe(inputChannel.getProducerOperator()));
+        }
+        return sb.toString();
+    }
+
+    private static String describe(ExecutionOperator operator) {
+        // Do not use Operator#toString(), as it contains the hash codes of unnamed operators.
+        return String.format("%s[%s]", operator.getClass().getSimpleName(), operator.getName());
+    }
+
+}
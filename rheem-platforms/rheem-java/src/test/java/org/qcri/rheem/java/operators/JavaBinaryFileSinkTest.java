@@ -0,0 +1,74 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.BinaryFileReader;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaBinaryFileSink} and {@link JavaBinaryFileSource}.
+ */
+public class JavaBinaryFileSinkTest extends JavaExecutionOperatorTestBase {
+
+    private static List<Integer> writeAndRead(JavaChannelInstance input, boolean isParallel, String path) {
+        // Write.
+        final JavaBinaryFileSink<Integer> sink = new JavaBinaryFileSink<>(path, DataSetType.createDefault(Integer.class));
+        final ChannelInstance fileChannelInstance = FileChannel.HDFS_BINARY_DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(null, null, -1);
+        final ChannelInstance[] sinkInputs = new ChannelInstance[]{input};
+        final ChannelInstance[] sinkOutputs = new ChannelInstance[]{fileChannelInstance};
+        if (isParallel) {
+            evaluateInParallel(sink, sinkInputs, sinkOutputs);
+        } else {
+            evaluate(sink, sinkInputs, sinkOutputs);
+        }
+
+        // Read.
+        final JavaBinaryFileSource<Integer> source = new JavaBinaryFileSource<>(DataSetType.createDefault(Integer.class));
+        final JavaChannelInstance output = createStreamChannelInstance();
+        if (isParallel) {
+            evaluateInParallel(source, new ChannelInstance[]{fileChannelInstance}, new ChannelInstance[]{output});
+        } else {
+            evaluate(source, new ChannelInstance[]{fileChannelInstance}, new ChannelInstance[]{output});
+        }
+        return output.<Integer>provideStream().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testWritingAndReadingStream() throws IOException {
+        Path tempDir = Files.createTempDirectory("rheem-java");
+        tempDir.toFile().deleteOnExit();
+        final String path = tempDir.resolve("testWritingAndReadingStream").toUri().toString();
+
+        final List<Integer> input = JavaObjectFileSinkTest.enumerateRange(10000);
+        final List<Integer> result = writeAndRead(createStreamChannelInstance(input.stream()), false, path);
+
+        Assert.assertEquals(1, BinaryFileReader.findParts(path).size());
+        Assert.assertEquals(input, result);
+    }
+
+    @Test
+    public void testWritingAndReadingCollectionInParallel() throws IOException {
+        Path tempDir = Files.createTempDirectory("rheem-java");
+        tempDir.toFile().deleteOnExit();
+        final String path = tempDir.resolve("testWritingAndReadingCollectionInParallel").toUri().toString();
+
+        final List<Integer> input = JavaObjectFileSinkTest.enumerateRange(100000);
+        final List<Integer> result = writeAndRead(createCollectionChannelInstance(input), true, path);
+
+        final int expectedNumParts = Math.min(Runtime.getRuntime().availableProcessors(), 100000 >> 14);
+        Assert.assertEquals(expectedNumParts, BinaryFileReader.findParts(path).size());
+        // The parts retain the order of the collection.
+        Assert.assertEquals(input, result);
+    }
+}
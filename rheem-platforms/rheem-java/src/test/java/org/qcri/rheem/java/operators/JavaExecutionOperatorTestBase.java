@@ -45,6 +45,17 @@ public class JavaExecutionOperatorTestBase {
         return new JavaExecutor(JavaPlatform.getInstance(), job);
     }
 
+    protected static JavaExecutor createParallelExecutor() {
+        final Configuration parallelConfiguration = configuration.fork();
+        parallelConfiguration.setProperty("rheem.java.parallel", "true");
+        parallelConfiguration.setProperty("rheem.java.cores", "4");
+        final CrossPlatformExecutor crossPlatformExecutor = job.getCrossPlatformExecutor();
+        final Job parallelJob = mock(Job.class);
+        when(parallelJob.getConfiguration()).thenReturn(parallelConfiguration);
+        when(parallelJob.getCrossPlatformExecutor()).thenReturn(crossPlatformExecutor);
+        return new JavaExecutor(JavaPlatform.getInstance(), parallelJob);
+    }
+
     protected static OptimizationContext.OperatorContext createOperatorContext(Operator operator) {
         OptimizationContext optimizationContext = job.getOptimizationContext();
         final OptimizationContext.OperatorContext operatorContext = optimizationContext.addOneTimeOperator(operator);
@@ -63,10 +74,22 @@ public class JavaExecutionOperatorTestBase {
         operator.evaluate(inputs, outputs, createExecutor(), createOperatorContext(operator));
     }
 
+    protected static void evaluateInParallel(JavaExecutionOperator operator,
+                                             ChannelInstance[] inputs,
+                                             ChannelInstance[] outputs) {
+        operator.evaluate(inputs, outputs, createParallelExecutor(), createOperatorContext(operator));
+    }
+
     protected static StreamChannel.Instance createStreamChannelInstance() {
         return ChannelFactory.createStreamChannelInstance(configuration);
     }
 
+    protected static StreamChannel.Instance createParallelStreamChannelInstance() {
+        return (StreamChannel.Instance) StreamChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(createParallelExecutor(), null, -1);
+    }
+
     protected static StreamChannel.Instance createStreamChannelInstance(Stream<?> stream) {
         return ChannelFactory.createStreamChannelInstance(stream, configuration);
     }
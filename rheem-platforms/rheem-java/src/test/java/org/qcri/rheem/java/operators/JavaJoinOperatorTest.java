@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -81,4 +82,84 @@ public class JavaJoinOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testParallelExecution() {
+        // Prepare test data.
+        Stream<Tuple2<Integer, String>> inputStream0 = IntStream.range(0, 10000)
+                .mapToObj(i -> new Tuple2<>(i % 100, "b" + i))
+                .collect(Collectors.toList())
+                .parallelStream();
+        Stream<Tuple2<String, Integer>> inputStream1 = IntStream.range(0, 200)
+                .mapToObj(i -> new Tuple2<>("x" + i, i))
+                .collect(Collectors.toList())
+                .parallelStream();
+
+        // Build the join operator.
+        JavaJoinOperator<Tuple2<Integer, String>, Tuple2<String, Integer>, Integer> join =
+                new JavaJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(inputStream0),
+                createStreamChannelInstance(inputStream1)
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluateInParallel(join, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                outputs[0].<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideStream()
+                        .collect(Collectors.toList());
+        Assert.assertEquals(10000, result.size());
+        Assert.assertTrue(result.stream().allMatch(
+                joinTuple -> joinTuple.getField0().getField0().equals(joinTuple.getField1().getField1())
+        ));
+    }
+
+    @Test
+    public void testExecutionWithDifferentKeyClasses() {
+        // Prepare test data: The keys are numerically equal but, being an Integer and a Long, do not equal each other.
+        Stream<Tuple2<Integer, String>> inputStream0 = Arrays.asList(
+                new Tuple2<>(1, "b"), new Tuple2<>(2, "c")
+        ).stream();
+        Stream<Tuple2<String, Long>> inputStream1 = Arrays.asList(
+                new Tuple2<>("x", 1L), new Tuple2<>("y", 2L)
+        ).stream();
+
+        // Build the join operator.
+        JavaJoinOperator<Tuple2<Integer, String>, Tuple2<String, Long>, Object> join =
+                new JavaJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Long.class),
+                                "field1"));
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(inputStream0),
+                createStreamChannelInstance(inputStream1)
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(join, inputs, outputs);
+
+        // Verify the outcome.
+        Assert.assertEquals(0, outputs[0].provideStream().count());
+    }
+
 }
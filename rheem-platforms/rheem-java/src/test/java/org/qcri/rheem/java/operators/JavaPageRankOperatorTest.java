@@ -0,0 +1,170 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.operators.graph.JavaPageRankOperator;
+import org.qcri.rheem.java.platform.JavaPlatform;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaPageRankOperator}.
+ */
+public class JavaPageRankOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Vertex 4 has no out-edges and vertex 5 has no in-edges.
+        List<Tuple2<Long, Long>> edges = Arrays.asList(
+                new Tuple2<>(1L, 2L), new Tuple2<>(2L, 3L), new Tuple2<>(3L, 1L),
+                new Tuple2<>(1L, 3L), new Tuple2<>(3L, 4L), new Tuple2<>(5L, 1L)
+        );
+
+        Map<Long, Float> pageRanks = this.runPageRank(edges, 20, false);
+
+        assertPageRanksEqual(this.calculatePageRanks(edges, 20), pageRanks);
+    }
+
+    @Test
+    public void testParallelExecution() {
+        final Random random = new Random(42);
+        List<Tuple2<Long, Long>> edges = random.longs(100000, 0, 20000)
+                .mapToObj(source -> new Tuple2<>(source * 7, random.nextInt(20000) * 7L))
+                .collect(Collectors.toList());
+
+        Map<Long, Float> pageRanks = this.runPageRank(edges, 10, true);
+
+        assertPageRanksEqual(this.calculatePageRanks(edges, 10), pageRanks);
+    }
+
+    @Test
+    public void testMemoryMappedExecutionReleasesFile() {
+        List<Tuple2<Long, Long>> edges = Arrays.asList(
+                new Tuple2<>(1L, 2L), new Tuple2<>(2L, 3L), new Tuple2<>(3L, 1L), new Tuple2<>(1L, 3L)
+        );
+        final int numGraphFilesBefore = countGraphFiles();
+
+        configuration.setProperty("rheem.java.graph.mmap-edges", "1");
+        try {
+            JavaPageRankOperator pageRankOperator = new JavaPageRankOperator(10);
+            JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(edges)};
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            evaluate(pageRankOperator, inputs, outputs);
+
+            // The file should be gone even though the output has been neither consumed nor closed.
+            Assert.assertEquals(numGraphFilesBefore, countGraphFiles());
+            Assert.assertEquals(3, outputs[0].provideStream().count());
+        } finally {
+            configuration.setProperty("rheem.java.graph.mmap-edges", "0");
+        }
+    }
+
+    @Test
+    public void testMemoryMappedExecutionWithStreamedEdges() {
+        final Random random = new Random(42);
+        List<Tuple2<Long, Long>> edges = random.longs(10000, 0, 2000)
+                .mapToObj(source -> new Tuple2<>(source, (long) random.nextInt(2000)))
+                .collect(Collectors.toList());
+
+        configuration.setProperty("rheem.java.graph.mmap-edges", "100");
+        try {
+            JavaPageRankOperator pageRankOperator = new JavaPageRankOperator(10);
+            JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(edges.stream())};
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            evaluate(pageRankOperator, inputs, outputs);
+
+            Map<Long, Float> pageRanks = outputs[0].<Tuple2<Long, Float>>provideStream()
+                    .collect(Collectors.toMap(pageRank -> pageRank.field0, pageRank -> pageRank.field1));
+            assertPageRanksEqual(this.calculatePageRanks(edges, 10), pageRanks);
+        } finally {
+            configuration.setProperty("rheem.java.graph.mmap-edges", "0");
+        }
+    }
+
+    @Test
+    public void testLoadProfileConsidersNumIterations() {
+        final JavaPageRankOperator fewIterations = new JavaPageRankOperator(1);
+        final JavaPageRankOperator manyIterations = new JavaPageRankOperator(100);
+        final Configuration javaConfiguration = configuration.fork();
+        JavaPlatform.getInstance().configureDefaults(javaConfiguration);
+        final LoadProfileEstimator estimator = fewIterations.createLoadProfileEstimator(javaConfiguration).get();
+
+        final LoadProfile fewIterationsLoad = estimator.estimate(createOperatorContext(fewIterations));
+        final LoadProfile manyIterationsLoad = estimator.estimate(createOperatorContext(manyIterations));
+
+        Assert.assertTrue(manyIterationsLoad.getCpuUsage().getLowerEstimate()
+                > fewIterationsLoad.getCpuUsage().getLowerEstimate());
+    }
+
+    private static int countGraphFiles() {
+        final File[] graphFiles = LocalFileSystem.findTempDir()
+                .listFiles((dir, name) -> name.startsWith("rheem-graph") && name.endsWith(".bin"));
+        return graphFiles == null ? 0 : graphFiles.length;
+    }
+
+    private Map<Long, Float> runPageRank(List<Tuple2<Long, Long>> edges, int numIterations, boolean isParallel) {
+        JavaPageRankOperator pageRankOperator = new JavaPageRankOperator(numIterations);
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(edges)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        if (isParallel) evaluateInParallel(pageRankOperator, inputs, outputs);
+        else evaluate(pageRankOperator, inputs, outputs);
+
+        final List<Tuple2<Long, Float>> result = outputs[0].<Tuple2<Long, Float>>provideStream()
+                .collect(Collectors.toList());
+        Map<Long, Float> pageRanks = new HashMap<>();
+        for (Tuple2<Long, Float> pageRank : result) {
+            Assert.assertNull(pageRanks.put(pageRank.field0, pageRank.field1));
+        }
+        return pageRanks;
+    }
+
+    /**
+     * Straight-forward PageRank implementation to compare against.
+     */
+    private Map<Long, Float> calculatePageRanks(List<Tuple2<Long, Long>> edges, int numIterations) {
+        final double dampingFactor = JavaPageRankOperator.DEFAULT_DAMPING_FACTOR;
+        Map<Long, Integer> outDegrees = new HashMap<>();
+        Map<Long, Double> ranks = new HashMap<>();
+        for (Tuple2<Long, Long> edge : edges) {
+            outDegrees.merge(edge.field0, 1, Integer::sum);
+            ranks.put(edge.field0, 0d);
+            ranks.put(edge.field1, 0d);
+        }
+        final int numVertices = ranks.size();
+        ranks.replaceAll((vertex, rank) -> 1d / numVertices);
+
+        for (int iteration = 0; iteration < numIterations; iteration++) {
+            Map<Long, Double> newRanks = new HashMap<>();
+            ranks.keySet().forEach(vertex -> newRanks.put(vertex, (1 - dampingFactor) / numVertices));
+            for (Tuple2<Long, Long> edge : edges) {
+                newRanks.merge(edge.field1, dampingFactor * ranks.get(edge.field0) / outDegrees.get(edge.field0), Double::sum);
+            }
+            ranks = newRanks;
+        }
+
+        Map<Long, Float> result = new HashMap<>();
+        ranks.forEach((vertex, rank) -> result.put(vertex, rank.floatValue()));
+        return result;
+    }
+
+    private static void assertPageRanksEqual(Map<Long, Float> expected, Map<Long, Float> actual) {
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        for (Long vertex : expected.keySet()) {
+            Assert.assertEquals(expected.get(vertex), actual.get(vertex), 1e-6f);
+        }
+    }
+
+}
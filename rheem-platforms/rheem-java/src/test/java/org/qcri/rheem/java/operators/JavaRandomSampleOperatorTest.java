@@ -7,8 +7,10 @@ import org.qcri.rheem.java.channels.JavaChannelInstance;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -94,4 +96,35 @@ public class JavaRandomSampleOperatorTest extends JavaExecutionOperatorTestBase
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testParallelExecution() {
+        // Prepare test data.
+        final List<Integer> inputCollection = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+        final int sampleSize = 1000;
+
+        // Build the sample operator.
+        JavaRandomSampleOperator<Integer> sampleOperator =
+                new JavaRandomSampleOperator<>(
+                        iteration -> sampleSize,
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        iteration -> 42L
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputCollection)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createParallelStreamChannelInstance()};
+
+        // Execute in parallel and, for comparison, sequentially.
+        evaluateInParallel(sampleOperator, inputs, outputs);
+        JavaChannelInstance[] sequentialOutputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(sampleOperator, new JavaChannelInstance[]{createCollectionChannelInstance(inputCollection)}, sequentialOutputs);
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().map(i -> i).collect(Collectors.toList());
+        Assert.assertEquals(sampleSize, result.size());
+        Assert.assertEquals(
+                sequentialOutputs[0].<Integer>provideStream().collect(Collectors.toSet()),
+                new HashSet<>(result)
+        );
+    }
+
+}
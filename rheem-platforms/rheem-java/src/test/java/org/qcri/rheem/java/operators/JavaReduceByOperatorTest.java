@@ -2,16 +2,23 @@ package org.qcri.rheem.java.operators;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.basic.types.RecordType;
 import org.qcri.rheem.core.function.ReduceDescriptor;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.java.channels.ColumnarRecordChannel;
 import org.qcri.rheem.java.channels.JavaChannelInstance;
+import org.qcri.rheem.java.channels.RecordColumns;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -63,4 +70,83 @@ public class JavaReduceByOperatorTest extends JavaExecutionOperatorTestBase {
         Assert.assertEquals(expectedResults.length, result.size());
 
     }
+
+    @Test
+    public void testParallelExecution() {
+        // Prepare test data.
+        Stream<Tuple2<Integer, Integer>> inputStream = IntStream.range(0, 100000)
+                .mapToObj(i -> new Tuple2<>(i % 10, 1))
+                .collect(Collectors.toList())
+                .parallelStream();
+
+        // Build the reduce operator.
+        JavaReduceByOperator<Tuple2<Integer, Integer>, Integer> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator.
+        evaluateInParallel(reduceByOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final Set<Tuple2<Integer, Integer>> result =
+                outputs[0].<Tuple2<Integer, Integer>>provideStream().collect(Collectors.toSet());
+        final Set<Tuple2<Integer, Integer>> expectedResult = IntStream.range(0, 10)
+                .mapToObj(i -> new Tuple2<>(i, 10000))
+                .collect(Collectors.toSet());
+        Assert.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    public void testColumnarExecution() {
+        // Prepare test data.
+        final RecordColumns columns = RecordColumns.build(IntStream.range(0, 10000)
+                .mapToObj(i -> new Record("key" + (i % 100), i % 2 == 0 ? null : (long) (i % 7), 1))
+                .iterator());
+        final ColumnarRecordChannel.Instance input = (ColumnarRecordChannel.Instance) ColumnarRecordChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(createExecutor(), null, -1);
+        input.accept(columns);
+
+        // Build the reduce operator. Note that the reduce function returns its second input.
+        final RecordType recordType = new RecordType("a", "b", "c");
+        JavaReduceByOperator<Record, Record> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefault(recordType),
+                        ProjectionDescriptor.createForRecords(recordType, "a", "b"),
+                        new ReduceDescriptor<>(
+                                (r1, r2) -> r1.getInt(2) < r2.getInt(2) ? new Record(r1.getField(0), r1.getField(1), r1.getInt(2) + 1) : r2,
+                                DataUnitType.createGroupedUnchecked(Record.class),
+                                DataUnitType.createBasicUnchecked(Record.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{input};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator.
+        evaluate(reduceByOperator, inputs, outputs);
+
+        // Verify the outcome: the even rows all have a null key field, the odd rows fall into 7 groups per key.
+        final Map<Record, Record> expected = IntStream.range(0, 10000)
+                .mapToObj(i -> new Record("key" + (i % 100), i % 2 == 0 ? null : (long) (i % 7), 1))
+                .collect(Collectors.toMap(
+                        r -> new Record(r.getField(0), r.getField(1)),
+                        r -> r,
+                        (r1, r2) -> r1.getInt(2) < r2.getInt(2) ? new Record(r1.getField(0), r1.getField(1), r1.getInt(2) + 1) : r2
+                ));
+        final Set<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toSet());
+        Assert.assertEquals(new HashSet<>(expected.values()), result);
+    }
+
 }
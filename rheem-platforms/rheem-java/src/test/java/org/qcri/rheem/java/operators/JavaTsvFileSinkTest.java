@@ -0,0 +1,106 @@
+package org.qcri.rheem.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.java.channels.JavaChannelInstance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaTsvFileSink} and {@link JavaTsvFileSource}.
+ */
+public class JavaTsvFileSinkTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testWritingAndReadingRecords() throws IOException {
+        Path tempDir = Files.createTempDirectory("rheem-java");
+        tempDir.toFile().deleteOnExit();
+        final String path = tempDir.resolve("testWritingAndReadingRecords.tsv").toUri().toString();
+
+        final List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            records.add(new Record(i, "name\t" + i, (double) i / 3, i % 7 == 0 ? null : (long) i << 33));
+        }
+        final DataSetType<Record> type = DataSetType.createDefault(new RecordType("id", "name", "score", "big"));
+
+        // Write.
+        final JavaTsvFileSink<Record> sink = new JavaTsvFileSink<>(path, type);
+        final ChannelInstance fileChannelInstance = FileChannel.HDFS_TSV_DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(null, null, -1);
+        evaluate(sink, new ChannelInstance[]{createCollectionChannelInstance(records)}, new ChannelInstance[]{fileChannelInstance});
+
+        // Read.
+        final JavaTsvFileSource<Record> source = new JavaTsvFileSource<>(
+                null, type, Integer.class, String.class, Double.class, Long.class
+        );
+        final JavaChannelInstance output = createStreamChannelInstance();
+        evaluate(source, new ChannelInstance[]{fileChannelInstance}, new ChannelInstance[]{output});
+
+        Assert.assertEquals(records, output.<Record>provideStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testWritingAndReadingTuple2sViaFileChannel() throws IOException {
+        Path tempDir = Files.createTempDirectory("rheem-java");
+        tempDir.toFile().deleteOnExit();
+        final String path = tempDir.resolve("testWritingAndReadingTuple2sViaFileChannel.tsv").toUri().toString();
+
+        final List<Tuple2<String, Long>> tuples = new ArrayList<>();
+        tuples.add(new Tuple2<>(null, 1L));
+        for (int i = 0; i < 1000; i++) {
+            tuples.add(new Tuple2<>("key" + i, (long) i << 33));
+        }
+        final DataSetType<Tuple2<String, Long>> type = DataSetType.createDefaultUnchecked(Tuple2.class);
+
+        // Write without specifying field classes, as done by the channel conversions.
+        final JavaTsvFileSink<Tuple2<String, Long>> sink = new JavaTsvFileSink<>(path, type);
+        final FileChannel.Instance fileChannelInstance = (FileChannel.Instance) FileChannel.HDFS_TSV_DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(null, null, -1);
+        evaluate(sink, new ChannelInstance[]{createCollectionChannelInstance(tuples)}, new ChannelInstance[]{fileChannelInstance});
+        Assert.assertArrayEquals(new Class<?>[]{String.class, Long.class}, fileChannelInstance.getFieldClasses());
+
+        // Read: the field classes should be restored.
+        final JavaTsvFileSource<Tuple2<String, Long>> source = new JavaTsvFileSource<>(null, type);
+        final JavaChannelInstance output = createStreamChannelInstance();
+        evaluate(source, new ChannelInstance[]{fileChannelInstance}, new ChannelInstance[]{output});
+
+        Assert.assertEquals(tuples, output.<Tuple2<String, Long>>provideStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testWritingAndReadingStringsViaFileChannel() throws IOException {
+        Path tempDir = Files.createTempDirectory("rheem-java");
+        tempDir.toFile().deleteOnExit();
+        final String path = tempDir.resolve("testWritingAndReadingStringsViaFileChannel.tsv").toUri().toString();
+
+        final List<String> strings = Arrays.asList("a", "b\tc", "d\te\nf", "");
+        final DataSetType<String> type = DataSetType.createDefault(String.class);
+
+        final JavaTsvFileSink<String> sink = new JavaTsvFileSink<>(path, type);
+        final FileChannel.Instance fileChannelInstance = (FileChannel.Instance) FileChannel.HDFS_TSV_DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(null, null, -1);
+        evaluate(sink, new ChannelInstance[]{createCollectionChannelInstance(strings)}, new ChannelInstance[]{fileChannelInstance});
+
+        final JavaTsvFileSource<String> source = new JavaTsvFileSource<>(null, type);
+        final JavaChannelInstance output = createStreamChannelInstance();
+        evaluate(source, new ChannelInstance[]{fileChannelInstance}, new ChannelInstance[]{output});
+
+        Assert.assertEquals(strings, output.<String>provideStream().collect(Collectors.toList()));
+    }
+
+}
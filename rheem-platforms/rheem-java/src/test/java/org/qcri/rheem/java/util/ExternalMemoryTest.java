@@ -0,0 +1,152 @@
+package org.qcri.rheem.java.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link ExternalMemory}.
+ */
+public class ExternalMemoryTest {
+
+    private static final int NUM_DATA_QUANTA = 10000;
+
+    private final File spillDirectory = new File(
+            LocalFileSystem.findTempDir(), "rheem-spill-test-" + UUID.randomUUID()
+    );
+
+    private final ExternalMemory externalMemory = new ExternalMemory(
+            100, LocalFileSystem.toURL(this.spillDirectory), 4, 4
+    );
+
+    @Test
+    public void testReduceBy() {
+        final Collection<Tuple2<Integer, Integer>> result = this.externalMemory.reduceBy(
+                IntStream.range(0, NUM_DATA_QUANTA).mapToObj(i -> new Tuple2<>(i % 1000, 1)),
+                Tuple2::getField0,
+                (t1, t2) -> new Tuple2<>(t1.field0, t1.field1 + t2.field1)
+        );
+
+        Assert.assertEquals(1000, result.size());
+        Assert.assertEquals(1000, result.stream().map(Tuple2::getField0).distinct().count());
+        Assert.assertTrue(result.stream().allMatch(t -> t.field1 == NUM_DATA_QUANTA / 1000));
+    }
+
+    @Test
+    public void testGroupBy() {
+        // Each group exceeds the budget, so that the partitions cannot be split by re-partitioning.
+        final List<List<Integer>> result = this.externalMemory.groupBy(
+                IntStream.range(0, NUM_DATA_QUANTA).boxed(),
+                i -> i % 7
+        ).collect(Collectors.toList());
+
+        Assert.assertEquals(7, result.size());
+        Assert.assertEquals(NUM_DATA_QUANTA, result.stream().mapToInt(List::size).sum());
+        for (List<Integer> group : result) {
+            Assert.assertEquals(1, group.stream().map(i -> i % 7).distinct().count());
+        }
+    }
+
+    @Test
+    public void testDistinct() {
+        final List<Integer> result = this.externalMemory.distinct(
+                IntStream.range(0, NUM_DATA_QUANTA).mapToObj(i -> i % 3000)
+        ).collect(Collectors.toList());
+
+        Assert.assertEquals(3000, result.size());
+        final Set<Integer> distinctResult = new HashSet<>(result);
+        Assert.assertEquals(3000, distinctResult.size());
+        Assert.assertTrue(IntStream.range(0, 3000).allMatch(distinctResult::contains));
+    }
+
+    @Test
+    public void testSort() {
+        final List<Tuple2<Integer, Integer>> input = IntStream.range(0, NUM_DATA_QUANTA)
+                .mapToObj(i -> new Tuple2<>((i * 7919) % 500, i))
+                .collect(Collectors.toList());
+
+        final List<Tuple2<Integer, Integer>> result = this.externalMemory.sort(
+                input.stream(),
+                Comparator.comparing(Tuple2::getField0)
+        ).collect(Collectors.toList());
+
+        // The sort must be stable, just like Stream#sorted.
+        final List<Tuple2<Integer, Integer>> expected = new ArrayList<>(input);
+        expected.sort(Comparator.comparing(Tuple2::getField0));
+        Assert.assertEquals(expected, result);
+    }
+
+    @Test
+    public void testGroupByWithManyKeys() {
+        final List<List<Integer>> result = this.externalMemory.groupBy(
+                IntStream.range(0, NUM_DATA_QUANTA).boxed(),
+                i -> i % 2000
+        ).collect(Collectors.toList());
+
+        Assert.assertEquals(2000, result.size());
+        Assert.assertEquals(NUM_DATA_QUANTA, result.stream().mapToInt(List::size).sum());
+        for (List<Integer> group : result) {
+            Assert.assertEquals(5, group.size());
+            Assert.assertEquals(1, group.stream().map(i -> i % 2000).distinct().count());
+        }
+    }
+
+    @Test
+    public void testCleanUpOnClose() {
+        final Iterator<Integer> iterator;
+        try (Stream<Integer> result = this.externalMemory.sort(
+                IntStream.range(0, NUM_DATA_QUANTA).map(i -> NUM_DATA_QUANTA - i).boxed(),
+                Comparator.naturalOrder()
+        )) {
+            iterator = result.iterator();
+            Assert.assertEquals(1, (int) iterator.next());
+            Assert.assertTrue(this.countSpillFiles() > 0);
+        }
+        Assert.assertEquals(0, this.countSpillFiles());
+    }
+
+    @Test
+    public void testCleanUpOnDispose() {
+        final Iterator<List<Integer>> iterator = this.externalMemory.groupBy(
+                IntStream.range(0, NUM_DATA_QUANTA).boxed(),
+                i -> i % 2000
+        ).iterator();
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertTrue(this.countSpillFiles() > 0);
+
+        this.externalMemory.dispose();
+        Assert.assertEquals(0, this.countSpillFiles());
+    }
+
+    @Test
+    public void testWithinBudget() {
+        final List<Integer> result = this.externalMemory.sort(
+                IntStream.of(3, 1, 2).boxed(),
+                Comparator.naturalOrder()
+        ).collect(Collectors.toList());
+
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals(1, (int) result.get(0));
+        Assert.assertEquals(3, (int) result.get(2));
+    }
+
+    private int countSpillFiles() {
+        final File[] spillFiles = this.spillDirectory.listFiles((dir, name) -> name.endsWith(".spill"));
+        return spillFiles == null ? 0 : spillFiles.length;
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.qcri.rheem.java.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link KeyedRowTable}.
+ */
+public class KeyedRowTableTest {
+
+    @Test
+    public void testLongKeysWithGrowth() {
+        final KeyedRowTable<Long, Tuple2<Long, Integer>> table =
+                KeyedRowTable.create(Long.class, Tuple2::getField0, 1);
+        for (int i = 0; i < 10000; i++) {
+            table.add(new Tuple2<>((long) (i % 1000), i));
+        }
+        table.seal();
+
+        Assert.assertEquals(10000, table.size());
+        for (long key = 0; key < 1000; key++) {
+            final List<Tuple2<Long, Integer>> group = table.getGroup(key);
+            Assert.assertEquals(10, group.size());
+            for (int i = 0; i < group.size(); i++) {
+                Assert.assertEquals(key, (long) group.get(i).field0);
+                Assert.assertEquals(key + 1000 * i, (long) group.get(i).field1);
+            }
+        }
+        Assert.assertTrue(table.getGroup(-1L).isEmpty());
+        Assert.assertTrue(table.getGroup(1000L).isEmpty());
+    }
+
+    @Test
+    public void testStringAndNullKeys() {
+        final KeyedRowTable<String, Tuple2<String, Integer>> table = KeyedRowTable.create(
+                String.class, Tuple2::getField0, 4
+        );
+        table.add(new Tuple2<>("a", 1));
+        table.add(new Tuple2<>(null, 2));
+        table.add(new Tuple2<>("b", 3));
+        table.add(new Tuple2<>("a", 4));
+        table.seal();
+
+        Assert.assertEquals(Arrays.asList(new Tuple2<>("a", 1), new Tuple2<>("a", 4)), table.getGroup("a"));
+        Assert.assertEquals(Collections.singletonList(new Tuple2<>("b", 3)), table.getGroup("b"));
+        Assert.assertEquals(Collections.singletonList(new Tuple2<>(null, 2)), table.getGroup(null));
+        Assert.assertTrue(table.getGroup("c").isEmpty());
+    }
+
+    @Test
+    public void testParallelBuild() {
+        final List<Integer> rows = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+        final KeyedRowTable<Integer, Integer> table = KeyedRowTable.build(
+                rows.parallelStream(), Integer.class, i -> i % 100, 100000
+        );
+
+        Assert.assertEquals(100000, table.size());
+        for (int key = 0; key < 100; key++) {
+            final List<Integer> group = table.getGroup(key);
+            Assert.assertEquals(1000, group.size());
+            Assert.assertEquals(key, (int) group.get(0));
+            Assert.assertEquals(99900 + key, (int) group.get(999));
+        }
+    }
+
+    @Test
+    public void testFindMatchingSlot() {
+        final KeyedRowTable<Integer, Integer> table0 = KeyedRowTable.build(
+                Stream.of(1, 2, 3), Integer.class, i -> i, 3
+        );
+        final KeyedRowTable<Integer, String> table1 = KeyedRowTable.build(
+                Stream.of("22", "333", "4444"), Integer.class, String::length, 3
+        );
+
+        int numMatches = 0;
+        for (int slot0 = 0; slot0 < table0.getNumSlots(); slot0++) {
+            if (!table0.isOccupied(slot0)) continue;
+            final Integer row0 = table0.getGroupAt(slot0).get(0);
+            final int slot1 = table1.findMatchingSlot(table0, slot0);
+            if (row0 == 1) {
+                Assert.assertEquals(-1, slot1);
+            } else {
+                Assert.assertEquals(row0.intValue(), table1.getGroupAt(slot1).get(0).length());
+                numMatches++;
+            }
+        }
+        Assert.assertEquals(2, numMatches);
+    }
+
+}
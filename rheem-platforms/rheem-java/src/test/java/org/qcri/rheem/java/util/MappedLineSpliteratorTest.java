@@ -0,0 +1,83 @@
+package org.qcri.rheem.java.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link MappedLineSpliterator}.
+ */
+public class MappedLineSpliteratorTest {
+
+    private static File createFile(String contents, Charset charset) throws IOException {
+        final File file = File.createTempFile("rheem-lines", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), contents.getBytes(charset));
+        return file;
+    }
+
+    private static List<String> readWithBufferedReader(File file, Charset charset) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), charset)) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+
+    private static List<String> readMapped(File file, Charset charset, boolean isParallel) throws IOException {
+        try (Stream<String> lines = MappedLineSpliterator.lines(file.toPath(), charset)) {
+            return (isParallel ? lines.parallel() : lines).collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void testSpecialLines() throws IOException {
+        final String contents = "first\n\nthird line\r\nünïcödé €\n\r\n  \nlast without newline";
+        final File file = createFile(contents, StandardCharsets.UTF_8);
+        Assert.assertEquals(
+                readWithBufferedReader(file, StandardCharsets.UTF_8),
+                readMapped(file, StandardCharsets.UTF_8, false)
+        );
+
+        final File latin1File = createFile("ä\nö\r\nü\n", StandardCharsets.ISO_8859_1);
+        Assert.assertEquals(
+                readWithBufferedReader(latin1File, StandardCharsets.ISO_8859_1),
+                readMapped(latin1File, StandardCharsets.ISO_8859_1, false)
+        );
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        final File file = createFile("", StandardCharsets.UTF_8);
+        Assert.assertTrue(readMapped(file, StandardCharsets.UTF_8, true).isEmpty());
+    }
+
+    @Test
+    public void testParallelReadingRetainsLines() throws IOException {
+        // Create a file of several MB, so that it is split.
+        final StringBuilder sb = new StringBuilder();
+        final Random random = new Random(42);
+        for (int i = 0; i < 200000; i++) {
+            sb.append(i).append('\t').append("ä€");
+            for (int j = random.nextInt(50); j > 0; j--) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+            sb.append(random.nextBoolean() ? "\n" : "\r\n");
+        }
+        final File file = createFile(sb.toString(), StandardCharsets.UTF_8);
+        Assert.assertTrue(file.length() > 4 << 20);
+
+        final List<String> expectedLines = readWithBufferedReader(file, StandardCharsets.UTF_8);
+        Assert.assertEquals(expectedLines, readMapped(file, StandardCharsets.UTF_8, false));
+        Assert.assertEquals(expectedLines, readMapped(file, StandardCharsets.UTF_8, true));
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.qcri.rheem.java.util.graph;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.util.fs.LocalFileSystem;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link VertexCentricEngine} and {@link CsrGraph}.
+ */
+public class VertexCentricEngineTest {
+
+    /**
+     * Propagates the minimum vertex ID along the edges.
+     */
+    private static final VertexProgram MIN_LABEL_PROGRAM = new VertexProgram() {
+        @Override
+        public double initialValue(CsrGraph graph, int vertex) {
+            return graph.getVertexId(vertex);
+        }
+
+        @Override
+        public double scatter(CsrGraph graph, int vertex, double value) {
+            return value;
+        }
+
+        @Override
+        public double identity() {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public double combine(double message0, double message1) {
+            return Math.min(message0, message1);
+        }
+
+        @Override
+        public double apply(CsrGraph graph, int vertex, double messages, double value) {
+            return Math.min(messages, value);
+        }
+    };
+
+    @Test
+    public void testCsrGraph() {
+        List<Tuple2<Long, Long>> edges = Arrays.asList(
+                new Tuple2<>(30L, 10L), new Tuple2<>(10L, 20L), new Tuple2<>(30L, 20L), new Tuple2<>(20L, 40L)
+        );
+        try (CsrGraph graph = CsrGraph.fromEdges(edges)) {
+            Assert.assertEquals(4, graph.getNumVertices());
+            Assert.assertEquals(4, graph.getNumEdges());
+            Assert.assertEquals(20L, graph.getVertexId(1));
+            Assert.assertEquals(3, graph.getVertex(40L));
+            Assert.assertTrue(graph.getVertex(50L) < 0);
+
+            final int vertex20 = graph.getVertex(20L);
+            Assert.assertEquals(1, graph.getOutDegree(vertex20));
+            Assert.assertEquals(2, graph.getInDegree(vertex20));
+            Assert.assertEquals(
+                    Arrays.asList(10L, 30L),
+                    Arrays.asList(
+                            graph.getVertexId(graph.getInNeighbor(vertex20, 0)),
+                            graph.getVertexId(graph.getInNeighbor(vertex20, 1))
+                    )
+            );
+            Assert.assertEquals(0, graph.getInDegree(graph.getVertex(30L)));
+        }
+    }
+
+    @Test
+    public void testMinLabelPropagation() {
+        // Two chains 5 -> 4 -> 3 and 9 -> 8 -> 1 -> 7.
+        List<Tuple2<Long, Long>> edges = Arrays.asList(
+                new Tuple2<>(5L, 4L), new Tuple2<>(4L, 3L), new Tuple2<>(9L, 8L), new Tuple2<>(8L, 1L), new Tuple2<>(1L, 7L)
+        );
+        try (CsrGraph graph = CsrGraph.fromEdges(edges)) {
+            final double[] labels = new VertexCentricEngine(false).run(graph, MIN_LABEL_PROGRAM, 3);
+            Assert.assertEquals(3d, labels[graph.getVertex(3L)], 0d);
+            Assert.assertEquals(4d, labels[graph.getVertex(4L)], 0d);
+            Assert.assertEquals(1d, labels[graph.getVertex(7L)], 0d);
+            Assert.assertEquals(8d, labels[graph.getVertex(8L)], 0d);
+        }
+    }
+
+    @Test
+    public void testParallelAndMemoryMappedExecution() {
+        final Random random = new Random(42);
+        // Use enough edges so that the vertex IDs are collected in several chunks.
+        List<Tuple2<Long, Long>> edges = random.longs(600000, 0, 150000)
+                .mapToObj(source -> new Tuple2<>(source, (long) random.nextInt(150000)))
+                .collect(Collectors.toList());
+
+        final double[] expectedLabels;
+        try (CsrGraph graph = CsrGraph.fromEdges(edges)) {
+            expectedLabels = new VertexCentricEngine(false).run(graph, MIN_LABEL_PROGRAM, 5);
+        }
+        try (CsrGraph graph = CsrGraph.fromEdges(edges.iterator(), 1000, LocalFileSystem.findTempDir())) {
+            final double[] labels = new VertexCentricEngine(true).run(graph, MIN_LABEL_PROGRAM, 5);
+            Assert.assertArrayEquals(expectedLabels, labels, 0d);
+        }
+    }
+
+}
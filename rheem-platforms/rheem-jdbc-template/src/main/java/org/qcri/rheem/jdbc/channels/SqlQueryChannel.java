@@ -1,13 +1,17 @@
 package org.qcri.rheem.jdbc.channels;
 
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.types.RecordType;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.platform.*;
+import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -28,6 +32,24 @@ public class SqlQueryChannel extends Channel {
         return new SqlQueryChannel(this);
     }
 
+    /**
+     * Determines the {@link DataSetType} of the {@link Record}s that are read from a {@link SqlQueryChannel}.
+     *
+     * @param channel the {@link SqlQueryChannel} or {@code null} if unknown
+     * @return the {@link DataSetType}, which is based upon the {@link RecordType} of the {@code channel} if that
+     * declares field types, so that the columns can be decoded accordingly
+     */
+    @SuppressWarnings("unchecked")
+    public static DataSetType<Record> getRecordDataSetType(Channel channel) {
+        if (channel != null && channel.getDataSetType().getDataUnitType() instanceof RecordType) {
+            final RecordType recordType = (RecordType) channel.getDataSetType().getDataUnitType();
+            if (recordType.getFieldTypes() != null) {
+                return (DataSetType<Record>) channel.getDataSetType();
+            }
+        }
+        return DataSetType.createDefault(Record.class);
+    }
+
     @Override
     public SqlQueryChannel.Instance createInstance(Executor executor,
                                                    OptimizationContext.OperatorContext producerOperatorContext,
@@ -42,6 +64,12 @@ public class SqlQueryChannel extends Channel {
 
         private String sqlQuery = null;
 
+        /**
+         * Queries for disjoint partitions of the result of the {@link #sqlQuery} or {@code null} if it is not
+         * partitioned.
+         */
+        private List<String> partitionQueries = null;
+
         /**
          * Creates a new instance and registers it with its {@link Executor}.
          *
@@ -71,6 +99,22 @@ public class SqlQueryChannel extends Channel {
         public String getSqlQuery() {
             return this.sqlQuery;
         }
+
+        public void setPartitionQueries(List<String> partitionQueries) {
+            this.partitionQueries = partitionQueries;
+        }
+
+        /**
+         * Provides queries that can be executed instead of the {@link #getSqlQuery() SQL query} to obtain its
+         * result in disjoint partitions, e.g., to read them in parallel. The partition queries do not share a
+         * snapshot of the database, so that their results might be inconsistent if the database is modified
+         * concurrently.
+         *
+         * @return the partition queries or {@code null} if not available
+         */
+        public List<String> getPartitionQueries() {
+            return this.partitionQueries;
+        }
     }
 
     /**
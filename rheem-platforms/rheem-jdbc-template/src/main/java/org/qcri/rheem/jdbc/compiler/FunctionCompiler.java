@@ -1,7 +1,9 @@
 package org.qcri.rheem.jdbc.compiler;
 
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
 import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
 
 /**
  * Compiles {@link FunctionDescriptor}s to SQL clauses.
@@ -20,4 +22,27 @@ public class FunctionCompiler {
         return sqlImplementation;
     }
 
+    /**
+     * Compile a reduction to a SQL {@code SELECT} list of aggregates.
+     *
+     * @param descriptor describes the reduction
+     * @return a compiled SQL {@code SELECT} list
+     */
+    public String compile(ReduceDescriptor descriptor) {
+        final String sqlImplementation = descriptor.getSqlImplementation();
+        assert sqlImplementation != null;
+        return sqlImplementation;
+    }
+
+    /**
+     * Compile a projection, e.g., a key extractor, to a SQL column list as used in {@code GROUP BY} and
+     * {@code ORDER BY} clauses.
+     *
+     * @param descriptor describes the projection
+     * @return a compiled SQL column list
+     */
+    public String compile(ProjectionDescriptor descriptor) {
+        return String.join(", ", descriptor.getFieldNames());
+    }
+
 }
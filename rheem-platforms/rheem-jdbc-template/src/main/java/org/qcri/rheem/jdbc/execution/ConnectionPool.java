@@ -0,0 +1,191 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps idle {@link Connection}s to a database described by a {@link DatabaseDescriptor}, so that they can be
+ * reused instead of opening a new {@link Connection} for every query.
+ */
+class ConnectionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+
+    /**
+     * Seconds to wait when validating an idle {@link Connection}.
+     */
+    private static final int VALIDATION_TIMEOUT = 1;
+
+    /**
+     * Maintains one instance per {@link DatabaseDescriptor}.
+     */
+    private static final Map<DatabaseDescriptor, ConnectionPool> instances = new ConcurrentHashMap<>();
+
+    private final DatabaseDescriptor databaseDescriptor;
+
+    /**
+     * The idle {@link Connection}s (not their proxies).
+     */
+    private final Deque<Connection> idleConnections = new ArrayDeque<>();
+
+    private ConnectionPool(DatabaseDescriptor databaseDescriptor) {
+        this.databaseDescriptor = databaseDescriptor;
+    }
+
+    /**
+     * Provides the instance for the given {@link DatabaseDescriptor}.
+     *
+     * @param databaseDescriptor describes the database
+     * @return the instance
+     */
+    static ConnectionPool of(DatabaseDescriptor databaseDescriptor) {
+        return instances.computeIfAbsent(databaseDescriptor, ConnectionPool::new);
+    }
+
+    /**
+     * Provides a {@link Connection} from this instance. Closing it returns it to this instance.
+     *
+     * @return the {@link Connection}
+     */
+    Connection acquire() {
+        Connection connection;
+        do {
+            synchronized (this.idleConnections) {
+                connection = this.idleConnections.pollFirst();
+            }
+            if (connection == null) {
+                connection = this.databaseDescriptor.createJdbcConnection();
+                break;
+            }
+        } while (!this.isValid(connection));
+        return this.createProxy(connection);
+    }
+
+    /**
+     * Checks an idle {@link Connection} and closes it if it is not valid anymore.
+     *
+     * @param connection the {@link Connection}
+     * @return whether the {@code connection} is valid
+     */
+    private boolean isValid(Connection connection) {
+        try {
+            if (connection.isValid(VALIDATION_TIMEOUT)) return true;
+        } catch (SQLException e) {
+            logger.debug("Could not validate pooled connection.", e);
+        }
+        this.closeQuietly(connection);
+        return false;
+    }
+
+    /**
+     * Returns a {@link Connection} to this instance or closes it if there are enough idle {@link Connection}s.
+     *
+     * @param connection the {@link Connection} (not its proxy)
+     */
+    private void release(Connection connection) {
+        try {
+            if (connection.isClosed()) return;
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not reset pooled connection.", e);
+            this.closeQuietly(connection);
+            return;
+        }
+        synchronized (this.idleConnections) {
+            if (this.idleConnections.size() < this.databaseDescriptor.getMaxIdleConnections()) {
+                this.idleConnections.addFirst(connection);
+                return;
+            }
+        }
+        this.closeQuietly(connection);
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.error("Could not close pooled connection.", e);
+        }
+    }
+
+    /**
+     * Wraps a {@link Connection}, such that closing it returns it to this instance.
+     *
+     * @param connection the {@link Connection}
+     * @return the wrapping {@link Connection}
+     */
+    private Connection createProxy(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(connection)
+        );
+    }
+
+    /**
+     * Handles the method invocations on a pooled {@link Connection}.
+     */
+    private class PooledConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        private boolean isReleased = false;
+
+        private PooledConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!this.isReleased) {
+                        this.isReleased = true;
+                        ConnectionPool.this.release(this.connection);
+                    }
+                    return null;
+                case "isClosed":
+                    return this.isReleased || this.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + this.connection;
+            }
+            if (this.isReleased) {
+                throw new SQLException("Connection has been returned to the pool.");
+            }
+            try {
+                return method.invoke(this.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Tells the number of idle {@link Connection}s of this instance.
+     *
+     * @return the number of idle {@link Connection}s
+     */
+    int getNumIdleConnections() {
+        synchronized (this.idleConnections) {
+            return this.idleConnections.size();
+        }
+    }
+}
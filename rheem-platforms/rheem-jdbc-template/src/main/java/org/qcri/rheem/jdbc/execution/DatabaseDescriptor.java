@@ -2,16 +2,28 @@ package org.qcri.rheem.jdbc.execution;
 
 import org.qcri.rheem.core.api.exception.RheemException;
 
+import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.Objects;
 
 /**
- * This class describes a database.
+ * This class describes a database. It is {@link Serializable}, so that distributed readers can connect to it.
  */
-public class DatabaseDescriptor {
+public class DatabaseDescriptor implements Serializable {
+
+    /**
+     * Default value for {@link #maxIdleConnections}.
+     */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 8;
 
     private final String jdbcUrl, user, password, jdbcDriverClassName;
 
+    /**
+     * Maximum number of {@link Connection}s to keep open for reuse; see {@link #acquireJdbcConnection()}.
+     */
+    private final int maxIdleConnections;
+
     /**
      * Creates a new instance.
      *
@@ -22,10 +34,26 @@ public class DatabaseDescriptor {
      *                            required for {@link #createJdbcConnection()}
      */
     public DatabaseDescriptor(String jdbcUrl, String user, String password, String jdbcDriverClassName) {
+        this(jdbcUrl, user, password, jdbcDriverClassName, DEFAULT_MAX_IDLE_CONNECTIONS);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param jdbcUrl             JDBC URL to the database
+     * @param user                <i>optional</i> user name or {@code null}
+     * @param password            <i>optional</i> password or {@code null}
+     * @param jdbcDriverClassName name of the JDBC driver {@link Class} to access the database;
+     *                            required for {@link #createJdbcConnection()}
+     * @param maxIdleConnections  maximum number of {@link Connection}s to keep open for reuse
+     */
+    public DatabaseDescriptor(String jdbcUrl, String user, String password, String jdbcDriverClassName,
+                              int maxIdleConnections) {
         this.jdbcUrl = jdbcUrl;
         this.user = user;
         this.password = password;
         this.jdbcDriverClassName = jdbcDriverClassName;
+        this.maxIdleConnections = maxIdleConnections;
     }
 
     /**
@@ -48,4 +76,39 @@ public class DatabaseDescriptor {
             ), e);
         }
     }
+
+    /**
+     * Provides a {@link Connection} to the database described by this instance from a pool that is shared by all
+     * equal instances. Closing the {@link Connection} returns it to the pool.
+     *
+     * @return the {@link Connection}
+     */
+    public Connection acquireJdbcConnection() {
+        return ConnectionPool.of(this).acquire();
+    }
+
+    public int getMaxIdleConnections() {
+        return this.maxIdleConnections;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        DatabaseDescriptor that = (DatabaseDescriptor) o;
+        return Objects.equals(this.jdbcUrl, that.jdbcUrl) &&
+                Objects.equals(this.user, that.user) &&
+                Objects.equals(this.password, that.password) &&
+                Objects.equals(this.jdbcDriverClassName, that.jdbcDriverClassName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.jdbcUrl, this.user, this.password, this.jdbcDriverClassName);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s as %s]", this.getClass().getSimpleName(), this.jdbcUrl, this.user);
+    }
 }
@@ -2,10 +2,10 @@ package org.qcri.rheem.jdbc.execution;
 
 import org.qcri.rheem.basic.channels.FileChannel;
 import org.qcri.rheem.basic.operators.TableSource;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
-import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.Operator;
@@ -13,15 +13,21 @@ import org.qcri.rheem.core.platform.ExecutionState;
 import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.platform.ExecutorTemplate;
 import org.qcri.rheem.core.platform.Platform;
-import org.qcri.rheem.core.util.RheemCollections;
+import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.core.util.fs.FileSystem;
 import org.qcri.rheem.core.util.fs.FileSystems;
 import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
 import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
 import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+import org.qcri.rheem.jdbc.operators.JdbcCountOperator;
+import org.qcri.rheem.jdbc.operators.JdbcDistinctOperator;
 import org.qcri.rheem.jdbc.operators.JdbcExecutionOperator;
 import org.qcri.rheem.jdbc.operators.JdbcFilterOperator;
+import org.qcri.rheem.jdbc.operators.JdbcGlobalReduceOperator;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
 import org.qcri.rheem.jdbc.operators.JdbcProjectionOperator;
+import org.qcri.rheem.jdbc.operators.JdbcReduceByOperator;
+import org.qcri.rheem.jdbc.operators.JdbcSortOperator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,9 +38,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Set;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +51,8 @@ public class JdbcExecutor extends ExecutorTemplate {
 
     private final Connection connection;
 
+    private final Configuration configuration;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final FunctionCompiler functionCompiler = new FunctionCompiler();
@@ -53,78 +60,117 @@ public class JdbcExecutor extends ExecutorTemplate {
     public JdbcExecutor(JdbcPlatformTemplate platform, Job job) {
         super(job.getCrossPlatformExecutor());
         this.platform = platform;
-        this.connection = this.platform.createDatabaseDescriptor(job.getConfiguration()).createJdbcConnection();
+        this.configuration = job.getConfiguration();
+        this.connection = this.platform.createDatabaseDescriptor(this.configuration).acquireJdbcConnection();
     }
 
     @Override
     public void execute(ExecutionStage stage, OptimizationContext optimizationContext, ExecutionState executionState) {
         // TODO: Load ChannelInstances from executionState? (as of now there is no input into PostgreSQL).
-        Collection<?> startTasks = stage.getStartTasks();
         Collection<?> termTasks = stage.getTerminalTasks();
 
         // Verify that we can handle this instance.
-        assert startTasks.size() == 1 : "Invalid jdbc stage: multiple sources are not currently supported";
-        ExecutionTask startTask = (ExecutionTask) startTasks.toArray()[0];
         assert termTasks.size() == 1 : "Invalid JDBC stage: multiple terminal tasks are not currently supported.";
         ExecutionTask termTask = (ExecutionTask) termTasks.toArray()[0];
-        assert startTask.getOperator() instanceof TableSource : "Invalid JDBC stage: Start task has to be a TableSource";
-
-        // Extract the different types of ExecutionOperators from the stage.
-        TableSource tableOp = (TableSource) startTask.getOperator();
-        SqlQueryChannel.Instance tipChannelInstance = this.instantiateOutboundChannel(startTask, optimizationContext);
-        Collection<ExecutionTask> filterTasks = new ArrayList<>(4);
-        ExecutionTask projectionTask = null;
-        Set<ExecutionTask> allTasks = stage.getAllTasks();
-        assert allTasks.size() <= 3;
-        ExecutionTask nextTask = this.findJdbcExecutionOperatorTaskInStage(startTask, stage);
-        while (nextTask != null) {
-            // Evaluate the nextTask.
-            if (nextTask.getOperator() instanceof JdbcFilterOperator) {
-                filterTasks.add(nextTask);
-            } else if (nextTask.getOperator() instanceof JdbcProjectionOperator) {
-                assert projectionTask == null; //Allow one projection operator per stage for now.
-                projectionTask = nextTask;
-
-            } else {
-                throw new RheemException(String.format("Unsupported JDBC execution task %s", nextTask.toString()));
-            }
 
-            // Move the tipChannelInstance.
-            tipChannelInstance = this.instantiateOutboundChannel(nextTask, optimizationContext, tipChannelInstance);
+        // Compile the whole stage into a single SQL query.
+        final Tuple<SqlQueryBuilder, SqlQueryChannel.Instance> compilation =
+                this.compile(termTask, stage, optimizationContext);
+        final SqlQueryChannel.Instance tipChannelInstance = compilation.getField1();
+        tipChannelInstance.setSqlQuery(compilation.getField0().toSqlQuery());
+        tipChannelInstance.setPartitionQueries(this.createPartitionQueries(compilation.getField0()));
 
-            // Go to the next nextTask.
-            nextTask = this.findJdbcExecutionOperatorTaskInStage(nextTask, stage);
+        // Return the tipChannelInstance.
+        executionState.register(tipChannelInstance);
+    }
+
+    /**
+     * Compiles the given {@link ExecutionTask} along with its (transitive) producers within the {@link ExecutionStage}
+     * into a SQL query and instantiates the outbound {@link SqlQueryChannel}s along the way.
+     *
+     * @param task                that should be compiled
+     * @param stage               that contains the {@code task}
+     * @param optimizationContext provides information about the {@link ExecutionTask}s
+     * @return the {@link SqlQueryBuilder} for the {@code task} and its {@link SqlQueryChannel.Instance}
+     */
+    private Tuple<SqlQueryBuilder, SqlQueryChannel.Instance> compile(ExecutionTask task,
+                                                                     ExecutionStage stage,
+                                                                     OptimizationContext optimizationContext) {
+        final Operator operator = task.getOperator();
+        final SqlQueryChannel.Instance channelInstance = this.instantiateOutboundChannel(task, optimizationContext);
+
+        // Compile the inputs.
+        final SqlQueryBuilder[] inputQueries = new SqlQueryBuilder[task.getNumInputChannels()];
+        for (int inputIndex = 0; inputIndex < inputQueries.length; inputIndex++) {
+            final ExecutionTask producer = task.getInputChannel(inputIndex).getProducer();
+            if (producer.getStage() != stage || !(producer.getOperator() instanceof JdbcExecutionOperator)) {
+                throw new RheemException(String.format("Invalid JDBC stage: %s has inputs from outside.", task));
+            }
+            final Tuple<SqlQueryBuilder, SqlQueryChannel.Instance> inputCompilation =
+                    this.compile(producer, stage, optimizationContext);
+            inputQueries[inputIndex] = inputCompilation.getField0();
+            channelInstance.getLineage().addPredecessor(inputCompilation.getField1().getLineage());
         }
 
-        // Create the SQL query.
-        String tableName = this.getSqlClause(tableOp);
-        Collection<String> conditions = filterTasks.stream()
-                .map(ExecutionTask::getOperator)
-                .map(this::getSqlClause)
-                .collect(Collectors.toList());
-        String projection = projectionTask == null ? "*" : this.getSqlClause(projectionTask.getOperator());
-        String query = this.createSqlQuery(tableName, conditions, projection);
-        tipChannelInstance.setSqlQuery(query);
+        // Compile the task itself.
+        final SqlQueryBuilder query;
+        if (operator instanceof TableSource) {
+            query = SqlQueryBuilder.fromTable(this.getSqlClause(operator));
+        } else if (operator instanceof JdbcFilterOperator) {
+            query = inputQueries[0].filter(this.getSqlClause(operator));
+        } else if (operator instanceof JdbcProjectionOperator) {
+            query = inputQueries[0].project(this.getSqlClause(operator));
+        } else if (operator instanceof JdbcDistinctOperator) {
+            query = inputQueries[0].distinct();
+        } else if (operator instanceof JdbcSortOperator) {
+            query = inputQueries[0].sort(this.getSqlClause(operator));
+        } else if (operator instanceof JdbcReduceByOperator) {
+            final String groupBy = ((JdbcReduceByOperator) operator).createGroupByClause(this.connection, this.functionCompiler);
+            query = inputQueries[0].aggregate(this.getSqlClause(operator), groupBy);
+        } else if (operator instanceof JdbcGlobalReduceOperator) {
+            // Other than counts, global reduces yield no data quantum for empty inputs.
+            query = inputQueries[0].aggregateNonEmpty(
+                    this.getSqlClause(operator), this.platform.getNonEmptyAggregateClause()
+            );
+        } else if (operator instanceof JdbcCountOperator) {
+            query = inputQueries[0].aggregate(this.getSqlClause(operator), null);
+        } else if (operator instanceof JdbcJoinOperator) {
+            final JdbcJoinOperator joinOperator = (JdbcJoinOperator) operator;
+            query = SqlQueryBuilder.fromJoin(
+                    inputQueries[0], JdbcJoinOperator.INPUT0_ALIAS,
+                    inputQueries[1], JdbcJoinOperator.INPUT1_ALIAS,
+                    this.getSqlClause(operator), joinOperator.createSelectClause()
+            );
+        } else {
+            throw new RheemException(String.format("Unsupported JDBC execution task %s", task.toString()));
+        }
 
-        // Return the tipChannelInstance.
-        executionState.register(tipChannelInstance);
+        return new Tuple<>(query, channelInstance);
     }
 
     /**
-     * Retrieves the follow-up {@link ExecutionTask} of the given {@code task} unless it is not comprising a
-     * {@link JdbcExecutionOperator} and/or not in the given {@link ExecutionStage}.
+     * Splits the given query into queries for disjoint ranges of its table if configured via
+     * {@link JdbcPlatformTemplate#jdbcParallelReadsProperty} and supported by the query.
      *
-     * @param task  whose follow-up {@link ExecutionTask} is requested; should have a single follower
-     * @param stage in which the follow-up {@link ExecutionTask} should be
-     * @return the said follow-up {@link ExecutionTask} or {@code null} if none
+     * @param query the query
+     * @return the queries for the ranges or {@code null} if the {@code query} is not split
      */
-    private ExecutionTask findJdbcExecutionOperatorTaskInStage(ExecutionTask task, ExecutionStage stage) {
-        assert task.getNumOuputChannels() == 1;
-        final Channel outputChannel = task.getOutputChannel(0);
-        final ExecutionTask consumer = RheemCollections.getSingle(outputChannel.getConsumers());
-        return consumer.getStage() == stage && consumer.getOperator() instanceof JdbcExecutionOperator ?
-                consumer :
-                null;
+    private List<String> createPartitionQueries(SqlQueryBuilder query) {
+        final int numRanges = (int) this.configuration.getLongProperty(this.platform.jdbcParallelReadsProperty, 1);
+        final String tableName = query.getPartitionableTable();
+        if (numRanges < 2 || tableName == null) return null;
+
+        final List<String> rangePredicates;
+        try {
+            rangePredicates = this.platform.createRangePredicates(this.connection, tableName, numRanges, this.configuration);
+        } catch (SQLException e) {
+            this.logger.warn("Could not split {} into ranges; reading it with a single query.", tableName, e);
+            return null;
+        }
+        if (rangePredicates.isEmpty()) return null;
+        return rangePredicates.stream()
+                .map(predicate -> query.partition(predicate).toSqlQuery())
+                .collect(Collectors.toList());
     }
 
     /**
@@ -144,45 +190,6 @@ public class JdbcExecutor extends ExecutorTemplate {
         return outputChannel.createInstance(this, operatorContext, 0);
     }
 
-    /**
-     * Instantiates the outbound {@link SqlQueryChannel} of an {@link ExecutionTask}.
-     *
-     * @param task                       whose outbound {@link SqlQueryChannel} should be instantiated
-     * @param optimizationContext        provides information about the {@link ExecutionTask}
-     * @param predecessorChannelInstance preceeding {@link SqlQueryChannel.Instance} to keep track of lineage
-     * @return the {@link SqlQueryChannel.Instance}
-     */
-    private SqlQueryChannel.Instance instantiateOutboundChannel(ExecutionTask task,
-                                                                OptimizationContext optimizationContext,
-                                                                SqlQueryChannel.Instance predecessorChannelInstance) {
-        final SqlQueryChannel.Instance newInstance = this.instantiateOutboundChannel(task, optimizationContext);
-        newInstance.getLineage().addPredecessor(predecessorChannelInstance.getLineage());
-        return newInstance;
-    }
-
-    /**
-     * Creates a SQL query.
-     *
-     * @param tableName  the table to be queried
-     * @param conditions conditions for the {@code WHERE} clause
-     * @param projection projection for the {@code SELECT} clause
-     * @return the SQL query
-     */
-    protected String createSqlQuery(String tableName, Collection<String> conditions, String projection) {
-        StringBuilder sb = new StringBuilder(1000);
-        sb.append("SELECT ").append(projection).append(" FROM ").append(tableName);
-        if (!conditions.isEmpty()) {
-            sb.append(" WHERE ");
-            String separator = "";
-            for (String condition : conditions) {
-                sb.append(separator).append(condition);
-                separator = " AND ";
-            }
-        }
-        sb.append(';');
-        return sb.toString();
-    }
-
     /**
      * Creates a SQL clause that corresponds to the given {@link Operator}.
      *
@@ -0,0 +1,274 @@
+package org.qcri.rheem.jdbc.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incrementally builds a single SQL query for a sub-plan of {@link org.qcri.rheem.jdbc.operators.JdbcExecutionOperator}s.
+ * Operations are merged into the current {@code SELECT} statement where this does not change their semantics,
+ * e.g., consecutive filters; otherwise, the current statement is wrapped as a subquery.
+ */
+class SqlQueryBuilder {
+
+    /**
+     * The {@code FROM} clause, i.e., a table name, an aliased subquery, or a join.
+     */
+    private final String from;
+
+    /**
+     * Whether {@link #from} is a plain table name.
+     */
+    private final boolean isTable;
+
+    /**
+     * Number of enclosing subqueries; used to create unique aliases.
+     */
+    private final int depth;
+
+    private String projection = "*";
+
+    private boolean isDistinct = false;
+
+    private final List<String> conditions = new ArrayList<>(4);
+
+    private String groupBy = null;
+
+    private String orderBy = null;
+
+    /**
+     * Clause that suppresses the result row of a global aggregate over an empty input, e.g.,
+     * {@code HAVING COUNT(*) > 0}.
+     */
+    private String nonEmptyClause = null;
+
+    /**
+     * Whether the {@link #projection} aggregates the data quanta, so that further operations must not be merged.
+     */
+    private boolean isAggregated = false;
+
+    private SqlQueryBuilder(String from, boolean isTable, int depth) {
+        this.from = from;
+        this.isTable = isTable;
+        this.depth = depth;
+    }
+
+    /**
+     * Creates a copy of the given instance.
+     *
+     * @param that the instance to be copied
+     */
+    private SqlQueryBuilder(SqlQueryBuilder that) {
+        this(that.from, that.isTable, that.depth);
+        this.projection = that.projection;
+        this.isDistinct = that.isDistinct;
+        this.conditions.addAll(that.conditions);
+        this.groupBy = that.groupBy;
+        this.orderBy = that.orderBy;
+        this.nonEmptyClause = that.nonEmptyClause;
+        this.isAggregated = that.isAggregated;
+    }
+
+    /**
+     * Creates a new instance that queries a table.
+     *
+     * @param tableName the name of the table
+     * @return the new instance
+     */
+    static SqlQueryBuilder fromTable(String tableName) {
+        return new SqlQueryBuilder(tableName, true, 0);
+    }
+
+    /**
+     * Creates a new instance that joins two queries.
+     *
+     * @param input0       the first query
+     * @param alias0       the alias for the first query
+     * @param input1       the second query
+     * @param alias1       the alias for the second query
+     * @param condition    the join condition
+     * @param selectClause the list of the joined fields
+     * @return the new instance
+     */
+    static SqlQueryBuilder fromJoin(SqlQueryBuilder input0, String alias0,
+                                    SqlQueryBuilder input1, String alias1,
+                                    String condition, String selectClause) {
+        final String from = String.format("%s JOIN %s ON %s",
+                input0.toFromItem(alias0), input1.toFromItem(alias1), condition
+        );
+        final SqlQueryBuilder join = new SqlQueryBuilder(from, false, Math.max(input0.depth, input1.depth) + 1);
+        join.projection = selectClause;
+        join.isAggregated = true; // The joined fields are not addressable by their plain names.
+        return join;
+    }
+
+    /**
+     * Adds a condition to the {@code WHERE} clause.
+     *
+     * @param condition the condition
+     * @return this instance or a new instance wrapping it
+     */
+    SqlQueryBuilder filter(String condition) {
+        final SqlQueryBuilder target = this.isAggregated || this.isDistinct ? this.wrap() : this;
+        target.conditions.add(condition);
+        return target;
+    }
+
+    /**
+     * Tells whether the query result can be partitioned by adding conditions on the queried table, i.e., whether this
+     * instance only filters and projects a single table.
+     *
+     * @return the name of the queried table or {@code null} if the query result cannot be partitioned this way
+     */
+    String getPartitionableTable() {
+        return this.isTable && !this.isDistinct && !this.isAggregated && this.groupBy == null && this.orderBy == null ?
+                this.from : null;
+    }
+
+    /**
+     * Creates a copy of this instance with an additional condition on the queried table.
+     *
+     * @param condition the condition
+     * @return the copy
+     * @see #getPartitionableTable()
+     */
+    SqlQueryBuilder partition(String condition) {
+        assert this.getPartitionableTable() != null;
+        final SqlQueryBuilder partition = new SqlQueryBuilder(this);
+        partition.conditions.add(condition);
+        return partition;
+    }
+
+    /**
+     * Sets the {@code SELECT} list.
+     *
+     * @param projection the list of selected fields
+     * @return this instance or a new instance wrapping it
+     */
+    SqlQueryBuilder project(String projection) {
+        final SqlQueryBuilder target = this.isAggregated || this.isDistinct || !"*".equals(this.projection) ?
+                this.wrap() : this;
+        target.projection = projection;
+        return target;
+    }
+
+    /**
+     * Removes duplicates from the query result.
+     *
+     * @return this instance or a new instance wrapping it
+     */
+    SqlQueryBuilder distinct() {
+        // Some databases require ORDER BY fields to be selected for SELECT DISTINCT, which the wrapping ensures.
+        final SqlQueryBuilder target = this.orderBy != null && !"*".equals(this.projection) ? this.wrap() : this;
+        target.isDistinct = true;
+        return target;
+    }
+
+    /**
+     * Sets the {@code ORDER BY} clause. As sorting is not stable, any previous sort order can be discarded.
+     *
+     * @param orderBy the sort fields
+     * @return this instance
+     */
+    SqlQueryBuilder sort(String orderBy) {
+        this.orderBy = orderBy;
+        return this;
+    }
+
+    /**
+     * Aggregates the query result.
+     *
+     * @param aggregates the {@code SELECT} list of aggregates
+     * @param groupBy    the grouping fields or {@code null} to aggregate globally
+     * @return this instance or a new instance wrapping it
+     */
+    SqlQueryBuilder aggregate(String aggregates, String groupBy) {
+        // Any previous projection is subsumed by the aggregates, but not any deduplication.
+        final SqlQueryBuilder target = this.isAggregated || this.isDistinct ? this.wrap() : this;
+        target.projection = aggregates;
+        target.groupBy = groupBy;
+        target.orderBy = null;
+        target.isAggregated = true;
+        return target;
+    }
+
+    /**
+     * Aggregates the query result globally. Other than a plain SQL aggregate, the query result is empty if the
+     * aggregated data quanta are empty.
+     *
+     * @param aggregates     the {@code SELECT} list of aggregates
+     * @param nonEmptyClause the clause that suppresses the aggregate over no rows, e.g., {@code HAVING COUNT(*) > 0}
+     * @return this instance or a new instance wrapping it
+     */
+    SqlQueryBuilder aggregateNonEmpty(String aggregates, String nonEmptyClause) {
+        final SqlQueryBuilder target = this.aggregate(aggregates, null);
+        target.nonEmptyClause = nonEmptyClause;
+        return target;
+    }
+
+    /**
+     * Wraps this instance as a subquery. As subqueries need not retain their order, the {@code ORDER BY} clause is
+     * moved to the new instance.
+     *
+     * @return a new instance selecting everything from this instance
+     */
+    private SqlQueryBuilder wrap() {
+        final SqlQueryBuilder subquery = new SqlQueryBuilder(this);
+        subquery.orderBy = null;
+        final String alias = "t" + (this.depth + 1);
+        final SqlQueryBuilder wrapper = new SqlQueryBuilder(subquery.toFromItem(alias), false, this.depth + 1);
+        wrapper.orderBy = this.orderBy;
+        return wrapper;
+    }
+
+    /**
+     * Provides an expression for this instance usable in a {@code FROM} clause.
+     *
+     * @param alias the alias for this instance
+     * @return the expression
+     */
+    private String toFromItem(String alias) {
+        if (this.isTable && this.isPlain()) {
+            return this.from + " AS " + alias;
+        }
+        return "(" + this.createSelectStatement() + ") AS " + alias;
+    }
+
+    private boolean isPlain() {
+        return "*".equals(this.projection) && !this.isDistinct && this.conditions.isEmpty()
+                && this.groupBy == null && this.orderBy == null;
+    }
+
+    private String createSelectStatement() {
+        StringBuilder sb = new StringBuilder(1000);
+        sb.append("SELECT ");
+        if (this.isDistinct) sb.append("DISTINCT ");
+        sb.append(this.projection).append(" FROM ").append(this.from);
+        if (!this.conditions.isEmpty()) {
+            sb.append(" WHERE ");
+            if (this.conditions.size() == 1) {
+                sb.append(this.conditions.get(0));
+            } else {
+                // Parenthesize the conditions, as they might contain operators with a lower precedence than AND.
+                String separator = "";
+                for (String condition : this.conditions) {
+                    sb.append(separator).append('(').append(condition).append(')');
+                    separator = " AND ";
+                }
+            }
+        }
+        if (this.groupBy != null) sb.append(" GROUP BY ").append(this.groupBy);
+        if (this.nonEmptyClause != null) sb.append(' ').append(this.nonEmptyClause);
+        if (this.orderBy != null) sb.append(" ORDER BY ").append(this.orderBy);
+        return sb.toString();
+    }
+
+    /**
+     * Creates the SQL query.
+     *
+     * @return the SQL query
+     */
+    String toSqlQuery() {
+        return this.createSelectStatement() + ';';
+    }
+
+}
@@ -0,0 +1,37 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.DistinctOperator;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+
+/**
+ * Template for JDBC-based {@link DistinctOperator}s.
+ */
+public abstract class JdbcDistinctOperator extends DistinctOperator<Record> implements JdbcExecutionOperator {
+
+    public JdbcDistinctOperator(DataSetType<Record> type) {
+        super(type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcDistinctOperator(DistinctOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        return "DISTINCT";
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.distinct.load", this.getPlatform().getPlatformId());
+    }
+}
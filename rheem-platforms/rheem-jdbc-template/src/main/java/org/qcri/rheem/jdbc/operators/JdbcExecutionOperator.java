@@ -1,6 +1,8 @@
 package org.qcri.rheem.jdbc.operators;
 
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.basic.operators.TableSource;
+import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
@@ -16,6 +18,9 @@ public interface JdbcExecutionOperator extends ExecutionOperator {
      * Creates a SQL clause for this instance. For {@link TableSource}s it returns an identifier for the table
      * usable in a {@code FROM} clause. For {@link JdbcProjectionOperator}s it returns a list usable in a
      * {@code SELECT} clause. For {@link JdbcFilterOperator}s it creates a condition usable in a {@code WHERE} clause.
+     * For {@link JdbcSortOperator}s it returns a list usable in an {@code ORDER BY} clause, for
+     * {@link JdbcReduceByOperator}s and {@link JdbcGlobalReduceOperator}s a list of aggregates usable in a
+     * {@code SELECT} clause, and for {@link JdbcJoinOperator}s a condition usable in an {@code ON} clause.
      * Also, these different clauses should be compatible for connected {@link JdbcExecutionOperator}s.
      *
      * @param compiler used to create SQL code
@@ -23,6 +28,17 @@ public interface JdbcExecutionOperator extends ExecutionOperator {
      */
     String createSqlClause(Connection connection, FunctionCompiler compiler);
 
+    /**
+     * Provides a function that converts a {@link Record} of the SQL query result for this instance into a data
+     * quantum of its output. This is required for operators whose output does not consist of {@link Record}s.
+     * The function is serializable, so that it can also be applied by distributed readers of the query result.
+     *
+     * @return the function
+     */
+    default FunctionDescriptor.SerializableFunction<Record, Object> createResultRecordConverter() {
+        return record -> record;
+    }
+
     @Override
     JdbcPlatformTemplate getPlatform();
 
@@ -0,0 +1,140 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Template for JDBC-based {@link JoinOperator}s. Joins on the fields of {@link ProjectionDescriptor}s and requires
+ * both inputs to be typed with {@link RecordType}s, so that the joined {@link Record}s can be told apart in the
+ * query result. The joined fields are named as per {@link #getColumnAlias(String, String)}.
+ */
+public abstract class JdbcJoinOperator extends JoinOperator<Record, Record, Object> implements JdbcExecutionOperator {
+
+    /**
+     * Aliases for the two inputs in the {@code FROM} clause.
+     */
+    public static final String INPUT0_ALIAS = "l", INPUT1_ALIAS = "r";
+
+    public JdbcJoinOperator(ProjectionDescriptor<Record, Object> keyDescriptor0,
+                            ProjectionDescriptor<Record, Object> keyDescriptor1,
+                            DataSetType<Record> inputType0,
+                            DataSetType<Record> inputType1) {
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcJoinOperator(JoinOperator<Record, Record, Object> that) {
+        super(that);
+        if (!(that.getKeyDescriptor0() instanceof ProjectionDescriptor)
+                || !(that.getKeyDescriptor1() instanceof ProjectionDescriptor)) {
+            throw new IllegalArgumentException("Can only copy from JoinOperators with ProjectionDescriptors.");
+        }
+    }
+
+    /**
+     * Creates a condition usable in the {@code ON} clause of a join of the inputs aliased as {@link #INPUT0_ALIAS}
+     * and {@link #INPUT1_ALIAS}.
+     */
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        final List<String> keyFields0 = ((ProjectionDescriptor<?, ?>) this.getKeyDescriptor0()).getFieldNames();
+        final List<String> keyFields1 = ((ProjectionDescriptor<?, ?>) this.getKeyDescriptor1()).getFieldNames();
+        assert keyFields0.size() == keyFields1.size();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keyFields0.size(); i++) {
+            if (i > 0) sb.append(" AND ");
+            sb.append(INPUT0_ALIAS).append('.').append(keyFields0.get(i)).append(" = ")
+                    .append(INPUT1_ALIAS).append('.').append(keyFields1.get(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Creates a list usable in the {@code SELECT} clause of a join of the inputs aliased as {@link #INPUT0_ALIAS}
+     * and {@link #INPUT1_ALIAS} that lists the fields of the first input followed by those of the second input.
+     * As both inputs might have fields with the same name, each field is renamed as per
+     * {@link #getColumnAlias(String, String)}, so that the joined fields remain addressable, e.g., in an
+     * {@code ORDER BY} clause or by a wrapping query.
+     *
+     * @return the SQL clause
+     */
+    public String createSelectClause() {
+        StringBuilder sb = new StringBuilder();
+        for (String fieldName : this.getFieldNames(0)) {
+            if (sb.length() > 0) sb.append(", ");
+            appendSelectItem(sb, INPUT0_ALIAS, fieldName);
+        }
+        for (String fieldName : this.getFieldNames(1)) {
+            sb.append(", ");
+            appendSelectItem(sb, INPUT1_ALIAS, fieldName);
+        }
+        return sb.toString();
+    }
+
+    private static void appendSelectItem(StringBuilder sb, String inputAlias, String fieldName) {
+        sb.append(inputAlias).append('.').append(fieldName).append(" AS ").append(getColumnAlias(inputAlias, fieldName));
+    }
+
+    /**
+     * Provides the name of a joined field in the query result. As the fields of the two inputs are prefixed with
+     * different aliases, the names are unique.
+     *
+     * @param inputAlias {@link #INPUT0_ALIAS} or {@link #INPUT1_ALIAS}
+     * @param fieldName  the name of the field in the input
+     * @return the name of the field in the query result
+     */
+    public static String getColumnAlias(String inputAlias, String fieldName) {
+        return inputAlias + '_' + fieldName;
+    }
+
+    private String[] getFieldNames(int inputIndex) {
+        return ((RecordType) this.getInput(inputIndex).getType().getDataUnitType()).getFieldNames();
+    }
+
+    @Override
+    public FunctionDescriptor.SerializableFunction<Record, Object> createResultRecordConverter() {
+        final int numFields0 = this.getFieldNames(0).length;
+        return record -> {
+            final Object[] values = new Object[record.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = record.getField(i);
+            }
+            return new Tuple2<>(
+                    new Record(Arrays.copyOfRange(values, 0, numFields0)),
+                    new Record(Arrays.copyOfRange(values, numFields0, values.length))
+            );
+        };
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.join.load", this.getPlatform().getPlatformId());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JdbcExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+}
@@ -0,0 +1,71 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.util.Optional;
+
+/**
+ * Template for JDBC-based {@link ReduceByOperator}s. Groups by the fields of a {@link ProjectionDescriptor} and
+ * requires a {@link ReduceDescriptor} with a SQL implementation.
+ */
+public abstract class JdbcReduceByOperator extends ReduceByOperator<Record, Object> implements JdbcExecutionOperator {
+
+    public JdbcReduceByOperator(ProjectionDescriptor<Record, Object> keyDescriptor,
+                                ReduceDescriptor<Record> reduceDescriptor,
+                                DataSetType<Record> type) {
+        super(keyDescriptor, reduceDescriptor, type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcReduceByOperator(ReduceByOperator<Record, Object> that) {
+        super(that);
+        if (!(that.getKeyDescriptor() instanceof ProjectionDescriptor)) {
+            throw new IllegalArgumentException("Can only copy from ReduceByOperators with ProjectionDescriptors.");
+        }
+    }
+
+    /**
+     * Creates the {@code SELECT} list of aggregates for this instance.
+     */
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        return compiler.compile(this.getReduceDescriptor());
+    }
+
+    /**
+     * Creates a column list usable in a {@code GROUP BY} clause.
+     *
+     * @param compiler used to create SQL code
+     * @return the SQL clause
+     */
+    public String createGroupByClause(Connection connection, FunctionCompiler compiler) {
+        return compiler.compile((ProjectionDescriptor) this.getKeyDescriptor());
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.reduceby.load", this.getPlatform().getPlatformId());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JdbcExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.getKeyDescriptor(), configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.getReduceDescriptor(), configuration);
+        return optEstimator;
+    }
+}
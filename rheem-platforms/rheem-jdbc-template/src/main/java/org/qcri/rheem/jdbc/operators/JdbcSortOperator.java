@@ -0,0 +1,53 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
+
+import java.sql.Connection;
+import java.util.Optional;
+
+/**
+ * Template for JDBC-based {@link SortOperator}s. Sorts by the fields of a {@link ProjectionDescriptor}.
+ */
+public abstract class JdbcSortOperator extends SortOperator<Record, Object> implements JdbcExecutionOperator {
+
+    public JdbcSortOperator(ProjectionDescriptor<Record, Object> keyDescriptor, DataSetType<Record> type) {
+        super(keyDescriptor, type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JdbcSortOperator(SortOperator<Record, Object> that) {
+        super(that);
+        if (!(that.getKeyDescriptor() instanceof ProjectionDescriptor)) {
+            throw new IllegalArgumentException("Can only copy from SortOperators with ProjectionDescriptors.");
+        }
+    }
+
+    @Override
+    public String createSqlClause(Connection connection, FunctionCompiler compiler) {
+        return compiler.compile((ProjectionDescriptor) this.getKeyDescriptor());
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("rheem.%s.sort.load", this.getPlatform().getPlatformId());
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JdbcExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor, configuration);
+        return optEstimator;
+    }
+}
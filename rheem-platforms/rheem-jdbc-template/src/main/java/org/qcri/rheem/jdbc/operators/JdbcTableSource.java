@@ -1,10 +1,13 @@
 package org.qcri.rheem.jdbc.operators;
 
 import de.hpi.isg.profiledb.store.model.TimeMeasurement;
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.basic.operators.TableSource;
+import org.qcri.rheem.basic.types.RecordType;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimator;
+import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.jdbc.compiler.FunctionCompiler;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +29,17 @@ public abstract class JdbcTableSource extends TableSource implements JdbcExecuti
         super(tableName, columnNames);
     }
 
+    /**
+     * Creates a new instance.
+     *
+     * @param tableName name of the table to be read
+     * @param type      type of the provided {@link Record}s; if it is based upon a {@link RecordType} with field
+     *                  types, the columns are decoded accordingly
+     */
+    public JdbcTableSource(String tableName, DataSetType<Record> type) {
+        super(tableName, type);
+    }
+
     /**
      * Copies an instance (exclusive of broadcasts).
      *
@@ -60,7 +74,7 @@ public abstract class JdbcTableSource extends TableSource implements JdbcExecuti
                 // Establish a DB connection.
                 try (Connection connection = JdbcTableSource.this.getPlatform()
                         .createDatabaseDescriptor(optimizationContext.getConfiguration())
-                        .createJdbcConnection()) {
+                        .acquireJdbcConnection()) {
 
                     // Query the table cardinality.
                     final String sql = String.format("SELECT count(*) FROM %s;", JdbcTableSource.this.getTableName());
@@ -0,0 +1,406 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.platform.CompositeExecutionResource;
+import org.qcri.rheem.core.platform.ExecutionResourceTemplate;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Exposes a {@link ResultSet} as an {@link Iterator}. The {@link ResultSet} is read with a database cursor, so that
+ * at most {@code fetchSize} rows are buffered at once. Once the {@link ResultSet} is exhausted or this instance is
+ * closed, it releases the {@link Statement} and the {@link Connection}. As an abandoned iterator is not necessarily
+ * closed, this instance can also be registered with a {@link CompositeExecutionResource}, which disposes it at the
+ * latest when being disposed itself.
+ */
+class ResultSetIterator extends ExecutionResourceTemplate implements Iterator<Record>, AutoCloseable {
+
+    /**
+     * Disposes this instance unless it has been closed before; does not hold a reference on this instance, so as
+     * to not keep the {@link CompositeExecutionResource} from being disposed.
+     */
+    private CompositeExecutionResource executor;
+
+    /**
+     * The JDBC connection owned by this instance.
+     */
+    private Connection connection;
+
+    /**
+     * Keeps around the {@link Statement} of the SQL query.
+     */
+    private Statement statement;
+
+    /**
+     * Keeps around the {@link ResultSet} of the SQL query.
+     */
+    private ResultSet resultSet;
+
+    /**
+     * Decode the columns of the {@link #resultSet}; determined once from the field types of the queried
+     * {@link RecordType} or, if those are unknown, from the {@link ResultSetMetaData}.
+     */
+    private ColumnDecoder[] columnDecoders;
+
+    /**
+     * The next {@link Record} to be delivered via {@link #next()}.
+     */
+    private Record next;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param executor   with which this instance should be registered or {@code null}
+     * @param connection the JDBC connection on which to execute a SQL query; will be closed by this instance
+     * @param sqlQuery   the SQL query
+     * @param fetchSize  the number of rows to fetch from the database at once
+     * @param fieldNames the names of the queried fields or {@code null} if unknown
+     * @param fieldTypes the classes of the queried fields (see {@link RecordType#getFieldTypes()}) or {@code null}
+     *                   if unknown
+     */
+    ResultSetIterator(CompositeExecutionResource executor,
+                      Connection connection,
+                      String sqlQuery,
+                      int fetchSize,
+                      String[] fieldNames,
+                      Class<?>[] fieldTypes) {
+        super(null);
+        if (executor != null) {
+            this.executor = executor;
+            this.executor.register(this);
+        }
+        this.connection = connection;
+        try {
+            // Some drivers, e.g., PostgreSQL, use cursors only outside of auto-commit mode.
+            connection.setAutoCommit(false);
+            this.statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            this.statement.setFetchSize(fetchSize);
+            this.resultSet = this.statement.executeQuery(sqlQuery);
+            final ResultSetMetaData metaData = this.resultSet.getMetaData();
+            if (fieldNames != null && fieldNames.length != metaData.getColumnCount()) {
+                throw new RheemException(String.format("Expected %d columns for %s, but the query \"%s\" yields %d.",
+                        fieldNames.length, Arrays.toString(fieldNames), sqlQuery, metaData.getColumnCount()));
+            }
+            this.columnDecoders = fieldTypes == null ?
+                    createColumnDecoders(metaData) :
+                    createColumnDecoders(fieldNames, fieldTypes, metaData);
+        } catch (SQLException e) {
+            this.close();
+            throw new RheemException("Could not execute SQL.", e);
+        } catch (RheemException e) {
+            this.close();
+            throw e;
+        }
+        this.moveToNext();
+    }
+
+    /**
+     * Compiles a {@link ColumnDecoder} for each declared field type and checks that the columns of the
+     * {@link ResultSet} can be read as such, so that type mismatches are detected before any row is read.
+     *
+     * @param fieldNames the names of the queried fields or {@code null} if unknown
+     * @param fieldTypes the classes of the queried fields
+     * @param metaData   describes the {@link ResultSet}
+     * @return the {@link ColumnDecoder}s
+     */
+    private static ColumnDecoder[] createColumnDecoders(String[] fieldNames,
+                                                        Class<?>[] fieldTypes,
+                                                        ResultSetMetaData metaData) throws SQLException {
+        if (fieldTypes.length != metaData.getColumnCount()) {
+            throw new RheemException(String.format("Expected %d columns for the field types %s, but got %d.",
+                    fieldTypes.length, Arrays.toString(fieldTypes), metaData.getColumnCount()));
+        }
+        ColumnDecoder[] columnDecoders = new ColumnDecoder[fieldTypes.length];
+        for (int i = 0; i < columnDecoders.length; i++) {
+            final int sqlType = metaData.getColumnType(i + 1);
+            if (!isReadableAs(sqlType, fieldTypes[i])) {
+                throw new RheemException(String.format("Cannot read column %s of SQL type %s as %s.",
+                        fieldNames == null ? metaData.getColumnLabel(i + 1) : fieldNames[i],
+                        metaData.getColumnTypeName(i + 1),
+                        fieldTypes[i].getName()));
+            }
+            columnDecoders[i] = createColumnDecoder(fieldTypes[i]);
+        }
+        return columnDecoders;
+    }
+
+    /**
+     * Tells whether a column can be read as a certain class with the JDBC getters.
+     *
+     * @param sqlType   the {@link Types} of the column
+     * @param fieldType the class of the field
+     * @return whether the column is readable as {@code fieldType}
+     */
+    private static boolean isReadableAs(int sqlType, Class<?> fieldType) {
+        switch (sqlType) {
+            case Types.NULL:
+            case Types.OTHER:
+            case Types.JAVA_OBJECT:
+                // Some drivers, e.g., SQLite, do not know the type of computed columns.
+                return true;
+        }
+        if (fieldType == Object.class || fieldType == String.class) {
+            return true;
+        }
+        final boolean isNumeric = isNumeric(sqlType);
+        if (fieldType == Boolean.class) {
+            return isNumeric || sqlType == Types.BIT || sqlType == Types.BOOLEAN;
+        }
+        if (Number.class.isAssignableFrom(fieldType)) {
+            return isNumeric;
+        }
+        if (fieldType == Date.class || fieldType == Timestamp.class) {
+            return sqlType == Types.DATE || sqlType == Types.TIMESTAMP;
+        }
+        if (fieldType == Time.class) {
+            return sqlType == Types.TIME || sqlType == Types.TIMESTAMP;
+        }
+        // We cannot tell in advance; a mismatch surfaces in the ColumnDecoder.
+        return true;
+    }
+
+    private static boolean isNumeric(int sqlType) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Compiles a {@link ColumnDecoder} that reads a column as a certain class via the type-specific getter.
+     *
+     * @param fieldType the class of the field
+     * @return the {@link ColumnDecoder}
+     */
+    private static ColumnDecoder createColumnDecoder(Class<?> fieldType) {
+        if (fieldType == Integer.class) {
+            return (rs, col) -> {
+                final int value = rs.getInt(col);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (fieldType == Long.class) {
+            return (rs, col) -> {
+                final long value = rs.getLong(col);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (fieldType == Short.class) {
+            return (rs, col) -> {
+                final short value = rs.getShort(col);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (fieldType == Byte.class) {
+            return (rs, col) -> {
+                final byte value = rs.getByte(col);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (fieldType == Float.class) {
+            return (rs, col) -> {
+                final float value = rs.getFloat(col);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (fieldType == Double.class) {
+            return (rs, col) -> {
+                final double value = rs.getDouble(col);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (fieldType == Boolean.class) {
+            return (rs, col) -> {
+                final boolean value = rs.getBoolean(col);
+                return rs.wasNull() ? null : value;
+            };
+        } else if (fieldType == BigDecimal.class) {
+            return ResultSet::getBigDecimal;
+        } else if (fieldType == String.class) {
+            return ResultSet::getString;
+        } else if (fieldType == Date.class) {
+            return ResultSet::getDate;
+        } else if (fieldType == Timestamp.class) {
+            return ResultSet::getTimestamp;
+        } else if (fieldType == Time.class) {
+            return ResultSet::getTime;
+        } else if (fieldType == Object.class) {
+            return ResultSet::getObject;
+        }
+        return (rs, col) -> {
+            final Object value = rs.getObject(col);
+            if (value != null && !fieldType.isInstance(value)) {
+                throw new RheemException(String.format("Expected %s in column %d, but found %s.",
+                        fieldType.getName(), col, value.getClass().getName()));
+            }
+            return value;
+        };
+    }
+
+    /**
+     * Picks a {@link ColumnDecoder} for each column of a {@link ResultSet} according to its {@link ResultSetMetaData}.
+     *
+     * @param metaData describes the {@link ResultSet}
+     * @return the {@link ColumnDecoder}s
+     */
+    private static ColumnDecoder[] createColumnDecoders(ResultSetMetaData metaData) throws SQLException {
+        ColumnDecoder[] columnDecoders = new ColumnDecoder[metaData.getColumnCount()];
+        for (int i = 0; i < columnDecoders.length; i++) {
+            switch (metaData.getColumnType(i + 1)) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    columnDecoders[i] = (rs, col) -> {
+                        final int value = rs.getInt(col);
+                        return rs.wasNull() ? null : value;
+                    };
+                    break;
+                case Types.BIGINT:
+                    columnDecoders[i] = (rs, col) -> {
+                        final long value = rs.getLong(col);
+                        return rs.wasNull() ? null : value;
+                    };
+                    break;
+                case Types.REAL:
+                    columnDecoders[i] = (rs, col) -> {
+                        final float value = rs.getFloat(col);
+                        return rs.wasNull() ? null : value;
+                    };
+                    break;
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    columnDecoders[i] = (rs, col) -> {
+                        final double value = rs.getDouble(col);
+                        return rs.wasNull() ? null : value;
+                    };
+                    break;
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    columnDecoders[i] = (rs, col) -> {
+                        final boolean value = rs.getBoolean(col);
+                        return rs.wasNull() ? null : value;
+                    };
+                    break;
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                    columnDecoders[i] = ResultSet::getString;
+                    break;
+                default:
+                    columnDecoders[i] = ResultSet::getObject;
+            }
+        }
+        return columnDecoders;
+    }
+
+    /**
+     * Moves this instance to the next {@link Record}. Synchronized with {@link #close()}, which might be called
+     * concurrently, e.g., when the {@link #executor} is disposed.
+     */
+    private synchronized void moveToNext() {
+        try {
+            if (this.resultSet == null || !this.resultSet.next()) {
+                this.next = null;
+                this.close();
+            } else {
+                Object[] values = new Object[this.columnDecoders.length];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = this.columnDecoders[i].decode(this.resultSet, i + 1);
+                }
+                this.next = new Record(values);
+            }
+        } catch (SQLException e) {
+            this.next = null;
+            this.close();
+            throw new RheemException("Exception while iterating the result set.", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        return this.next != null;
+    }
+
+    @Override
+    public synchronized Record next() {
+        if (this.next == null) throw new NoSuchElementException();
+        Record curNext = this.next;
+        this.moveToNext();
+        return curNext;
+    }
+
+    @Override
+    protected void doDispose() {
+        this.close();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.resultSet != null) {
+            try {
+                this.resultSet.close();
+            } catch (Throwable t) {
+                LoggerFactory.getLogger(this.getClass()).error("Could not close result set.", t);
+            } finally {
+                this.resultSet = null;
+            }
+        }
+        if (this.statement != null) {
+            try {
+                this.statement.close();
+            } catch (Throwable t) {
+                LoggerFactory.getLogger(this.getClass()).error("Could not close statement.", t);
+            } finally {
+                this.statement = null;
+            }
+        }
+        if (this.connection != null) {
+            try {
+                // We only read, so there is nothing to commit.
+                if (!this.connection.getAutoCommit()) this.connection.rollback();
+                this.connection.close();
+            } catch (Throwable t) {
+                LoggerFactory.getLogger(this.getClass()).error("Could not close connection.", t);
+            } finally {
+                this.connection = null;
+            }
+        }
+        if (this.executor != null) {
+            this.executor.unregister(this);
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Reads a single column of the current row of a {@link ResultSet}.
+     */
+    @FunctionalInterface
+    private interface ColumnDecoder {
+
+        Object decode(ResultSet resultSet, int columnIndex) throws SQLException;
+
+    }
+
+}
@@ -0,0 +1,169 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.apache.spark.TaskContext;
+import org.apache.spark.api.java.JavaRDD;
+import org.json.JSONObject;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.core.util.Iterators;
+import org.qcri.rheem.core.util.JsonSerializable;
+import org.qcri.rheem.core.util.ReflectionUtils;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
+import org.qcri.rheem.jdbc.execution.DatabaseDescriptor;
+import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.execution.SparkExecutor;
+import org.qcri.rheem.spark.operators.SparkExecutionOperator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This {@link Operator} converts {@link SqlQueryChannel}s to {@link RddChannel}s. If the query has been split into
+ * ranges (see {@link JdbcPlatformTemplate#jdbcParallelReadsProperty}), each range is read by its own Spark partition.
+ */
+public class SqlToRddOperator extends UnaryToUnaryOperator<Record, Record> implements SparkExecutionOperator, JsonSerializable {
+
+    /**
+     * Number of rows to fetch from the database at once if not configured via
+     * {@link JdbcPlatformTemplate#jdbcFetchSizeProperty}.
+     */
+    private static final int DEFAULT_FETCH_SIZE = 10000;
+
+    private final JdbcPlatformTemplate jdbcPlatform;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param jdbcPlatform from which the SQL data comes
+     */
+    public SqlToRddOperator(JdbcPlatformTemplate jdbcPlatform) {
+        this(jdbcPlatform, DataSetType.createDefault(Record.class));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param jdbcPlatform from which the SQL data comes
+     * @param dataSetType  type of the {@link Record}s being transformed; see {@link RecordType}
+     */
+    public SqlToRddOperator(JdbcPlatformTemplate jdbcPlatform, DataSetType<Record> dataSetType) {
+        super(dataSetType, dataSetType, false);
+        this.jdbcPlatform = jdbcPlatform;
+    }
+
+    protected SqlToRddOperator(SqlToRddOperator that) {
+        super(that);
+        this.jdbcPlatform = that.jdbcPlatform;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        // Cast the inputs and outputs.
+        final SqlQueryChannel.Instance input = (SqlQueryChannel.Instance) inputs[0];
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        JdbcPlatformTemplate producerPlatform = (JdbcPlatformTemplate) input.getChannel().getProducer().getPlatform();
+        final DatabaseDescriptor databaseDescriptor = producerPlatform.createDatabaseDescriptor(sparkExecutor.getConfiguration());
+        final int fetchSize = (int) sparkExecutor.getConfiguration().getLongProperty(
+                producerPlatform.jdbcFetchSizeProperty, DEFAULT_FETCH_SIZE
+        );
+        final DataUnitType<Record> dataUnitType = this.getOutputType().getDataUnitType();
+        final String[] fieldNames = dataUnitType instanceof RecordType ? ((RecordType) dataUnitType).getFieldNames() : null;
+        final Class<?>[] fieldTypes = dataUnitType instanceof RecordType ? ((RecordType) dataUnitType).getFieldTypes() : null;
+
+        // Read each query in its own partition via its own connection.
+        final List<String> queries = input.getPartitionQueries() == null ?
+                Collections.singletonList(input.getSqlQuery()) :
+                input.getPartitionQueries();
+        final JavaRDD<Record> resultSetRdd = sparkExecutor.sc.parallelize(queries, queries.size()).flatMap(query -> {
+            final ResultSetIterator resultSetIterator = new ResultSetIterator(
+                    null, databaseDescriptor.acquireJdbcConnection(), query, fetchSize, fieldNames, fieldTypes
+            );
+            // The task does not necessarily exhaust the iterator, e.g., for a take().
+            TaskContext.get().addTaskCompletionListener(context -> resultSetIterator.close());
+            return Iterators.wrapWithIterable(resultSetIterator);
+        });
+
+        // Let the producer convert the Records if it does not output Records, e.g., joins and counts.
+        final ExecutionOperator producerOperator = input.getChannel().getProducerOperator();
+        final JavaRDD<?> rdd;
+        if (producerOperator instanceof JdbcExecutionOperator) {
+            final FunctionDescriptor.SerializableFunction<Record, Object> resultRecordConverter =
+                    ((JdbcExecutionOperator) producerOperator).createResultRecordConverter();
+            rdd = resultSetRdd.map(resultRecordConverter::apply);
+        } else {
+            rdd = resultSetRdd;
+        }
+        this.name(rdd);
+        output.accept(rdd, sparkExecutor);
+
+        ExecutionLineageNode queryLineageNode = new ExecutionLineageNode(operatorContext);
+        queryLineageNode.add(LoadProfileEstimators.createFromSpecification(
+                String.format("rheem.%s.sqltordd.load.query", this.jdbcPlatform.getPlatformId()),
+                sparkExecutor.getConfiguration()
+        ));
+        queryLineageNode.addPredecessor(input.getLineage());
+        ExecutionLineageNode outputLineageNode = new ExecutionLineageNode(operatorContext);
+        outputLineageNode.add(LoadProfileEstimators.createFromSpecification(
+                String.format("rheem.%s.sqltordd.load.output", this.jdbcPlatform.getPlatformId()),
+                sparkExecutor.getConfiguration()
+        ));
+        output.getLineage().addPredecessor(outputLineageNode);
+
+        return queryLineageNode.collectAndMark();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(this.jdbcPlatform.getSqlQueryChannelDescriptor());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
+        return Arrays.asList(
+                String.format("rheem.%s.sqltordd.load.query", this.jdbcPlatform.getPlatformId()),
+                String.format("rheem.%s.sqltordd.load.output", this.jdbcPlatform.getPlatformId())
+        );
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+    @Override
+    public JSONObject toJson() {
+        return new JSONObject().put("platform", this.jdbcPlatform.getClass().getCanonicalName());
+    }
+
+    @SuppressWarnings("unused")
+    public static SqlToRddOperator fromJson(JSONObject jsonObject) {
+        final String platformClassName = jsonObject.getString("platform");
+        JdbcPlatformTemplate jdbcPlatform = ReflectionUtils.evaluate(platformClassName + ".getInstance()");
+        return new SqlToRddOperator(jdbcPlatform);
+    }
+}
@@ -3,15 +3,16 @@ package org.qcri.rheem.jdbc.operators;
 import org.json.JSONObject;
 import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.basic.types.RecordType;
-import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.plan.rheemplan.Operator;
 import org.qcri.rheem.core.plan.rheemplan.UnaryToUnaryOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
 import org.qcri.rheem.core.util.JsonSerializable;
 import org.qcri.rheem.core.util.ReflectionUtils;
 import org.qcri.rheem.core.util.Tuple;
@@ -19,13 +20,10 @@ import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
+import org.qcri.rheem.jdbc.execution.DatabaseDescriptor;
 import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
-import org.slf4j.LoggerFactory;
 
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
+import java.sql.*;
 import java.util.*;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -35,6 +33,12 @@ import java.util.stream.StreamSupport;
  */
 public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> implements JavaExecutionOperator, JsonSerializable {
 
+    /**
+     * Number of rows to fetch from the database at once if not configured via
+     * {@link JdbcPlatformTemplate#jdbcFetchSizeProperty}.
+     */
+    private static final int DEFAULT_FETCH_SIZE = 10000;
+
     private final JdbcPlatformTemplate jdbcPlatform;
 
     /**
@@ -73,15 +77,33 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
         JdbcPlatformTemplate producerPlatform = (JdbcPlatformTemplate) input.getChannel().getProducer().getPlatform();
-        final Connection connection = producerPlatform
-                .createDatabaseDescriptor(executor.getConfiguration())
-                .createJdbcConnection();
-
-        Iterator<Record> resultSetIterator = new ResultSetIterator(connection, input.getSqlQuery());
-        Spliterator<Record> resultSetSpliterator = Spliterators.spliteratorUnknownSize(resultSetIterator, 0);
-        Stream<Record> resultSetStream = StreamSupport.stream(resultSetSpliterator, false);
+        final DatabaseDescriptor databaseDescriptor = producerPlatform.createDatabaseDescriptor(executor.getConfiguration());
+        final int fetchSize = (int) executor.getConfiguration().getLongProperty(
+                producerPlatform.jdbcFetchSizeProperty, DEFAULT_FETCH_SIZE
+        );
+        final DataUnitType<Record> dataUnitType = this.getOutputType().getDataUnitType();
+        final String[] fieldNames = dataUnitType instanceof RecordType ? ((RecordType) dataUnitType).getFieldNames() : null;
+        final Class<?>[] fieldTypes = dataUnitType instanceof RecordType ? ((RecordType) dataUnitType).getFieldTypes() : null;
+
+        final List<String> partitionQueries = input.getPartitionQueries();
+        final Stream<Record> resultSetStream;
+        if (partitionQueries == null) {
+            resultSetStream = createResultSetStream(executor, databaseDescriptor, input.getSqlQuery(), fetchSize, fieldNames, fieldTypes);
+        } else {
+            // Each partition is read via its own connection. If the stream is executed in parallel,
+            // the partitions are consumed concurrently.
+            resultSetStream = partitionQueries.stream().flatMap(
+                    partitionQuery -> createResultSetStream(executor, databaseDescriptor, partitionQuery, fetchSize, fieldNames, fieldTypes)
+            );
+        }
 
-        output.accept(resultSetStream);
+        // Let the producer convert the Records if it does not output Records, e.g., joins and counts.
+        final ExecutionOperator producerOperator = input.getChannel().getProducerOperator();
+        if (producerOperator instanceof JdbcExecutionOperator) {
+            output.accept(resultSetStream.map(((JdbcExecutionOperator) producerOperator).createResultRecordConverter()));
+        } else {
+            output.accept(resultSetStream);
+        }
 
         ExecutionLineageNode queryLineageNode = new ExecutionLineageNode(operatorContext);
         queryLineageNode.add(LoadProfileEstimators.createFromSpecification(
@@ -99,6 +121,30 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         return queryLineageNode.collectAndMark();
     }
 
+    /**
+     * Executes a SQL query and exposes its result as a {@link Stream}.
+     *
+     * @param executor           releases the database resources when disposed, in case the {@link Stream} is
+     *                           neither exhausted nor closed
+     * @param databaseDescriptor describes the database to query
+     * @param sqlQuery           the SQL query
+     * @param fetchSize          the number of rows to fetch from the database at once
+     * @param fieldNames         the names of the queried fields or {@code null} if unknown
+     * @param fieldTypes         the classes of the queried fields or {@code null} if unknown
+     * @return the {@link Stream}; closing it releases the database resources
+     */
+    private static Stream<Record> createResultSetStream(JavaExecutor executor,
+                                                        DatabaseDescriptor databaseDescriptor,
+                                                        String sqlQuery,
+                                                        int fetchSize,
+                                                        String[] fieldNames,
+                                                        Class<?>[] fieldTypes) {
+        final Connection connection = databaseDescriptor.acquireJdbcConnection();
+        ResultSetIterator resultSetIterator = new ResultSetIterator(executor, connection, sqlQuery, fetchSize, fieldNames, fieldTypes);
+        Spliterator<Record> resultSetSpliterator = Spliterators.spliteratorUnknownSize(resultSetIterator, 0);
+        return StreamSupport.stream(resultSetSpliterator, false).onClose(resultSetIterator::close);
+    }
+
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         return Collections.singletonList(this.jdbcPlatform.getSqlQueryChannelDescriptor());
@@ -117,89 +163,6 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         );
     }
 
-    /**
-     * Exposes a {@link ResultSet} as an {@link Iterator}.
-     */
-    private static class ResultSetIterator implements Iterator<Record>, AutoCloseable {
-
-        /**
-         * Keeps around the {@link ResultSet} of the SQL query.
-         */
-        private ResultSet resultSet;
-
-        /**
-         * The next {@link Record} to be delivered via {@link #next()}.
-         */
-        private Record next;
-
-        /**
-         * Creates a new instance.
-         *
-         * @param connection the JDBC connection on which to execute a SQL query
-         * @param sqlQuery   the SQL query
-         */
-        ResultSetIterator(Connection connection, String sqlQuery) {
-            try {
-                //connection.setAutoCommit(false);
-                Statement st = connection.createStatement();
-                //st.setFetchSize(100000000);
-                this.resultSet = st.executeQuery(sqlQuery);
-            } catch (SQLException e) {
-                this.close();
-                throw new RheemException("Could not execute SQL.", e);
-            }
-            this.moveToNext();
-        }
-
-        /**
-         * Moves this instance to the next {@link Record}.
-         */
-        private void moveToNext() {
-            try {
-                if (this.resultSet == null || !this.resultSet.next()) {
-                    this.next = null;
-                    this.close();
-                } else {
-                    final int recordWidth = this.resultSet.getMetaData().getColumnCount();
-                    Object[] values = new Object[recordWidth];
-                    for (int i = 0; i < recordWidth; i++) {
-                        values[i] = this.resultSet.getObject(i + 1);
-                    }
-                    this.next = new Record(values);
-                }
-            } catch (SQLException e) {
-                this.next = null;
-                this.close();
-                throw new RheemException("Exception while iterating the result set.", e);
-            }
-        }
-
-        @Override
-        public boolean hasNext() {
-            return this.next != null;
-        }
-
-        @Override
-        public Record next() {
-            Record curNext = this.next;
-            this.moveToNext();
-            return curNext;
-        }
-
-        @Override
-        public void close() {
-            if (this.resultSet != null) {
-                try {
-                    this.resultSet.close();
-                } catch (Throwable t) {
-                    LoggerFactory.getLogger(this.getClass()).error("Could not close result set.", t);
-                } finally {
-                    this.resultSet = null;
-                }
-            }
-        }
-    }
-
     @Override
     public JSONObject toJson() {
         return new JSONObject().put("platform", this.jdbcPlatform.getClass().getCanonicalName());
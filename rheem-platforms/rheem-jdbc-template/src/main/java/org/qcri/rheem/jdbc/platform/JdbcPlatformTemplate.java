@@ -11,8 +11,16 @@ import org.qcri.rheem.core.util.ReflectionUtils;
 import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
 import org.qcri.rheem.jdbc.execution.DatabaseDescriptor;
 import org.qcri.rheem.jdbc.execution.JdbcExecutor;
+import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * {@link Platform} implementation for a JDBC-accessible database.
@@ -29,6 +37,18 @@ public abstract class JdbcPlatformTemplate extends Platform {
 
     public final String jdbcPasswordProperty = String.format("rheem.%s.jdbc.password", this.getPlatformId());
 
+    public final String jdbcFetchSizeProperty = String.format("rheem.%s.jdbc.fetch-size", this.getPlatformId());
+
+    public final String jdbcPoolSizeProperty = String.format("rheem.%s.jdbc.pool.max-idle", this.getPlatformId());
+
+    public final String jdbcParallelReadsProperty = String.format("rheem.%s.jdbc.parallel-reads", this.getPlatformId());
+
+    /**
+     * Configures the column to split tables by for parallel reads. Append {@code .<table name>} to configure it for
+     * a single table; the key without table name serves as the default for all tables.
+     */
+    public final String jdbcPartitionColumnProperty = String.format("rheem.%s.jdbc.partition-column", this.getPlatformId());
+
     private String getDefaultConfigurationFile() {
         return String.format("rheem-%s-defaults.properties", this.getPlatformId());
     }
@@ -103,6 +123,16 @@ public abstract class JdbcPlatformTemplate extends Platform {
         return this.sqlQueryChannelDescriptor;
     }
 
+    /**
+     * Provides a clause for global aggregates, i.e., those without a {@code GROUP BY} clause, that suppresses their
+     * result row if there are no rows to aggregate.
+     *
+     * @return the clause
+     */
+    public String getNonEmptyAggregateClause() {
+        return "HAVING COUNT(*) > 0";
+    }
+
     /**
      * Creates a new {@link DatabaseDescriptor} for this instance and the given {@link Configuration}.
      *
@@ -114,7 +144,105 @@ public abstract class JdbcPlatformTemplate extends Platform {
                 configuration.getStringProperty(this.jdbcUrlProperty),
                 configuration.getStringProperty(this.jdbcUserProperty, null),
                 configuration.getStringProperty(this.jdbcPasswordProperty, null),
-                this.getJdbcDriverClassName()
+                this.getJdbcDriverClassName(),
+                (int) configuration.getLongProperty(this.jdbcPoolSizeProperty, DatabaseDescriptor.DEFAULT_MAX_IDLE_CONNECTIONS)
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Determines the column to split a table by for parallel reads.
+     *
+     * @param tableName     the name of the table
+     * @param configuration provides the {@link #jdbcPartitionColumnProperty} for the table or for all tables
+     * @return the name of the column or {@code null} if none is configured
+     */
+    public String getPartitionColumn(String tableName, Configuration configuration) {
+        return configuration.getStringProperty(
+                String.format("%s.%s", this.jdbcPartitionColumnProperty, tableName),
+                configuration.getStringProperty(this.jdbcPartitionColumnProperty, null)
+        );
+    }
+
+    /**
+     * Creates predicates that split the rows of a table into disjoint ranges, so that these can be read in parallel.
+     * This implementation splits the value range of the numeric column given by
+     * {@link #getPartitionColumn(String, Configuration)} into equi-width ranges. Rows with {@code NULL} in that column
+     * are assigned to the first range. If the table does not have that column, it is not split.
+     * <p>Note that the predicates are evaluated by separate queries, usually on separate {@link Connection}s, that
+     * do not share a snapshot of the database. Hence, the union of their results is only consistent if the table is
+     * not modified concurrently; otherwise, the splitting should not be enabled via
+     * {@link #jdbcParallelReadsProperty}.</p>
+     *
+     * @param connection    to the database
+     * @param tableName     the name of the table
+     * @param numRanges     the requested number of ranges
+     * @param configuration provides configuration information
+     * @return the predicates or an empty {@link List} if the table cannot be split
+     * @throws SQLException if the value range could not be determined
+     */
+    public List<String> createRangePredicates(Connection connection,
+                                              String tableName,
+                                              int numRanges,
+                                              Configuration configuration) throws SQLException {
+        final String column = this.getPartitionColumn(tableName, configuration);
+        if (column == null || numRanges < 2) return Collections.emptyList();
+        if (!this.hasColumn(connection, tableName, column)) {
+            LoggerFactory.getLogger(this.getClass()).info(
+                    "{} has no partition column {}; reading it with a single query.", tableName, column
+            );
+            return Collections.emptyList();
+        }
+
+        // Determine the value range of the column.
+        final long min, max;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     String.format("SELECT MIN(%s), MAX(%s) FROM %s;", column, column, tableName)
+             )) {
+            if (!resultSet.next()) return Collections.emptyList();
+            min = resultSet.getLong(1);
+            if (resultSet.wasNull()) return Collections.emptyList();
+            max = resultSet.getLong(2);
+        }
+        if (max - min + 1 < numRanges) return Collections.emptyList();
+
+        // Split the value range. The outermost ranges are left open to be robust to concurrent inserts.
+        List<String> predicates = new ArrayList<>(numRanges);
+        long lowerBound = min;
+        for (int i = 1; i <= numRanges; i++) {
+            final long upperBound = min + (long) ((max - min + 1d) * i / numRanges);
+            if (i == 1) {
+                predicates.add(String.format("%s < %d OR %s IS NULL", column, upperBound, column));
+            } else if (i == numRanges) {
+                predicates.add(String.format("%s >= %d", column, lowerBound));
+            } else {
+                predicates.add(String.format("%s >= %d AND %s < %d", column, lowerBound, column, upperBound));
+            }
+            lowerBound = upperBound;
+        }
+        return predicates;
+    }
+
+    /**
+     * Tells whether a table has a certain column. Other than via the {@link java.sql.DatabaseMetaData}, this also
+     * works for pseudo-columns, such as {@code rowid} in SQLite.
+     *
+     * @param connection to the database
+     * @param tableName  the name of the table
+     * @param column     the name of the column
+     * @return whether the column exists
+     * @throws SQLException if the database could not be accessed
+     */
+    protected boolean hasColumn(Connection connection, String tableName, String column) throws SQLException {
+        final Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery(String.format("SELECT %s FROM %s WHERE 1 = 0;", column, tableName)).close();
+        } catch (SQLException e) {
+            // Some databases, e.g., PostgreSQL, reject further statements in a failed transaction.
+            if (savepoint != null) connection.rollback(savepoint);
+            return false;
+        }
+        if (savepoint != null) connection.releaseSavepoint(savepoint);
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package org.qcri.rheem.jdbc.plugin;
+
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.mapping.Mapping;
+import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
+import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
+import org.qcri.rheem.core.platform.Platform;
+import org.qcri.rheem.core.plugin.Plugin;
+import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
+import org.qcri.rheem.jdbc.operators.SqlToRddOperator;
+import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.platform.SparkPlatform;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * This {@link Plugin} provides {@link ChannelConversion}s from a {@link JdbcPlatformTemplate} to the
+ * {@link SparkPlatform}, which read the ranges of split table scans in parallel Spark partitions.
+ */
+public class JdbcSparkConversionsPlugin implements Plugin {
+
+    private final JdbcPlatformTemplate jdbcPlatform;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param jdbcPlatform from which the conversions should start
+     */
+    public JdbcSparkConversionsPlugin(JdbcPlatformTemplate jdbcPlatform) {
+        this.jdbcPlatform = jdbcPlatform;
+    }
+
+    @Override
+    public Collection<Platform> getRequiredPlatforms() {
+        return Arrays.asList(this.jdbcPlatform, SparkPlatform.getInstance());
+    }
+
+    @Override
+    public Collection<Mapping> getMappings() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Collection<ChannelConversion> getChannelConversions() {
+        return Collections.singleton(new DefaultChannelConversion(
+                this.jdbcPlatform.getSqlQueryChannelDescriptor(),
+                RddChannel.UNCACHED_DESCRIPTOR,
+                (channel, configuration) -> new SqlToRddOperator(
+                        this.jdbcPlatform, SqlQueryChannel.getRecordDataSetType(channel)
+                ),
+                "via SqlToRddOperator"
+        ));
+    }
+
+    @Override
+    public void setProperties(Configuration configuration) {
+    }
+}
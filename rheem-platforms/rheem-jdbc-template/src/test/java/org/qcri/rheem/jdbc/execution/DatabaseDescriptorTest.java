@@ -0,0 +1,62 @@
+package org.qcri.rheem.jdbc.execution;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Test suite for {@link DatabaseDescriptor}.
+ */
+public class DatabaseDescriptorTest {
+
+    private static DatabaseDescriptor createDatabaseDescriptor(int maxIdleConnections) {
+        return new DatabaseDescriptor(
+                "jdbc:hsqldb:mem:DatabaseDescriptorTest", null, null,
+                org.hsqldb.jdbcDriver.class.getName(), maxIdleConnections
+        );
+    }
+
+    @Test
+    public void testConnectionPooling() throws SQLException {
+        final DatabaseDescriptor databaseDescriptor = createDatabaseDescriptor(1);
+        final ConnectionPool connectionPool = ConnectionPool.of(databaseDescriptor);
+        Assert.assertSame(connectionPool, ConnectionPool.of(createDatabaseDescriptor(1)));
+
+        Connection connection1 = databaseDescriptor.acquireJdbcConnection();
+        Connection connection2 = databaseDescriptor.acquireJdbcConnection();
+        final String connection1Description = connection1.toString();
+        Assert.assertNotEquals(connection1Description, connection2.toString());
+        Assert.assertEquals(0, connectionPool.getNumIdleConnections());
+
+        // A closed connection should become idle and reusable, but only up to the pool size.
+        connection1.setAutoCommit(false);
+        connection1.close();
+        Assert.assertTrue(connection1.isClosed());
+        connection2.close();
+        Assert.assertEquals(1, connectionPool.getNumIdleConnections());
+
+        Connection connection3 = databaseDescriptor.acquireJdbcConnection();
+        Assert.assertEquals(connection1Description, connection3.toString());
+        Assert.assertTrue(connection3.getAutoCommit());
+        Assert.assertEquals(0, connectionPool.getNumIdleConnections());
+        try (Statement statement = connection3.createStatement();
+             ResultSet resultSet = statement.executeQuery("VALUES (1);")) {
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(1, resultSet.getInt(1));
+        }
+        connection3.close();
+        Assert.assertEquals(1, connectionPool.getNumIdleConnections());
+    }
+
+    @Test(expected = SQLException.class)
+    public void testClosedConnectionIsUnusable() throws SQLException {
+        Connection connection = createDatabaseDescriptor(1).acquireJdbcConnection();
+        connection.close();
+        connection.createStatement();
+    }
+
+}
@@ -3,26 +3,47 @@ package org.qcri.rheem.jdbc.execution;
 import org.junit.Assert;
 import org.junit.Test;
 import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.basic.types.RecordType;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
 import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.platform.CrossPlatformExecutor;
 import org.qcri.rheem.core.profiling.NoInstrumentationStrategy;
+import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
+import org.qcri.rheem.jdbc.operators.JdbcCountOperator;
+import org.qcri.rheem.jdbc.operators.JdbcDistinctOperator;
 import org.qcri.rheem.jdbc.operators.JdbcFilterOperator;
+import org.qcri.rheem.jdbc.operators.JdbcGlobalReduceOperator;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
 import org.qcri.rheem.jdbc.operators.JdbcProjectionOperator;
+import org.qcri.rheem.jdbc.operators.JdbcReduceByOperator;
+import org.qcri.rheem.jdbc.operators.JdbcSortOperator;
 import org.qcri.rheem.jdbc.operators.JdbcTableSource;
 import org.qcri.rheem.jdbc.operators.SqlToStreamOperator;
+import org.qcri.rheem.jdbc.test.HsqldbCountOperator;
+import org.qcri.rheem.jdbc.test.HsqldbDistinctOperator;
 import org.qcri.rheem.jdbc.test.HsqldbFilterOperator;
+import org.qcri.rheem.jdbc.test.HsqldbGlobalReduceOperator;
+import org.qcri.rheem.jdbc.test.HsqldbJoinOperator;
 import org.qcri.rheem.jdbc.test.HsqldbPlatform;
 import org.qcri.rheem.jdbc.test.HsqldbProjectionOperator;
+import org.qcri.rheem.jdbc.test.HsqldbReduceByOperator;
+import org.qcri.rheem.jdbc.test.HsqldbSortOperator;
 import org.qcri.rheem.jdbc.test.HsqldbTableSource;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -222,8 +243,430 @@ public class JdbcExecutorTest {
         SqlQueryChannel.Instance sqlQueryChannelInstance =
                 (SqlQueryChannel.Instance) job.getCrossPlatformExecutor().getChannelInstance(sqlToStreamTask.getInputChannel(0));
         Assert.assertEquals(
-                "SELECT name, age FROM customer WHERE age >= 18 AND name IS NOT NULL;",
+                "SELECT name, age FROM customer WHERE (age >= 18) AND (name IS NOT NULL);",
                 sqlQueryChannelInstance.getSqlQuery()
         );
     }
+
+    @Test
+    public void testExecuteWithJoin() throws SQLException {
+        Configuration configuration = new Configuration();
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
+        SqlQueryChannel.Descriptor sqlChannelDescriptor = HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor();
+
+        ExecutionStage sqlStage = mock(ExecutionStage.class);
+
+        JdbcTableSource customerSource = new HsqldbTableSource("customer", "id", "name");
+        ExecutionTask customerSourceTask = new ExecutionTask(customerSource);
+        customerSourceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, customerSource.getOutput(0)));
+        customerSourceTask.setStage(sqlStage);
+
+        JdbcTableSource orderSource = new HsqldbTableSource("orders", "customer_id", "amount");
+        ExecutionTask orderSourceTask = new ExecutionTask(orderSource);
+        orderSourceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, orderSource.getOutput(0)));
+        orderSourceTask.setStage(sqlStage);
+
+        JdbcFilterOperator amountFilterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(
+                        (PredicateDescriptor.SerializablePredicate<Record>) record -> {
+                            throw new UnsupportedOperationException();
+                        },
+                        Record.class
+                ).withSqlImplementation("amount > 10")
+        );
+        ExecutionTask amountFilterTask = new ExecutionTask(amountFilterOperator);
+        amountFilterTask.setStage(sqlStage);
+        orderSourceTask.getOutputChannel(0).addConsumer(amountFilterTask, 0);
+        amountFilterTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, amountFilterOperator.getOutput(0)));
+
+        JdbcJoinOperator joinOperator = new HsqldbJoinOperator(
+                new ProjectionDescriptor<>(Record.class, Object.class, "id"),
+                new ProjectionDescriptor<>(Record.class, Object.class, "customer_id"),
+                DataSetType.createDefault(new RecordType("id", "name")),
+                DataSetType.createDefault(new RecordType("customer_id", "amount"))
+        );
+        ExecutionTask joinTask = new ExecutionTask(joinOperator);
+        joinTask.setStage(sqlStage);
+        customerSourceTask.getOutputChannel(0).addConsumer(joinTask, 0);
+        amountFilterTask.getOutputChannel(0).addConsumer(joinTask, 1);
+        joinTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, joinOperator.getOutput(0)));
+
+        when(sqlStage.getStartTasks()).thenReturn(new HashSet<>(Arrays.asList(customerSourceTask, orderSourceTask)));
+        when(sqlStage.getTerminalTasks()).thenReturn(Collections.singleton(joinTask));
+
+        ExecutionStage nextStage = mock(ExecutionStage.class);
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        ExecutionTask sqlToStreamTask = new ExecutionTask(sqlToStreamOperator);
+        joinTask.getOutputChannel(0).addConsumer(sqlToStreamTask, 0);
+        sqlToStreamTask.setStage(nextStage);
+
+        JdbcExecutor executor = new JdbcExecutor(HsqldbPlatform.getInstance(), job);
+        executor.execute(sqlStage, new DefaultOptimizationContext(job), job.getCrossPlatformExecutor());
+
+        SqlQueryChannel.Instance sqlQueryChannelInstance =
+                (SqlQueryChannel.Instance) job.getCrossPlatformExecutor().getChannelInstance(sqlToStreamTask.getInputChannel(0));
+        Assert.assertEquals(
+                "SELECT l.id AS l_id, l.name AS l_name, r.customer_id AS r_customer_id, r.amount AS r_amount " +
+                        "FROM customer AS l JOIN (SELECT * FROM orders WHERE amount > 10) AS r ON l.id = r.customer_id;",
+                sqlQueryChannelInstance.getSqlQuery()
+        );
+    }
+
+    @Test
+    public void testExecuteWithJoinOnSharedColumnNamesAndSort() throws SQLException {
+        Configuration configuration = new Configuration();
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
+        SqlQueryChannel.Descriptor sqlChannelDescriptor = HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor();
+
+        // Create two test tables that share their column names.
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testJoinOnSharedColumnNames1 (id INT, name VARCHAR(6));");
+            statement.execute("INSERT INTO testJoinOnSharedColumnNames1 VALUES (1, 'a'), (2, 'b'), (3, 'c');");
+            statement.execute("CREATE TABLE testJoinOnSharedColumnNames2 (id INT, name VARCHAR(6));");
+            statement.execute("INSERT INTO testJoinOnSharedColumnNames2 VALUES (3, 'z'), (1, 'y'), (4, 'x');");
+        }
+
+        ExecutionStage sqlStage = mock(ExecutionStage.class);
+
+        JdbcTableSource source1 = new HsqldbTableSource("testJoinOnSharedColumnNames1", "id", "name");
+        ExecutionTask sourceTask1 = new ExecutionTask(source1);
+        sourceTask1.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, source1.getOutput(0)));
+        sourceTask1.setStage(sqlStage);
+
+        JdbcTableSource source2 = new HsqldbTableSource("testJoinOnSharedColumnNames2", "id", "name");
+        ExecutionTask sourceTask2 = new ExecutionTask(source2);
+        sourceTask2.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, source2.getOutput(0)));
+        sourceTask2.setStage(sqlStage);
+
+        JdbcJoinOperator joinOperator = new HsqldbJoinOperator(
+                new ProjectionDescriptor<>(Record.class, Object.class, "id"),
+                new ProjectionDescriptor<>(Record.class, Object.class, "id"),
+                DataSetType.createDefault(new RecordType("id", "name")),
+                DataSetType.createDefault(new RecordType("id", "name"))
+        );
+        ExecutionTask joinTask = new ExecutionTask(joinOperator);
+        joinTask.setStage(sqlStage);
+        sourceTask1.getOutputChannel(0).addConsumer(joinTask, 0);
+        sourceTask2.getOutputChannel(0).addConsumer(joinTask, 1);
+        joinTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, joinOperator.getOutput(0)));
+
+        JdbcSortOperator sortOperator = new HsqldbSortOperator(
+                new ProjectionDescriptor<>(
+                        Record.class, Object.class, JdbcJoinOperator.getColumnAlias(JdbcJoinOperator.INPUT1_ALIAS, "name")
+                ),
+                DataSetType.createDefault(Record.class)
+        );
+        ExecutionTask sortTask = new ExecutionTask(sortOperator);
+        sortTask.setStage(sqlStage);
+        joinTask.getOutputChannel(0).addConsumer(sortTask, 0);
+        sortTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, sortOperator.getOutput(0)));
+
+        when(sqlStage.getStartTasks()).thenReturn(new HashSet<>(Arrays.asList(sourceTask1, sourceTask2)));
+        when(sqlStage.getTerminalTasks()).thenReturn(Collections.singleton(sortTask));
+
+        ExecutionStage nextStage = mock(ExecutionStage.class);
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        ExecutionTask sqlToStreamTask = new ExecutionTask(sqlToStreamOperator);
+        sortTask.getOutputChannel(0).addConsumer(sqlToStreamTask, 0);
+        sqlToStreamTask.setStage(nextStage);
+
+        JdbcExecutor executor = new JdbcExecutor(HsqldbPlatform.getInstance(), job);
+        executor.execute(sqlStage, new DefaultOptimizationContext(job), job.getCrossPlatformExecutor());
+        executor.dispose();
+
+        // The joined columns must be unambiguous for the database to accept the ORDER BY clause and the subquery.
+        SqlQueryChannel.Instance sqlQueryChannelInstance =
+                (SqlQueryChannel.Instance) job.getCrossPlatformExecutor().getChannelInstance(sqlToStreamTask.getInputChannel(0));
+        final String sqlQuery = sqlQueryChannelInstance.getSqlQuery();
+        Assert.assertEquals(
+                "SELECT l.id AS l_id, l.name AS l_name, r.id AS r_id, r.name AS r_name " +
+                        "FROM testJoinOnSharedColumnNames1 AS l JOIN testJoinOnSharedColumnNames2 AS r ON l.id = r.id " +
+                        "ORDER BY r_name;",
+                sqlQuery
+        );
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection();
+             Statement statement = jdbcConnection.createStatement()) {
+            ResultSet resultSet = statement.executeQuery(sqlQuery);
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(1, resultSet.getInt("l_id"));
+            Assert.assertEquals("y", resultSet.getString("r_name"));
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(3, resultSet.getInt("l_id"));
+            Assert.assertEquals("z", resultSet.getString("r_name"));
+            Assert.assertFalse(resultSet.next());
+
+            resultSet = statement.executeQuery(
+                    "SELECT COUNT(*) FROM (" + sqlQuery.substring(0, sqlQuery.length() - 1) + ") AS t;"
+            );
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(2, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    public void testExecuteWithAggregationAndSort() throws SQLException {
+        Configuration configuration = new Configuration();
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
+        SqlQueryChannel.Descriptor sqlChannelDescriptor = HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor();
+
+        ExecutionStage sqlStage = mock(ExecutionStage.class);
+
+        JdbcTableSource tableSource = new HsqldbTableSource("orders");
+        ExecutionTask tableSourceTask = new ExecutionTask(tableSource);
+        tableSourceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, tableSource.getOutput(0)));
+        tableSourceTask.setStage(sqlStage);
+
+        JdbcReduceByOperator reduceByOperator = new HsqldbReduceByOperator(
+                new ProjectionDescriptor<>(Record.class, Object.class, "customer_id"),
+                new ReduceDescriptor<>(
+                        (record1, record2) -> {
+                            throw new UnsupportedOperationException();
+                        },
+                        Record.class
+                ).withSqlImplementation("customer_id, SUM(amount) AS amount"),
+                DataSetType.createDefault(Record.class)
+        );
+        ExecutionTask reduceByTask = new ExecutionTask(reduceByOperator);
+        reduceByTask.setStage(sqlStage);
+        tableSourceTask.getOutputChannel(0).addConsumer(reduceByTask, 0);
+        reduceByTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, reduceByOperator.getOutput(0)));
+
+        JdbcSortOperator sortOperator = new HsqldbSortOperator(
+                new ProjectionDescriptor<>(Record.class, Object.class, "amount"),
+                DataSetType.createDefault(Record.class)
+        );
+        ExecutionTask sortTask = new ExecutionTask(sortOperator);
+        sortTask.setStage(sqlStage);
+        reduceByTask.getOutputChannel(0).addConsumer(sortTask, 0);
+        sortTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, sortOperator.getOutput(0)));
+
+        JdbcFilterOperator amountFilterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(
+                        (PredicateDescriptor.SerializablePredicate<Record>) record -> {
+                            throw new UnsupportedOperationException();
+                        },
+                        Record.class
+                ).withSqlImplementation("amount > 100")
+        );
+        ExecutionTask amountFilterTask = new ExecutionTask(amountFilterOperator);
+        amountFilterTask.setStage(sqlStage);
+        sortTask.getOutputChannel(0).addConsumer(amountFilterTask, 0);
+        amountFilterTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, amountFilterOperator.getOutput(0)));
+
+        when(sqlStage.getStartTasks()).thenReturn(Collections.singleton(tableSourceTask));
+        when(sqlStage.getTerminalTasks()).thenReturn(Collections.singleton(amountFilterTask));
+
+        ExecutionStage nextStage = mock(ExecutionStage.class);
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        ExecutionTask sqlToStreamTask = new ExecutionTask(sqlToStreamOperator);
+        amountFilterTask.getOutputChannel(0).addConsumer(sqlToStreamTask, 0);
+        sqlToStreamTask.setStage(nextStage);
+
+        JdbcExecutor executor = new JdbcExecutor(HsqldbPlatform.getInstance(), job);
+        executor.execute(sqlStage, new DefaultOptimizationContext(job), job.getCrossPlatformExecutor());
+
+        // The filter on the aggregates requires a subquery, which should not swallow the sort order.
+        SqlQueryChannel.Instance sqlQueryChannelInstance =
+                (SqlQueryChannel.Instance) job.getCrossPlatformExecutor().getChannelInstance(sqlToStreamTask.getInputChannel(0));
+        Assert.assertEquals(
+                "SELECT * FROM (SELECT customer_id, SUM(amount) AS amount FROM orders GROUP BY customer_id) AS t1 " +
+                        "WHERE amount > 100 ORDER BY amount;",
+                sqlQueryChannelInstance.getSqlQuery()
+        );
+    }
+
+    @Test
+    public void testExecuteWithDistinctAndCount() throws SQLException {
+        Configuration configuration = new Configuration();
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
+        SqlQueryChannel.Descriptor sqlChannelDescriptor = HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor();
+
+        ExecutionStage sqlStage = mock(ExecutionStage.class);
+
+        JdbcTableSource tableSource = new HsqldbTableSource("customer");
+        ExecutionTask tableSourceTask = new ExecutionTask(tableSource);
+        tableSourceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, tableSource.getOutput(0)));
+        tableSourceTask.setStage(sqlStage);
+
+        JdbcProjectionOperator projectionOperator = new HsqldbProjectionOperator("name");
+        ExecutionTask projectionTask = new ExecutionTask(projectionOperator);
+        projectionTask.setStage(sqlStage);
+        tableSourceTask.getOutputChannel(0).addConsumer(projectionTask, 0);
+        projectionTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, projectionOperator.getOutput(0)));
+
+        JdbcDistinctOperator distinctOperator = new HsqldbDistinctOperator(DataSetType.createDefault(Record.class));
+        ExecutionTask distinctTask = new ExecutionTask(distinctOperator);
+        distinctTask.setStage(sqlStage);
+        projectionTask.getOutputChannel(0).addConsumer(distinctTask, 0);
+        distinctTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, distinctOperator.getOutput(0)));
+
+        JdbcCountOperator countOperator = new HsqldbCountOperator(DataSetType.createDefault(Record.class));
+        ExecutionTask countTask = new ExecutionTask(countOperator);
+        countTask.setStage(sqlStage);
+        distinctTask.getOutputChannel(0).addConsumer(countTask, 0);
+        countTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, countOperator.getOutput(0)));
+
+        when(sqlStage.getStartTasks()).thenReturn(Collections.singleton(tableSourceTask));
+        when(sqlStage.getTerminalTasks()).thenReturn(Collections.singleton(countTask));
+
+        ExecutionStage nextStage = mock(ExecutionStage.class);
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        ExecutionTask sqlToStreamTask = new ExecutionTask(sqlToStreamOperator);
+        countTask.getOutputChannel(0).addConsumer(sqlToStreamTask, 0);
+        sqlToStreamTask.setStage(nextStage);
+
+        JdbcExecutor executor = new JdbcExecutor(HsqldbPlatform.getInstance(), job);
+        executor.execute(sqlStage, new DefaultOptimizationContext(job), job.getCrossPlatformExecutor());
+
+        SqlQueryChannel.Instance sqlQueryChannelInstance =
+                (SqlQueryChannel.Instance) job.getCrossPlatformExecutor().getChannelInstance(sqlToStreamTask.getInputChannel(0));
+        Assert.assertEquals(
+                "SELECT COUNT(*) FROM (SELECT DISTINCT name FROM customer) AS t1;",
+                sqlQueryChannelInstance.getSqlQuery()
+        );
+    }
+
+    @Test
+    public void testExecuteWithGlobalReduceOnEmptyInput() throws SQLException {
+        Configuration configuration = new Configuration();
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
+        SqlQueryChannel.Descriptor sqlChannelDescriptor = HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor();
+
+        // Create an empty test table.
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            jdbcConnection.createStatement().execute("CREATE TABLE testExecuteWithGlobalReduceOnEmptyInput (amount INT);");
+        }
+
+        ExecutionStage sqlStage = mock(ExecutionStage.class);
+
+        JdbcTableSource tableSource = new HsqldbTableSource("testExecuteWithGlobalReduceOnEmptyInput");
+        ExecutionTask tableSourceTask = new ExecutionTask(tableSource);
+        tableSourceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, tableSource.getOutput(0)));
+        tableSourceTask.setStage(sqlStage);
+
+        JdbcGlobalReduceOperator globalReduceOperator = new HsqldbGlobalReduceOperator(
+                new ReduceDescriptor<>(
+                        (record1, record2) -> {
+                            throw new UnsupportedOperationException();
+                        },
+                        Record.class
+                ).withSqlImplementation("SUM(amount) AS amount"),
+                DataSetType.createDefault(Record.class)
+        );
+        ExecutionTask globalReduceTask = new ExecutionTask(globalReduceOperator);
+        globalReduceTask.setStage(sqlStage);
+        tableSourceTask.getOutputChannel(0).addConsumer(globalReduceTask, 0);
+        globalReduceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, globalReduceOperator.getOutput(0)));
+
+        when(sqlStage.getStartTasks()).thenReturn(Collections.singleton(tableSourceTask));
+        when(sqlStage.getTerminalTasks()).thenReturn(Collections.singleton(globalReduceTask));
+
+        ExecutionStage nextStage = mock(ExecutionStage.class);
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        ExecutionTask sqlToStreamTask = new ExecutionTask(sqlToStreamOperator);
+        globalReduceTask.getOutputChannel(0).addConsumer(sqlToStreamTask, 0);
+        sqlToStreamTask.setStage(nextStage);
+
+        JdbcExecutor executor = new JdbcExecutor(HsqldbPlatform.getInstance(), job);
+        executor.execute(sqlStage, new DefaultOptimizationContext(job), job.getCrossPlatformExecutor());
+        executor.dispose();
+
+        // Other than a plain SQL aggregate, the global reduce must not yield a row of NULLs.
+        SqlQueryChannel.Instance sqlQueryChannelInstance =
+                (SqlQueryChannel.Instance) job.getCrossPlatformExecutor().getChannelInstance(sqlToStreamTask.getInputChannel(0));
+        final String sqlQuery = sqlQueryChannelInstance.getSqlQuery();
+        Assert.assertEquals(
+                "SELECT SUM(amount) AS amount FROM testExecuteWithGlobalReduceOnEmptyInput HAVING COUNT(*) > 0;",
+                sqlQuery
+        );
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            Assert.assertFalse(jdbcConnection.createStatement().executeQuery(sqlQuery).next());
+        }
+    }
+
+    @Test
+    public void testExecuteWithParallelReads() throws SQLException {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(HsqldbPlatform.getInstance().jdbcParallelReadsProperty, "3");
+        configuration.setProperty(HsqldbPlatform.getInstance().jdbcPartitionColumnProperty, "id");
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
+        SqlQueryChannel.Descriptor sqlChannelDescriptor = HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor();
+
+        // Create some test data.
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testExecuteWithParallelReads (id INT, name VARCHAR(6));");
+            for (int id = 0; id < 10; id++) {
+                statement.execute(String.format("INSERT INTO testExecuteWithParallelReads VALUES (%d, 'x');", id));
+            }
+        }
+
+        ExecutionStage sqlStage = mock(ExecutionStage.class);
+
+        JdbcTableSource tableSource = new HsqldbTableSource("testExecuteWithParallelReads");
+        ExecutionTask tableSourceTask = new ExecutionTask(tableSource);
+        tableSourceTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, tableSource.getOutput(0)));
+        tableSourceTask.setStage(sqlStage);
+
+        JdbcFilterOperator idFilterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(
+                        (PredicateDescriptor.SerializablePredicate<Record>) record -> {
+                            throw new UnsupportedOperationException();
+                        },
+                        Record.class
+                ).withSqlImplementation("id <> 5")
+        );
+        ExecutionTask idFilterTask = new ExecutionTask(idFilterOperator);
+        idFilterTask.setStage(sqlStage);
+        tableSourceTask.getOutputChannel(0).addConsumer(idFilterTask, 0);
+        idFilterTask.setOutputChannel(0, new SqlQueryChannel(sqlChannelDescriptor, idFilterOperator.getOutput(0)));
+
+        when(sqlStage.getStartTasks()).thenReturn(Collections.singleton(tableSourceTask));
+        when(sqlStage.getTerminalTasks()).thenReturn(Collections.singleton(idFilterTask));
+
+        ExecutionStage nextStage = mock(ExecutionStage.class);
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        ExecutionTask sqlToStreamTask = new ExecutionTask(sqlToStreamOperator);
+        idFilterTask.getOutputChannel(0).addConsumer(sqlToStreamTask, 0);
+        sqlToStreamTask.setStage(nextStage);
+
+        JdbcExecutor executor = new JdbcExecutor(HsqldbPlatform.getInstance(), job);
+        executor.execute(sqlStage, new DefaultOptimizationContext(job), job.getCrossPlatformExecutor());
+        executor.dispose();
+
+        SqlQueryChannel.Instance sqlQueryChannelInstance =
+                (SqlQueryChannel.Instance) job.getCrossPlatformExecutor().getChannelInstance(sqlToStreamTask.getInputChannel(0));
+        Assert.assertEquals(
+                "SELECT * FROM testExecuteWithParallelReads WHERE id <> 5;",
+                sqlQueryChannelInstance.getSqlQuery()
+        );
+        Assert.assertEquals(
+                Arrays.asList(
+                        "SELECT * FROM testExecuteWithParallelReads WHERE (id <> 5) AND (id < 3 OR id IS NULL);",
+                        "SELECT * FROM testExecuteWithParallelReads WHERE (id <> 5) AND (id >= 3 AND id < 6);",
+                        "SELECT * FROM testExecuteWithParallelReads WHERE (id <> 5) AND (id >= 6);"
+                ),
+                sqlQueryChannelInstance.getPartitionQueries()
+        );
+    }
+
 }
@@ -13,6 +13,9 @@ import org.qcri.rheem.core.profiling.FullInstrumentationStrategy;
 import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.operators.JavaExecutionOperator;
 import org.qcri.rheem.java.platform.JavaPlatform;
+import org.qcri.rheem.spark.execution.SparkExecutor;
+import org.qcri.rheem.spark.operators.SparkExecutionOperator;
+import org.qcri.rheem.spark.platform.SparkPlatform;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -34,7 +37,11 @@ public class OperatorTestBase {
         return new JavaExecutor(JavaPlatform.getInstance(), job);
     }
 
-    private static Job createJob() {
+    protected static SparkExecutor createSparkExecutor() {
+        return (SparkExecutor) SparkPlatform.getInstance().getExecutorFactory().create(createJob());
+    }
+
+    protected static Job createJob() {
         final Job job = mock(Job.class);
         when(job.getConfiguration()).thenReturn(configuration);
         when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new FullInstrumentationStrategy()));
@@ -52,4 +59,11 @@ public class OperatorTestBase {
         operator.evaluate(inputs, outputs, createJavaExecutor(), createOperatorContext(operator));
     }
 
+    protected static void evaluate(SparkExecutionOperator operator,
+                                   ChannelInstance[] inputs,
+                                   ChannelInstance[] outputs,
+                                   SparkExecutor sparkExecutor) {
+        operator.evaluate(inputs, outputs, sparkExecutor, createOperatorContext(operator));
+    }
+
 }
@@ -0,0 +1,153 @@
+package org.qcri.rheem.jdbc.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
+import org.qcri.rheem.jdbc.test.HsqldbFilterOperator;
+import org.qcri.rheem.jdbc.test.HsqldbJoinOperator;
+import org.qcri.rheem.jdbc.test.HsqldbPlatform;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.execution.SparkExecutor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test suite for {@link SqlToRddOperator}.
+ */
+public class SqlToRddOperatorTest extends OperatorTestBase {
+
+    @Test
+    public void testPartitionedReadWithHsqldb() throws SQLException {
+        // Create some test data.
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testPartitionedReadWithSpark (a INT);");
+            for (int a = 0; a < 100; a++) {
+                statement.execute(String.format("INSERT INTO testPartitionedReadWithSpark VALUES (%d);", a));
+            }
+        }
+
+        final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(x -> false, Record.class)
+        );
+        final SparkExecutor sparkExecutor = createSparkExecutor();
+        try {
+            SqlQueryChannel.Instance sqlQueryChannelInstance = this.createSqlQueryChannelInstance(filterOperator);
+            sqlQueryChannelInstance.setSqlQuery("SELECT * FROM testPartitionedReadWithSpark;");
+            sqlQueryChannelInstance.setPartitionQueries(Arrays.asList(
+                    "SELECT * FROM testPartitionedReadWithSpark WHERE a < 30;",
+                    "SELECT * FROM testPartitionedReadWithSpark WHERE a >= 30 AND a < 60;",
+                    "SELECT * FROM testPartitionedReadWithSpark WHERE a >= 60;"
+            ));
+            RddChannel.Instance rddChannelInstance = this.createRddChannelInstance(sparkExecutor);
+
+            evaluate(
+                    new SqlToRddOperator(HsqldbPlatform.getInstance()),
+                    new ChannelInstance[]{sqlQueryChannelInstance},
+                    new ChannelInstance[]{rddChannelInstance},
+                    sparkExecutor
+            );
+
+            // Each range should be read by its own partition.
+            final List<List<Record>> partitions = rddChannelInstance.<Record>provideRdd().glom().collect();
+            Assert.assertEquals(3, partitions.size());
+            Assert.assertEquals(
+                    IntStream.range(0, 30).mapToObj(Record::new).collect(Collectors.toList()),
+                    partitions.get(0)
+            );
+            Set<Record> output = partitions.stream().flatMap(List::stream).collect(Collectors.toSet());
+            Set<Record> expected = IntStream.range(0, 100).mapToObj(Record::new).collect(Collectors.toSet());
+            Assert.assertEquals(expected, output);
+        } finally {
+            sparkExecutor.dispose();
+        }
+    }
+
+    @Test
+    public void testJoinWithHsqldb() throws SQLException {
+        // Create some test data.
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testJoinWithSpark1 (a INT, b VARCHAR(6));");
+            statement.execute("INSERT INTO testJoinWithSpark1 VALUES (0, 'zero');");
+            statement.execute("INSERT INTO testJoinWithSpark1 VALUES (1, 'one');");
+            statement.execute("CREATE TABLE testJoinWithSpark2 (c INT);");
+            statement.execute("INSERT INTO testJoinWithSpark2 VALUES (1);");
+        }
+
+        final ExecutionOperator joinOperator = new HsqldbJoinOperator(
+                new ProjectionDescriptor<>(Record.class, Object.class, "a"),
+                new ProjectionDescriptor<>(Record.class, Object.class, "c"),
+                DataSetType.createDefault(new RecordType("a", "b")),
+                DataSetType.createDefault(new RecordType("c"))
+        );
+        final SparkExecutor sparkExecutor = createSparkExecutor();
+        try {
+            SqlQueryChannel.Instance sqlQueryChannelInstance = this.createSqlQueryChannelInstance(joinOperator);
+            sqlQueryChannelInstance.setSqlQuery(
+                    "SELECT l.a, l.b, r.c FROM testJoinWithSpark1 AS l JOIN testJoinWithSpark2 AS r ON l.a = r.c;"
+            );
+            RddChannel.Instance rddChannelInstance = this.createRddChannelInstance(sparkExecutor);
+
+            evaluate(
+                    new SqlToRddOperator(HsqldbPlatform.getInstance()),
+                    new ChannelInstance[]{sqlQueryChannelInstance},
+                    new ChannelInstance[]{rddChannelInstance},
+                    sparkExecutor
+            );
+
+            // The joined Records should be split up again.
+            Assert.assertEquals(
+                    Collections.singletonList(new Tuple2<>(new Record(1, "one"), new Record(1))),
+                    rddChannelInstance.provideRdd().collect()
+            );
+        } finally {
+            sparkExecutor.dispose();
+        }
+    }
+
+    private SqlQueryChannel.Instance createSqlQueryChannelInstance(ExecutionOperator producerOperator) {
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                producerOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                HsqldbPlatform.getInstance().createExecutor(createJob()),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        ExecutionTask producer = new ExecutionTask(producerOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+        return sqlQueryChannelInstance;
+    }
+
+    private RddChannel.Instance createRddChannelInstance(SparkExecutor sparkExecutor) {
+        return new RddChannel(RddChannel.UNCACHED_DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                sparkExecutor,
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+    }
+
+}
@@ -3,8 +3,12 @@ package org.qcri.rheem.jdbc.operators;
 import org.junit.Assert;
 import org.junit.Test;
 import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.basic.types.RecordType;
 import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.function.PredicateDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
@@ -13,19 +17,24 @@ import org.qcri.rheem.core.plan.rheemplan.OutputSlot;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.CrossPlatformExecutor;
 import org.qcri.rheem.core.profiling.FullInstrumentationStrategy;
+import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.java.channels.StreamChannel;
 import org.qcri.rheem.java.execution.JavaExecutor;
 import org.qcri.rheem.java.platform.JavaPlatform;
 import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
 import org.qcri.rheem.jdbc.test.HsqldbFilterOperator;
+import org.qcri.rheem.jdbc.test.HsqldbJoinOperator;
 import org.qcri.rheem.jdbc.test.HsqldbPlatform;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -150,4 +159,349 @@ public class SqlToStreamOperatorTest extends OperatorTestBase {
         Assert.assertTrue(output.isEmpty());
     }
 
+    @Test
+    public void testTypedDecodingWithSmallFetchSize() throws SQLException {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(HsqldbPlatform.getInstance().jdbcFetchSizeProperty, "2");
+
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        CrossPlatformExecutor cpe = new CrossPlatformExecutor(job, new FullInstrumentationStrategy());
+        when(job.getCrossPlatformExecutor()).thenReturn(cpe);
+        final JavaExecutor javaExecutor = new JavaExecutor(JavaPlatform.getInstance(), job);
+
+        HsqldbPlatform hsqldbPlatform = new HsqldbPlatform();
+
+        // Create some test data.
+        try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testTypedDecoding (a INT, b BIGINT, c DOUBLE, d VARCHAR(6));");
+            statement.execute("INSERT INTO testTypedDecoding VALUES (0, 10000000000, 0.5, 'zero');");
+            statement.execute("INSERT INTO testTypedDecoding VALUES (1, NULL, NULL, NULL);");
+            statement.execute("INSERT INTO testTypedDecoding VALUES (2, 2, 2.5, 'two');");
+        }
+
+        final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(x -> false, Record.class)
+        );
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                filterOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                hsqldbPlatform.createExecutor(job),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        sqlQueryChannelInstance.setSqlQuery("SELECT * FROM testTypedDecoding ORDER BY a;");
+        ExecutionTask producer = new ExecutionTask(filterOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+
+        StreamChannel.Instance streamChannelInstance =
+                new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                        javaExecutor,
+                        mock(OptimizationContext.OperatorContext.class),
+                        0
+                );
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(
+                HsqldbPlatform.getInstance(),
+                DataSetType.createDefault(new RecordType("a", "b", "c", "d"))
+        );
+        evaluate(
+                sqlToStreamOperator,
+                new ChannelInstance[]{sqlQueryChannelInstance},
+                new ChannelInstance[]{streamChannelInstance}
+        );
+
+        List<Record> output = streamChannelInstance.<Record>provideStream().collect(Collectors.toList());
+        List<Record> expected = Arrays.asList(
+                new Record(0, 10000000000L, 0.5d, "zero"),
+                new Record(1, null, null, null),
+                new Record(2, 2L, 2.5d, "two")
+        );
+
+        Assert.assertEquals(expected, output);
+    }
+
+    @Test
+    public void testReleaseOfAbandonedResultSetOnDispose() throws SQLException {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(HsqldbPlatform.getInstance().jdbcFetchSizeProperty, "2");
+
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        CrossPlatformExecutor cpe = new CrossPlatformExecutor(job, new FullInstrumentationStrategy());
+        when(job.getCrossPlatformExecutor()).thenReturn(cpe);
+        final JavaExecutor javaExecutor = new JavaExecutor(JavaPlatform.getInstance(), job);
+
+        HsqldbPlatform hsqldbPlatform = new HsqldbPlatform();
+
+        // Create some test data.
+        try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testReleaseOnDispose (a INT);");
+            for (int i = 0; i < 10; i++) {
+                statement.execute(String.format("INSERT INTO testReleaseOnDispose VALUES (%d);", i));
+            }
+        }
+
+        final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(x -> false, Record.class)
+        );
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                filterOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                hsqldbPlatform.createExecutor(job),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        sqlQueryChannelInstance.setSqlQuery("SELECT * FROM testReleaseOnDispose ORDER BY a;");
+        ExecutionTask producer = new ExecutionTask(filterOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+
+        StreamChannel.Instance streamChannelInstance =
+                new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                        javaExecutor,
+                        mock(OptimizationContext.OperatorContext.class),
+                        0
+                );
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        sqlToStreamOperator.evaluate(
+                new ChannelInstance[]{sqlQueryChannelInstance},
+                new ChannelInstance[]{streamChannelInstance},
+                javaExecutor,
+                createOperatorContext(sqlToStreamOperator)
+        );
+
+        // Read only the first Record, i.e., abandon the Stream without closing it.
+        Iterator<Record> iterator = streamChannelInstance.<Record>provideStream().iterator();
+        Assert.assertEquals(new Record(0), iterator.next());
+
+        // Disposing the executor should release the result set, so that only the already read-ahead Record remains.
+        javaExecutor.dispose();
+        int numRemainingRecords = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            numRemainingRecords++;
+        }
+        Assert.assertTrue(numRemainingRecords <= 1);
+    }
+
+    @Test
+    public void testPartitionedReadWithHsqldb() throws SQLException {
+        Configuration configuration = new Configuration();
+        configuration.setProperty("rheem.java.parallel", "true");
+
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        CrossPlatformExecutor cpe = new CrossPlatformExecutor(job, new FullInstrumentationStrategy());
+        when(job.getCrossPlatformExecutor()).thenReturn(cpe);
+        final JavaExecutor javaExecutor = new JavaExecutor(JavaPlatform.getInstance(), job);
+
+        HsqldbPlatform hsqldbPlatform = new HsqldbPlatform();
+
+        // Create some test data.
+        try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testPartitionedReadWithHsqldb (a INT);");
+            for (int a = 0; a < 100; a++) {
+                statement.execute(String.format("INSERT INTO testPartitionedReadWithHsqldb VALUES (%d);", a));
+            }
+        }
+
+        final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(x -> false, Record.class)
+        );
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                filterOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                hsqldbPlatform.createExecutor(job),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        sqlQueryChannelInstance.setSqlQuery("SELECT * FROM testPartitionedReadWithHsqldb;");
+        sqlQueryChannelInstance.setPartitionQueries(Arrays.asList(
+                "SELECT * FROM testPartitionedReadWithHsqldb WHERE a < 30;",
+                "SELECT * FROM testPartitionedReadWithHsqldb WHERE a >= 30 AND a < 60;",
+                "SELECT * FROM testPartitionedReadWithHsqldb WHERE a >= 60;"
+        ));
+        ExecutionTask producer = new ExecutionTask(filterOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+
+        StreamChannel.Instance streamChannelInstance =
+                new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                        javaExecutor,
+                        mock(OptimizationContext.OperatorContext.class),
+                        0
+                );
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        evaluate(
+                sqlToStreamOperator,
+                new ChannelInstance[]{sqlQueryChannelInstance},
+                new ChannelInstance[]{streamChannelInstance}
+        );
+
+        Set<Record> output = streamChannelInstance.<Record>provideStream().collect(Collectors.toSet());
+        Set<Record> expected = IntStream.range(0, 100).mapToObj(Record::new).collect(Collectors.toSet());
+        Assert.assertEquals(expected, output);
+    }
+
+    @Test
+    public void testJoinWithHsqldb() throws SQLException {
+        Configuration configuration = new Configuration();
+
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        CrossPlatformExecutor cpe = new CrossPlatformExecutor(job, new FullInstrumentationStrategy());
+        when(job.getCrossPlatformExecutor()).thenReturn(cpe);
+        final JavaExecutor javaExecutor = new JavaExecutor(JavaPlatform.getInstance(), job);
+
+        HsqldbPlatform hsqldbPlatform = new HsqldbPlatform();
+
+        // Create some test data.
+        try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testJoinWithHsqldb1 (a INT, b VARCHAR(6));");
+            statement.execute("INSERT INTO testJoinWithHsqldb1 VALUES (0, 'zero');");
+            statement.execute("INSERT INTO testJoinWithHsqldb1 VALUES (1, 'one');");
+            statement.execute("CREATE TABLE testJoinWithHsqldb2 (c INT);");
+            statement.execute("INSERT INTO testJoinWithHsqldb2 VALUES (1);");
+        }
+
+        final ExecutionOperator joinOperator = new HsqldbJoinOperator(
+                new ProjectionDescriptor<>(Record.class, Object.class, "a"),
+                new ProjectionDescriptor<>(Record.class, Object.class, "c"),
+                DataSetType.createDefault(new RecordType("a", "b")),
+                DataSetType.createDefault(new RecordType("c"))
+        );
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                joinOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                hsqldbPlatform.createExecutor(job),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        sqlQueryChannelInstance.setSqlQuery(
+                "SELECT l.a, l.b, r.c FROM testJoinWithHsqldb1 AS l JOIN testJoinWithHsqldb2 AS r ON l.a = r.c;"
+        );
+        ExecutionTask producer = new ExecutionTask(joinOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+
+        StreamChannel.Instance streamChannelInstance =
+                new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                        javaExecutor,
+                        mock(OptimizationContext.OperatorContext.class),
+                        0
+                );
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        evaluate(
+                sqlToStreamOperator,
+                new ChannelInstance[]{sqlQueryChannelInstance},
+                new ChannelInstance[]{streamChannelInstance}
+        );
+
+        // The joined Records should be split up again.
+        List<Tuple2<Record, Record>> output = streamChannelInstance.<Tuple2<Record, Record>>provideStream()
+                .collect(Collectors.toList());
+        List<Tuple2<Record, Record>> expected = Arrays.asList(
+                new Tuple2<>(new Record(1, "one"), new Record(1))
+        );
+
+        Assert.assertEquals(expected, output);
+    }
+
+    @Test
+    public void testDecodingAccordingToRecordType() throws SQLException {
+        // Create some test data.
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testDecodingAccordingToRecordType (a INT, b DOUBLE, c VARCHAR(6));");
+            statement.execute("INSERT INTO testDecodingAccordingToRecordType VALUES (0, 0.5, 'zero');");
+            statement.execute("INSERT INTO testDecodingAccordingToRecordType VALUES (1, NULL, NULL);");
+        }
+
+        // The RecordType rather than the database decides upon the Java types.
+        final RecordType recordType = new RecordType(
+                new String[]{"a", "b", "c"},
+                new Class<?>[]{Long.class, Float.class, String.class}
+        );
+        final JavaExecutor javaExecutor = createJavaExecutor();
+        StreamChannel.Instance streamChannelInstance = this.createStreamChannelInstance(javaExecutor);
+        evaluate(
+                new SqlToStreamOperator(HsqldbPlatform.getInstance(), DataSetType.createDefault(recordType)),
+                new ChannelInstance[]{this.createSqlQueryChannelInstance(
+                        "SELECT * FROM testDecodingAccordingToRecordType ORDER BY a;"
+                )},
+                new ChannelInstance[]{streamChannelInstance}
+        );
+
+        List<Record> output = streamChannelInstance.<Record>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(
+                Arrays.asList(new Record(0L, 0.5f, "zero"), new Record(1L, null, null)),
+                output
+        );
+    }
+
+    @Test(expected = RheemException.class)
+    public void testRecordTypeMismatchIsDetectedBeforeReading() throws SQLException {
+        // Create some test data.
+        try (Connection jdbcConnection = HsqldbPlatform.getInstance().createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testRecordTypeMismatch (a INT, b VARCHAR(6));");
+            statement.execute("INSERT INTO testRecordTypeMismatch VALUES (0, '0');");
+        }
+
+        final RecordType recordType = new RecordType(
+                new String[]{"a", "b"},
+                new Class<?>[]{Integer.class, Integer.class}
+        );
+        final JavaExecutor javaExecutor = createJavaExecutor();
+        evaluate(
+                new SqlToStreamOperator(HsqldbPlatform.getInstance(), DataSetType.createDefault(recordType)),
+                new ChannelInstance[]{this.createSqlQueryChannelInstance("SELECT * FROM testRecordTypeMismatch;")},
+                new ChannelInstance[]{this.createStreamChannelInstance(javaExecutor)}
+        );
+    }
+
+    private SqlQueryChannel.Instance createSqlQueryChannelInstance(String sqlQuery) {
+        final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(x -> false, Record.class)
+        );
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                filterOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                HsqldbPlatform.getInstance().createExecutor(createJob()),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        sqlQueryChannelInstance.setSqlQuery(sqlQuery);
+        ExecutionTask producer = new ExecutionTask(filterOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+        return sqlQueryChannelInstance;
+    }
+
+    private StreamChannel.Instance createStreamChannelInstance(JavaExecutor javaExecutor) {
+        return new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                javaExecutor,
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+    }
+
 }
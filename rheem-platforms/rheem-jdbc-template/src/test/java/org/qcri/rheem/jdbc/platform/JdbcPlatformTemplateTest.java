@@ -0,0 +1,76 @@
+package org.qcri.rheem.jdbc.platform;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.jdbc.test.HsqldbPlatform;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test suite for {@link JdbcPlatformTemplate}.
+ */
+public class JdbcPlatformTemplateTest {
+
+    @BeforeClass
+    public static void createTables() throws SQLException {
+        try (Connection connection = HsqldbPlatform.getInstance().createDatabaseDescriptor(new Configuration()).createJdbcConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE testRangePredicates1 (id INT, name VARCHAR(6));");
+            statement.execute("CREATE TABLE testRangePredicates2 (num INT);");
+            for (int id = 0; id < 10; id++) {
+                statement.execute(String.format("INSERT INTO testRangePredicates1 VALUES (%d, 'x');", id));
+                statement.execute(String.format("INSERT INTO testRangePredicates2 VALUES (%d);", id));
+            }
+        }
+    }
+
+    @Test
+    public void testRangePredicatesWithPerTablePartitionColumns() throws SQLException {
+        final HsqldbPlatform platform = HsqldbPlatform.getInstance();
+        Configuration configuration = new Configuration();
+        configuration.setProperty(platform.jdbcPartitionColumnProperty, "id");
+        configuration.setProperty(platform.jdbcPartitionColumnProperty + ".testRangePredicates2", "num");
+
+        try (Connection connection = platform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            Assert.assertEquals(
+                    Arrays.asList("id < 5 OR id IS NULL", "id >= 5"),
+                    platform.createRangePredicates(connection, "testRangePredicates1", 2, configuration)
+            );
+            Assert.assertEquals(
+                    Arrays.asList("num < 5 OR num IS NULL", "num >= 5"),
+                    platform.createRangePredicates(connection, "testRangePredicates2", 2, configuration)
+            );
+        }
+    }
+
+    @Test
+    public void testRangePredicatesWithMissingPartitionColumn() throws SQLException {
+        final HsqldbPlatform platform = HsqldbPlatform.getInstance();
+        Configuration configuration = new Configuration();
+        configuration.setProperty(platform.jdbcPartitionColumnProperty, "id");
+
+        try (Connection connection = platform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            connection.setAutoCommit(false);
+            Assert.assertEquals(
+                    Collections.emptyList(),
+                    platform.createRangePredicates(connection, "testRangePredicates2", 2, configuration)
+            );
+
+            // The connection should still be usable.
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM testRangePredicates2;")) {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(10, resultSet.getInt(1));
+            }
+            connection.rollback();
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.qcri.rheem.jdbc.test;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcCountOperator;
+
+import java.util.List;
+
+/**
+ * Test implementation of {@link JdbcCountOperator}.
+ */
+public class HsqldbCountOperator extends JdbcCountOperator {
+
+    public HsqldbCountOperator(DataSetType<Record> type) {
+        super(type);
+    }
+
+    @Override
+    public HsqldbPlatform getPlatform() {
+        return HsqldbPlatform.getInstance();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,37 @@
+package org.qcri.rheem.jdbc.test;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcReduceByOperator;
+
+import java.util.List;
+
+/**
+ * Test implementation of {@link JdbcReduceByOperator}.
+ */
+public class HsqldbReduceByOperator extends JdbcReduceByOperator {
+
+    public HsqldbReduceByOperator(ProjectionDescriptor<Record, Object> keyDescriptor,
+                                  ReduceDescriptor<Record> reduceDescriptor,
+                                  DataSetType<Record> type) {
+        super(keyDescriptor, reduceDescriptor, type);
+    }
+
+    @Override
+    public HsqldbPlatform getPlatform() {
+        return HsqldbPlatform.getInstance();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,34 @@
+package org.qcri.rheem.jdbc.test;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.jdbc.operators.JdbcSortOperator;
+
+import java.util.List;
+
+/**
+ * Test implementation of {@link JdbcSortOperator}.
+ */
+public class HsqldbSortOperator extends JdbcSortOperator {
+
+    public HsqldbSortOperator(ProjectionDescriptor<Record, Object> keyDescriptor, DataSetType<Record> type) {
+        super(keyDescriptor, type);
+    }
+
+    @Override
+    public HsqldbPlatform getPlatform() {
+        return HsqldbPlatform.getInstance();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+}
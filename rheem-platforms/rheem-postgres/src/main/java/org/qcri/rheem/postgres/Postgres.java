@@ -1,6 +1,7 @@
 package org.qcri.rheem.postgres;
 
 
+import org.qcri.rheem.jdbc.plugin.JdbcSparkConversionsPlugin;
 import org.qcri.rheem.postgres.platform.PostgresPlatform;
 import org.qcri.rheem.postgres.plugin.PostgresConversionsPlugin;
 import org.qcri.rheem.postgres.plugin.PostgresPlugin;
@@ -14,6 +15,9 @@ public class Postgres {
 
     private final static PostgresConversionsPlugin CONVERSIONS_PLUGIN = new PostgresConversionsPlugin();
 
+    private final static JdbcSparkConversionsPlugin SPARK_CONVERSIONS_PLUGIN =
+            new JdbcSparkConversionsPlugin(PostgresPlatform.getInstance());
+
     /**
      * Retrieve the {@link PostgresPlugin}.
      *
@@ -32,6 +36,15 @@ public class Postgres {
         return CONVERSIONS_PLUGIN;
     }
 
+    /**
+     * Retrieve the {@link JdbcSparkConversionsPlugin} for the {@link PostgresPlatform}, which requires the Spark platform.
+     *
+     * @return the {@link JdbcSparkConversionsPlugin}
+     */
+    public static JdbcSparkConversionsPlugin sparkConversionsPlugin() {
+        return SPARK_CONVERSIONS_PLUGIN;
+    }
+
 
     /**
      * Retrieve the {@link PostgresPlatform}.
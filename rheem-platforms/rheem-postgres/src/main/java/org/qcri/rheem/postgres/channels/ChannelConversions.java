@@ -3,6 +3,7 @@ package org.qcri.rheem.postgres.channels;
 import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
 import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
 import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
 import org.qcri.rheem.jdbc.operators.SqlToStreamOperator;
 import org.qcri.rheem.postgres.platform.PostgresPlatform;
 
@@ -17,7 +18,10 @@ public class ChannelConversions {
     public static final ChannelConversion SQL_TO_STREAM_CONVERSION = new DefaultChannelConversion(
             PostgresPlatform.getInstance().getSqlQueryChannelDescriptor(),
             StreamChannel.DESCRIPTOR,
-            () -> new SqlToStreamOperator(PostgresPlatform.getInstance())
+            (channel, configuration) -> new SqlToStreamOperator(
+                    PostgresPlatform.getInstance(), SqlQueryChannel.getRecordDataSetType(channel)
+            ),
+            "via SqlToStreamOperator"
     );
 
     public static final Collection<ChannelConversion> ALL = Collections.singleton(
@@ -12,7 +12,13 @@ public class Mappings {
 
     public static final Collection<Mapping> ALL = Arrays.asList(
             new FilterMapping(),
-            new ProjectionMapping()
+            new ProjectionMapping(),
+            new JoinMapping(),
+            new ReduceByMapping(),
+            new GlobalReduceMapping(),
+            new SortMapping(),
+            new DistinctMapping(),
+            new CountMapping()
     );
 
 }
@@ -0,0 +1,25 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.CountOperator;
+import org.qcri.rheem.jdbc.operators.JdbcCountOperator;
+
+/**
+ * PostgreSQL implementation of the {@link CountOperator}.
+ */
+public class PostgresCountOperator extends JdbcCountOperator implements PostgresExecutionOperator {
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresCountOperator(CountOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresCountOperator createCopy() {
+        return new PostgresCountOperator(this);
+    }
+}
@@ -0,0 +1,25 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
+
+/**
+ * PostgreSQL implementation of the {@link JoinOperator}.
+ */
+public class PostgresJoinOperator extends JdbcJoinOperator implements PostgresExecutionOperator {
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresJoinOperator(JoinOperator<Record, Record, Object> that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresJoinOperator createCopy() {
+        return new PostgresJoinOperator(this);
+    }
+}
@@ -0,0 +1,25 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.jdbc.operators.JdbcReduceByOperator;
+
+/**
+ * PostgreSQL implementation of the {@link ReduceByOperator}.
+ */
+public class PostgresReduceByOperator extends JdbcReduceByOperator implements PostgresExecutionOperator {
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresReduceByOperator(ReduceByOperator<Record, Object> that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresReduceByOperator createCopy() {
+        return new PostgresReduceByOperator(this);
+    }
+}
@@ -0,0 +1,25 @@
+package org.qcri.rheem.postgres.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.SortOperator;
+import org.qcri.rheem.jdbc.operators.JdbcSortOperator;
+
+/**
+ * PostgreSQL implementation of the {@link SortOperator}.
+ */
+public class PostgresSortOperator extends JdbcSortOperator implements PostgresExecutionOperator {
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public PostgresSortOperator(SortOperator<Record, Object> that) {
+        super(that);
+    }
+
+    @Override
+    protected PostgresSortOperator createCopy() {
+        return new PostgresSortOperator(this);
+    }
+}
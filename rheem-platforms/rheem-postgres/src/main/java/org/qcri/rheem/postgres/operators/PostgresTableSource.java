@@ -1,7 +1,9 @@
 package org.qcri.rheem.postgres.operators;
 
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.basic.operators.TableSource;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.jdbc.operators.JdbcTableSource;
 
 import java.util.List;
@@ -20,6 +22,15 @@ public class PostgresTableSource extends JdbcTableSource implements PostgresExec
         super(tableName, columnNames);
     }
 
+    /**
+     * Creates a new instance.
+     *
+     * @see JdbcTableSource#JdbcTableSource(String, DataSetType)
+     */
+    public PostgresTableSource(String tableName, DataSetType<Record> type) {
+        super(tableName, type);
+    }
+
     /**
      * Copies an instance (exclusive of broadcasts).
      *
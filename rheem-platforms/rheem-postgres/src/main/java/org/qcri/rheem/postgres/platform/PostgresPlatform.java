@@ -1,8 +1,17 @@
 package org.qcri.rheem.postgres.platform;
 
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.platform.Platform;
 import org.qcri.rheem.jdbc.platform.JdbcPlatformTemplate;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * {@link Platform} implementation for SQLite3.
  */
@@ -14,7 +23,7 @@ public class PostgresPlatform extends JdbcPlatformTemplate {
 
     private static PostgresPlatform instance = null;
 
-    public static PostgresPlatform getInstance() {
+    public static synchronized PostgresPlatform getInstance() {
         if (instance == null) {
             instance = new PostgresPlatform();
         }
@@ -30,4 +39,48 @@ public class PostgresPlatform extends JdbcPlatformTemplate {
         return org.postgresql.Driver.class.getName();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>If no partition column is configured, this implementation splits the table by the pages of its rows'
+     * {@code ctid}s, which does not require any index.</p>
+     */
+    @Override
+    public List<String> createRangePredicates(Connection connection,
+                                              String tableName,
+                                              int numRanges,
+                                              Configuration configuration) throws SQLException {
+        if (this.getPartitionColumn(tableName, configuration) != null || numRanges < 2) {
+            return super.createRangePredicates(connection, tableName, numRanges, configuration);
+        }
+
+        // Determine the (estimated) number of pages of the table.
+        final long numPages;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT relpages FROM pg_class WHERE oid = to_regclass(?);"
+        )) {
+            statement.setString(1, tableName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) return Collections.emptyList();
+                numPages = resultSet.getLong(1);
+            }
+        }
+        if (numPages < numRanges) return Collections.emptyList();
+
+        // Split the pages. The outermost ranges are left open, as the page count is only an estimate.
+        List<String> predicates = new ArrayList<>(numRanges);
+        long lowerBound = 0;
+        for (int i = 1; i <= numRanges; i++) {
+            final long upperBound = numPages * i / numRanges;
+            if (i == 1) {
+                predicates.add(String.format("ctid < '(%d,0)'::tid", upperBound));
+            } else if (i == numRanges) {
+                predicates.add(String.format("ctid >= '(%d,0)'::tid", lowerBound));
+            } else {
+                predicates.add(String.format("ctid >= '(%d,0)'::tid AND ctid < '(%d,0)'::tid", lowerBound, upperBound));
+            }
+            lowerBound = upperBound;
+        }
+        return predicates;
+    }
+
 }
\ No newline at end of file
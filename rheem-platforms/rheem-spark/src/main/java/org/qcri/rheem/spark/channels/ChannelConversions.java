@@ -1,7 +1,7 @@
 package org.qcri.rheem.spark.channels;
 
 import org.qcri.rheem.basic.channels.FileChannel;
-import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.channels.TsvCodec;
 import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
 import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
 import org.qcri.rheem.core.types.DataSetType;
@@ -50,19 +50,22 @@ public class ChannelConversions {
     public static final ChannelConversion CACHED_RDD_TO_HDFS_TSV = new DefaultChannelConversion(
             RddChannel.CACHED_DESCRIPTOR,
             FileChannel.HDFS_TSV_DESCRIPTOR,
-            () -> new SparkTsvFileSink<>(DataSetType.createDefaultUnchecked(Tuple2.class))
+            (channel, configuration) -> new SparkTsvFileSink<>(TsvCodec.getDataSetType(channel)),
+            "via SparkTsvFileSink"
     );
 
     public static final ChannelConversion UNCACHED_RDD_TO_HDFS_TSV = new DefaultChannelConversion(
             RddChannel.UNCACHED_DESCRIPTOR,
             FileChannel.HDFS_TSV_DESCRIPTOR,
-            () -> new SparkTsvFileSink<>(DataSetType.createDefaultUnchecked(Tuple2.class))
+            (channel, configuration) -> new SparkTsvFileSink<>(TsvCodec.getDataSetType(channel)),
+            "via SparkTsvFileSink"
     );
 
     public static final ChannelConversion HDFS_TSV_TO_UNCACHED_RDD = new DefaultChannelConversion(
             FileChannel.HDFS_TSV_DESCRIPTOR,
             RddChannel.UNCACHED_DESCRIPTOR,
-            () -> new SparkTsvFileSource(DataSetType.createDefault(Tuple2.class))
+            (channel, configuration) -> new SparkTsvFileSource<>(null, TsvCodec.getDataSetType(channel)),
+            "via SparkTsvFileSource"
     );
 
     public static final ChannelConversion CACHED_RDD_TO_HDFS_OBJECT_FILE = new DefaultChannelConversion(
@@ -83,6 +86,24 @@ public class ChannelConversions {
             () -> new SparkObjectFileSource<>(DataSetType.createDefault(Void.class))
     );
 
+    public static final ChannelConversion CACHED_RDD_TO_HDFS_BINARY = new DefaultChannelConversion(
+            RddChannel.CACHED_DESCRIPTOR,
+            FileChannel.HDFS_BINARY_DESCRIPTOR,
+            () -> new SparkBinaryFileSink<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion UNCACHED_RDD_TO_HDFS_BINARY = new DefaultChannelConversion(
+            RddChannel.UNCACHED_DESCRIPTOR,
+            FileChannel.HDFS_BINARY_DESCRIPTOR,
+            () -> new SparkBinaryFileSink<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion HDFS_BINARY_TO_UNCACHED_RDD = new DefaultChannelConversion(
+            FileChannel.HDFS_BINARY_DESCRIPTOR,
+            RddChannel.UNCACHED_DESCRIPTOR,
+            () -> new SparkBinaryFileSource<>(DataSetType.createDefault(Void.class))
+    );
+
     public static Collection<ChannelConversion> ALL = Arrays.asList(
             UNCACHED_RDD_TO_CACHED_RDD,
             COLLECTION_TO_BROADCAST,
@@ -92,6 +113,9 @@ public class ChannelConversions {
             CACHED_RDD_TO_HDFS_OBJECT_FILE,
             UNCACHED_RDD_TO_HDFS_OBJECT_FILE,
             HDFS_OBJECT_FILE_TO_UNCACHED_RDD,
+            CACHED_RDD_TO_HDFS_BINARY,
+            UNCACHED_RDD_TO_HDFS_BINARY,
+            HDFS_BINARY_TO_UNCACHED_RDD,
 //            HDFS_TSV_TO_UNCACHED_RDD,
             CACHED_RDD_TO_HDFS_TSV,
             UNCACHED_RDD_TO_HDFS_TSV
@@ -2,6 +2,7 @@ package org.qcri.rheem.spark.channels;
 
 import org.apache.spark.Accumulator;
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.JavaRDDLike;
 import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.executionplan.Channel;
@@ -13,6 +14,8 @@ import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.util.Actions;
 import org.qcri.rheem.spark.execution.SparkExecutor;
 
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.OptionalLong;
 
 /**
@@ -59,6 +62,12 @@ public class RddChannel extends Channel {
 
         private Accumulator<Integer> accumulator;
 
+        /**
+         * RDDs that have been persisted in the course of processing this instance and that should be unpersisted
+         * along with it.
+         */
+        private final Collection<JavaRDDLike<?, ?>> persistedRdds = new LinkedList<>();
+
         public Instance(SparkExecutor executor,
                         OptimizationContext.OperatorContext producerOperatorContext,
                         int producerOutputIndex) {
@@ -84,8 +93,23 @@ public class RddChannel extends Channel {
             return (JavaRDD<T>) this.rdd;
         }
 
+        /**
+         * Registers an RDD that has been persisted while processing this instance, e.g., by a consuming operator.
+         * It will be unpersisted when this instance is disposed.
+         *
+         * @param persistedRdd the persisted RDD
+         */
+        public void unpersistOnDispose(JavaRDDLike<?, ?> persistedRdd) {
+            this.persistedRdds.add(persistedRdd);
+        }
+
         @Override
         protected void doDispose() {
+            for (JavaRDDLike<?, ?> persistedRdd : this.persistedRdds) {
+                Actions.doSafe(() -> persistedRdd.rdd().unpersist(false));
+                logger.debug("Unpersisted {}.", persistedRdd);
+            }
+            this.persistedRdds.clear();
             if (this.accumulator != null) {
                 this.setMeasuredCardinality(this.accumulator.value());
                 this.accumulator = null;
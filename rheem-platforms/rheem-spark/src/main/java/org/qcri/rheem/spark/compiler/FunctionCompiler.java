@@ -147,6 +147,92 @@ public class FunctionCompiler {
     }
 
 
+    /**
+     * Create a {@link FusedPartitionsFunction.Step} for deploying the given {@link TransformationDescriptor}
+     * within a {@link FusedPartitionsFunction}.
+     *
+     * @param descriptor      describes the transformation function
+     * @param operator        that executes the {@link FusedPartitionsFunction.Step}; only required if the {@code descriptor} describes an {@link ExtendedFunction}
+     * @param operatorContext contains optimization information for the {@code operator}
+     * @param inputs          that feed the {@code operator}; only required if the {@code descriptor} describes an {@link ExtendedFunction}
+     */
+    public FusedPartitionsFunction.Step compileStep(TransformationDescriptor<?, ?> descriptor,
+                                                    SparkExecutionOperator operator,
+                                                    OptimizationContext.OperatorContext operatorContext,
+                                                    ChannelInstance[] inputs) {
+        final java.util.function.Function<?, ?> javaImplementation = descriptor.getJavaImplementation();
+        return FusedPartitionsFunction.map(
+                javaImplementation,
+                this.createExecutionContextIfRequired(javaImplementation, operator, operatorContext, inputs)
+        );
+    }
+
+    /**
+     * Create a {@link FusedPartitionsFunction.Step} for deploying the given {@link PredicateDescriptor}
+     * within a {@link FusedPartitionsFunction}.
+     *
+     * @see #compileStep(TransformationDescriptor, SparkExecutionOperator, OptimizationContext.OperatorContext, ChannelInstance[])
+     */
+    public FusedPartitionsFunction.Step compileStep(PredicateDescriptor<?> descriptor,
+                                                    SparkExecutionOperator operator,
+                                                    OptimizationContext.OperatorContext operatorContext,
+                                                    ChannelInstance[] inputs) {
+        final Predicate<?> javaImplementation = descriptor.getJavaImplementation();
+        return FusedPartitionsFunction.filter(
+                javaImplementation,
+                this.createExecutionContextIfRequired(javaImplementation, operator, operatorContext, inputs)
+        );
+    }
+
+    /**
+     * Create a {@link FusedPartitionsFunction.Step} for deploying the given {@link FlatMapDescriptor}
+     * within a {@link FusedPartitionsFunction}.
+     *
+     * @see #compileStep(TransformationDescriptor, SparkExecutionOperator, OptimizationContext.OperatorContext, ChannelInstance[])
+     */
+    public FusedPartitionsFunction.Step compileStep(FlatMapDescriptor<?, ?> descriptor,
+                                                    SparkExecutionOperator operator,
+                                                    OptimizationContext.OperatorContext operatorContext,
+                                                    ChannelInstance[] inputs) {
+        final java.util.function.Function<?, ? extends Iterable<?>> javaImplementation = descriptor.getJavaImplementation();
+        return FusedPartitionsFunction.flatMap(
+                javaImplementation,
+                this.createExecutionContextIfRequired(javaImplementation, operator, operatorContext, inputs)
+        );
+    }
+
+    /**
+     * Create a {@link FusedPartitionsFunction.Step} for deploying the given {@link MapPartitionsDescriptor}
+     * within a {@link FusedPartitionsFunction}.
+     *
+     * @see #compileStep(TransformationDescriptor, SparkExecutionOperator, OptimizationContext.OperatorContext, ChannelInstance[])
+     */
+    public FusedPartitionsFunction.Step compileStep(MapPartitionsDescriptor<?, ?> descriptor,
+                                                    SparkExecutionOperator operator,
+                                                    OptimizationContext.OperatorContext operatorContext,
+                                                    ChannelInstance[] inputs) {
+        final java.util.function.Function<? extends Iterable<?>, ? extends Iterable<?>> javaImplementation =
+                descriptor.getJavaImplementation();
+        return FusedPartitionsFunction.mapPartitions(
+                javaImplementation,
+                this.createExecutionContextIfRequired(javaImplementation, operator, operatorContext, inputs)
+        );
+    }
+
+    /**
+     * Provides a {@link SparkExecutionContext} to open the given UDF with.
+     *
+     * @return the {@link SparkExecutionContext} or {@code null} if the UDF is not an {@link ExtendedFunction}
+     */
+    private SparkExecutionContext createExecutionContextIfRequired(Object javaImplementation,
+                                                                   SparkExecutionOperator operator,
+                                                                   OptimizationContext.OperatorContext operatorContext,
+                                                                   ChannelInstance[] inputs) {
+        if (!(javaImplementation instanceof org.qcri.rheem.core.function.ExtendedFunction)) return null;
+        return new SparkExecutionContext(operator, inputs, operatorContext.getOptimizationContext().getIterationNumber());
+    }
+
+
     /**
      * Spark function for building pair RDDs.
      */
@@ -0,0 +1,191 @@
+package org.qcri.rheem.spark.compiler;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.qcri.rheem.core.function.ExtendedFunction;
+import org.qcri.rheem.core.util.Iterators;
+import org.qcri.rheem.spark.execution.SparkExecutionContext;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link FlatMapFunction} for {@link JavaRDD#mapPartitions(FlatMapFunction)} that applies a chain of {@link Step}s,
+ * e.g., the UDFs of several maps and filters, to each partition. Hence, the chain requires only a single
+ * {@link JavaRDD} and a single closure to be serialized.
+ */
+public class FusedPartitionsFunction implements FlatMapFunction<Iterator<Object>, Object> {
+
+    private final List<Step> steps;
+
+    private boolean isFirstRun = true;
+
+    public FusedPartitionsFunction(List<Step> steps) {
+        this.steps = new ArrayList<>(steps);
+    }
+
+    @Override
+    public Iterable<Object> call(Iterator<Object> iterator) throws Exception {
+        if (this.isFirstRun) {
+            for (Step step : this.steps) {
+                step.open();
+            }
+            this.isFirstRun = false;
+        }
+
+        Stream<Object> stream = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false
+        );
+        for (Step step : this.steps) {
+            stream = step.apply(stream);
+        }
+        return Iterators.wrapWithIterable(stream.iterator());
+    }
+
+    /**
+     * Creates a {@link Step} that maps each data quantum.
+     *
+     * @param function         the UDF
+     * @param executionContext to open the {@code function} with if it is an {@link ExtendedFunction}; else {@code null}
+     */
+    public static Step map(Function<?, ?> function, SparkExecutionContext executionContext) {
+        return new MapStep(function, executionContext);
+    }
+
+    /**
+     * Creates a {@link Step} that filters the data quanta.
+     *
+     * @param predicate        the UDF
+     * @param executionContext to open the {@code predicate} with if it is an {@link ExtendedFunction}; else {@code null}
+     */
+    public static Step filter(Predicate<?> predicate, SparkExecutionContext executionContext) {
+        return new FilterStep(predicate, executionContext);
+    }
+
+    /**
+     * Creates a {@link Step} that maps each data quantum to an {@link Iterable} of data quanta.
+     *
+     * @param function         the UDF
+     * @param executionContext to open the {@code function} with if it is an {@link ExtendedFunction}; else {@code null}
+     */
+    public static Step flatMap(Function<?, ? extends Iterable<?>> function, SparkExecutionContext executionContext) {
+        return new FlatMapStep(function, executionContext);
+    }
+
+    /**
+     * Creates a {@link Step} that maps whole partitions.
+     *
+     * @param function         the UDF
+     * @param executionContext to open the {@code function} with if it is an {@link ExtendedFunction}; else {@code null}
+     */
+    public static Step mapPartitions(Function<? extends Iterable<?>, ? extends Iterable<?>> function,
+                                     SparkExecutionContext executionContext) {
+        return new MapPartitionsStep(function, executionContext);
+    }
+
+    /**
+     * A lazy transformation of the data quanta of a partition within a {@link FusedPartitionsFunction}.
+     */
+    public abstract static class Step implements Serializable {
+
+        /**
+         * The UDF applied by this instance.
+         */
+        protected final Object function;
+
+        private final SparkExecutionContext executionContext;
+
+        protected Step(Object function, SparkExecutionContext executionContext) {
+            assert executionContext == null || function instanceof ExtendedFunction;
+            this.function = function;
+            this.executionContext = executionContext;
+        }
+
+        private void open() {
+            if (this.executionContext != null) {
+                ((ExtendedFunction) this.function).open(this.executionContext);
+            }
+        }
+
+        /**
+         * Applies this instance to the data quanta of a partition.
+         *
+         * @param stream the data quanta
+         * @return the transformed data quanta
+         */
+        protected abstract Stream<Object> apply(Stream<Object> stream);
+
+    }
+
+    private static class MapStep extends Step {
+
+        private MapStep(Function<?, ?> function, SparkExecutionContext executionContext) {
+            super(function, executionContext);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Stream<Object> apply(Stream<Object> stream) {
+            return stream.map((Function<Object, Object>) this.function);
+        }
+    }
+
+    private static class FilterStep extends Step {
+
+        private FilterStep(Predicate<?> predicate, SparkExecutionContext executionContext) {
+            super(predicate, executionContext);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Stream<Object> apply(Stream<Object> stream) {
+            return stream.filter((Predicate<Object>) this.function);
+        }
+    }
+
+    private static class FlatMapStep extends Step {
+
+        private FlatMapStep(Function<?, ? extends Iterable<?>> function, SparkExecutionContext executionContext) {
+            super(function, executionContext);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Stream<Object> apply(Stream<Object> stream) {
+            final Function<Object, Iterable<Object>> function = (Function<Object, Iterable<Object>>) this.function;
+            return stream.flatMap(dataQuantum -> StreamSupport.stream(function.apply(dataQuantum).spliterator(), false));
+        }
+    }
+
+    private static class MapPartitionsStep extends Step {
+
+        private MapPartitionsStep(Function<? extends Iterable<?>, ? extends Iterable<?>> function,
+                                  SparkExecutionContext executionContext) {
+            super(function, executionContext);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Stream<Object> apply(Stream<Object> stream) {
+            final Function<Iterable<Object>, Iterable<Object>> function =
+                    (Function<Iterable<Object>, Iterable<Object>>) this.function;
+            // Mimic the MapPartitionsFunctionAdapter: The UDF is applied until it has consumed the whole partition.
+            final Iterator<Object> iterator = stream.iterator();
+            final List<Object> out = new ArrayList<>();
+            while (iterator.hasNext()) {
+                for (Object dataQuantum : function.apply(Iterators.wrapWithIterable(iterator))) {
+                    out.add(dataQuantum);
+                }
+            }
+            return out.stream();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package org.qcri.rheem.spark.execution;
+
+import org.apache.spark.HashPartitioner;
+import org.apache.spark.Partitioner;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.storage.StorageLevel;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.costs.EstimationContext;
+import org.qcri.rheem.core.optimizer.costs.LoadProfile;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.Tuple2;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link Partitioner} that assigns each hot key, i.e., a key that accounts for a considerable share of the data
+ * quanta, a dedicated partition and hash-partitions all other keys. Thereby, a hot key does not pile up with further
+ * keys in a single partition. Note that the hot keys themselves are not split, because the operators using this
+ * class require all data quanta with the same key to end up in the same partition. Combinable operators should
+ * rather salt their hot keys (see {@link #detectHotKeys(JavaRDD, int, Configuration)}).
+ */
+public class SkewAwarePartitioner extends Partitioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkewAwarePartitioner.class);
+
+    /**
+     * Number of partitions for non-hot keys.
+     */
+    private final int numRegularPartitions;
+
+    /**
+     * Assigns the hot keys their dedicated partitions, which follow the regular partitions.
+     */
+    private final HashMap<Object, Integer> hotKeyPartitions;
+
+    private SkewAwarePartitioner(int numRegularPartitions, HashMap<Object, Integer> hotKeyPartitions) {
+        this.numRegularPartitions = numRegularPartitions;
+        this.hotKeyPartitions = hotKeyPartitions;
+    }
+
+    /**
+     * Tells whether the skew-aware mode is enabled via {@code rheem.spark.skew.enabled}.
+     *
+     * @param configuration provides the setting
+     * @return whether hot keys should be detected
+     */
+    public static boolean isEnabled(Configuration configuration) {
+        return configuration.getBooleanProperty("rheem.spark.skew.enabled");
+    }
+
+    /**
+     * Persists the given RDD if the skew-aware mode is enabled, so that sampling its keys and processing it do not
+     * evaluate its lineage twice. The RDD is unpersisted along with the {@code input} it is derived from. If the
+     * {@code input} is cached anyway, nothing happens.
+     *
+     * @param pairRdd       the RDD whose keys are to be sampled
+     * @param input         from which the {@code pairRdd} is derived
+     * @param configuration provides the sampling parameters
+     * @return the RDD to be sampled and processed further
+     */
+    public static <K, V> JavaPairRDD<K, V> persistForSampling(JavaPairRDD<K, V> pairRdd,
+                                                             RddChannel.Instance input,
+                                                             Configuration configuration) {
+        if (!isEnabled(configuration) || input.getChannel().isReusable()) return pairRdd;
+        final JavaPairRDD<K, V> persistedRdd = pairRdd.persist(StorageLevel.MEMORY_AND_DISK());
+        input.unpersistOnDispose(persistedRdd);
+        return persistedRdd;
+    }
+
+    /**
+     * Creates a {@link Partitioner} for the given keys. If {@code rheem.spark.skew.enabled} is set, the keys are
+     * sampled to detect hot keys, which triggers a Spark job. Otherwise or if there are no hot keys, a
+     * {@link HashPartitioner} is returned.
+     *
+     * @param keys          the keys to be partitioned; should be persisted (cf.
+     *                      {@link #persistForSampling(JavaPairRDD, RddChannel.Instance, Configuration)})
+     * @param numPartitions the number of partitions for non-hot keys
+     * @param configuration provides the sampling parameters
+     * @return the {@link Partitioner}
+     */
+    public static Partitioner create(JavaRDD<?> keys, int numPartitions, Configuration configuration) {
+        if (!isEnabled(configuration)) {
+            return new HashPartitioner(numPartitions);
+        }
+
+        HashMap<Object, Integer> hotKeyPartitions = new HashMap<>();
+        for (Object hotKey : detectHotKeys(keys, numPartitions, configuration)) {
+            hotKeyPartitions.put(hotKey, numPartitions + hotKeyPartitions.size());
+        }
+        if (hotKeyPartitions.isEmpty()) {
+            return new HashPartitioner(numPartitions);
+        }
+        return new SkewAwarePartitioner(numPartitions, hotKeyPartitions);
+    }
+
+    /**
+     * Detects the hot keys among the given keys by sampling them, which triggers a Spark job.
+     *
+     * @param keys          the keys to be partitioned; should be persisted (cf.
+     *                      {@link #persistForSampling(JavaPairRDD, RddChannel.Instance, Configuration)})
+     * @param numPartitions the number of partitions the keys are distributed over
+     * @param configuration provides the sampling parameters
+     * @return the hot keys, hottest first
+     */
+    public static List<Object> detectHotKeys(JavaRDD<?> keys, int numPartitions, Configuration configuration) {
+        // Count the keys in a sample.
+        final double sampleFraction = configuration.getDoubleProperty("rheem.spark.skew.sample-fraction");
+        final int maxHotKeys = (int) configuration.getLongProperty("rheem.spark.skew.max-hot-keys");
+        final double threshold = configuration.getOptionalDoubleProperty("rheem.spark.skew.threshold")
+                .orElse(1d / numPartitions);
+        final JavaPairRDD<Object, Long> keyCounts = keys
+                .sample(false, sampleFraction)
+                .mapToPair(key -> new Tuple2<Object, Long>(key, 1L))
+                .reduceByKey((count1, count2) -> count1 + count2)
+                .cache();
+        final long sampleSize = keyCounts.values().fold(0L, (count1, count2) -> count1 + count2);
+        final List<Tuple2<Object, Long>> topKeyCounts = sampleSize == 0L ?
+                Collections.<Tuple2<Object, Long>>emptyList() :
+                keyCounts.top(maxHotKeys, new KeyCountComparator());
+        keyCounts.unpersist(false);
+
+        // Pick the hot keys.
+        List<Object> hotKeys = new ArrayList<>();
+        for (Tuple2<Object, Long> keyCount : topKeyCounts) {
+            if (keyCount._2() < threshold * sampleSize) break;
+            hotKeys.add(keyCount._1());
+        }
+        if (!hotKeys.isEmpty()) {
+            logger.info("Detected {} hot keys in a sample of {} keys.", hotKeys.size(), sampleSize);
+        }
+        return hotKeys;
+    }
+
+    /**
+     * Lets the given {@link LoadProfileEstimator} of an operator that must keep all data quanta with the same key in
+     * a single partition account for the skew announced via {@code rheem.spark.skew.hot-key-share}: The task
+     * processing the hottest key takes at least this share of the work, so that the other cores idle eventually.
+     *
+     * @param optEstimator  the {@link LoadProfileEstimator} (if any)
+     * @param configuration provides the skew and the number of cores
+     * @return the skew-aware {@link LoadProfileEstimator} (if any)
+     */
+    public static Optional<LoadProfileEstimator> accountForSkew(Optional<LoadProfileEstimator> optEstimator,
+                                                                Configuration configuration) {
+        final double hotKeyShare = configuration.getOptionalDoubleProperty("rheem.spark.skew.hot-key-share").orElse(0d);
+        final long numCores = configuration.getLongProperty("rheem.spark.machines")
+                * configuration.getLongProperty("rheem.spark.cores-per-machine");
+        if (hotKeyShare * numCores <= 1d) return optEstimator;
+        return optEstimator.map(estimator -> new SkewedLoadProfileEstimator(estimator, 1d / (hotKeyShare * numCores)));
+    }
+
+    @Override
+    public int numPartitions() {
+        return this.numRegularPartitions + this.hotKeyPartitions.size();
+    }
+
+    @Override
+    public int getPartition(Object key) {
+        final Integer hotKeyPartition = this.hotKeyPartitions.get(key);
+        if (hotKeyPartition != null) return hotKeyPartition;
+        if (key == null) return 0;
+        final int partition = key.hashCode() % this.numRegularPartitions;
+        return partition < 0 ? partition + this.numRegularPartitions : partition;
+    }
+
+    /**
+     * Tells which keys have been detected as hot.
+     *
+     * @return the hot keys and their partitions
+     */
+    public Map<Object, Integer> getHotKeyPartitions() {
+        return this.hotKeyPartitions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        SkewAwarePartitioner that = (SkewAwarePartitioner) o;
+        return this.numRegularPartitions == that.numRegularPartitions &&
+                this.hotKeyPartitions.equals(that.hotKeyPartitions);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.numRegularPartitions + this.hotKeyPartitions.hashCode();
+    }
+
+    /**
+     * Caps the resource utilization of the {@link LoadProfile}s provided by another {@link LoadProfileEstimator}.
+     */
+    private static class SkewedLoadProfileEstimator implements LoadProfileEstimator {
+
+        private final LoadProfileEstimator estimator;
+
+        private final double maxResourceUtilization;
+
+        private SkewedLoadProfileEstimator(LoadProfileEstimator estimator, double maxResourceUtilization) {
+            this.estimator = estimator;
+            this.maxResourceUtilization = maxResourceUtilization;
+        }
+
+        @Override
+        public LoadProfile estimate(EstimationContext context) {
+            final LoadProfile loadProfile = this.estimator.estimate(context);
+            loadProfile.setResourceUtilization(
+                    Math.min(loadProfile.getResourceUtilization(), this.maxResourceUtilization)
+            );
+            return loadProfile;
+        }
+
+        @Override
+        public void nest(LoadProfileEstimator loadProfileEstimator) {
+            this.estimator.nest(loadProfileEstimator);
+        }
+
+        @Override
+        public Collection<LoadProfileEstimator> getNestedEstimators() {
+            return this.estimator.getNestedEstimators();
+        }
+
+        @Override
+        public String getConfigurationKey() {
+            return this.estimator.getConfigurationKey();
+        }
+
+        @Override
+        public LoadProfileEstimator copy() {
+            return new SkewedLoadProfileEstimator(this.estimator.copy(), this.maxResourceUtilization);
+        }
+    }
+
+    /**
+     * Orders key counts by their counts.
+     */
+    private static class KeyCountComparator implements Comparator<Tuple2<Object, Long>>, Serializable {
+
+        @Override
+        public int compare(Tuple2<Object, Long> keyCount1, Tuple2<Object, Long> keyCount2) {
+            return Long.compare(keyCount1._2(), keyCount2._2());
+        }
+
+    }
+
+}
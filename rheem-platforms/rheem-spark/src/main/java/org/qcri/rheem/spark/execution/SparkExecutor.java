@@ -1,9 +1,15 @@
 package org.qcri.rheem.spark.execution;
 
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.JavaRDDLike;
 import org.apache.spark.api.java.JavaSparkContext;
 import org.qcri.rheem.core.api.Job;
 import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.monitor.JobMetrics;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.plan.executionplan.Channel;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
 import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelInstance;
@@ -11,16 +17,24 @@ import org.qcri.rheem.core.platform.Executor;
 import org.qcri.rheem.core.platform.PartialExecution;
 import org.qcri.rheem.core.platform.PushExecutorTemplate;
 import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
 import org.qcri.rheem.core.util.Formats;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.spark.channels.RddChannel;
 import org.qcri.rheem.spark.compiler.FunctionCompiler;
+import org.qcri.rheem.spark.compiler.FusedPartitionsFunction;
 import org.qcri.rheem.spark.operators.SparkExecutionOperator;
+import org.qcri.rheem.spark.operators.SparkFilterOperator;
+import org.qcri.rheem.spark.operators.SparkNarrowOperator;
+import org.qcri.rheem.spark.operators.SparkShuffleOperator;
 import org.qcri.rheem.spark.platform.SparkPlatform;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link Executor} implementation for the {@link SparkPlatform}.
@@ -55,16 +69,52 @@ public class SparkExecutor extends PushExecutorTemplate {
     private final int numDefaultPartitions;
 
     /**
-     * Counts the number of issued Spark actions.
+     * Whether to derive the number of partitions from {@link CardinalityEstimate}s.
+     *
+     * @see #getNumPartitions(OptimizationContext.OperatorContext, int)
+     */
+    private final boolean isCardinalityBasedPartitioning;
+
+    /**
+     * Estimated number of bytes per data quantum of types without a specific estimate and targeted number of bytes
+     * per partition.
+     *
+     * @see #estimateDataQuantumSize(DataSetType)
      */
-    private int numActions = 0;
+    private final double defaultBytesPerQuantum, targetPartitionSize;
+
+    /**
+     * Bounds for the number of partitions derived from {@link CardinalityEstimate}s.
+     */
+    private final int minPartitions, maxPartitions;
+
+    /**
+     * Counts the number of issued Spark actions. Atomic, as {@link ExecutionStage}s might be executed concurrently.
+     */
+    private final AtomicInteger numActions = new AtomicInteger(0);
+
+    /**
+     * Name of the Spark scheduler pool that the Spark jobs of this instance are submitted to. As the
+     * {@link JavaSparkContext} is shared among concurrently running {@link Job}s, this allows to share the cluster
+     * resources fairly among them.
+     */
+    private final String schedulerPool;
+
+    /**
+     * Whether chains of {@link SparkNarrowOperator}s should be executed as a single
+     * {@link JavaRDD#mapPartitions(org.apache.spark.api.java.function.FlatMapFunction)}. Configured via
+     * {@code rheem.spark.fusion}.
+     */
+    private final boolean isFusion;
 
     public SparkExecutor(SparkPlatform platform, Job job) {
         super(job);
         this.platform = platform;
         this.sparkContextReference = this.platform.getSparkContext(job);
-        this.sparkContextReference.noteObtainedReference();
         this.sc = this.sparkContextReference.get();
+        this.schedulerPool = this.getConfiguration()
+                .getOptionalStringProperty("rheem.spark.scheduler.pool")
+                .orElse(job.getRunId());
         if (this.sc.getConf().contains("spark.executor.cores")) {
             this.numDefaultPartitions = 2 * this.sc.getConf().getInt("spark.executor.cores", -1);
         } else {
@@ -72,6 +122,12 @@ public class SparkExecutor extends PushExecutorTemplate {
                     (int) (2 * this.getConfiguration().getLongProperty("rheem.spark.machines")
                             * this.getConfiguration().getLongProperty("rheem.spark.cores-per-machine"));
         }
+        this.isCardinalityBasedPartitioning = this.getConfiguration().getBooleanProperty("rheem.spark.partitions.auto");
+        this.defaultBytesPerQuantum = this.getConfiguration().getDoubleProperty("rheem.spark.partitions.bytes-per-quantum");
+        this.targetPartitionSize = this.getConfiguration().getDoubleProperty("rheem.spark.partitions.target-size");
+        this.minPartitions = (int) this.getConfiguration().getLongProperty("rheem.spark.partitions.min");
+        this.maxPartitions = (int) this.getConfiguration().getLongProperty("rheem.spark.partitions.max");
+        this.isFusion = this.getConfiguration().getBooleanProperty("rheem.spark.fusion", true);
     }
 
     @Override
@@ -79,6 +135,21 @@ public class SparkExecutor extends PushExecutorTemplate {
                                                                      List<ChannelInstance> inputChannelInstances,
                                                                      OptimizationContext.OperatorContext producerOperatorContext,
                                                                      boolean isRequestEagerExecution) {
+        if (this.isFusion) {
+            final List<ExecutionTask> fusibleTasks = this.collectFusibleTasks(task, inputChannelInstances, producerOperatorContext);
+            if (fusibleTasks.size() > 1) {
+                // Spark maintains the scheduling properties per thread, and ExecutionStages might be run on different threads.
+                this.sc.setLocalProperty("spark.scheduler.pool", this.schedulerPool);
+                this.sc.setJobGroup(this.job.getRunId(), this.job.getName(), false);
+                try {
+                    return this.executeFused(fusibleTasks, inputChannelInstances, producerOperatorContext, new RddFusion());
+                } finally {
+                    this.sc.clearJobGroup();
+                    this.sc.setLocalProperty("spark.scheduler.pool", null);
+                }
+            }
+        }
+
         // Provide the ChannelInstances for the output of the task.
         final ChannelInstance[] outputChannelInstances = task.getOperator().createOutputChannelInstances(
                 this, task, producerOperatorContext, inputChannelInstances
@@ -87,9 +158,11 @@ public class SparkExecutor extends PushExecutorTemplate {
         // Execute.
         final Collection<ExecutionLineageNode> executionLineageNodes;
         final Collection<ChannelInstance> producedChannelInstances;
-        // TODO: Use proper progress estimator.
-        this.job.reportProgress(task.getOperator().getName(), 50);
+        this.job.reportProgress(JobMetrics.getKey(task.getOperator()), 50);
 
+        // Spark maintains the scheduling properties per thread, and ExecutionStages might be run on different threads.
+        this.sc.setLocalProperty("spark.scheduler.pool", this.schedulerPool);
+        this.sc.setJobGroup(this.job.getRunId(), this.job.getName(), false);
         long startTime = System.currentTimeMillis();
         try {
             final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> results =
@@ -104,16 +177,20 @@ public class SparkExecutor extends PushExecutorTemplate {
             producedChannelInstances = results.getField1();
         } catch (Exception e) {
             throw new RheemException(String.format("Executing %s failed.", task), e);
+        } finally {
+            this.sc.clearJobGroup();
+            this.sc.setLocalProperty("spark.scheduler.pool", null);
         }
         long endTime = System.currentTimeMillis();
         long executionDuration = endTime - startTime;
-        this.job.reportProgress(task.getOperator().getName(), 100);
+        this.job.reportProgress(JobMetrics.getKey(task.getOperator()), 100);
 
         // Check how much we executed.
         PartialExecution partialExecution = this.createPartialExecution(executionLineageNodes, executionDuration);
         if (partialExecution != null && cast(task.getOperator()).containsAction()) {
-            if (this.numActions == 0) partialExecution.addInitializedPlatform(SparkPlatform.getInstance());
-            this.numActions++;
+            if (this.numActions.getAndIncrement() == 0) {
+                partialExecution.addInitializedPlatform(SparkPlatform.getInstance());
+            }
         }
 
         if (partialExecution == null && executionDuration > 10) {
@@ -132,6 +209,70 @@ public class SparkExecutor extends PushExecutorTemplate {
         return new Tuple<>(Arrays.asList(outputChannelInstances), partialExecution);
     }
 
+    @Override
+    protected boolean isFusibleHead(ExecutionTask task, List<ChannelInstance> inputChannelInstances) {
+        // The Tuple2 conversion of a shuffle can become the first step of the fused chain.
+        return task.getOperator() instanceof SparkNarrowOperator || task.getOperator() instanceof SparkShuffleOperator;
+    }
+
+    @Override
+    protected boolean isFusibleSuccessor(ExecutionOperator operator) {
+        return operator instanceof SparkNarrowOperator;
+    }
+
+    @Override
+    protected boolean isFusibleChannel(Channel channel) {
+        return channel instanceof RddChannel;
+    }
+
+    /**
+     * Compiles the UDFs of a chain of {@link SparkNarrowOperator}s into {@link FusedPartitionsFunction.Step}s of a
+     * single {@link FusedPartitionsFunction}, so that the chain is executed as a single
+     * {@link JavaRDD#mapPartitions(org.apache.spark.api.java.function.FlatMapFunction)} without intermediate
+     * {@link JavaRDD}s. If the chain starts with a {@link SparkShuffleOperator}, its conversion of the
+     * {@link scala.Tuple2}s becomes the first {@link FusedPartitionsFunction.Step}.
+     */
+    private class RddFusion implements TaskFusion {
+
+        private final List<FusedPartitionsFunction.Step> steps = new ArrayList<>(4);
+
+        private JavaRDDLike<Object, ?> inputRdd;
+
+        /**
+         * Whether the output should be coalesced if it is tiny, as filters usually do.
+         */
+        private boolean isCoalesce = false;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void add(ExecutionTask task,
+                        ChannelInstance[] inputs,
+                        OptimizationContext.OperatorContext operatorContext,
+                        boolean isHead) {
+            if (isHead && task.getOperator() instanceof SparkShuffleOperator) {
+                final SparkShuffleOperator shuffleOperator = (SparkShuffleOperator) task.getOperator();
+                this.inputRdd = (JavaRDDLike<Object, ?>) (JavaRDDLike<?, ?>)
+                        shuffleOperator.shuffle(inputs, SparkExecutor.this, operatorContext);
+                this.steps.add(FusedPartitionsFunction.map(shuffleOperator.getOutputConverter(), null));
+            } else {
+                if (isHead) this.inputRdd = ((RddChannel.Instance) inputs[0]).provideRdd();
+                this.steps.add(((SparkNarrowOperator) task.getOperator()).compileStep(
+                        inputs, SparkExecutor.this, operatorContext
+                ));
+            }
+            this.isCoalesce |= task.getOperator() instanceof SparkFilterOperator;
+        }
+
+        @Override
+        public void complete(ChannelInstance output, ExecutionTask task, OptimizationContext.OperatorContext operatorContext) {
+            JavaRDD<Object> outputRdd = this.inputRdd.mapPartitions(new FusedPartitionsFunction(this.steps));
+            if (this.isCoalesce) outputRdd = SparkExecutor.this.coalesceIfTiny(outputRdd, operatorContext, 0);
+            cast(task.getOperator()).name(outputRdd);
+            ((RddChannel.Instance) output).accept(outputRdd, SparkExecutor.this);
+        }
+
+    }
+
     private static SparkExecutionOperator cast(ExecutionOperator executionOperator) {
         return (SparkExecutionOperator) executionOperator;
     }
@@ -174,6 +315,110 @@ public class SparkExecutor extends PushExecutorTemplate {
         return this.numDefaultPartitions;
     }
 
+    /**
+     * Hint to {@link SparkExecutionOperator}s on how many partitions they should request for an output. The number
+     * is derived from the estimated output size (see {@link #estimateDataQuantumSize(DataSetType)}), so that each
+     * partition holds roughly {@code rheem.spark.partitions.target-size} bytes. If there is no {@link CardinalityEstimate} or
+     * {@code rheem.spark.partitions.auto} is disabled, the {@link #getNumDefaultPartitions()} is returned.
+     *
+     * @param operatorContext provides the {@link CardinalityEstimate}s; can be {@code null}
+     * @param outputIndex     index of the output to be partitioned
+     * @return the number of partitions
+     */
+    public int getNumPartitions(OptimizationContext.OperatorContext operatorContext, int outputIndex) {
+        if (!this.isCardinalityBasedPartitioning || operatorContext == null) return this.numDefaultPartitions;
+        final CardinalityEstimate cardinality = operatorContext.getOutputCardinality(outputIndex);
+        if (cardinality == null) return this.numDefaultPartitions;
+        return this.getNumPartitions(
+                cardinality.getGeometricMeanEstimate(), operatorContext.getOperator().getOutput(outputIndex).getType()
+        );
+    }
+
+    /**
+     * Like {@link #getNumPartitions(OptimizationContext.OperatorContext, int)}, but derives the number of partitions
+     * from the estimated size of all inputs. This suits shuffles that ship their inputs as a whole, e.g., joins
+     * and groupings, whose output cardinalities do not reflect the partition sizes.
+     *
+     * @param operatorContext provides the {@link CardinalityEstimate}s; can be {@code null}
+     * @return the number of partitions
+     */
+    public int getNumPartitionsForInputs(OptimizationContext.OperatorContext operatorContext) {
+        if (!this.isCardinalityBasedPartitioning || operatorContext == null) return this.numDefaultPartitions;
+        double numBytes = 0d;
+        for (int inputIndex = 0; inputIndex < operatorContext.getOperator().getNumRegularInputs(); inputIndex++) {
+            final CardinalityEstimate inputCardinality = operatorContext.getInputCardinality(inputIndex);
+            if (inputCardinality == null) return this.numDefaultPartitions;
+            numBytes += inputCardinality.getGeometricMeanEstimate()
+                    * this.estimateDataQuantumSize(operatorContext.getOperator().getInput(inputIndex).getType());
+        }
+        return this.getNumPartitionsForSize(numBytes);
+    }
+
+    /**
+     * Hint to {@link SparkExecutionOperator}s on how many partitions they should request for a given number of
+     * data quanta.
+     *
+     * @param cardinality the number of data quanta
+     * @param type        the {@link DataSetType} of the data quanta
+     * @return the number of partitions
+     * @see #getNumPartitions(OptimizationContext.OperatorContext, int)
+     */
+    public int getNumPartitions(long cardinality, DataSetType<?> type) {
+        if (!this.isCardinalityBasedPartitioning) return this.numDefaultPartitions;
+        return this.getNumPartitionsForSize(cardinality * this.estimateDataQuantumSize(type));
+    }
+
+    private int getNumPartitionsForSize(double numBytes) {
+        final double numPartitions = Math.ceil(numBytes / this.targetPartitionSize);
+        return (int) Math.max(this.minPartitions, Math.min(this.maxPartitions, numPartitions));
+    }
+
+    /**
+     * Estimates the average size of the data quanta of the given {@link DataSetType} in bytes. The estimate can be
+     * specified per data unit class via {@code rheem.spark.partitions.bytes-per-quantum.<class name>}; otherwise
+     * (and for grouped data quanta) {@code rheem.spark.partitions.bytes-per-quantum} applies.
+     *
+     * @param type the {@link DataSetType}
+     * @return the estimated number of bytes per data quantum
+     */
+    public double estimateDataQuantumSize(DataSetType<?> type) {
+        final DataUnitType<?> dataUnitType = type.getDataUnitType();
+        if (dataUnitType.isGroup()) return this.defaultBytesPerQuantum;
+        return this.getConfiguration().getDoubleProperty(
+                "rheem.spark.partitions.bytes-per-quantum." + dataUnitType.getTypeClass().getName(),
+                this.defaultBytesPerQuantum
+        );
+    }
+
+    /**
+     * Coalesces the given {@link JavaRDD} if its output is estimated to be so small that it fits in considerably
+     * fewer partitions than it has. To not coalesce a large output due to an inaccurate estimate, the upper bound of
+     * the {@link CardinalityEstimate} is considered. Furthermore, the {@link JavaRDD} is shuffled, so that its
+     * predecessors retain their degree of parallelism.
+     *
+     * @param rdd             that should be coalesced
+     * @param operatorContext provides the {@link CardinalityEstimate}s; can be {@code null}
+     * @param outputIndex     index of the output that the {@code rdd} is to become
+     * @return the coalesced {@link JavaRDD} or the {@code rdd} itself
+     */
+    public <T> JavaRDD<T> coalesceIfTiny(JavaRDD<T> rdd, OptimizationContext.OperatorContext operatorContext, int outputIndex) {
+        if (!this.isCardinalityBasedPartitioning || operatorContext == null) return rdd;
+        final CardinalityEstimate cardinality = operatorContext.getOutputCardinality(outputIndex);
+        if (cardinality == null) return rdd;
+        final int numPartitions = this.getNumPartitions(
+                cardinality.getUpperEstimate(), operatorContext.getOperator().getOutput(outputIndex).getType()
+        );
+        if (numPartitions * 2 > rdd.partitions().size()) return rdd;
+        this.logger.debug("Coalescing {} from {} to {} partitions.", rdd, rdd.partitions().size(), numPartitions);
+        return rdd.coalesce(numPartitions, true);
+    }
+
+    @Override
+    protected boolean isReportingThreadCpuTime() {
+        // The driver thread merely declares the RDDs and awaits the actions; the actual work runs on the Spark workers.
+        return false;
+    }
+
     @Override
     public void dispose() {
         super.dispose();
@@ -3,24 +3,38 @@ package org.qcri.rheem.spark.mapping;
 import org.qcri.rheem.basic.operators.JoinOperator;
 import org.qcri.rheem.core.mapping.*;
 import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.spark.operators.SparkBroadcastHashJoinOperator;
 import org.qcri.rheem.spark.operators.SparkJoinOperator;
 import org.qcri.rheem.spark.platform.SparkPlatform;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 
 /**
- * Mapping from {@link JoinOperator} to {@link SparkJoinOperator}.
+ * Mapping from {@link JoinOperator} to {@link SparkJoinOperator} and to {@link SparkBroadcastHashJoinOperator}s that
+ * broadcast either input.
  */
 public class JoinMapping implements Mapping {
 
     @Override
     public Collection<PlanTransformation> getTransformations() {
-        return Collections.singleton(new PlanTransformation(
-                this.createSubplanPattern(),
-                this.createReplacementSubplanFactory(),
-                SparkPlatform.getInstance()
-        ));
+        return Arrays.asList(
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createReplacementSubplanFactory(),
+                        SparkPlatform.getInstance()
+                ),
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createBroadcastReplacementSubplanFactory(0),
+                        SparkPlatform.getInstance()
+                ),
+                new PlanTransformation(
+                        this.createSubplanPattern(),
+                        this.createBroadcastReplacementSubplanFactory(1),
+                        SparkPlatform.getInstance()
+                )
+        );
     }
 
     private SubplanPattern createSubplanPattern() {
@@ -35,4 +49,10 @@ public class JoinMapping implements Mapping {
                 (matchedOperator, epoch) -> new SparkJoinOperator<>(matchedOperator).at(epoch)
         );
     }
+
+    private ReplacementSubplanFactory createBroadcastReplacementSubplanFactory(int broadcastInputIndex) {
+        return new ReplacementSubplanFactory.OfSingleOperators<JoinOperator<Object, Object, Object>>(
+                (matchedOperator, epoch) -> new SparkBroadcastHashJoinOperator<>(matchedOperator, broadcastInputIndex).at(epoch)
+        );
+    }
 }
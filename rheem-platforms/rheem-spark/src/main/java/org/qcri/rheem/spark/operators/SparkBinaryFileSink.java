@@ -0,0 +1,99 @@
+package org.qcri.rheem.spark.operators;
+
+import org.apache.spark.TaskContext;
+import org.qcri.rheem.basic.channels.BinaryFileWriter;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.plan.rheemplan.Operator;
+import org.qcri.rheem.core.plan.rheemplan.UnarySink;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.execution.SparkExecutor;
+import org.qcri.rheem.spark.platform.SparkPlatform;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link Operator} for the {@link SparkPlatform} that writes a {@link FileChannel#HDFS_BINARY_DESCRIPTOR} file with
+ * one part per RDD partition.
+ *
+ * @see SparkBinaryFileSource
+ */
+public class SparkBinaryFileSink<T> extends UnarySink<T> implements SparkExecutionOperator {
+
+    private final String targetPath;
+
+    public SparkBinaryFileSink(DataSetType<T> type) {
+        this(null, type);
+    }
+
+    public SparkBinaryFileSink(String targetPath, DataSetType<T> type) {
+        super(type);
+        this.targetPath = targetPath;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length <= 1;
+
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        final FileChannel.Instance output = (FileChannel.Instance) outputs[0];
+        final String targetPath = output.addGivenOrTempPath(this.targetPath, configuration);
+        final int blockSize = BinaryFileWriter.getBlockSize(configuration);
+        final boolean isCompress = BinaryFileWriter.isCompressing(configuration);
+        RddChannel.Instance input = (RddChannel.Instance) inputs[0];
+
+        input.provideRdd().foreachPartition(partition -> {
+            final String partPath = BinaryFileWriter.getPartPath(targetPath, TaskContext.getPartitionId());
+            try (BinaryFileWriter writer = BinaryFileWriter.create(partPath, blockSize, isCompress)) {
+                while (partition.hasNext()) {
+                    writer.write(partition.next());
+                }
+            }
+        });
+        BinaryFileWriter.markComplete(targetPath);
+        LoggerFactory.getLogger(this.getClass()).info("Writing dataset to {}.", targetPath);
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkBinaryFileSink<>(this.targetPath, this.getType());
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "rheem.spark.binaryfilesink.load";
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(FileChannel.HDFS_BINARY_DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return true;
+    }
+
+}
@@ -0,0 +1,268 @@
+package org.qcri.rheem.spark.operators;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.api.java.function.Function;
+import org.apache.spark.broadcast.Broadcast;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.exception.RheemException;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.Tuple;
+import org.qcri.rheem.spark.channels.BroadcastChannel;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.compiler.FunctionCompiler;
+import org.qcri.rheem.spark.execution.SparkExecutor;
+
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spark implementation of the {@link JoinOperator} that broadcasts one of its inputs and joins it with the other
+ * input via a hash table in each partition. Thereby, it avoids shuffling either input, which pays off if the
+ * broadcasted input is small.
+ */
+public class SparkBroadcastHashJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements SparkExecutionOperator {
+
+    /**
+     * The index of the input that is broadcasted, i.e., {@code 0} or {@code 1}.
+     */
+    private final int broadcastInputIndex;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param broadcastInputIndex the index of the input that should be broadcasted
+     */
+    public SparkBroadcastHashJoinOperator(DataSetType<InputType0> inputType0,
+                                          DataSetType<InputType1> inputType1,
+                                          TransformationDescriptor<InputType0, KeyType> keyDescriptor0,
+                                          TransformationDescriptor<InputType1, KeyType> keyDescriptor1,
+                                          int broadcastInputIndex) {
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+        assert broadcastInputIndex == 0 || broadcastInputIndex == 1;
+        this.broadcastInputIndex = broadcastInputIndex;
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that                that should be copied
+     * @param broadcastInputIndex the index of the input that should be broadcasted
+     */
+    public SparkBroadcastHashJoinOperator(JoinOperator<InputType0, InputType1, KeyType> that, int broadcastInputIndex) {
+        super(that);
+        assert broadcastInputIndex == 0 || broadcastInputIndex == 1;
+        this.broadcastInputIndex = broadcastInputIndex;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final BroadcastChannel.Instance broadcastInput = (BroadcastChannel.Instance) inputs[this.broadcastInputIndex];
+        final RddChannel.Instance probeInput = (RddChannel.Instance) inputs[1 - this.broadcastInputIndex];
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        final Broadcast<Collection<Object>> broadcast = (Broadcast<Collection<Object>>) broadcastInput.provideBroadcast();
+        final JavaRDD<Object> probeRdd = probeInput.provideRdd();
+
+        final FunctionCompiler compiler = sparkExecutor.getCompiler();
+        final Function<Object, KeyType> keyExtractor0 = (Function<Object, KeyType>) (Function<?, KeyType>)
+                compiler.compile(this.keyDescriptor0, this, operatorContext, inputs);
+        final Function<Object, KeyType> keyExtractor1 = (Function<Object, KeyType>) (Function<?, KeyType>)
+                compiler.compile(this.keyDescriptor1, this, operatorContext, inputs);
+        final HashJoiner<InputType0, InputType1, KeyType> hashJoiner = this.broadcastInputIndex == 0 ?
+                new HashJoiner<>(broadcast, keyExtractor0, keyExtractor1, true) :
+                new HashJoiner<>(broadcast, keyExtractor1, keyExtractor0, false);
+        final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd = probeRdd.mapPartitions(hashJoiner, true);
+        this.name(outputRdd);
+
+        output.accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkBroadcastHashJoinOperator<>(this.getInputType0(), this.getInputType1(),
+                this.getKeyDescriptor0(), this.getKeyDescriptor1(), this.broadcastInputIndex);
+    }
+
+    /**
+     * Joins each partition of the probing input with a hash table over the broadcasted input in a streaming
+     * fashion. The hash table is built only once per executor and shared among all partitions processed there.
+     */
+    private static class HashJoiner<InputType0, InputType1, KeyType>
+            implements FlatMapFunction<Iterator<Object>, Tuple2<InputType0, InputType1>> {
+
+        /**
+         * Provides the {@link #id}s on the driver.
+         */
+        private static final AtomicLong idGenerator = new AtomicLong();
+
+        /**
+         * Caches the hash tables of all instances on the current executor by their {@link #id}. The hash tables are
+         * only softly referenced, so that they can be reclaimed once the join is done.
+         */
+        private static final Map<Long, SoftReference<Map<Object, List<Object>>>> hashTableCache = new HashMap<>();
+
+        /**
+         * Identifies this instance and its deserialized copies.
+         */
+        private final long id = idGenerator.getAndIncrement();
+
+        private final Broadcast<Collection<Object>> broadcast;
+
+        private final Function<Object, KeyType> buildKeyExtractor, probeKeyExtractor;
+
+        /**
+         * Whether the broadcasted input provides the first field of the join products.
+         */
+        private final boolean isBroadcastInput0;
+
+        /**
+         * The hash table over the {@link #broadcast} or {@code null} if it has not been requested yet.
+         */
+        private transient Map<Object, List<Object>> hashTable;
+
+        private HashJoiner(Broadcast<Collection<Object>> broadcast,
+                           Function<Object, KeyType> buildKeyExtractor,
+                           Function<Object, KeyType> probeKeyExtractor,
+                           boolean isBroadcastInput0) {
+            this.broadcast = broadcast;
+            this.buildKeyExtractor = buildKeyExtractor;
+            this.probeKeyExtractor = probeKeyExtractor;
+            this.isBroadcastInput0 = isBroadcastInput0;
+        }
+
+        @Override
+        public Iterable<Tuple2<InputType0, InputType1>> call(Iterator<Object> probeIterator) throws Exception {
+            final Map<Object, List<Object>> hashTable = this.getHashTable();
+
+            // Probe the hash table lazily.
+            return () -> new Iterator<Tuple2<InputType0, InputType1>>() {
+
+                private Object probeElement;
+
+                private Iterator<Object> buildMatches = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!this.buildMatches.hasNext()) {
+                        if (!probeIterator.hasNext()) return false;
+                        this.probeElement = probeIterator.next();
+                        final List<Object> matches = hashTable.get(HashJoiner.this.extractProbeKey(this.probeElement));
+                        if (matches != null) this.buildMatches = matches.iterator();
+                    }
+                    return true;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Tuple2<InputType0, InputType1> next() {
+                    if (!this.hasNext()) throw new NoSuchElementException();
+                    final Object buildElement = this.buildMatches.next();
+                    return HashJoiner.this.isBroadcastInput0 ?
+                            new Tuple2<>((InputType0) buildElement, (InputType1) this.probeElement) :
+                            new Tuple2<>((InputType0) this.probeElement, (InputType1) buildElement);
+                }
+            };
+        }
+
+        /**
+         * Provides the hash table over the {@link #broadcast}, thereby building it if it is not in the
+         * {@link #hashTableCache}.
+         *
+         * @return the hash table
+         */
+        private Map<Object, List<Object>> getHashTable() throws Exception {
+            if (this.hashTable == null) {
+                synchronized (hashTableCache) {
+                    final SoftReference<Map<Object, List<Object>>> hashTableRef = hashTableCache.get(this.id);
+                    this.hashTable = hashTableRef == null ? null : hashTableRef.get();
+                    if (this.hashTable == null) {
+                        final Map<Object, List<Object>> hashTable = new HashMap<>();
+                        for (Object buildElement : this.broadcast.value()) {
+                            hashTable.computeIfAbsent(this.buildKeyExtractor.call(buildElement), key -> new ArrayList<>(1))
+                                    .add(buildElement);
+                        }
+                        hashTableCache.values().removeIf(ref -> ref.get() == null);
+                        hashTableCache.put(this.id, new SoftReference<>(hashTable));
+                        this.hashTable = hashTable;
+                    }
+                }
+            }
+            return this.hashTable;
+        }
+
+        private KeyType extractProbeKey(Object probeElement) {
+            try {
+                return this.probeKeyExtractor.call(probeElement);
+            } catch (Exception e) {
+                throw new RheemException(String.format("Could not extract the join key of %s.", probeElement), e);
+            }
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "rheem.spark.broadcastjoin.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return index == this.broadcastInputIndex ?
+                Collections.singletonList(BroadcastChannel.DESCRIPTOR) :
+                Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+    /**
+     * Tells the index of the input that is broadcasted.
+     *
+     * @return {@code 0} or {@code 1}
+     */
+    public int getBroadcastInputIndex() {
+        return this.broadcastInputIndex;
+    }
+
+}
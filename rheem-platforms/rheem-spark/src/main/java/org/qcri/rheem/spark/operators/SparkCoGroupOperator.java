@@ -1,5 +1,6 @@
 package org.qcri.rheem.spark.operators;
 
+import org.apache.spark.Partitioner;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.function.Function;
@@ -7,9 +8,12 @@ import org.apache.spark.api.java.function.PairFunction;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.operators.CoGroupOperator;
 import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.core.api.Configuration;
 import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimators;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.platform.ChannelInstance;
@@ -18,17 +22,19 @@ import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.spark.channels.RddChannel;
 import org.qcri.rheem.spark.compiler.FunctionCompiler;
+import org.qcri.rheem.spark.execution.SkewAwarePartitioner;
 import org.qcri.rheem.spark.execution.SparkExecutor;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spark implementation of the {@link JoinOperator}.
  */
-public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In1, Key> implements SparkExecutionOperator {
+public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In1, Key> implements SparkShuffleOperator {
 
     /**
      * @see CoGroupOperator#CoGroupOperator(FunctionDescriptor.SerializableFunction, FunctionDescriptor.SerializableFunction, Class, Class, Class)
@@ -75,9 +81,25 @@ public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        // Map the output to what Rheem expects.
+        final JavaRDD<Tuple2<Iterable<In0>, Iterable<In1>>> outputRdd = this.shuffle(inputs, sparkExecutor, operatorContext)
+                .map(new TupleConverter<>());
+        this.name(outputRdd);
+
+        output.accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public JavaPairRDD<Key, scala.Tuple2<Iterable<In0>, Iterable<In1>>> shuffle(
+            ChannelInstance[] inputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
         final RddChannel.Instance input0 = (RddChannel.Instance) inputs[0];
         final RddChannel.Instance input1 = (RddChannel.Instance) inputs[1];
-        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
         final JavaRDD<In0> inputRdd0 = input0.provideRdd();
         final JavaRDD<In1> inputRdd1 = input1.provideRdd();
@@ -85,20 +107,28 @@ public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In
         FunctionCompiler compiler = sparkExecutor.getCompiler();
         final PairFunction<In0, Key, In0> keyExtractor0 = compiler.compileToKeyExtractor(this.keyDescriptor0);
         final PairFunction<In1, Key, In1> keyExtractor1 = compiler.compileToKeyExtractor(this.keyDescriptor1);
-        JavaPairRDD<Key, In0> pairRdd0 = inputRdd0.mapToPair(keyExtractor0);
-        JavaPairRDD<Key, In1> pairRdd1 = inputRdd1.mapToPair(keyExtractor1);
-
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        JavaPairRDD<Key, In0> pairRdd0 = SkewAwarePartitioner.persistForSampling(
+                inputRdd0.mapToPair(keyExtractor0), input0, configuration
+        );
+        JavaPairRDD<Key, In1> pairRdd1 = SkewAwarePartitioner.persistForSampling(
+                inputRdd1.mapToPair(keyExtractor1), input1, configuration
+        );
+
+        final Partitioner partitioner = SkewAwarePartitioner.create(
+                pairRdd0.keys().union(pairRdd1.keys()), sparkExecutor.getNumPartitionsForInputs(operatorContext), configuration
+        );
         final JavaPairRDD<Key, scala.Tuple2<Iterable<In0>, Iterable<In1>>> outputPair =
-                pairRdd0.cogroup(pairRdd1, sparkExecutor.getNumDefaultPartitions());
+                pairRdd0.cogroup(pairRdd1, partitioner);
         this.name(outputPair);
+        return outputPair;
+    }
 
-        // Map the output to what Rheem expects.
-        final JavaRDD<Tuple2<Iterable<In0>, Iterable<In1>>> outputRdd = outputPair.map(new TupleConverter<>());
-        this.name(outputRdd);
-
-        output.accept(outputRdd, sparkExecutor);
-
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    @Override
+    public FunctionDescriptor.SerializableFunction<
+            scala.Tuple2<Key, scala.Tuple2<Iterable<In0>, Iterable<In1>>>,
+            Tuple2<Iterable<In0>, Iterable<In1>>> getOutputConverter() {
+        return new TupleConverter<>();
     }
 
     @Override
@@ -111,6 +141,19 @@ public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In
         return "rheem.spark.cogroup.load";
     }
 
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkShuffleOperator.super.createLoadProfileEstimator(configuration);
+        // Account for the sampling of the keys.
+        if (configuration.getBooleanProperty("rheem.spark.skew.enabled")) {
+            optEstimator.ifPresent(estimator -> estimator.nest(
+                    LoadProfileEstimators.createFromSpecification("rheem.spark.cogroup.skew.load", configuration)
+            ));
+        }
+        return SkewAwarePartitioner.accountForSkew(optEstimator, configuration);
+    }
+
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
@@ -129,14 +172,20 @@ public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In
     }
 
     /**
-     * Converts the output of {@link JavaPairRDD#cogroup(JavaPairRDD, int)} to what Rheem expects.
-     * <p><i>TODO: See, if we can somehow dodge all this conversion, which is likely to happen a lot.</i></p>
+     * Converts the output of {@link JavaPairRDD#cogroup(JavaPairRDD, Partitioner)} to what Rheem expects.
+     * <p>If possible, the {@link SparkExecutor} folds this conversion into subsequent {@link SparkNarrowOperator}s.</p>
      */
     private static class TupleConverter<InputType0, InputType1, KeyType>
-            implements Function<scala.Tuple2<KeyType, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>>, Tuple2<Iterable<InputType0>, Iterable<InputType1>>> {
+            implements Function<scala.Tuple2<KeyType, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>>, Tuple2<Iterable<InputType0>, Iterable<InputType1>>>,
+            FunctionDescriptor.SerializableFunction<scala.Tuple2<KeyType, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>>, Tuple2<Iterable<InputType0>, Iterable<InputType1>>> {
 
         @Override
         public Tuple2<Iterable<InputType0>, Iterable<InputType1>> call(scala.Tuple2<KeyType, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>> in) throws Exception {
+            return this.apply(in);
+        }
+
+        @Override
+        public Tuple2<Iterable<InputType0>, Iterable<InputType1>> apply(scala.Tuple2<KeyType, scala.Tuple2<Iterable<InputType0>, Iterable<InputType1>>> in) {
             return new Tuple2<>(in._2._1, in._2._2);
         }
     }
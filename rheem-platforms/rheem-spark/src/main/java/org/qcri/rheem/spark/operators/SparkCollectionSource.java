@@ -70,7 +70,7 @@ public class SparkCollectionSource<Type> extends CollectionSource<Type> implemen
         final List<Type> list = RheemCollections.asList(collection);
 
         final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
-        final JavaRDD<Type> rdd = sparkExecutor.sc.parallelize(list, sparkExecutor.getNumDefaultPartitions());
+        final JavaRDD<Type> rdd = sparkExecutor.sc.parallelize(list, sparkExecutor.getNumPartitions(list.size(), this.getType()));
         this.name(rdd);
         output.accept(rdd, sparkExecutor);
 
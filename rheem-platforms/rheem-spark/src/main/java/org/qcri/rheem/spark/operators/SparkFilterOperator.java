@@ -16,6 +16,7 @@ import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.spark.channels.BroadcastChannel;
 import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.compiler.FusedPartitionsFunction;
 import org.qcri.rheem.spark.execution.SparkExecutor;
 
 import java.util.*;
@@ -25,7 +26,7 @@ import java.util.*;
  */
 public class SparkFilterOperator<Type>
         extends FilterOperator<Type>
-        implements SparkExecutionOperator {
+        implements SparkNarrowOperator {
 
     /**
      * Creates a new instance.
@@ -59,13 +60,20 @@ public class SparkFilterOperator<Type>
         );
 
         final JavaRDD<Type> inputRdd = ((RddChannel.Instance) inputs[0]).provideRdd();
-        final JavaRDD<Type> outputRdd = inputRdd.filter(filterFunction);
+        final JavaRDD<Type> outputRdd = sparkExecutor.coalesceIfTiny(inputRdd.filter(filterFunction), operatorContext, 0);
         this.name(outputRdd);
         ((RddChannel.Instance) outputs[0]).accept(outputRdd, sparkExecutor);
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    @Override
+    public FusedPartitionsFunction.Step compileStep(ChannelInstance[] inputs,
+                                                    SparkExecutor sparkExecutor,
+                                                    OptimizationContext.OperatorContext operatorContext) {
+        return sparkExecutor.getCompiler().compileStep(this.predicateDescriptor, this, operatorContext, inputs);
+    }
+
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "rheem.spark.filter.load";
@@ -74,7 +82,7 @@ public class SparkFilterOperator<Type>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+                SparkNarrowOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.predicateDescriptor, configuration);
         return optEstimator;
     }
@@ -16,6 +16,7 @@ import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.spark.channels.BroadcastChannel;
 import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.compiler.FusedPartitionsFunction;
 import org.qcri.rheem.spark.execution.SparkExecutor;
 
 import java.util.*;
@@ -26,7 +27,7 @@ import java.util.*;
  */
 public class SparkFlatMapOperator<InputType, OutputType>
         extends FlatMapOperator<InputType, OutputType>
-        implements SparkExecutionOperator {
+        implements SparkNarrowOperator {
 
     /**
      * Creates a new instance.
@@ -70,6 +71,13 @@ public class SparkFlatMapOperator<InputType, OutputType>
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    @Override
+    public FusedPartitionsFunction.Step compileStep(ChannelInstance[] inputs,
+                                                    SparkExecutor sparkExecutor,
+                                                    OptimizationContext.OperatorContext operatorContext) {
+        return sparkExecutor.getCompiler().compileStep(this.functionDescriptor, this, operatorContext, inputs);
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new SparkFlatMapOperator<>(this.getInputType(), this.getOutputType(), this.getFunctionDescriptor());
@@ -83,7 +91,7 @@ public class SparkFlatMapOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+                SparkNarrowOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.functionDescriptor, configuration);
         return optEstimator;
     }
@@ -7,6 +7,7 @@ import org.apache.spark.api.java.function.PairFunction;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.operators.JoinOperator;
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
@@ -28,7 +29,7 @@ import java.util.*;
  */
 public class SparkJoinOperator<InputType0, InputType1, KeyType>
         extends JoinOperator<InputType0, InputType1, KeyType>
-        implements SparkExecutionOperator {
+        implements SparkShuffleOperator {
 
     /**
      * Creates a new instance.
@@ -59,9 +60,25 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        // convert from scala tuple to rheem tuple
+        final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd = this.shuffle(inputs, sparkExecutor, operatorContext)
+                .map(new TupleConverter<>());
+        this.name(outputRdd);
+
+        output.accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public JavaPairRDD<KeyType, scala.Tuple2<InputType0, InputType1>> shuffle(
+            ChannelInstance[] inputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
         final RddChannel.Instance input0 = (RddChannel.Instance) inputs[0];
         final RddChannel.Instance input1 = (RddChannel.Instance) inputs[1];
-        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
         final JavaRDD<InputType0> inputRdd0 = input0.provideRdd();
         final JavaRDD<InputType1> inputRdd1 = input1.provideRdd();
@@ -73,17 +90,16 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
         JavaPairRDD<KeyType, InputType1> pairStream1 = inputRdd1.mapToPair(keyExtractor1);
 
         final JavaPairRDD<KeyType, scala.Tuple2<InputType0, InputType1>> outputPair =
-                pairStream0.<InputType1>join(pairStream1, sparkExecutor.getNumDefaultPartitions());
+                pairStream0.<InputType1>join(pairStream1, sparkExecutor.getNumPartitionsForInputs(operatorContext));
         this.name(outputPair);
+        return outputPair;
+    }
 
-        // convert from scala tuple to rheem tuple
-        final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd = outputPair
-                .map(new TupleConverter<>());
-        this.name(outputRdd);
-
-        output.accept(outputRdd, sparkExecutor);
-
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    @Override
+    public FunctionDescriptor.SerializableFunction<
+            scala.Tuple2<KeyType, scala.Tuple2<InputType0, InputType1>>,
+            Tuple2<InputType0, InputType1>> getOutputConverter() {
+        return new TupleConverter<>();
     }
 
     @Override
@@ -94,13 +110,19 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
 
     /**
      * Migrates {@link scala.Tuple2} to {@link Tuple2}.
-     * <p><i>TODO: See, if we can somehow dodge all this conversion, which is likely to happen a lot.</i></p>
+     * <p>If possible, the {@link SparkExecutor} folds this conversion into subsequent {@link SparkNarrowOperator}s.</p>
      */
     private static class TupleConverter<InputType0, InputType1, KeyType>
-            implements Function<scala.Tuple2<KeyType, scala.Tuple2<InputType0, InputType1>>, Tuple2<InputType0, InputType1>> {
+            implements Function<scala.Tuple2<KeyType, scala.Tuple2<InputType0, InputType1>>, Tuple2<InputType0, InputType1>>,
+            FunctionDescriptor.SerializableFunction<scala.Tuple2<KeyType, scala.Tuple2<InputType0, InputType1>>, Tuple2<InputType0, InputType1>> {
 
         @Override
         public Tuple2<InputType0, InputType1> call(scala.Tuple2<KeyType, scala.Tuple2<InputType0, InputType1>> scalaTuple) throws Exception {
+            return this.apply(scalaTuple);
+        }
+
+        @Override
+        public Tuple2<InputType0, InputType1> apply(scala.Tuple2<KeyType, scala.Tuple2<InputType0, InputType1>> scalaTuple) {
             return new Tuple2<>(scalaTuple._2._1, scalaTuple._2._2);
         }
     }
@@ -113,7 +135,7 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+                SparkShuffleOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
         return optEstimator;
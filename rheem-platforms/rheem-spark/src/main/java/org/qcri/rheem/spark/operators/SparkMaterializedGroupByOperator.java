@@ -1,5 +1,6 @@
 package org.qcri.rheem.spark.operators;
 
+import org.apache.spark.Partitioner;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.function.Function;
@@ -16,6 +17,7 @@ import org.qcri.rheem.core.platform.lineage.ExecutionLineageNode;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.execution.SkewAwarePartitioner;
 import org.qcri.rheem.spark.execution.SparkExecutor;
 import scala.Tuple2;
 
@@ -61,7 +63,13 @@ public class SparkMaterializedGroupByOperator<Type, KeyType>
         final Function<Type, KeyType> keyExtractor =
                 sparkExecutor.getCompiler().compile(this.keyDescriptor, this, operatorContext, inputs);
         final Function<scala.Tuple2<KeyType, Iterable<Type>>, Iterable<Type>> projector = new GroupProjector<>();
-        final JavaPairRDD<KeyType, Iterable<Type>> groupedKeyRdd = inputRdd.groupBy(keyExtractor, sparkExecutor.getNumDefaultPartitions());
+        final JavaPairRDD<KeyType, Type> keyedRdd = SkewAwarePartitioner.persistForSampling(
+                inputRdd.keyBy(keyExtractor), input, sparkExecutor.getConfiguration()
+        );
+        final Partitioner partitioner = SkewAwarePartitioner.create(
+                keyedRdd.keys(), sparkExecutor.getNumPartitionsForInputs(operatorContext), sparkExecutor.getConfiguration()
+        );
+        final JavaPairRDD<KeyType, Iterable<Type>> groupedKeyRdd = keyedRdd.groupByKey(partitioner);
         this.name(groupedKeyRdd);
         final JavaRDD<Iterable<Type>> outputRdd = groupedKeyRdd.map(projector);
         this.name(outputRdd);
@@ -95,7 +103,13 @@ public class SparkMaterializedGroupByOperator<Type, KeyType>
         final Optional<LoadProfileEstimator> optEstimator =
                 SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor, configuration);
-        return optEstimator;
+        // Account for the sampling of the keys.
+        if (configuration.getBooleanProperty("rheem.spark.skew.enabled")) {
+            optEstimator.ifPresent(estimator -> estimator.nest(
+                    LoadProfileEstimators.createFromSpecification("rheem.spark.groupby.skew.load", configuration)
+            ));
+        }
+        return SkewAwarePartitioner.accountForSkew(optEstimator, configuration);
     }
 
     @Override
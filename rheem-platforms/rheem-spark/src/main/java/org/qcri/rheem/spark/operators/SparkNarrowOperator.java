@@ -0,0 +1,30 @@
+package org.qcri.rheem.spark.operators;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.spark.compiler.FusedPartitionsFunction;
+import org.qcri.rheem.spark.execution.SparkExecutor;
+
+/**
+ * {@link SparkExecutionOperator} that transforms each partition of its single main input {@link JavaRDD} into the
+ * corresponding partition of its single output, e.g., a map or a filter. Chains of such operators can be fused into a
+ * single {@link JavaRDD#mapPartitions(org.apache.spark.api.java.function.FlatMapFunction)} by the
+ * {@link SparkExecutor}.
+ */
+public interface SparkNarrowOperator extends SparkExecutionOperator {
+
+    /**
+     * Compiles the UDF of this instance into a {@link FusedPartitionsFunction.Step}.
+     *
+     * @param inputs          {@link ChannelInstance}s that satisfy the inputs of this operator; provide the broadcasts,
+     *                        but the main input might be {@code null}
+     * @param sparkExecutor   that executes this instance
+     * @param operatorContext optimization information for this instance
+     * @return the {@link FusedPartitionsFunction.Step}
+     */
+    FusedPartitionsFunction.Step compileStep(ChannelInstance[] inputs,
+                                             SparkExecutor sparkExecutor,
+                                             OptimizationContext.OperatorContext operatorContext);
+
+}
@@ -7,6 +7,7 @@ import org.apache.spark.api.java.function.Function2;
 import org.apache.spark.api.java.function.PairFunction;
 import org.qcri.rheem.basic.operators.ReduceByOperator;
 import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.function.FunctionDescriptor;
 import org.qcri.rheem.core.function.ReduceDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
@@ -20,8 +21,10 @@ import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.util.Tuple;
 import org.qcri.rheem.spark.channels.BroadcastChannel;
 import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.execution.SkewAwarePartitioner;
 import org.qcri.rheem.spark.execution.SparkExecutor;
 
+import java.io.Serializable;
 import java.util.*;
 
 /**
@@ -29,7 +32,7 @@ import java.util.*;
  */
 public class SparkReduceByOperator<Type, KeyType>
         extends ReduceByOperator<Type, KeyType>
-        implements SparkExecutionOperator {
+        implements SparkShuffleOperator {
 
 
     /**
@@ -62,25 +65,71 @@ public class SparkReduceByOperator<Type, KeyType>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        RddChannel.Instance input = (RddChannel.Instance) inputs[0];
-        RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        final JavaRDD<Type> outputRdd = this.shuffle(inputs, sparkExecutor, operatorContext).map(new TupleConverter<>());
+        this.name(outputRdd);
+
+        output.accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public JavaPairRDD<KeyType, Type> shuffle(ChannelInstance[] inputs,
+                                              SparkExecutor sparkExecutor,
+                                              OptimizationContext.OperatorContext operatorContext) {
+        final RddChannel.Instance input = (RddChannel.Instance) inputs[0];
 
         final JavaRDD<Type> inputStream = input.provideRdd();
         final PairFunction<Type, KeyType, Type> keyExtractor =
                 sparkExecutor.getCompiler().compileToKeyExtractor(this.keyDescriptor);
         Function2<Type, Type, Type> reduceFunc =
                 sparkExecutor.getCompiler().compile(this.reduceDescriptor, this, operatorContext, inputs);
-        final JavaPairRDD<KeyType, Type> pairRdd = inputStream.mapToPair(keyExtractor);
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        final JavaPairRDD<KeyType, Type> pairRdd = SkewAwarePartitioner.persistForSampling(
+                inputStream.mapToPair(keyExtractor), input, configuration
+        );
         this.name(pairRdd);
-        final JavaPairRDD<KeyType, Type> reducedPairRdd =
-                pairRdd.reduceByKey(reduceFunc, sparkExecutor.getNumDefaultPartitions());
+        final int numPartitions = sparkExecutor.getNumPartitions(operatorContext, 0);
+        if (SkewAwarePartitioner.isEnabled(configuration)) {
+            final List<Object> hotKeys = SkewAwarePartitioner.detectHotKeys(pairRdd.keys(), numPartitions, configuration);
+            if (!hotKeys.isEmpty()) {
+                return this.reduceWithSaltedHotKeys(pairRdd, new HashSet<>(hotKeys), reduceFunc, numPartitions);
+            }
+        }
+        final JavaPairRDD<KeyType, Type> reducedPairRdd = pairRdd.reduceByKey(reduceFunc, numPartitions);
         this.name(reducedPairRdd);
-        final JavaRDD<Type> outputRdd = reducedPairRdd.map(new TupleConverter<>());
-        this.name(outputRdd);
+        return reducedPairRdd;
+    }
 
-        output.accept(outputRdd, sparkExecutor);
+    /**
+     * Reduces the given RDD while spreading each hot key over {@code numPartitions} salted keys. Thereby, the hot keys
+     * are pre-aggregated in parallel (after a map-side combine). The partial results are then merged with a second
+     * reduce, which shuffles only one data quantum per key and salt.
+     */
+    @SuppressWarnings("unchecked")
+    private JavaPairRDD<KeyType, Type> reduceWithSaltedHotKeys(JavaPairRDD<KeyType, Type> pairRdd,
+                                                             HashSet<Object> hotKeys,
+                                                             Function2<Type, Type, Type> reduceFunc,
+                                                             int numPartitions) {
+        final JavaPairRDD<Object, Type> partiallyReducedPairRdd = pairRdd
+                .mapToPair(new KeySalter<>(hotKeys, numPartitions))
+                .reduceByKey(reduceFunc, numPartitions);
+        this.name(partiallyReducedPairRdd);
+        final JavaPairRDD<KeyType, Type> reducedPairRdd = partiallyReducedPairRdd
+                .mapToPair(keyValue -> new scala.Tuple2<>(
+                        keyValue._1() instanceof SaltedKey ? (KeyType) ((SaltedKey) keyValue._1()).key : (KeyType) keyValue._1(),
+                        keyValue._2()
+                ))
+                .reduceByKey(reduceFunc, numPartitions);
+        this.name(reducedPairRdd);
+        return reducedPairRdd;
+    }
 
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    @Override
+    public FunctionDescriptor.SerializableFunction<scala.Tuple2<KeyType, Type>, Type> getOutputConverter() {
+        return new TupleConverter<>();
     }
 
     @Override
@@ -90,17 +139,78 @@ public class SparkReduceByOperator<Type, KeyType>
 
     /**
      * Extracts the value from a {@link scala.Tuple2}.
-     * <p><i>TODO: See, if we can somehow dodge all this conversion, which is likely to happen a lot.</i></p>
+     * <p>If possible, the {@link SparkExecutor} folds this conversion into subsequent {@link SparkNarrowOperator}s.</p>
      */
     private static class TupleConverter<InputType, KeyType>
-            implements Function<scala.Tuple2<KeyType, InputType>, InputType> {
+            implements Function<scala.Tuple2<KeyType, InputType>, InputType>,
+            FunctionDescriptor.SerializableFunction<scala.Tuple2<KeyType, InputType>, InputType> {
 
         @Override
         public InputType call(scala.Tuple2<KeyType, InputType> scalaTuple) throws Exception {
+            return this.apply(scalaTuple);
+        }
+
+        @Override
+        public InputType apply(scala.Tuple2<KeyType, InputType> scalaTuple) {
             return scalaTuple._2;
         }
     }
 
+    /**
+     * Replaces hot keys with {@link SaltedKey}s, thereby cycling through the salts.
+     */
+    private static class KeySalter<KeyType, Type>
+            implements PairFunction<scala.Tuple2<KeyType, Type>, Object, Type> {
+
+        private final HashSet<Object> hotKeys;
+
+        private final int numSalts;
+
+        private int nextSalt = 0;
+
+        private KeySalter(HashSet<Object> hotKeys, int numSalts) {
+            this.hotKeys = hotKeys;
+            this.numSalts = numSalts;
+        }
+
+        @Override
+        public scala.Tuple2<Object, Type> call(scala.Tuple2<KeyType, Type> keyValue) throws Exception {
+            if (!this.hotKeys.contains(keyValue._1())) {
+                return new scala.Tuple2<>(keyValue._1(), keyValue._2());
+            }
+            this.nextSalt = (this.nextSalt + 1) % this.numSalts;
+            return new scala.Tuple2<>(new SaltedKey(keyValue._1(), this.nextSalt), keyValue._2());
+        }
+    }
+
+    /**
+     * A hot key along with a salt.
+     */
+    private static class SaltedKey implements Serializable {
+
+        private final Object key;
+
+        private final int salt;
+
+        private SaltedKey(Object key, int salt) {
+            this.key = key;
+            this.salt = salt;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || this.getClass() != o.getClass()) return false;
+            SaltedKey that = (SaltedKey) o;
+            return this.salt == that.salt && Objects.equals(this.key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(this.key) + this.salt;
+        }
+    }
+
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "rheem.spark.reduceby.load";
@@ -109,9 +219,15 @@ public class SparkReduceByOperator<Type, KeyType>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+                SparkShuffleOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor, configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.reduceDescriptor, configuration);
+        // Account for the sampling of the keys.
+        if (SkewAwarePartitioner.isEnabled(configuration)) {
+            optEstimator.ifPresent(estimator -> estimator.nest(
+                    LoadProfileEstimators.createFromSpecification("rheem.spark.reduceby.skew.load", configuration)
+            ));
+        }
         return optEstimator;
     }
 
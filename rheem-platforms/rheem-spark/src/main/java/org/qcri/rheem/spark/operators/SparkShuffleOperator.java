@@ -0,0 +1,36 @@
+package org.qcri.rheem.spark.operators;
+
+import org.apache.spark.api.java.JavaPairRDD;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.spark.execution.SparkExecutor;
+
+/**
+ * {@link SparkExecutionOperator} that shuffles its inputs into a {@link JavaPairRDD} and only then converts the
+ * {@link scala.Tuple2}s into its output data quanta. The {@link SparkExecutor} can fold this conversion into
+ * subsequent {@link SparkNarrowOperator}s.
+ */
+public interface SparkShuffleOperator extends SparkExecutionOperator {
+
+    /**
+     * Lazily shuffles the inputs of this instance without converting the result to the output data quanta.
+     *
+     * @param inputs          {@link ChannelInstance}s that satisfy the inputs of this operator
+     * @param sparkExecutor   that executes this instance
+     * @param operatorContext optimization information for this instance
+     * @return the shuffled {@link JavaPairRDD}
+     */
+    JavaPairRDD<?, ?> shuffle(ChannelInstance[] inputs,
+                              SparkExecutor sparkExecutor,
+                              OptimizationContext.OperatorContext operatorContext);
+
+    /**
+     * Provides the conversion from the {@link scala.Tuple2}s of the {@link #shuffle(ChannelInstance[], SparkExecutor,
+     * OptimizationContext.OperatorContext) shuffled} {@link JavaPairRDD} to the output data quanta.
+     *
+     * @return the conversion function
+     */
+    FunctionDescriptor.SerializableFunction<?, ?> getOutputConverter();
+
+}
@@ -67,7 +67,7 @@ public class SparkSortOperator<Type, Key>
 
         final JavaPairRDD<Key, Type> keyedRdd = inputRdd.mapToPair(keyExtractor);
         this.name(keyedRdd);
-        final JavaPairRDD<Key, Type> sortedKeyedRdd = keyedRdd.sortByKey(true, sparkExecutor.getNumDefaultPartitions());
+        final JavaPairRDD<Key, Type> sortedKeyedRdd = keyedRdd.sortByKey(true, sparkExecutor.getNumPartitions(operatorContext, 0));
         this.name(sortedKeyedRdd);
         final JavaRDD<Type> outputRdd = sortedKeyedRdd.map(y -> y._2);
         this.name(outputRdd);
@@ -1,8 +1,11 @@
 package org.qcri.rheem.spark.operators;
 
+import org.apache.spark.Accumulable;
+import org.apache.spark.AccumulableParam;
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function;
 import org.qcri.rheem.basic.channels.FileChannel;
-import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.channels.TsvCodec;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
 import org.qcri.rheem.core.plan.rheemplan.Operator;
@@ -22,24 +25,37 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * {@link Operator} for the {@link SparkPlatform} that creates a TSV file.
- * Only applicable to tuples with standard datatypes.
+ * {@link Operator} for the {@link SparkPlatform} that creates a TSV file via a {@link TsvCodec}.
  *
- * @see SparkObjectFileSource
+ * @see SparkTsvFileSource
  */
-public class SparkTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> implements SparkExecutionOperator {
+public class SparkTsvFileSink<T> extends UnarySink<T> implements SparkExecutionOperator {
 
     private final String targetPath;
 
+    /**
+     * Classes of the fields of the data quanta; might be empty.
+     */
+    private final Class<?>[] fieldClasses;
+
+    private final TsvCodec<T> codec;
+
     public SparkTsvFileSink(DataSetType<T> type) {
         this(null, type);
     }
 
-    public SparkTsvFileSink(String targetPath, DataSetType<T> type) {
+    /**
+     * Creates a new instance.
+     *
+     * @param targetPath   the file to write or {@code null} if a temporary file should be used
+     * @param type         of the data quanta
+     * @param fieldClasses classes of the fields of the data quanta; see {@link TsvCodec#create(DataSetType, Class[])}
+     */
+    public SparkTsvFileSink(String targetPath, DataSetType<T> type, Class<?>... fieldClasses) {
         super(type);
-        assert type.equals(DataSetType.createDefault(Tuple2.class)) :
-                String.format("Illegal type for %s: %s", this, type);
         this.targetPath = targetPath;
+        this.fieldClasses = fieldClasses;
+        this.codec = TsvCodec.create(type, fieldClasses);
     }
 
     @Override
@@ -54,18 +70,19 @@ public class SparkTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> imple
         final String targetPath = output.addGivenOrTempPath(this.targetPath, sparkExecutor.getConfiguration());
 
         final RddChannel.Instance input = (RddChannel.Instance) inputs[0];
-        final JavaRDD<Object> rdd = input.provideRdd();
-        final JavaRDD<String> serializedRdd = rdd
-                .map(dataQuantum -> {
-                    // TODO: Once there are more tuple types, make this generic.
-                    @SuppressWarnings("unchecked")
-                    Tuple2<Object, Object> tuple2 = (Tuple2<Object, Object>) dataQuantum;
-                    return String.valueOf(tuple2.field0) + '\t' + String.valueOf(tuple2.field1);
-                });
+        final JavaRDD<T> rdd = input.provideRdd();
+        final Accumulable<TsvCodec.FieldClassCollector, Object> fieldClassCollector =
+                sparkExecutor.sc.accumulable(new TsvCodec.FieldClassCollector(), new FieldClassCollectorParam());
+        final JavaRDD<String> serializedRdd = rdd.map(new FormatFunction<>(this.codec, fieldClassCollector));
         this.name(serializedRdd);
         serializedRdd
                 .coalesce(1) // TODO: Allow more than one TSV file?
                 .saveAsTextFile(targetPath);
+        // Tell readers of the output the field classes, which the DataSetType might not specify.
+        output.setFieldClasses(this.fieldClasses.length > 0 ?
+                this.fieldClasses :
+                fieldClassCollector.value().getFieldClasses()
+        );
 
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
@@ -73,7 +90,7 @@ public class SparkTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> imple
 
     @Override
     protected ExecutionOperator createCopy() {
-        return new SparkTsvFileSink<>(this.targetPath, this.getType());
+        return new SparkTsvFileSink<>(this.targetPath, this.getType(), this.fieldClasses);
     }
 
     @Override
@@ -96,4 +113,53 @@ public class SparkTsvFileSink<T extends Tuple2<?, ?>> extends UnarySink<T> imple
         return true;
     }
 
+    /**
+     * Formats data quanta with a {@link TsvCodec.Formatter} that is created once per deserialized instance, i.e.,
+     * per task.
+     */
+    private static class FormatFunction<T> implements Function<T, String> {
+
+        private final TsvCodec<T> codec;
+
+        private final Accumulable<TsvCodec.FieldClassCollector, Object> fieldClassCollector;
+
+        private transient TsvCodec.Formatter<T> formatter;
+
+        private FormatFunction(TsvCodec<T> codec, Accumulable<TsvCodec.FieldClassCollector, Object> fieldClassCollector) {
+            this.codec = codec;
+            this.fieldClassCollector = fieldClassCollector;
+        }
+
+        @Override
+        public String call(T dataQuantum) {
+            if (this.formatter == null) this.formatter = this.codec.createFormatter();
+            this.fieldClassCollector.add(dataQuantum);
+            return this.formatter.format(dataQuantum);
+        }
+    }
+
+    /**
+     * Lets {@link TsvCodec.FieldClassCollector}s observe data quanta on the workers and merges them on the driver.
+     */
+    private static class FieldClassCollectorParam implements AccumulableParam<TsvCodec.FieldClassCollector, Object> {
+
+        @Override
+        public TsvCodec.FieldClassCollector addAccumulator(TsvCodec.FieldClassCollector collector, Object dataQuantum) {
+            collector.observe(dataQuantum);
+            return collector;
+        }
+
+        @Override
+        public TsvCodec.FieldClassCollector addInPlace(TsvCodec.FieldClassCollector collector1,
+                                                       TsvCodec.FieldClassCollector collector2) {
+            collector1.merge(collector2);
+            return collector1;
+        }
+
+        @Override
+        public TsvCodec.FieldClassCollector zero(TsvCodec.FieldClassCollector initialValue) {
+            return new TsvCodec.FieldClassCollector();
+        }
+    }
+
 }
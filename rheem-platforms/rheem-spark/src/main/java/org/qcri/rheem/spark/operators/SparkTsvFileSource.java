@@ -1,7 +1,9 @@
 package org.qcri.rheem.spark.operators;
 
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function;
 import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.channels.TsvCodec;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.core.optimizer.OptimizationContext;
 import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
@@ -22,21 +24,40 @@ import java.util.Collections;
 import java.util.List;
 
 /**
- * {@link Operator} for the {@link SparkPlatform} that creates a sequence file. Consistent with Spark's object files.
+ * {@link Operator} for the {@link SparkPlatform} that reads a TSV file via a {@link TsvCodec}.
  *
- * @see SparkObjectFileSink
+ * @see SparkTsvFileSink
  */
 public class SparkTsvFileSource<T> extends UnarySource<T> implements SparkExecutionOperator {
 
     private final String sourcePath;
 
-    public SparkTsvFileSource(DataSetType type) {
-        this(null, type);
+    /**
+     * Classes of the fields of the data quanta; might be empty.
+     */
+    private final Class<?>[] fieldClasses;
+
+    private final TsvCodec<T> codec;
+
+    /**
+     * Creates a new instance that reads {@link Tuple2}s of {@link Integer}s and {@link Float}s.
+     */
+    public SparkTsvFileSource(DataSetType<Tuple2> type) {
+        this(null, (DataSetType) type, Integer.class, Float.class);
     }
 
-    public SparkTsvFileSource(String sourcePath, DataSetType<T> type) {
+    /**
+     * Creates a new instance.
+     *
+     * @param sourcePath   the file to read or {@code null} if it is provided via a {@link FileChannel}
+     * @param type         of the data quanta
+     * @param fieldClasses classes of the fields of the data quanta; see {@link TsvCodec#create(DataSetType, Class[])}
+     */
+    public SparkTsvFileSource(String sourcePath, DataSetType<T> type, Class<?>... fieldClasses) {
         super(type);
         this.sourcePath = sourcePath;
+        this.fieldClasses = fieldClasses;
+        this.codec = TsvCodec.create(type, fieldClasses);
     }
 
     @Override
@@ -46,26 +67,23 @@ public class SparkTsvFileSource<T> extends UnarySource<T> implements SparkExecut
             SparkExecutor sparkExecutor,
             OptimizationContext.OperatorContext operatorContext) {
         final String sourcePath;
+        TsvCodec<T> codec = this.codec;
         if (this.sourcePath != null) {
             assert inputs.length == 0;
             sourcePath = this.sourcePath;
         } else {
             FileChannel.Instance input = (FileChannel.Instance) inputs[0];
             sourcePath = input.getSinglePath();
+            if (this.fieldClasses.length == 0 && input.getFieldClasses().length > 0) {
+                codec = TsvCodec.create(this.getType(), input.getFieldClasses());
+            }
         }
         RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
         final String actualInputPath = FileSystems.findActualSingleInputPath(sourcePath);
         final JavaRDD<String> linesRdd = sparkExecutor.sc.textFile(actualInputPath);
         this.name(linesRdd);
-        final JavaRDD<T> dataQuantaRdd = linesRdd
-                .map(line -> {
-                    // TODO: Important. Enrich type informations to create the correct parser!
-                    int tabPos = line.indexOf('\t');
-                    return (T) new Tuple2<>(
-                            Integer.valueOf(line.substring(0, tabPos)),
-                            Float.valueOf(line.substring(tabPos + 1)));
-                });
+        final JavaRDD<T> dataQuantaRdd = linesRdd.map(new ParseFunction<>(codec));
         this.name(dataQuantaRdd);
 
         output.accept(dataQuantaRdd, sparkExecutor);
@@ -76,7 +94,7 @@ public class SparkTsvFileSource<T> extends UnarySource<T> implements SparkExecut
 
     @Override
     protected ExecutionOperator createCopy() {
-        return new SparkTsvFileSource<>(this.sourcePath, this.getType());
+        return new SparkTsvFileSource<>(this.sourcePath, this.getType(), this.fieldClasses);
     }
 
     @Override
@@ -99,4 +117,24 @@ public class SparkTsvFileSource<T> extends UnarySource<T> implements SparkExecut
         return false;
     }
 
+    /**
+     * Parses lines with a {@link TsvCodec.Parser} that is created once per deserialized instance, i.e., per task.
+     */
+    private static class ParseFunction<T> implements Function<String, T> {
+
+        private final TsvCodec<T> codec;
+
+        private transient TsvCodec.Parser<T> parser;
+
+        private ParseFunction(TsvCodec<T> codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public T call(String line) {
+            if (this.parser == null) this.parser = this.codec.createParser();
+            return this.parser.parse(line);
+        }
+    }
+
 }
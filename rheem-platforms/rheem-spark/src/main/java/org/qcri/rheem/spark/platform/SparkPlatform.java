@@ -65,7 +65,9 @@ public class SparkPlatform extends Platform {
             "spark.io.compression.codec",
             "spark.driver.memory",
             "spark.executor.heartbeatInterval",
-            "spark.network.timeout"
+            "spark.network.timeout",
+            "spark.scheduler.mode",
+            "spark.scheduler.allocation.file"
     };
 
     /**
@@ -76,7 +78,7 @@ public class SparkPlatform extends Platform {
 
     private Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public static SparkPlatform getInstance() {
+    public static synchronized SparkPlatform getInstance() {
         if (instance == null) {
             instance = new SparkPlatform();
         }
@@ -89,43 +91,42 @@ public class SparkPlatform extends Platform {
 
     /**
      * Configures the single maintained {@link JavaSparkContext} according to the {@code job} and returns it.
+     * The caller obtains a reference on the returned instance and is responsible to discard it.
      *
      * @return a {@link SparkContextReference} wrapping the {@link JavaSparkContext}
      */
-    public SparkContextReference getSparkContext(Job job) {
+    public synchronized SparkContextReference getSparkContext(Job job) {
 
-        // NB: There must be only one JavaSparkContext per JVM. Therefore, it is not local to the executor.
-        final SparkConf sparkConf;
+        // NB: There must be only one JavaSparkContext per JVM. Therefore, it is not local to the executor and
+        // shared among all concurrently running Jobs, which are separated via scheduler pools (see SparkExecutor).
         final Configuration configuration = job.getConfiguration();
-        if (this.sparkContextReference != null && !this.sparkContextReference.isDisposed()) {
-            final JavaSparkContext sparkContext = this.sparkContextReference.get();
-            this.logger.warn(
-                    "There is already a SparkContext (master: {}): , which will be reused. " +
-                            "Not all settings might be effective.", sparkContext.getConf().get("spark.master"));
-            sparkConf = sparkContext.getConf();
+        if (this.sparkContextReference != null && this.sparkContextReference.tryObtainReference()) {
+            this.logger.info(
+                    "There is already a SparkContext (master: {}), which will be reused. " +
+                            "Not all settings might be effective.", this.sparkContextReference.get().getConf().get("spark.master"));
         } else {
-            sparkConf = new SparkConf(true);
-        }
-
-        for (String property : REQUIRED_SPARK_PROPERTIES) {
-            sparkConf.set(property, configuration.getStringProperty(property));
-        }
-        for (String property : OPTIONAL_SPARK_PROPERTIES) {
-            configuration.getOptionalStringProperty(property).ifPresent(
-                    value -> sparkConf.set(property, value)
-            );
-        }
-        if (job.getName() != null) {
-            sparkConf.set("spark.app.name", job.getName());
-        }
-
-        if (this.sparkContextReference == null || this.sparkContextReference.isDisposed()) {
+            if (this.sparkContextReference != null) {
+                // Another Job might still be stopping the JavaSparkContext, and there must not be a second one.
+                this.sparkContextReference.awaitDisposal();
+            }
+            final SparkConf sparkConf = new SparkConf(true);
+            for (String property : REQUIRED_SPARK_PROPERTIES) {
+                sparkConf.set(property, configuration.getStringProperty(property));
+            }
+            for (String property : OPTIONAL_SPARK_PROPERTIES) {
+                configuration.getOptionalStringProperty(property).ifPresent(
+                        value -> sparkConf.set(property, value)
+                );
+            }
+            if (job.getName() != null) {
+                sparkConf.set("spark.app.name", job.getName());
+            }
             this.sparkContextReference = new SparkContextReference(job.getCrossPlatformExecutor(), new JavaSparkContext(sparkConf));
+            this.sparkContextReference.noteObtainedReference();
         }
         final JavaSparkContext sparkContext = this.sparkContextReference.get();
 
-        // Set up the JAR files.
-        sparkContext.clearJars();
+        // Set up the JAR files. We do not clear the JARs of previous Jobs, as they might still be running.
         if (!sparkContext.isLocal()) {
             // Add Rheem JAR files.
             this.registerJarIfNotNull(ReflectionUtils.getDeclaringJar(SparkPlatform.class)); // rheem-spark
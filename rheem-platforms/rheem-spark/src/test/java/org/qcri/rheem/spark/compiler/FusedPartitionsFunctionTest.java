@@ -0,0 +1,73 @@
+package org.qcri.rheem.spark.compiler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.core.function.ExecutionContext;
+import org.qcri.rheem.core.function.FunctionDescriptor;
+import org.qcri.rheem.spark.execution.SparkExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test suite for {@link FusedPartitionsFunction}.
+ */
+public class FusedPartitionsFunctionTest {
+
+    @Test
+    public void testChainOfSteps() throws Exception {
+        final FusedPartitionsFunction function = new FusedPartitionsFunction(Arrays.asList(
+                FusedPartitionsFunction.map((FunctionDescriptor.SerializableFunction<scala.Tuple2<String, Integer>, Integer>) scala.Tuple2::_2, null),
+                FusedPartitionsFunction.filter((Integer i) -> i % 2 == 0, null),
+                FusedPartitionsFunction.flatMap((Integer i) -> Arrays.asList(i, -i), null),
+                FusedPartitionsFunction.mapPartitions((Iterable<Integer> partition) -> {
+                    List<Integer> result = new ArrayList<>();
+                    for (Integer i : partition) result.add(10 * i);
+                    return result;
+                }, null)
+        ));
+
+        final List<Object> input = Arrays.asList(
+                new scala.Tuple2<>("a", 1), new scala.Tuple2<>("b", 2), new scala.Tuple2<>("c", 3), new scala.Tuple2<>("d", 4)
+        );
+        final List<Object> output = new ArrayList<>();
+        function.call(input.iterator()).forEach(output::add);
+        Assert.assertEquals(Arrays.asList(20, -20, 40, -40), output);
+
+        // Empty partitions should not be passed to the map partitions UDF.
+        Assert.assertFalse(function.call(Collections.emptyIterator()).iterator().hasNext());
+    }
+
+    @Test
+    public void testOpeningExtendedFunctions() throws Exception {
+        final FusedPartitionsFunction function = new FusedPartitionsFunction(Collections.singletonList(
+                FusedPartitionsFunction.map(new OffsetFunction(), new SparkExecutionContext(3))
+        ));
+        final List<Object> output = new ArrayList<>();
+        function.call(Arrays.<Object>asList(1, 2).iterator()).forEach(output::add);
+        Assert.assertEquals(Arrays.asList(4, 5), output);
+        Assert.assertEquals(4, function.call(Collections.<Object>singletonList(1).iterator()).iterator().next());
+    }
+
+    /**
+     * Adds the current iteration number as provided by the {@link ExecutionContext} in
+     * {@link #open(ExecutionContext)}.
+     */
+    private static class OffsetFunction implements FunctionDescriptor.ExtendedSerializableFunction<Integer, Integer> {
+
+        private int offset = -1;
+
+        @Override
+        public void open(ExecutionContext ctx) {
+            this.offset = ctx.getCurrentIteration();
+        }
+
+        @Override
+        public Integer apply(Integer i) {
+            return i + this.offset;
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package org.qcri.rheem.spark.execution;
+
+import org.apache.spark.rdd.RDD;
+import org.apache.spark.rdd.ShuffledRDD;
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.optimizer.DefaultOptimizationContext;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.plan.executionplan.ExecutionStage;
+import org.qcri.rheem.core.plan.executionplan.ExecutionTask;
+import org.qcri.rheem.core.plan.rheemplan.ExecutionOperator;
+import org.qcri.rheem.core.platform.CrossPlatformExecutor;
+import org.qcri.rheem.core.profiling.NoInstrumentationStrategy;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.util.ReflectionUtils;
+import org.qcri.rheem.core.util.RheemArrays;
+import org.qcri.rheem.spark.channels.RddChannel;
+import org.qcri.rheem.spark.operators.SparkCollectionSource;
+import org.qcri.rheem.spark.operators.SparkFilterOperator;
+import org.qcri.rheem.spark.operators.SparkLocalCallbackSink;
+import org.qcri.rheem.spark.operators.SparkMapOperator;
+import org.qcri.rheem.spark.operators.SparkReduceByOperator;
+import org.qcri.rheem.spark.platform.SparkPlatform;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link SparkExecutor}.
+ */
+public class SparkExecutorTest {
+
+    @Test
+    public void testFusionAfterShuffle() {
+        for (boolean isFusion : new boolean[]{true, false}) {
+            Configuration configuration = new Configuration();
+            configuration.setProperty("rheem.spark.fusion", String.valueOf(isFusion));
+            Job job = mock(Job.class);
+            when(job.getConfiguration()).thenReturn(configuration);
+            when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
+            OptimizationContext optimizationContext = new DefaultOptimizationContext(job);
+
+            ExecutionStage sparkStage = mock(ExecutionStage.class);
+
+            ExecutionTask sourceTask = this.createTask(new SparkCollectionSource<>(
+                    Arrays.asList(new Tuple2<>("a", 1), new Tuple2<>("b", 2), new Tuple2<>("a", 3), new Tuple2<>("c", 5)),
+                    DataSetType.createDefaultUnchecked(Tuple2.class)
+            ), sparkStage, optimizationContext);
+
+            ExecutionTask reduceByTask = this.createTask(new SparkReduceByOperator<Tuple2<String, Integer>, String>(
+                    DataSetType.createDefaultUnchecked(Tuple2.class),
+                    new TransformationDescriptor<>(
+                            tuple -> tuple.field0, ReflectionUtils.specify(Tuple2.class), String.class),
+                    new ReduceDescriptor<>(
+                            (t1, t2) -> new Tuple2<>(t1.field0, t1.field1 + t2.field1), ReflectionUtils.specify(Tuple2.class))
+            ), sparkStage, optimizationContext);
+            sourceTask.getOutputChannel(0).addConsumer(reduceByTask, 0);
+
+            ExecutionTask mapTask = this.createTask(new SparkMapOperator<Tuple2<String, Integer>, Integer>(
+                    DataSetType.createDefaultUnchecked(Tuple2.class),
+                    DataSetType.createDefault(Integer.class),
+                    new TransformationDescriptor<>(tuple -> tuple.field1, ReflectionUtils.specify(Tuple2.class), Integer.class)
+            ), sparkStage, optimizationContext);
+            reduceByTask.getOutputChannel(0).addConsumer(mapTask, 0);
+
+            ExecutionTask filterTask = this.createTask(new SparkFilterOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    new PredicateDescriptor<>(v -> v > 2, Integer.class)
+            ), sparkStage, optimizationContext);
+            mapTask.getOutputChannel(0).addConsumer(filterTask, 0);
+
+            when(sparkStage.getStartTasks()).thenReturn(Collections.singleton(sourceTask));
+            when(sparkStage.getTerminalTasks()).thenReturn(Collections.singleton(filterTask));
+
+            ExecutionStage nextStage = mock(ExecutionStage.class);
+            ExecutionTask sinkTask = new ExecutionTask(new SparkLocalCallbackSink<>(
+                    v -> {
+                    },
+                    DataSetType.createDefault(Integer.class)
+            ));
+            sinkTask.setStage(nextStage);
+            filterTask.getOutputChannel(0).addConsumer(sinkTask, 0);
+
+            final SparkExecutor sparkExecutor = (SparkExecutor) SparkPlatform.getInstance().getExecutorFactory().create(job);
+            try {
+                sparkExecutor.execute(sparkStage, optimizationContext, job.getCrossPlatformExecutor());
+
+                final RddChannel.Instance output = (RddChannel.Instance)
+                        job.getCrossPlatformExecutor().getChannelInstance(filterTask.getOutputChannel(0));
+                final List<Integer> result = new ArrayList<>(output.<Integer>provideRdd().collect());
+                Collections.sort(result);
+                Assert.assertEquals(RheemArrays.asList(4, 5), result);
+
+                // The Tuple2 conversion of the shuffle, the map, and the filter should result in a single RDD.
+                final int numNarrowRdds = countRddsSinceShuffle(output.provideRdd().rdd());
+                if (isFusion) {
+                    Assert.assertEquals(1, numNarrowRdds);
+                } else {
+                    Assert.assertTrue(numNarrowRdds >= 3);
+                }
+            } finally {
+                sparkExecutor.dispose();
+            }
+        }
+    }
+
+    private ExecutionTask createTask(ExecutionOperator operator,
+                                     ExecutionStage stage,
+                                     OptimizationContext optimizationContext) {
+        optimizationContext.addOneTimeOperator(operator);
+        ExecutionTask task = new ExecutionTask(operator);
+        task.setOutputChannel(0, new RddChannel(RddChannel.UNCACHED_DESCRIPTOR, operator.getOutput(0)));
+        task.setStage(stage);
+        return task;
+    }
+
+    /**
+     * Counts the {@link RDD}s that are derived from the closest {@link ShuffledRDD} via narrow dependencies.
+     *
+     * @param rdd the last {@link RDD}
+     * @return the number of {@link RDD}s, including the given one
+     */
+    private static int countRddsSinceShuffle(RDD<?> rdd) {
+        int numRdds = 0;
+        while (!(rdd instanceof ShuffledRDD)) {
+            numRdds++;
+            Assert.assertEquals(1, rdd.dependencies().size());
+            rdd = rdd.dependencies().head().rdd();
+        }
+        return numRdds;
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.qcri.rheem.spark.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.BinaryFileReader;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.spark.channels.RddChannel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link SparkBinaryFileSink} and {@link SparkBinaryFileSource}.
+ */
+public class SparkBinaryFileSinkTest extends SparkOperatorTestBase {
+
+    @Test
+    public void testWritingAndReading() throws IOException {
+        // Prepare the sink.
+        Path tempDir = Files.createTempDirectory("rheem-spark");
+        tempDir.toFile().deleteOnExit();
+        final String targetPath = tempDir.resolve("testWritingAndReading").toUri().toString();
+        final List<Tuple2<Integer, String>> dataQuanta = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            dataQuanta.add(new Tuple2<>(i, "value" + i));
+        }
+        final RddChannel.Instance input = this.createRddChannelInstance(dataQuanta);
+        final int numPartitions = input.provideRdd().partitions().size();
+        final SparkBinaryFileSink<Tuple2<Integer, String>> sink = new SparkBinaryFileSink<>(
+                targetPath, DataSetType.createDefaultUnchecked(Tuple2.class)
+        );
+        final ChannelInstance fileChannelInstance = FileChannel.HDFS_BINARY_DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(this.sparkExecutor, null, -1);
+
+        // Write.
+        this.evaluate(sink, new ChannelInstance[]{input}, new ChannelInstance[]{fileChannelInstance});
+
+        // There should be one part per partition, which the Java platform can read, too.
+        final List<String> parts = BinaryFileReader.findParts(targetPath);
+        Assert.assertEquals(numPartitions, parts.size());
+        Assert.assertEquals(dataQuanta, parts.stream()
+                .map(BinaryFileReader::open)
+                .flatMap(BinaryFileReader::stream)
+                .collect(Collectors.toList())
+        );
+
+        // Read.
+        final SparkBinaryFileSource<Tuple2<Integer, String>> source = new SparkBinaryFileSource<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class)
+        );
+        final RddChannel.Instance output = this.createRddChannelInstance();
+        this.evaluate(source, new ChannelInstance[]{fileChannelInstance}, new ChannelInstance[]{output});
+
+        Assert.assertEquals(numPartitions, output.provideRdd().partitions().size());
+        Assert.assertEquals(dataQuanta, output.<Tuple2<Integer, String>>provideRdd().collect());
+    }
+}
@@ -0,0 +1,84 @@
+package org.qcri.rheem.spark.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.data.Tuple2;
+import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
+import org.qcri.rheem.spark.channels.RddChannel;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Test suite for {@link SparkBroadcastHashJoinOperator}.
+ */
+public class SparkBroadcastHashJoinOperatorTest extends SparkOperatorTestBase {
+
+    private static final List<Tuple2<Integer, String>> INPUT0 = Arrays.asList(
+            new Tuple2<>(1, "b"), new Tuple2<>(1, "c"), new Tuple2<>(2, "d"), new Tuple2<>(3, "e"));
+
+    private static final List<Tuple2<String, Integer>> INPUT1 = Arrays.asList(
+            new Tuple2<>("x", 1), new Tuple2<>("y", 1), new Tuple2<>("z", 2), new Tuple2<>("w", 4));
+
+    @Test
+    public void testExecutionWithBroadcastInput0() {
+        this.testExecution(0);
+    }
+
+    @Test
+    public void testExecutionWithBroadcastInput1() {
+        this.testExecution(1);
+    }
+
+    private void testExecution(int broadcastInputIndex) {
+        // Prepare test data.
+        ChannelInstance input0 = broadcastInputIndex == 0 ?
+                this.createBroadcastChannelInstance(INPUT0) :
+                this.createRddChannelInstance(INPUT0);
+        ChannelInstance input1 = broadcastInputIndex == 1 ?
+                this.createBroadcastChannelInstance(INPUT1) :
+                this.createRddChannelInstance(INPUT1);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Build the join operator.
+        SparkBroadcastHashJoinOperator<Tuple2, Tuple2, Integer> join =
+                new SparkBroadcastHashJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"),
+                        broadcastInputIndex);
+
+        // Set up the ChannelInstances.
+        final ChannelInstance[] inputs = new ChannelInstance[]{input0, input1};
+        final ChannelInstance[] outputs = new ChannelInstance[]{output};
+
+        // Execute.
+        this.evaluate(join, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                output.<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideRdd().collect();
+        Assert.assertEquals(5, result.size());
+        Set<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> expectedResult = new HashSet<>(Arrays.asList(
+                new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("x", 1)),
+                new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("y", 1)),
+                new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("x", 1)),
+                new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("y", 1)),
+                new Tuple2<>(new Tuple2<>(2, "d"), new Tuple2<>("z", 2))
+        ));
+        Assert.assertEquals(expectedResult, new HashSet<>(result));
+    }
+
+}
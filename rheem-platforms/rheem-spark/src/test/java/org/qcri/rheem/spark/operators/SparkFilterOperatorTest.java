@@ -2,13 +2,19 @@ package org.qcri.rheem.spark.operators;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.apache.spark.api.java.JavaRDD;
 import org.qcri.rheem.core.function.PredicateDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.spark.channels.RddChannel;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Test suite for {@link SparkFilterOperator}.
@@ -42,4 +48,30 @@ public class SparkFilterOperatorTest extends SparkOperatorTestBase {
 
     }
 
+    @Test
+    public void testExecutionWithTinyOutput() {
+        // Prepare test data.
+        List<Integer> data = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        RddChannel.Instance input = this.createRddChannelInstance();
+        input.accept(this.getSC().parallelize(data, 8), this.sparkExecutor);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Build the filter operator and let it expect a tiny output.
+        SparkFilterOperator<Integer> filterOperator =
+                new SparkFilterOperator<>(
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        new PredicateDescriptor<>(item -> (item % 250 == 0), Integer.class)
+                );
+        final OptimizationContext.OperatorContext operatorContext = this.createOperatorContext(filterOperator);
+        operatorContext.setOutputCardinality(0, new CardinalityEstimate(1, 10, 0.9));
+
+        // Execute.
+        filterOperator.evaluate(new ChannelInstance[]{input}, new ChannelInstance[]{output}, this.sparkExecutor, operatorContext);
+
+        // Verify the outcome: the tiny output should be coalesced into a single partition.
+        final JavaRDD<Integer> outputRdd = output.provideRdd();
+        Assert.assertEquals(1, outputRdd.getNumPartitions());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(0, 250, 500, 750)), new HashSet<>(outputRdd.collect()));
+    }
+
 }
@@ -1,14 +1,17 @@
 package org.qcri.rheem.spark.operators;
 
+import org.apache.spark.api.java.JavaRDD;
 import org.junit.Assert;
 import org.junit.Test;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.function.ProjectionDescriptor;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.types.DataUnitType;
 import org.qcri.rheem.spark.channels.RddChannel;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -67,6 +70,57 @@ public class SparkMaterializedGroupByOperatorTest extends SparkOperatorTestBase
 
     }
 
+    @Test
+    public void testExecutionWithSkewHandling() {
+        // Prepare test data with a hot key.
+        List<Tuple2<String, Integer>> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data.add(new Tuple2<>(i % 5 == 0 ? "cold" + i : "hot", i));
+        }
+        RddChannel.Instance input = this.createRddChannelInstance(data);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Enable the skew handling.
+        this.configuration.setProperty("rheem.spark.skew.enabled", "true");
+        this.configuration.setProperty("rheem.spark.skew.sample-fraction", "1");
+        this.configuration.setProperty("rheem.spark.skew.threshold", "0.5");
+
+        // Build the group operator.
+        SparkMaterializedGroupByOperator<Tuple2<String, Integer>, String> groupByOperator =
+                new SparkMaterializedGroupByOperator<>(
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                "field0"),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createGroupedUnchecked(Tuple2.class)
+                );
+
+        // The cost model should account for the key sampling.
+        final LoadProfileEstimator estimator = groupByOperator.createLoadProfileEstimator(this.configuration).get();
+        Assert.assertTrue(estimator.getNestedEstimators().stream()
+                .anyMatch(nested -> "rheem.spark.groupby.skew.load".equals(nested.getConfigurationKey())));
+
+        // Execute.
+        this.evaluate(groupByOperator, new ChannelInstance[]{input}, new ChannelInstance[]{output});
+
+        // Verify the outcome: the hot key should reside in its own partition.
+        final JavaRDD<Iterable<Tuple2<String, Integer>>> outputRdd = output.provideRdd();
+        Assert.assertEquals(this.sparkExecutor.getNumDefaultPartitions() + 1, outputRdd.getNumPartitions());
+        final List<List<Tuple2<String, Integer>>> groups = outputRdd.collect().stream()
+                .map(this::toList)
+                .collect(Collectors.toList());
+        Assert.assertEquals(21, groups.size());
+        Assert.assertEquals(data.size(), groups.stream().mapToInt(List::size).sum());
+        for (List<Tuple2<String, Integer>> group : groups) {
+            Assert.assertEquals(1, group.stream().map(Tuple2::getField0).distinct().count());
+        }
+        final List<List<Iterable<Tuple2<String, Integer>>>> partitions = outputRdd.glom().collect();
+        final List<Iterable<Tuple2<String, Integer>>> lastPartition = partitions.get(partitions.size() - 1);
+        Assert.assertEquals(1, lastPartition.size());
+        Assert.assertEquals(80, this.toList(lastPartition.get(0)).size());
+    }
+
     private <T> List<T> toList(Iterable<T> iterable) {
         return StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
     }
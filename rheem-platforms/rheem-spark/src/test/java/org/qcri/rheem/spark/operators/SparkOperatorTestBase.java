@@ -11,6 +11,7 @@ import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.platform.CrossPlatformExecutor;
 import org.qcri.rheem.core.profiling.FullInstrumentationStrategy;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.spark.channels.BroadcastChannel;
 import org.qcri.rheem.spark.channels.RddChannel;
 import org.qcri.rheem.spark.execution.SparkExecutor;
 import org.qcri.rheem.spark.platform.SparkPlatform;
@@ -62,6 +63,10 @@ public class SparkOperatorTestBase {
         return ChannelFactory.createRddChannelInstance(collection, this.sparkExecutor, this.configuration);
     }
 
+    BroadcastChannel.Instance createBroadcastChannelInstance(Collection<?> collection) {
+        return ChannelFactory.createBroadcastChannelInstance(collection, this.sparkExecutor, this.configuration);
+    }
+
     protected CollectionChannel.Instance createCollectionChannelInstance() {
         return ChannelFactory.createCollectionChannelInstance(this.configuration);
     }
@@ -5,11 +5,15 @@ import org.junit.Test;
 import org.qcri.rheem.basic.data.Tuple2;
 import org.qcri.rheem.basic.function.ProjectionDescriptor;
 import org.qcri.rheem.core.function.ReduceDescriptor;
+import org.qcri.rheem.core.optimizer.OptimizationContext;
+import org.qcri.rheem.core.optimizer.cardinality.CardinalityEstimate;
+import org.qcri.rheem.core.optimizer.costs.LoadProfileEstimator;
 import org.qcri.rheem.core.platform.ChannelInstance;
 import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.core.types.DataUnitType;
 import org.qcri.rheem.spark.channels.RddChannel;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -71,4 +75,73 @@ public class SparkReduceByOperatorTest extends SparkOperatorTestBase {
         Assert.assertEquals(expectedResults.length, resultSet.size());
 
     }
+
+    @Test
+    public void testCardinalityBasedPartitioning() {
+        // Prepare test data.
+        RddChannel.Instance input = this.createRddChannelInstance(Arrays.asList(new Tuple2<>("a", 1), new Tuple2<>("b", 1)));
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Build the reduce operator and let it expect a large output.
+        SparkReduceByOperator<Tuple2<String, Integer>, String> reduceByOperator = this.createReduceByOperator();
+        final OptimizationContext.OperatorContext operatorContext = this.createOperatorContext(reduceByOperator);
+        operatorContext.setOutputCardinality(0, new CardinalityEstimate(10_000_000, 10_000_000, 1d));
+
+        // Execute.
+        reduceByOperator.evaluate(new ChannelInstance[]{input}, new ChannelInstance[]{output}, this.sparkExecutor, operatorContext);
+
+        // Verify the outcome: 10,000,000 data quanta of 100 bytes each should make for 15 partitions of 64 MiB.
+        Assert.assertEquals(15, output.provideRdd().getNumPartitions());
+        Assert.assertEquals(2, output.provideRdd().count());
+    }
+
+    @Test
+    public void testExecutionWithSkewHandling() {
+        // Prepare test data with a hot key.
+        List<Tuple2<String, Integer>> inputList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inputList.add(new Tuple2<>(i % 5 == 0 ? "cold" + i : "hot", 1));
+        }
+        RddChannel.Instance input = this.createRddChannelInstance(inputList);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Enable the skew handling.
+        this.configuration.setProperty("rheem.spark.skew.enabled", "true");
+        this.configuration.setProperty("rheem.spark.skew.sample-fraction", "1");
+        this.configuration.setProperty("rheem.spark.skew.threshold", "0.5");
+
+        // Build the reduce operator.
+        SparkReduceByOperator<Tuple2<String, Integer>, String> reduceByOperator = this.createReduceByOperator();
+
+        // The cost model should account for the key sampling.
+        final LoadProfileEstimator estimator = reduceByOperator.createLoadProfileEstimator(this.configuration).get();
+        Assert.assertTrue(estimator.getNestedEstimators().stream()
+                .anyMatch(nested -> "rheem.spark.reduceby.skew.load".equals(nested.getConfigurationKey())));
+
+        // Execute.
+        this.evaluate(reduceByOperator, new ChannelInstance[]{input}, new ChannelInstance[]{output});
+
+        // Verify the outcome: the salted hot key should be reduced to a single data quantum.
+        final List<Tuple2<String, Integer>> result = output.<Tuple2<String, Integer>>provideRdd().collect();
+        Assert.assertEquals(21, result.size());
+        for (Tuple2<String, Integer> dataQuantum : result) {
+            Assert.assertEquals(dataQuantum.toString(), "hot".equals(dataQuantum.field0) ? 80 : 1, (int) dataQuantum.field1);
+        }
+    }
+
+    private SparkReduceByOperator<Tuple2<String, Integer>, String> createReduceByOperator() {
+        return new SparkReduceByOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(String.class),
+                        "field0"),
+                new ReduceDescriptor<>(
+                        (a, b) -> {
+                            a.field1 += b.field1;
+                            return a;
+                        }, DataUnitType.createGroupedUnchecked(Tuple2.class),
+                        DataUnitType.createBasicUnchecked(Tuple2.class)
+                ));
+    }
 }
@@ -0,0 +1,55 @@
+package org.qcri.rheem.spark.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.qcri.rheem.basic.channels.FileChannel;
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.types.RecordType;
+import org.qcri.rheem.core.platform.ChannelInstance;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.spark.channels.RddChannel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test suite for {@link SparkTsvFileSink} and {@link SparkTsvFileSource}.
+ */
+public class SparkTsvFileSinkTest extends SparkOperatorTestBase {
+
+    @Test
+    public void testWritingAndReadingRecordsViaFileChannel() throws IOException {
+        Path tempDir = Files.createTempDirectory("rheem-spark");
+        tempDir.toFile().deleteOnExit();
+        final String targetPath = tempDir.resolve("testWritingAndReadingRecordsViaFileChannel").toUri().toString();
+
+        final List<Record> records = new ArrayList<>();
+        records.add(new Record(null, "first", null));
+        for (int i = 0; i < 1000; i++) {
+            records.add(new Record(i, "name\t" + i, (double) i / 3));
+        }
+        final DataSetType<Record> type = DataSetType.createDefault(new RecordType("id", "name", "score"));
+
+        // Write without specifying field classes, as done by the channel conversions.
+        final SparkTsvFileSink<Record> sink = new SparkTsvFileSink<>(targetPath, type);
+        final FileChannel.Instance fileChannelInstance = (FileChannel.Instance) FileChannel.HDFS_TSV_DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(this.sparkExecutor, null, -1);
+        this.evaluate(sink, new ChannelInstance[]{this.createRddChannelInstance(records)}, new ChannelInstance[]{fileChannelInstance});
+        Assert.assertArrayEquals(
+                new Class<?>[]{Integer.class, String.class, Double.class},
+                fileChannelInstance.getFieldClasses()
+        );
+
+        // Read: the field classes should be restored.
+        final SparkTsvFileSource<Record> source = new SparkTsvFileSource<>(null, type);
+        final RddChannel.Instance output = this.createRddChannelInstance();
+        this.evaluate(source, new ChannelInstance[]{fileChannelInstance}, new ChannelInstance[]{output});
+
+        Assert.assertEquals(records, output.<Record>provideRdd().collect());
+    }
+
+}
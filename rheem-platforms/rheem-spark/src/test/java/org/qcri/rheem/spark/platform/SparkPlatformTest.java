@@ -0,0 +1,62 @@
+package org.qcri.rheem.spark.platform;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.qcri.rheem.core.api.Configuration;
+import org.qcri.rheem.core.api.Job;
+import org.qcri.rheem.spark.execution.SparkContextReference;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link SparkPlatform}.
+ */
+public class SparkPlatformTest {
+
+    private static Job mockJob(String name) {
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(new Configuration());
+        when(job.getName()).thenReturn(name);
+        when(job.getUdfJarPaths()).thenReturn(Collections.emptySet());
+        return job;
+    }
+
+    @Test
+    public void testOverlappingReleaseAndAcquisition() throws Exception {
+        final SparkPlatform sparkPlatform = SparkPlatform.getInstance();
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            SparkContextReference reference = sparkPlatform.getSparkContext(mockJob("job0"));
+            // Only if no one else holds the JavaSparkContext, releasing it disposes it.
+            Assume.assumeTrue(reference.getNumReferences() == 1);
+
+            for (int i = 1; i <= 3; i++) {
+                // Let one job release the JavaSparkContext and let the next job acquire one while it is stopping.
+                final SparkContextReference releasedReference = reference;
+                final Future<?> release = executorService.submit(() -> releasedReference.noteDiscardedReference(true));
+                while (releasedReference.getNumReferences() > 0) {
+                    Thread.yield();
+                }
+                reference = sparkPlatform.getSparkContext(mockJob("job" + i));
+                release.get();
+
+                Assert.assertFalse(reference.isDisposed());
+                Assert.assertEquals(3L, reference.get().parallelize(Arrays.asList(1, 2, 3)).count());
+            }
+
+            reference.noteDiscardedReference(true);
+            Assert.assertTrue(reference.isDisposed());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+}
@@ -6,6 +6,7 @@ import org.qcri.rheem.core.plan.executionplan.Channel;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
 import org.qcri.rheem.core.util.RheemCollections;
 import org.qcri.rheem.java.channels.CollectionChannel;
+import org.qcri.rheem.spark.channels.BroadcastChannel;
 import org.qcri.rheem.spark.channels.RddChannel;
 import org.qcri.rheem.spark.execution.SparkExecutor;
 
@@ -55,4 +56,14 @@ public class ChannelFactory {
         return instance;
     }
 
+    public static BroadcastChannel.Instance createBroadcastChannelInstance(Collection<?> data,
+                                                                       SparkExecutor sparkExecutor,
+                                                                       Configuration configuration) {
+        BroadcastChannel.Instance instance = (BroadcastChannel.Instance) BroadcastChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(sparkExecutor, null, -1);
+        instance.accept(sparkExecutor.sc.broadcast(data));
+        return instance;
+    }
+
 }
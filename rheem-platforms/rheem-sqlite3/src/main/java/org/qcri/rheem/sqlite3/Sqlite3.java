@@ -1,5 +1,6 @@
 package org.qcri.rheem.sqlite3;
 
+import org.qcri.rheem.jdbc.plugin.JdbcSparkConversionsPlugin;
 import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
 import org.qcri.rheem.sqlite3.plugin.Sqlite3ConversionPlugin;
 import org.qcri.rheem.sqlite3.plugin.Sqlite3Plugin;
@@ -13,6 +14,9 @@ public class Sqlite3 {
 
     private final static Sqlite3ConversionPlugin CONVERSION_PLUGIN = new Sqlite3ConversionPlugin();
 
+    private final static JdbcSparkConversionsPlugin SPARK_CONVERSIONS_PLUGIN =
+            new JdbcSparkConversionsPlugin(Sqlite3Platform.getInstance());
+
     /**
      * Retrieve the {@link Sqlite3Plugin}.
      *
@@ -31,6 +35,15 @@ public class Sqlite3 {
         return CONVERSION_PLUGIN;
     }
 
+    /**
+     * Retrieve the {@link JdbcSparkConversionsPlugin} for the {@link Sqlite3Platform}, which requires the Spark platform.
+     *
+     * @return the {@link JdbcSparkConversionsPlugin}
+     */
+    public static JdbcSparkConversionsPlugin sparkConversionsPlugin() {
+        return SPARK_CONVERSIONS_PLUGIN;
+    }
+
 
     /**
      * Retrieve the {@link Sqlite3Platform}.
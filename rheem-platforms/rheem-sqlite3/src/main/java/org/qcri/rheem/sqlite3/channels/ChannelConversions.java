@@ -3,6 +3,7 @@ package org.qcri.rheem.sqlite3.channels;
 import org.qcri.rheem.core.optimizer.channels.ChannelConversion;
 import org.qcri.rheem.core.optimizer.channels.DefaultChannelConversion;
 import org.qcri.rheem.java.channels.StreamChannel;
+import org.qcri.rheem.jdbc.channels.SqlQueryChannel;
 import org.qcri.rheem.jdbc.operators.SqlToStreamOperator;
 import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
 
@@ -17,7 +18,10 @@ public class ChannelConversions {
     public static final ChannelConversion SQL_TO_STREAM_CONVERSION = new DefaultChannelConversion(
             Sqlite3Platform.getInstance().getSqlQueryChannelDescriptor(),
             StreamChannel.DESCRIPTOR,
-            () -> new SqlToStreamOperator(Sqlite3Platform.getInstance())
+            (channel, configuration) -> new SqlToStreamOperator(
+                    Sqlite3Platform.getInstance(), SqlQueryChannel.getRecordDataSetType(channel)
+            ),
+            "via SqlToStreamOperator"
     );
 
     public static final Collection<ChannelConversion> ALL = Collections.singleton(
@@ -0,0 +1,43 @@
+package org.qcri.rheem.sqlite3.mapping;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.DistinctOperator;
+import org.qcri.rheem.core.mapping.*;
+import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.sqlite3.operators.Sqlite3DistinctOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Mapping from {@link DistinctOperator} to {@link Sqlite3DistinctOperator}.
+ */
+@SuppressWarnings("unchecked")
+public class DistinctMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createSubplanPattern(),
+                this.createReplacementSubplanFactory(),
+                Sqlite3Platform.getInstance()
+        ));
+    }
+
+    private SubplanPattern createSubplanPattern() {
+        final OperatorPattern<DistinctOperator<Record>> operatorPattern = new OperatorPattern<>(
+                "distinct",
+                new DistinctOperator<>(DataSetType.createDefault(Record.class)),
+                false
+        )
+                .withAdditionalTest(op -> op.getPredicateDescriptor() == null);
+        return SubplanPattern.createSingleton(operatorPattern);
+    }
+
+    private ReplacementSubplanFactory createReplacementSubplanFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<DistinctOperator<Record>>(
+                (matchedOperator, epoch) -> new Sqlite3DistinctOperator(matchedOperator).at(epoch)
+        );
+    }
+}
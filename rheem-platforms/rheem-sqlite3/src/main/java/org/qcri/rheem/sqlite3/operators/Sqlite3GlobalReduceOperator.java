@@ -0,0 +1,22 @@
+package org.qcri.rheem.sqlite3.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.GlobalReduceOperator;
+import org.qcri.rheem.jdbc.operators.JdbcGlobalReduceOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+/**
+ * Implementation of the {@link GlobalReduceOperator} for the {@link Sqlite3Platform}.
+ */
+public class Sqlite3GlobalReduceOperator extends JdbcGlobalReduceOperator {
+
+    public Sqlite3GlobalReduceOperator(GlobalReduceOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    public Sqlite3Platform getPlatform() {
+        return Sqlite3Platform.getInstance();
+    }
+
+}
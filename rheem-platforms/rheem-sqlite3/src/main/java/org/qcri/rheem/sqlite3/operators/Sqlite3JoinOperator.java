@@ -0,0 +1,22 @@
+package org.qcri.rheem.sqlite3.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.JoinOperator;
+import org.qcri.rheem.jdbc.operators.JdbcJoinOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+/**
+ * Implementation of the {@link JoinOperator} for the {@link Sqlite3Platform}.
+ */
+public class Sqlite3JoinOperator extends JdbcJoinOperator {
+
+    public Sqlite3JoinOperator(JoinOperator<Record, Record, Object> that) {
+        super(that);
+    }
+
+    @Override
+    public Sqlite3Platform getPlatform() {
+        return Sqlite3Platform.getInstance();
+    }
+
+}
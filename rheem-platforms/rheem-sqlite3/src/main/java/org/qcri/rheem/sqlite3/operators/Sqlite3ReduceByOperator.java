@@ -0,0 +1,22 @@
+package org.qcri.rheem.sqlite3.operators;
+
+import org.qcri.rheem.basic.data.Record;
+import org.qcri.rheem.basic.operators.ReduceByOperator;
+import org.qcri.rheem.jdbc.operators.JdbcReduceByOperator;
+import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
+
+/**
+ * Implementation of the {@link ReduceByOperator} for the {@link Sqlite3Platform}.
+ */
+public class Sqlite3ReduceByOperator extends JdbcReduceByOperator {
+
+    public Sqlite3ReduceByOperator(ReduceByOperator<Record, Object> that) {
+        super(that);
+    }
+
+    @Override
+    public Sqlite3Platform getPlatform() {
+        return Sqlite3Platform.getInstance();
+    }
+
+}
@@ -1,7 +1,9 @@
 package org.qcri.rheem.sqlite3.operators;
 
+import org.qcri.rheem.basic.data.Record;
 import org.qcri.rheem.basic.operators.TableSource;
 import org.qcri.rheem.core.platform.ChannelDescriptor;
+import org.qcri.rheem.core.types.DataSetType;
 import org.qcri.rheem.jdbc.operators.JdbcTableSource;
 import org.qcri.rheem.sqlite3.platform.Sqlite3Platform;
 
@@ -21,6 +23,15 @@ public class Sqlite3TableSource extends JdbcTableSource {
         super(tableName, columnNames);
     }
 
+    /**
+     * Creates a new instance.
+     *
+     * @see JdbcTableSource#JdbcTableSource(String, DataSetType)
+     */
+    public Sqlite3TableSource(String tableName, DataSetType<Record> type) {
+        super(tableName, type);
+    }
+
     public Sqlite3TableSource(Sqlite3TableSource that) {
         super(that);
     }
@@ -14,7 +14,7 @@ public class Sqlite3Platform extends JdbcPlatformTemplate {
 
     private static Sqlite3Platform instance = null;
 
-    public static Sqlite3Platform getInstance() {
+    public static synchronized Sqlite3Platform getInstance() {
         if (instance == null) {
             instance = new Sqlite3Platform();
         }
@@ -30,4 +30,10 @@ public class Sqlite3Platform extends JdbcPlatformTemplate {
         return org.sqlite.JDBC.class.getName();
     }
 
+    @Override
+    public String getNonEmptyAggregateClause() {
+        // SQLite does not allow HAVING without GROUP BY, but grouping by a constant yields no group for no rows.
+        return "GROUP BY 1 = 1";
+    }
+
 }
@@ -160,6 +160,131 @@ public class FullIntegrationIT {
         Assert.assertEquals(expectedOutcome2, collector2);
     }
 
+    @Test
+    public void testMultiSourceAndMultiSinkWithParallelTasks() throws URISyntaxException {
+        // Define some input data.
+        final List<String> collection1 = Arrays.<String>asList("This is source 1.", "This is source 1, too.");
+        final List<String> collection2 = Arrays.<String>asList("This is source 2.", "This is source 2, too.");
+        List<String> collector1 = Collections.synchronizedList(new LinkedList<>());
+        List<String> collector2 = Collections.synchronizedList(new LinkedList<>());
+        final RheemPlan rheemPlan = RheemPlans.multiSourceMultiSink(collection1, collection2, collector1, collector2);
+
+        // Instantiate Rheem, activate the Java and Spark backends, and have independent stages run in parallel.
+        this.configuration.setProperty("rheem.core.optimizer.enumeration.parallel-tasks", "true");
+        this.configuration.setProperty("rheem.core.optimizer.enumeration.parallel-tasks.threads", "2");
+        RheemContext rheemContext = new RheemContext(this.configuration)
+                .with(Java.basicPlugin())
+                .with(Spark.basicPlugin());
+
+        // Have Rheem execute the plan.
+        rheemContext.execute(rheemPlan);
+
+        // Check the results in both sinks.
+        List<String> expectedOutcome1 = Stream.concat(collection1.stream(), collection2.stream())
+                .map(String::toUpperCase)
+                .collect(Collectors.toList());
+        List<String> expectedOutcome2 = Stream.concat(collection1.stream(), collection2.stream())
+                .collect(Collectors.toList());
+        Collections.sort(expectedOutcome1);
+        Collections.sort(expectedOutcome2);
+        Collections.sort(collector1);
+        Collections.sort(collector2);
+        Assert.assertEquals(expectedOutcome1, collector1);
+        Assert.assertEquals(expectedOutcome2, collector2);
+    }
+
+    @Test
+    public void testMultiSourceAndMultiSinkWithParallelEnumeration() throws URISyntaxException {
+        // Define some input data.
+        final List<String> collection1 = Arrays.<String>asList("This is source 1.", "This is source 1, too.");
+        final List<String> collection2 = Arrays.<String>asList("This is source 2.", "This is source 2, too.");
+        List<String> collector1 = new LinkedList<>();
+        List<String> collector2 = new LinkedList<>();
+        final RheemPlan rheemPlan = RheemPlans.multiSourceMultiSink(collection1, collection2, collector1, collector2);
+
+        // Instantiate Rheem, activate the Java and Spark backends, and have the plan enumerated in parallel.
+        this.configuration.setProperty("rheem.core.optimizer.enumeration.parallel", "true");
+        this.configuration.setProperty("rheem.core.optimizer.enumeration.parallel.threads", "4");
+        RheemContext rheemContext = new RheemContext(this.configuration)
+                .with(Java.basicPlugin())
+                .with(Spark.basicPlugin());
+
+        // Have Rheem execute the plan.
+        rheemContext.execute(rheemPlan);
+
+        // Check the results in both sinks.
+        List<String> expectedOutcome1 = Stream.concat(collection1.stream(), collection2.stream())
+                .map(String::toUpperCase)
+                .collect(Collectors.toList());
+        List<String> expectedOutcome2 = Stream.concat(collection1.stream(), collection2.stream())
+                .collect(Collectors.toList());
+        Collections.sort(expectedOutcome1);
+        Collections.sort(expectedOutcome2);
+        Collections.sort(collector1);
+        Collections.sort(collector2);
+        Assert.assertEquals(expectedOutcome1, collector1);
+        Assert.assertEquals(expectedOutcome2, collector2);
+    }
+
+    @Test
+    public void testMultiSourceAndMultiSinkWithPlanCache() throws URISyntaxException, IOException {
+        // Define some input data.
+        final List<String> collection1 = Arrays.<String>asList("This is source 1.", "This is source 1, too.");
+        final List<String> collection2 = Arrays.<String>asList("This is source 2.", "This is source 2, too.");
+        List<String> expectedOutcome1 = Stream.concat(collection1.stream(), collection2.stream())
+                .map(String::toUpperCase)
+                .collect(Collectors.toList());
+        List<String> expectedOutcome2 = Stream.concat(collection1.stream(), collection2.stream())
+                .collect(Collectors.toList());
+        Collections.sort(expectedOutcome1);
+        Collections.sort(expectedOutcome2);
+
+        // Instantiate Rheem, activate the Java and Spark backends, and cache the optimizer decisions.
+        final File planCacheDir = Files.createTempDirectory("rheem-plan-cache").toFile();
+        this.configuration.setProperty("rheem.core.optimizer.plancache.enabled", "true");
+        this.configuration.setProperty("rheem.core.optimizer.plancache.path", planCacheDir.getAbsolutePath());
+
+        // Execute the same plan twice, the second time with the cached decisions.
+        for (int i = 0; i < 2; i++) {
+            List<String> collector1 = new LinkedList<>();
+            List<String> collector2 = new LinkedList<>();
+            final RheemPlan rheemPlan = RheemPlans.multiSourceMultiSink(collection1, collection2, collector1, collector2);
+            RheemContext rheemContext = new RheemContext(this.configuration)
+                    .with(Java.basicPlugin())
+                    .with(Spark.basicPlugin());
+            rheemContext.execute(rheemPlan);
+
+            // Check the results in both sinks.
+            Collections.sort(collector1);
+            Collections.sort(collector2);
+            Assert.assertEquals(expectedOutcome1, collector1);
+            Assert.assertEquals(expectedOutcome2, collector2);
+
+            // Both plans should have the same fingerprint.
+            final File[] cacheFiles = planCacheDir.listFiles();
+            Assert.assertNotNull(cacheFiles);
+            Assert.assertEquals(1, cacheFiles.length);
+        }
+    }
+
+    @Test
+    public void testSimpleMultiStageLoopWithParallelEnumeration() throws URISyntaxException {
+        // Build the RheemPlan and leave the platform choice to the optimizer.
+        final List<Integer> collector = new LinkedList<>();
+        RheemPlan rheemPlan = RheemPlans.simpleLoop(3, collector, 0, 1, 2);
+
+        // Instantiate Rheem, activate the Java and Spark backends, and have the plan enumerated in parallel.
+        this.configuration.setProperty("rheem.core.optimizer.enumeration.parallel", "true");
+        RheemContext rheemContext = new RheemContext(this.configuration)
+                .with(Java.basicPlugin())
+                .with(Spark.basicPlugin());
+
+        rheemContext.execute(rheemPlan);
+
+        final HashSet<Integer> expected = new HashSet<>(RheemArrays.asList(RheemArrays.range(0, 24)));
+        Assert.assertEquals(expected, RheemCollections.asSet(collector));
+    }
+
     @Test
     public void testMultiSourceAndHoleAndMultiSink() throws URISyntaxException {
         // Define some input data.
@@ -12,14 +12,17 @@ import org.qcri.rheem.core.api.exception.RheemException;
 import org.qcri.rheem.core.function.ExecutionContext;
 import org.qcri.rheem.core.function.PredicateDescriptor;
 import org.qcri.rheem.core.function.TransformationDescriptor;
+import org.qcri.rheem.core.plan.executionplan.ExecutionPlan;
 import org.qcri.rheem.core.plan.rheemplan.RheemPlan;
 import org.qcri.rheem.core.types.DataSetType;
+import org.qcri.rheem.core.types.DataUnitType;
 import org.qcri.rheem.core.util.RheemArrays;
 import org.qcri.rheem.core.util.RheemCollections;
 import org.qcri.rheem.java.Java;
 import org.qcri.rheem.java.operators.JavaLoopOperator;
 import org.qcri.rheem.spark.Spark;
 import org.qcri.rheem.spark.operators.SparkBernoulliSampleOperator;
+import org.qcri.rheem.spark.operators.SparkBroadcastHashJoinOperator;
 import org.qcri.rheem.spark.operators.SparkShufflePartitionSampleOperator;
 import org.qcri.rheem.tests.platform.MyMadeUpPlatform;
 
@@ -28,6 +31,9 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -141,6 +147,103 @@ public class SparkIntegrationIT {
         Assert.assertEquals(expectedOutcome2, collector2);
     }
 
+    @Test
+    public void testConcurrentJobs() throws Exception {
+        // Instantiate Rheem and activate the Spark backend, so that all jobs share the SparkContext.
+        RheemContext rheemContext = new RheemContext().with(Spark.basicPlugin());
+
+        // Create several jobs with different inputs.
+        final int numJobs = 4;
+        List<Job> jobs = new ArrayList<>(numJobs);
+        List<List<String>> inputs1 = new ArrayList<>(numJobs), inputs2 = new ArrayList<>(numJobs);
+        List<List<String>> collectors1 = new ArrayList<>(numJobs), collectors2 = new ArrayList<>(numJobs);
+        for (int i = 0; i < numJobs; i++) {
+            inputs1.add(Arrays.asList("This is source 1 of job " + i + ".", "This is source 1 of job " + i + ", too."));
+            inputs2.add(Arrays.asList("This is source 2 of job " + i + ".", "This is source 2 of job " + i + ", too."));
+            collectors1.add(Collections.synchronizedList(new LinkedList<>()));
+            collectors2.add(Collections.synchronizedList(new LinkedList<>()));
+            final RheemPlan rheemPlan = RheemPlans.multiSourceMultiSink(
+                    inputs1.get(i), inputs2.get(i), collectors1.get(i), collectors2.get(i)
+            );
+            jobs.add(rheemContext.createJob("concurrent job " + i, rheemPlan));
+        }
+        Assert.assertEquals(numJobs, jobs.stream().map(Job::getRunId).distinct().count());
+
+        // Have Rheem execute the jobs concurrently.
+        final ExecutorService executorService = Executors.newFixedThreadPool(numJobs);
+        try {
+            List<Future<?>> futures = new ArrayList<>(numJobs);
+            for (Job job : jobs) {
+                futures.add(executorService.submit(job::execute));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // Check the results of all jobs.
+        for (int i = 0; i < numJobs; i++) {
+            List<String> expectedOutcome1 = Stream.concat(inputs1.get(i).stream(), inputs2.get(i).stream())
+                    .map(String::toUpperCase)
+                    .sorted()
+                    .collect(Collectors.toList());
+            List<String> expectedOutcome2 = Stream.concat(inputs1.get(i).stream(), inputs2.get(i).stream())
+                    .sorted()
+                    .collect(Collectors.toList());
+            List<String> collector1 = new ArrayList<>(collectors1.get(i)), collector2 = new ArrayList<>(collectors2.get(i));
+            Collections.sort(collector1);
+            Collections.sort(collector2);
+            Assert.assertEquals(expectedOutcome1, collector1);
+            Assert.assertEquals(expectedOutcome2, collector2);
+        }
+    }
+
+    @Test
+    public void testBroadcastHashJoin() {
+        // Join a large input with a small one.
+        List<Tuple2<Integer, Integer>> facts = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            facts.add(new Tuple2<>(i, i % 10));
+        }
+        List<Tuple2<Integer, String>> dimensions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            dimensions.add(new Tuple2<>(i, "dimension " + i));
+        }
+        List<Tuple2<Tuple2<Integer, Integer>, Tuple2<Integer, String>>> collector = new ArrayList<>();
+
+        CollectionSource<Tuple2<Integer, Integer>> factSource = new CollectionSource<>(facts, DataSetType.createDefaultUnchecked(Tuple2.class));
+        CollectionSource<Tuple2<Integer, String>> dimensionSource = new CollectionSource<>(dimensions, DataSetType.createDefaultUnchecked(Tuple2.class));
+        JoinOperator<Tuple2<Integer, Integer>, Tuple2<Integer, String>, Integer> join = new JoinOperator<>(
+                new TransformationDescriptor<>(Tuple2::getField1, DataUnitType.createBasicUnchecked(Tuple2.class), DataUnitType.createBasic(Integer.class)),
+                new TransformationDescriptor<>(Tuple2::getField0, DataUnitType.createBasicUnchecked(Tuple2.class), DataUnitType.createBasic(Integer.class))
+        );
+        LocalCallbackSink<Tuple2<Tuple2<Integer, Integer>, Tuple2<Integer, String>>> sink =
+                LocalCallbackSink.createCollectingSink(collector, DataSetType.createDefaultUnchecked(Tuple2.class));
+        factSource.connectTo(0, join, 0);
+        dimensionSource.connectTo(0, join, 1);
+        join.connectTo(0, sink, 0);
+        RheemPlan rheemPlan = new RheemPlan(sink);
+
+        // Instantiate Rheem and activate the Spark backend.
+        RheemContext rheemContext = new RheemContext().with(Spark.basicPlugin());
+
+        // Verify that the small input is broadcasted.
+        final ExecutionPlan executionPlan = rheemContext.buildInitialExecutionPlan("testBroadcastHashJoin", rheemPlan);
+        Assert.assertTrue(executionPlan.collectAllTasks().stream()
+                .anyMatch(task -> task.getOperator() instanceof SparkBroadcastHashJoinOperator));
+
+        // Have Rheem execute the plan.
+        rheemContext.execute(rheemPlan);
+
+        // Verify the plan result.
+        Assert.assertEquals(50000, collector.size());
+        for (Tuple2<Tuple2<Integer, Integer>, Tuple2<Integer, String>> joinProduct : collector) {
+            Assert.assertEquals(joinProduct.getField0().getField1(), joinProduct.getField1().getField0());
+        }
+    }
+
     @Test
     public void testMultiSourceAndHoleAndMultiSink() throws URISyntaxException {
         // Define some input data.